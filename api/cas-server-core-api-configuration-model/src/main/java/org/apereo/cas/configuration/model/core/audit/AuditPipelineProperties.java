@@ -0,0 +1,83 @@
+package org.apereo.cas.configuration.model.core.audit;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link AuditPipelineProperties}.
+ * Controls how audit records are queued and written in batches
+ * by audit trail managers that operate asynchronously.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-audit", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("AuditPipelineProperties")
+public class AuditPipelineProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2914867401364125877L;
+
+    /**
+     * Maximum number of audit records that can be queued
+     * in memory, waiting to be written to the audit storage.
+     * Once the queue is full, the overflow policy decides what happens
+     * to new audit records.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of audit records that are written
+     * to the audit storage in a single batch.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum amount of time to wait for a batch to fill up
+     * before queued audit records are written to the audit storage.
+     */
+    @DurationCapable
+    private String flushInterval = "PT1S";
+
+    /**
+     * Decide what should happen to new audit records once the queue is full.
+     */
+    private OverflowPolicyTypes overflowPolicy = OverflowPolicyTypes.BLOCK;
+
+    /**
+     * Directory where audit records are spilled to when the queue is full
+     * and the overflow policy is set to {@link OverflowPolicyTypes#SPILL}.
+     * Spilled records are written back to the audit storage once the queue drains.
+     * If left blank, the temporary directory of the system is used.
+     */
+    private String spillDirectory;
+
+    /**
+     * Overflow policy types.
+     */
+    public enum OverflowPolicyTypes {
+        /**
+         * Block the caller until there is room in the queue.
+         */
+        BLOCK,
+        /**
+         * Discard the oldest queued audit record to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Write the audit record to local disk and replay it once the queue drains.
+         */
+        SPILL
+    }
+}
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -78,6 +79,13 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private boolean requireAllRepositorySources;
 
+    /**
+     * Control settings for querying attribute repositories concurrently,
+     * when the aggregation strategy is set to {@link AggregationStrategyTypes#PARALLEL}.
+     */
+    @NestedConfigurationProperty
+    private PrincipalAttributesParallelProperties parallel = new PrincipalAttributesParallelProperties();
+
     /**
      * CAS provides the ability to release a bundle of principal attributes to all services by default.
      * This bundle is not defined on a per-service basis and is always combined with attributes
@@ -103,7 +111,14 @@ public class PrincipalAttributesCoreProperties implements Serializable {
          * the attributes from the first query in the result set are
          * used as the query for the next repository.
          */
-        CASCADE
+        CASCADE,
+        /**
+         * Query repositories that share the same order concurrently, each with its own timeout,
+         * and merge whatever results are produced into a single result set. Repositories with
+         * a higher order are queried afterwards, using the attributes found so far as the query.
+         * Repositories that keep failing are skipped for a while.
+         */
+        PARALLEL
     }
 
     /**
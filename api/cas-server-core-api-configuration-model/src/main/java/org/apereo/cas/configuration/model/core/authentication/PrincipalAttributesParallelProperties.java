@@ -0,0 +1,70 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link PrincipalAttributesParallelProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("PrincipalAttributesParallelProperties")
+public class PrincipalAttributesParallelProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -1806318414391872337L;
+
+    /**
+     * Maximum number of threads used to query attribute repositories concurrently.
+     * A zero or negative value sizes the pool to the number of available processors.
+     */
+    private int threads;
+
+    /**
+     * Maximum number of attribute repository queries that may wait for a thread
+     * when all threads are busy. Queries that cannot be queued are skipped.
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * Maximum amount of time an attribute repository query may wait for a thread
+     * before it is skipped. Queries that are skipped because all threads are busy
+     * do not count as failures of the attribute repository.
+     */
+    @DurationCapable
+    private String queueTimeout = "PT2S";
+
+    /**
+     * Maximum amount of time to wait for each attribute repository to produce results,
+     * measured from the moment the query starts to execute. Attribute repositories that do not
+     * respond in time are interrupted and skipped, and their results are excluded from the final result set.
+     */
+    @DurationCapable
+    private String timeout = "PT5S";
+
+    /**
+     * Number of consecutive failures or timeouts after which an attribute repository
+     * is no longer queried for the duration specified by {@link #circuitBreakerDuration}.
+     * A zero or negative value disables circuit breaking.
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * Amount of time an attribute repository is skipped, once its failure threshold is reached,
+     * before it is queried again.
+     */
+    @DurationCapable
+    private String circuitBreakerDuration = "PT30S";
+}
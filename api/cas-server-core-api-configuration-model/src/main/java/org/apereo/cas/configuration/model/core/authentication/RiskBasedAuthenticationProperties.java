@@ -2,6 +2,7 @@ package org.apereo.cas.configuration.model.core.authentication;
 
 import org.apereo.cas.configuration.model.support.email.EmailProperties;
 import org.apereo.cas.configuration.model.support.sms.SmsProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiredProperty;
 import org.apereo.cas.configuration.support.RequiresModule;
 
@@ -80,6 +81,32 @@ public class RiskBasedAuthenticationProperties implements Serializable {
          * in order to locate authentication events.
          */
         private long daysInRecentHistory = 30;
+
+        /**
+         * Authentication history of a principal is summarized into a profile
+         * that is used to assess authentication attempts, and is kept in memory for
+         * this duration before it is rebuilt from authentication events.
+         */
+        @DurationCapable
+        private String profileCacheDuration = "PT15M";
+
+        /**
+         * Maximum number of profiles of authentication history to keep in memory.
+         */
+        private long profileCacheSize = 10_000;
+
+        /**
+         * Number of threads that are shared by all authentication attempts
+         * to evaluate risk calculators in parallel. Calculators that are not able to
+         * find a thread or a place in the queue are evaluated on the request thread.
+         * A value of zero or less evaluates all calculators on the request thread.
+         */
+        private int evaluationThreads = 16;
+
+        /**
+         * Maximum number of risk calculations that may wait for an evaluation thread.
+         */
+        private int evaluationQueueCapacity = 100;
     }
 
     @Getter
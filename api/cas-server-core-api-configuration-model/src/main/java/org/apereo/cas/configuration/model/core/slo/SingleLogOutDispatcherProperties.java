@@ -0,0 +1,98 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link SingleLogOutDispatcherProperties}.
+ * Controls how back-channel logout messages are queued
+ * and delivered to the logout endpoints of applications.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("SingleLogOutDispatcherProperties")
+public class SingleLogOutDispatcherProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -6082614530719270457L;
+
+    /**
+     * Whether back-channel logout messages should be delivered by a dedicated dispatcher
+     * that queues messages per destination, rather than by the shared HTTP client.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of logout messages that can be queued for a single destination,
+     * i.e. the scheme, host and port of a logout endpoint. Once the queue is full,
+     * new logout messages for that destination are rejected and reported as failures.
+     */
+    private int queueCapacity = 1_000;
+
+    /**
+     * Maximum number of logout messages that can be in flight to a single destination at any given time.
+     * With HTTP/2, these requests are multiplexed over the same connection.
+     */
+    private int maxConcurrentRequests = 8;
+
+    /**
+     * Maximum number of times a logout message is sent before it is considered failed.
+     * Messages are only sent again if the destination could not be reached,
+     * or if it responded with a server error or asked the client to slow down.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Amount of time to wait before a logout message is sent again for the first time.
+     */
+    @DurationCapable
+    private String retryDelay = "PT1S";
+
+    /**
+     * Factor by which the amount of time to wait grows with every subsequent attempt.
+     */
+    private double retryMultiplier = 2.0D;
+
+    /**
+     * Maximum amount of time to wait for a connection to a logout endpoint to be established.
+     */
+    @DurationCapable
+    private String connectTimeout = "PT5S";
+
+    /**
+     * Maximum amount of time to wait for a logout endpoint to respond.
+     */
+    @DurationCapable
+    private String requestTimeout = "PT10S";
+
+    /**
+     * Amount of time after which a destination without queued logout messages
+     * or requests in flight is no longer tracked by the dispatcher.
+     */
+    @DurationCapable
+    private String destinationIdleTimeout = "PT5M";
+
+    /**
+     * Whether HTTP/2 should be preferred when talking to logout endpoints.
+     * Endpoints that do not support HTTP/2 are contacted using HTTP/1.1 with persistent connections.
+     */
+    private boolean http2 = true;
+
+    /**
+     * Number of threads used to process responses and to schedule retries.
+     */
+    private int poolSize = 4;
+}
@@ -0,0 +1,49 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+
+/**
+ * This is {@link TicketRegistryCleanerProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("TicketRegistryCleanerProperties")
+public class TicketRegistryCleanerProperties extends ScheduledJobProperties {
+
+    @Serial
+    private static final long serialVersionUID = 2417893621462951744L;
+
+    /**
+     * Number of expired tickets that are grouped together
+     * and cleaned as a single unit of work, in one transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum number of batches that may be cleaned concurrently.
+     * Logout notifications for expired ticket-granting tickets are
+     * dispatched on the same number of threads, separately from ticket removal.
+     */
+    private int maxConcurrency = 4;
+
+    /**
+     * Number of partitions the ticket keyspace is divided into, based on the hash of the ticket id.
+     * Each partition is claimed by a single CAS server node at a time using the ticket registry
+     * lock repository, allowing multiple nodes to share the cleanup work.
+     * When running a single node or when locking is disabled, this should be left at {@code 1}.
+     */
+    private int partitionCount = 1;
+}
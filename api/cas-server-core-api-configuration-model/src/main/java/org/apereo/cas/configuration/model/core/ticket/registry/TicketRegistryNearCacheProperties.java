@@ -0,0 +1,51 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link TicketRegistryNearCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("TicketRegistryNearCacheProperties")
+public class TicketRegistryNearCacheProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3309458125784352174L;
+
+    /**
+     * Whether ticket-granting tickets fetched from a remote ticket registry
+     * should be kept in a small cache local to each CAS server node.
+     * Updates and removals are written through to the ticket registry, and are
+     * broadcast to other CAS server nodes to invalidate their copies, using the
+     * ticket registry message queue, which must be configured for the near cache
+     * to be turned on. In-memory ticket registries are never decorated with a near cache.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of ticket-granting tickets kept in the cache.
+     */
+    private long maximumSize = 1000;
+
+    /**
+     * Duration after which a cached ticket-granting ticket is discarded,
+     * and fetched again from the ticket registry.
+     */
+    @DurationCapable
+    private String expireAfterWrite = "PT30S";
+}
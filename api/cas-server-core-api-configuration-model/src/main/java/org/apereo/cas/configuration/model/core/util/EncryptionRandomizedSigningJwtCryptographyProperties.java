@@ -50,4 +50,36 @@ public class EncryptionRandomizedSigningJwtCryptographyProperties implements Ser
      * The signing/encryption algorithm to use.
      */
     private String alg = "AES";
+
+    /**
+     * Control the cipher sequence of operations.
+     * The accepted values are:
+     * <ul>
+     *     <li>{@code ENCRYPT_AND_SIGN}: Encrypt the value first, and then sign.</li>
+     *     <li>{@code AUTHENTICATED_ENCRYPTION}: Encrypt the value using AES-GCM with a random nonce per value,
+     *     and rely on the authentication tag of the cipher instead of a separate signature. Values previously
+     *     encoded with {@code ENCRYPT_AND_SIGN} can still be decoded.</li>
+     * </ul>
+     */
+    private String strategyType = "ENCRYPT_AND_SIGN";
+
+    /**
+     * Control how ticket ids, principal ids and attributes are digested
+     * by ticket registries when encryption is turned on.
+     * The accepted values are:
+     * <ul>
+     *     <li>{@code SHA512}: Digest values using SHA-512, encoded as hex.</li>
+     *     <li>{@code HMAC_SHA256}: Digest values using HMAC-SHA-256 keyed with the digest key, truncated
+     *     and encoded as base64url. Values digested with {@code SHA512} no longer match once this is turned on,
+     *     so existing tickets must be allowed to expire before switching.</li>
+     * </ul>
+     */
+    private String digestType = "SHA512";
+
+    /**
+     * The key used to digest values when the digest type is {@code HMAC_SHA256}.
+     * The key must be the same across all CAS nodes. If undefined, a key is derived
+     * from the signing key so that the signing key itself is never used for digests.
+     */
+    private String digestKey;
 }
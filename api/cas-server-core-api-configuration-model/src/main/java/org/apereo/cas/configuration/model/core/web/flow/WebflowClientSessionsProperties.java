@@ -0,0 +1,88 @@
+package org.apereo.cas.configuration.model.core.web.flow;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link WebflowClientSessionsProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+@Setter
+@RequiresModule(name = "cas-server-core-webflow")
+@Accessors(chain = true)
+@JsonFilter("WebflowClientSessionsProperties")
+public class WebflowClientSessionsProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2180625893357615467L;
+
+    /**
+     * When enabled, flow execution snapshots are kept on the server
+     * inside the flow execution state storage, and the client only receives a short handle
+     * that is signed and encrypted and references the stored snapshot. Snapshots are
+     * stored in memory by default. Clustered deployments must share the storage across nodes
+     * by including the Redis, Hazelcast or JDBC session management module, which stores snapshots
+     * in Redis, a Hazelcast map or a database table respectively.
+     * Only relevant if session storage is done on the client.
+     */
+    private boolean stateHandles;
+
+    /**
+     * Time period after which flow execution snapshots
+     * that are kept on the server expire and are removed.
+     * Only relevant if state handles are enabled.
+     */
+    @DurationCapable
+    private String stateTimeout = "PT30M";
+
+    /**
+     * Maximum number of flow executions whose snapshots are kept in memory.
+     * Each flow execution keeps only the snapshot of its most recent step.
+     * Only relevant if state handles are enabled and snapshots are stored in memory.
+     */
+    private long maxStates = 100_000;
+
+    /**
+     * Compression strategy used for serialized flow execution snapshots.
+     */
+    private CompressionTypes compression = CompressionTypes.GZIP;
+
+    /**
+     * Location of a pre-trained compression dictionary, typically produced by sampling
+     * serialized flow execution snapshots of this deployment. If undefined, a built-in dictionary
+     * that contains common class names found in CAS flow executions is used.
+     * Only relevant if compression is done using a dictionary.
+     */
+    private String compressionDictionary;
+
+    /**
+     * Compression strategies for flow execution snapshots.
+     */
+    public enum CompressionTypes {
+        /**
+         * Do not compress snapshots.
+         */
+        NONE,
+        /**
+         * Compress snapshots using GZIP.
+         */
+        GZIP,
+        /**
+         * Compress snapshots using deflate with a preset dictionary.
+         * This is effective for short payloads that repeat the same class names and
+         * field names, which a plain compressor cannot take advantage of.
+         */
+        DICTIONARY
+    }
+}
@@ -50,6 +50,12 @@ public class LdapAuthenticationProperties extends AbstractLdapAuthenticationProp
     @NestedConfigurationProperty
     private PasswordEncoderProperties passwordEncoder = new PasswordEncoderProperties();
 
+    /**
+     * Settings that control caching of DNs resolved for usernames.
+     */
+    @NestedConfigurationProperty
+    private LdapDnResolutionCacheProperties dnResolutionCache = new LdapDnResolutionCacheProperties();
+
     /**
      * A number of authentication handlers are allowed to determine whether they can operate on the provided credential
      * and as such lend themselves to be tried and tested during the authentication handler selection phase.
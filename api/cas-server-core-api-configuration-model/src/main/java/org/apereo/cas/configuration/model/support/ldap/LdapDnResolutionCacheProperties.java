@@ -0,0 +1,57 @@
+package org.apereo.cas.configuration.model.support.ldap;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link LdapDnResolutionCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-support-ldap")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("LdapDnResolutionCacheProperties")
+public class LdapDnResolutionCacheProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2394766217530412934L;
+
+    /**
+     * Whether DNs resolved for usernames should be cached, so that repeated
+     * authentication attempts for the same user can skip the DN search.
+     * This only applies to authenticated and anonymous search authentication types.
+     */
+    private boolean enabled;
+
+    /**
+     * How long a resolved DN should be cached.
+     * Cached DNs are discarded if authentication fails for the user.
+     */
+    @DurationCapable
+    private String expiration = "PT5M";
+
+    /**
+     * How long should usernames for which no DN could be found be remembered.
+     * During this period, authentication attempts for such usernames fail
+     * immediately without searching the directory. Keep this short,
+     * so newly provisioned accounts are not rejected for long.
+     * A zero value disables negative caching.
+     */
+    @DurationCapable
+    private String negativeExpiration = "PT30S";
+
+    /**
+     * Maximum number of entries to keep in the cache.
+     */
+    private long maximumSize = 10_000L;
+}
@@ -24,4 +24,12 @@ import java.io.Serial;
 public class JsonTrustedDevicesMultifactorProperties extends SpringResourceProperties {
     @Serial
     private static final long serialVersionUID = -8690563713141571620L;
+
+    /**
+     * Changes to trusted device records are appended to a journal file
+     * that sits next to the JSON resource. Once the journal grows beyond this
+     * number of entries, it is compacted and its changes are written back
+     * into the JSON resource. The journal is also compacted when expired records are cleaned up.
+     */
+    private int compactionThreshold = 100;
 }
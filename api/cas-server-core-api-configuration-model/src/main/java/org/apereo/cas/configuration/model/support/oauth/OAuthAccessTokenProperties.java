@@ -48,6 +48,32 @@ public class OAuthAccessTokenProperties implements Serializable {
      */
     private boolean createAsJwt;
 
+    /**
+     * Issue access tokens that are obtained via the {@code client_credentials} grant
+     * as self-contained JWTs that are not tracked by the ticket registry. Such tokens carry
+     * everything that is needed to serve protected endpoints such as introspection or user profiles,
+     * and are verified by their signature and expiration. Tokens are only issued in this mode if they
+     * are to be created as JWTs, and no refresh token is issued alongside the access token.
+     * Stateless access tokens have a hard expiration and cannot be extended by usage.
+     */
+    private boolean stateless;
+
+    /**
+     * Amount of time the result of verifying a stateless access token is remembered,
+     * to avoid verifying the token signature again on subsequent requests.
+     */
+    @DurationCapable
+    private String statelessVerificationCacheTimeout = "PT1M";
+
+    /**
+     * Interval at which revocations of stateless access tokens that are recorded
+     * in the ticket registry by other CAS nodes are pulled into the local revocation list.
+     * Revocations made on a node take effect on that node immediately, and on other nodes
+     * once their local revocation list is refreshed.
+     */
+    @DurationCapable
+    private String statelessRevocationRefreshInterval = "PT30S";
+
     /**
      * The storage object name used and created by CAS to hold OAuth access tokens
      * in the backing ticket registry implementation.
@@ -42,4 +42,20 @@ public class HttpSamlMetadataProperties implements Serializable {
      */
     @ExpressionLanguageCapable
     private String metadataBackupLocation;
+
+    /**
+     * When enabled, downloaded metadata is not loaded into memory as a whole.
+     * Instead, the metadata file on disk is memory-mapped and indexed by entity id,
+     * and only the entity descriptor for the requested entity is parsed and filtered on demand.
+     * This is useful for large federation aggregates that contain many thousands of entities.
+     * The signature and validity of the aggregate root are verified once whenever the metadata
+     * file changes, and the aggregate is not indexed if that verification fails.
+     */
+    private boolean indexAggregates;
+
+    /**
+     * Maximum number of parsed entity descriptors to keep in memory per metadata
+     * resolver, when aggregates are indexed via {@link #isIndexAggregates()}.
+     */
+    private long indexedEntitiesCacheSize = 1_000;
 }
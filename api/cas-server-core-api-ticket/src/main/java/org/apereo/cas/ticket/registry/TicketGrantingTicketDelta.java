@@ -0,0 +1,140 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.ticket.AuthenticatedServicesAwareTicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
+import lombok.val;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link TicketGrantingTicketDelta}, which describes the changes made to a ticket-granting ticket
+ * after it was created, such as authenticated services, linked child tickets and usage. Ticket registries
+ * that are able to apply such changes with partial writes may do so, without rewriting the
+ * authentication and the rest of the ticket-granting ticket.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+@ToString
+@Builder
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+public class TicketGrantingTicketDelta implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -3391584393846718224L;
+
+    /**
+     * Authenticated services, keyed by the service ticket id.
+     */
+    @Builder.Default
+    private final Map<String, Service> addedServices = new LinkedHashMap<>();
+
+    /**
+     * Service ticket ids whose authenticated services were removed.
+     */
+    @Builder.Default
+    private final Set<String> removedServices = new LinkedHashSet<>();
+
+    /**
+     * Proxy-granting tickets linked to the ticket, keyed by the proxy-granting ticket id.
+     */
+    @Builder.Default
+    private final Map<String, Service> addedProxyGrantingTickets = new LinkedHashMap<>();
+
+    /**
+     * Descendant tickets linked to the ticket.
+     */
+    @Builder.Default
+    private final Set<String> addedDescendantTickets = new LinkedHashSet<>();
+
+    private final ZonedDateTime lastTimeUsed;
+
+    private final ZonedDateTime previousTimeUsed;
+
+    private final int countOfUses;
+
+    /**
+     * Capture the current state of the ticket-granting ticket,
+     * which can later be compared with the ticket to produce a delta.
+     *
+     * @param ticket the ticket
+     * @return the snapshot
+     */
+    public static Snapshot snapshot(final TicketGrantingTicket ticket) {
+        return new Snapshot(Set.copyOf(getServices(ticket).keySet()),
+            Set.copyOf(ticket.getProxyGrantingTickets().keySet()),
+            Set.copyOf(ticket.getDescendantTickets()));
+    }
+
+    private static Map<String, Service> getServices(final TicketGrantingTicket ticket) {
+        return ticket instanceof final AuthenticatedServicesAwareTicketGrantingTicket tgt ? tgt.getServices() : Map.of();
+    }
+
+    /**
+     * Whether this delta removes information from the ticket.
+     * Registries that can only append to a ticket should fall back
+     * to updating the ticket as a whole in this case.
+     *
+     * @return true/false
+     */
+    @JsonIgnore
+    public boolean isDestructive() {
+        return !removedServices.isEmpty();
+    }
+
+    /**
+     * The state of a ticket-granting ticket at a point in time.
+     *
+     * @param services             the service ticket ids
+     * @param proxyGrantingTickets the proxy-granting ticket ids
+     * @param descendantTickets    the descendant ticket ids
+     */
+    public record Snapshot(Set<String> services, Set<String> proxyGrantingTickets, Set<String> descendantTickets) {
+        /**
+         * Compare the ticket with this snapshot and produce a delta.
+         *
+         * @param ticket the ticket
+         * @return the delta
+         */
+        public TicketGrantingTicketDelta toDelta(final TicketGrantingTicket ticket) {
+            val currentServices = getServices(ticket);
+            return TicketGrantingTicketDelta.builder()
+                .addedServices(currentServices.entrySet()
+                    .stream()
+                    .filter(entry -> !services.contains(entry.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (s1, s2) -> s1, LinkedHashMap::new)))
+                .removedServices(services
+                    .stream()
+                    .filter(id -> !currentServices.containsKey(id))
+                    .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .addedProxyGrantingTickets(ticket.getProxyGrantingTickets().entrySet()
+                    .stream()
+                    .filter(entry -> !proxyGrantingTickets.contains(entry.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (s1, s2) -> s1, LinkedHashMap::new)))
+                .addedDescendantTickets(ticket.getDescendantTickets()
+                    .stream()
+                    .filter(id -> !descendantTickets.contains(id))
+                    .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .lastTimeUsed(ticket.getLastTimeUsed())
+                .previousTimeUsed(ticket.getPreviousTimeUsed())
+                .countOfUses(ticket.getCountOfUses())
+                .build();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.jooq.lambda.Unchecked;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -95,6 +96,24 @@ public interface TicketRegistry {
      */
     int deleteTicket(Ticket ticketId) throws Exception;
 
+    /**
+     * Remove the given tickets from the registry in bulk.
+     * If a ticket to delete is a TGT then related service tickets, etc are removed as well.
+     * Registries that are able to remove several entries from the underlying store
+     * with a single operation should override this operation. By default, tickets are removed one at a time.
+     *
+     * @param tickets the tickets to delete
+     * @return the number of tickets deleted including children.
+     * @throws Exception the exception
+     */
+    default int deleteTickets(final Collection<? extends Ticket> tickets) throws Exception {
+        var count = 0;
+        for (final Ticket ticket : tickets) {
+            count += deleteTicket(ticket);
+        }
+        return count;
+    }
+
     /**
      * Delete all tickets from the registry.
      *
@@ -131,6 +150,21 @@ public interface TicketRegistry {
      */
     Ticket updateTicket(Ticket ticket) throws Exception;
 
+    /**
+     * Update the ticket-granting ticket by applying the given delta.
+     * Registries that are able to apply the delta with a partial write to the underlying store
+     * should override this operation, so the rest of the ticket, such as its authentication,
+     * is not rewritten. By default, the ticket is updated as a whole.
+     *
+     * @param ticket the ticket, which already carries the changes described by the delta
+     * @param delta  the delta
+     * @return the updated ticket
+     * @throws Exception the exception
+     */
+    default Ticket updateTicketGrantingTicket(final TicketGrantingTicket ticket, final TicketGrantingTicketDelta delta) throws Exception {
+        return updateTicket(ticket);
+    }
+
     /**
      * Computes the number of SSO sessions stored in the ticket registry.
      *
@@ -157,6 +191,20 @@ public interface TicketRegistry {
         return getTickets().stream();
     }
 
+    /**
+     * Gets the stream of tickets that are expired and eligible for cleanup.
+     * Registries that are able to evaluate or narrow down expired tickets in the
+     * underlying store should override this operation, rather than streaming every ticket.
+     * <p>
+     * The returning stream may be bound to an IO channel (such as database connection),
+     * so it should be properly closed after usage.
+     *
+     * @return the expired tickets stream
+     */
+    default Stream<? extends Ticket> getExpiredTickets() {
+        return stream().filter(Objects::nonNull).filter(Ticket::isExpired);
+    }
+
     /**
      * Count the number of single sign-on sessions
      * that are recorded in the ticket registry for
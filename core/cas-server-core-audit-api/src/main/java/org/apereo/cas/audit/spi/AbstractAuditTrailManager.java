@@ -1,19 +1,23 @@
 package org.apereo.cas.audit.spi;
 
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.val;
 import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.springframework.beans.factory.DisposableBean;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.List;
 
 /**
  * This is {@link AbstractAuditTrailManager}.
+ * <p>
+ * Asynchronous audit trail managers hand over audit records to an {@link AuditRecordPipeline}
+ * which writes records to the audit storage in batches, via {@link #saveAuditRecords(List)}.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -21,21 +25,28 @@ import java.util.concurrent.Executors;
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractAuditTrailManager implements AuditTrailManager, DisposableBean {
     /**
      * Save records asynchronously.
      */
     protected boolean asynchronous;
 
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor(
-        r -> new Thread(r, "AuditTrailManagerThread"));
+    /**
+     * Queueing and batching settings for asynchronous audit records.
+     */
+    protected AuditPipelineProperties pipelineProperties = new AuditPipelineProperties();
+
+    @Setter(AccessLevel.NONE)
+    private volatile AuditRecordPipeline pipeline;
 
+    protected AbstractAuditTrailManager(final boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
 
     @Override
     public void record(final AuditActionContext audit) {
         if (this.asynchronous) {
-            this.executorService.execute(() -> saveAuditRecord(audit));
+            getOrCreatePipeline().submit(audit);
         } else {
             saveAuditRecord(audit);
         }
@@ -43,7 +54,23 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
 
     @Override
     public void destroy() {
-        this.executorService.shutdown();
+        if (this.pipeline != null) {
+            this.pipeline.close();
+        }
+    }
+
+    private AuditRecordPipeline getOrCreatePipeline() {
+        var result = this.pipeline;
+        if (result == null) {
+            synchronized (this) {
+                result = this.pipeline;
+                if (result == null) {
+                    result = new AuditRecordPipeline(getClass().getSimpleName(), pipelineProperties, this::saveAuditRecords);
+                    this.pipeline = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -52,4 +79,16 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
      * @param audit Audit record to be saved.
      */
     protected abstract void saveAuditRecord(AuditActionContext audit);
+
+    /**
+     * Save a batch of audit records. Audit trail managers that are able
+     * to write multiple records at once to the storage should override this method.
+     *
+     * @param audits the audit records
+     */
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        for (val audit : audits) {
+            saveAuditRecord(audit);
+        }
+    }
 }
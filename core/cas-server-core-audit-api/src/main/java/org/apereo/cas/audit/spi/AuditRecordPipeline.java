@@ -0,0 +1,244 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link AuditRecordPipeline}.
+ * <p>
+ * A bounded queue of audit records that is drained by a single worker thread,
+ * which hands records over to the audit storage in batches. A batch is written
+ * once it reaches the configured size or once the flush interval passes, whichever comes first.
+ * When the queue is full, new records are handled according to the configured overflow policy:
+ * the caller may be blocked, the oldest queued record may be dropped, or the record
+ * may be spilled to local disk and replayed once the queue has drained.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@Getter
+public class AuditRecordPipeline implements AutoCloseable {
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private static final long WAKEUP_INTERVAL_MILLIS = 100;
+
+    private final AuditActionContextJsonSerializer serializer = new AuditActionContextJsonSerializer();
+
+    private final AtomicLong droppedRecords = new AtomicLong();
+
+    private final AtomicLong spilledRecords = new AtomicLong();
+
+    private final AtomicLong flushedRecords = new AtomicLong();
+
+    private final AtomicLong failedRecords = new AtomicLong();
+
+    private final AtomicLong lastFlushLatency = new AtomicLong();
+
+    private final String name;
+
+    private final AuditPipelineProperties properties;
+
+    private final Consumer<List<AuditActionContext>> writer;
+
+    private final BlockingQueue<AuditActionContext> queue;
+
+    private final long flushIntervalMillis;
+
+    private final File spillFile;
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    public AuditRecordPipeline(final String name, final AuditPipelineProperties properties,
+                               final Consumer<List<AuditActionContext>> writer) {
+        this.name = name;
+        this.properties = properties;
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        this.flushIntervalMillis = Math.max(1, Beans.newDuration(properties.getFlushInterval()).toMillis());
+        val spillDirectory = StringUtils.defaultIfBlank(properties.getSpillDirectory(), FileUtils.getTempDirectoryPath());
+        this.spillFile = new File(spillDirectory, name + ".audit");
+        this.worker = new Thread(this::drain, name + "Thread");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queue the audit record, applying the overflow policy if the queue is full.
+     *
+     * @param audit the audit record
+     */
+    public void submit(final AuditActionContext audit) {
+        if (queue.offer(audit)) {
+            return;
+        }
+        switch (properties.getOverflowPolicy()) {
+            case DROP_OLDEST -> {
+                while (!queue.offer(audit)) {
+                    if (queue.poll() != null) {
+                        droppedRecords.incrementAndGet();
+                    }
+                }
+            }
+            case SPILL -> spill(audit);
+            default -> {
+                try {
+                    queue.put(audit);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedRecords.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of queued audit records.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        val batchSize = Math.max(1, properties.getBatchSize());
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        while (running || !queue.isEmpty()) {
+            val first = poll(flushIntervalMillis);
+            if (first == null) {
+                replaySpilledRecords(batchSize);
+                continue;
+            }
+            batch.add(first);
+            val deadline = System.currentTimeMillis() + flushIntervalMillis;
+            while (batch.size() < batchSize) {
+                queue.drainTo(batch, batchSize - batch.size());
+                val remaining = deadline - System.currentTimeMillis();
+                if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                    break;
+                }
+                val next = poll(remaining);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+            flush(batch);
+        }
+        replaySpilledRecords(batchSize);
+    }
+
+    /**
+     * Wait for the next audit record in short intervals, so the worker
+     * notices shutdown requests without having to be interrupted mid-flush.
+     */
+    private AuditActionContext poll(final long timeoutMillis) {
+        val deadline = System.currentTimeMillis() + timeoutMillis;
+        try {
+            while (true) {
+                val remaining = deadline - System.currentTimeMillis();
+                val next = queue.poll(Math.max(0, Math.min(remaining, WAKEUP_INTERVAL_MILLIS)), TimeUnit.MILLISECONDS);
+                if (next != null || !running || remaining <= WAKEUP_INTERVAL_MILLIS) {
+                    return next;
+                }
+            }
+        } catch (final InterruptedException e) {
+            LOGGER.trace("Audit pipeline [{}] is interrupted; flushing remaining records", name);
+            running = false;
+            return queue.poll();
+        }
+    }
+
+    private void flush(final List<AuditActionContext> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        val startTime = System.nanoTime();
+        try {
+            writer.accept(List.copyOf(batch));
+            flushedRecords.addAndGet(batch.size());
+        } catch (final Exception e) {
+            failedRecords.addAndGet(batch.size());
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            lastFlushLatency.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            batch.clear();
+        }
+    }
+
+    private synchronized void spill(final AuditActionContext audit) {
+        try (val output = Files.newBufferedWriter(spillFile.toPath(), StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            output.write(serializer.getObjectMapper().writeValueAsString(audit));
+            output.newLine();
+            spilledRecords.incrementAndGet();
+        } catch (final Exception e) {
+            droppedRecords.incrementAndGet();
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    private void replaySpilledRecords(final int batchSize) {
+        val replayFile = new File(spillFile.getParentFile(), spillFile.getName() + ".replay");
+        synchronized (this) {
+            if (!spillFile.exists()) {
+                return;
+            }
+            try {
+                Files.move(spillFile.toPath(), replayFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (final IOException e) {
+                LoggingUtils.error(LOGGER, e);
+                return;
+            }
+        }
+        LOGGER.debug("Replaying spilled audit records from [{}]", replayFile);
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        try (val lines = Files.lines(replayFile.toPath(), StandardCharsets.UTF_8)) {
+            lines.filter(StringUtils::isNotBlank).forEach(line -> {
+                batch.add(serializer.from(line));
+                if (batch.size() >= batchSize) {
+                    flush(batch);
+                }
+            });
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        flush(batch);
+        FileUtils.deleteQuietly(replayFile);
+    }
+}
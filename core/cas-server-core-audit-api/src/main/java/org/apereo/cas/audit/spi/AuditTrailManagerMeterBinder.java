@@ -0,0 +1,73 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.audit.AuditTrailExecutionPlan;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * This is {@link AuditTrailManagerMeterBinder}.
+ * Exposes queue depth, flush latency and drop counters of asynchronous audit trail managers as metrics.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+public class AuditTrailManagerMeterBinder implements MeterBinder {
+    private static final String METRIC_PREFIX = "cas.audit.pipeline.";
+
+    private final AuditTrailExecutionPlan auditTrailExecutionPlan;
+
+    private static ToDoubleFunction<AbstractAuditTrailManager> fromPipeline(final ToDoubleFunction<AuditRecordPipeline> function) {
+        return manager -> Optional.ofNullable(manager.getPipeline()).map(function::applyAsDouble).orElse(0D);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        auditTrailExecutionPlan.getAuditTrailManagers()
+            .stream()
+            .filter(AbstractAuditTrailManager.class::isInstance)
+            .map(AbstractAuditTrailManager.class::cast)
+            .filter(AbstractAuditTrailManager::isAsynchronous)
+            .forEach(manager -> {
+                val name = manager.getClass().getSimpleName();
+                Gauge.builder(METRIC_PREFIX + "queue.depth", manager, fromPipeline(AuditRecordPipeline::getQueueDepth))
+                    .description("Number of audit records waiting to be written")
+                    .tag("manager", name)
+                    .register(registry);
+                Gauge.builder(METRIC_PREFIX + "flush.latency", manager,
+                        fromPipeline(pipeline -> pipeline.getLastFlushLatency().get()))
+                    .description("Time spent writing the last batch of audit records")
+                    .baseUnit("milliseconds")
+                    .tag("manager", name)
+                    .register(registry);
+                FunctionCounter.builder(METRIC_PREFIX + "flushed", manager,
+                        fromPipeline(pipeline -> pipeline.getFlushedRecords().get()))
+                    .description("Number of audit records written")
+                    .tag("manager", name)
+                    .register(registry);
+                FunctionCounter.builder(METRIC_PREFIX + "failed", manager,
+                        fromPipeline(pipeline -> pipeline.getFailedRecords().get()))
+                    .description("Number of audit records that could not be written")
+                    .tag("manager", name)
+                    .register(registry);
+                FunctionCounter.builder(METRIC_PREFIX + "dropped", manager,
+                        fromPipeline(pipeline -> pipeline.getDroppedRecords().get()))
+                    .description("Number of audit records dropped since the queue was full")
+                    .tag("manager", name)
+                    .register(registry);
+                FunctionCounter.builder(METRIC_PREFIX + "spilled", manager,
+                        fromPipeline(pipeline -> pipeline.getSpilledRecords().get()))
+                    .description("Number of audit records spilled to disk since the queue was full")
+                    .tag("manager", name)
+                    .register(registry);
+            });
+    }
+}
@@ -0,0 +1,104 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuditRecordPipelineTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Audits")
+class AuditRecordPipelineTests {
+    private static AuditActionContext getAuditRecord() {
+        return new AuditActionContext(UUID.randomUUID().toString(), "TEST", "TEST",
+            "CAS", LocalDateTime.now(Clock.systemUTC()),
+            new ClientInfo("1.2.3.4", "1.2.3.4", UUID.randomUUID().toString(), "London"));
+    }
+
+    @Test
+    void verifyBatches() {
+        val batches = new CopyOnWriteArrayList<List<AuditActionContext>>();
+        val properties = new AuditPipelineProperties().setBatchSize(10).setFlushInterval("PT5S");
+        try (val pipeline = new AuditRecordPipeline("Batches", properties, batches::add)) {
+            for (var i = 0; i < 25; i++) {
+                pipeline.submit(getAuditRecord());
+            }
+        }
+        assertEquals(25, batches.stream().mapToInt(List::size).sum());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 10));
+        assertTrue(batches.size() < 25);
+    }
+
+    @Test
+    void verifyDropOldest() throws Exception {
+        val blocked = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val written = new CopyOnWriteArrayList<AuditActionContext>();
+        val properties = new AuditPipelineProperties()
+            .setBatchSize(1)
+            .setQueueCapacity(2)
+            .setOverflowPolicy(AuditPipelineProperties.OverflowPolicyTypes.DROP_OLDEST);
+        try (val pipeline = new AuditRecordPipeline("DropOldest", properties, batch -> {
+            blocked.countDown();
+            assertDoesNotThrow(() -> release.await(5, TimeUnit.SECONDS));
+            written.addAll(batch);
+        })) {
+            pipeline.submit(getAuditRecord());
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+            for (var i = 0; i < 5; i++) {
+                pipeline.submit(getAuditRecord());
+            }
+            assertEquals(2, pipeline.getQueueDepth());
+            assertEquals(3, pipeline.getDroppedRecords().get());
+            release.countDown();
+        }
+        assertEquals(3, written.size());
+    }
+
+    @Test
+    void verifySpill(@TempDir final File directory) throws Exception {
+        val blocked = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val written = new CopyOnWriteArrayList<AuditActionContext>();
+        val properties = new AuditPipelineProperties()
+            .setBatchSize(1)
+            .setQueueCapacity(1)
+            .setSpillDirectory(directory.getAbsolutePath())
+            .setOverflowPolicy(AuditPipelineProperties.OverflowPolicyTypes.SPILL);
+        try (val pipeline = new AuditRecordPipeline("Spill", properties, batch -> {
+            blocked.countDown();
+            assertDoesNotThrow(() -> release.await(5, TimeUnit.SECONDS));
+            written.addAll(batch);
+        })) {
+            pipeline.submit(getAuditRecord());
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+            for (var i = 0; i < 4; i++) {
+                pipeline.submit(getAuditRecord());
+            }
+            assertEquals(3, pipeline.getSpilledRecords().get());
+            assertTrue(new File(directory, "Spill.audit").exists());
+            release.countDown();
+        }
+        assertEquals(5, written.size());
+        assertEquals(5, written.stream().map(AuditActionContext::getPrincipal).distinct().count());
+    }
+}
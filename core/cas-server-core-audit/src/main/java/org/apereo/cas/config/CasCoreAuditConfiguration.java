@@ -8,6 +8,7 @@ import org.apereo.cas.audit.AuditTrailExecutionPlan;
 import org.apereo.cas.audit.AuditTrailExecutionPlanConfigurer;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlan;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
+import org.apereo.cas.audit.spi.AuditTrailManagerMeterBinder;
 import org.apereo.cas.audit.spi.plan.DefaultAuditTrailExecutionPlan;
 import org.apereo.cas.audit.spi.plan.DefaultAuditTrailRecordResolutionPlan;
 import org.apereo.cas.audit.spi.principal.ChainingAuditPrincipalIdProvider;
@@ -28,6 +29,7 @@ import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMissingGraalVMNativeImage;
 import org.apereo.cas.util.text.MessageSanitizer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -515,6 +517,14 @@ public class CasCoreAuditConfiguration {
             return plan;
         }
 
+        @Bean
+        @ConditionalOnMissingBean(name = "auditTrailManagerMeterBinder")
+        public MeterBinder auditTrailManagerMeterBinder(
+            @Qualifier(AuditTrailExecutionPlan.BEAN_NAME)
+            final AuditTrailExecutionPlan auditTrailExecutionPlan) {
+            return new AuditTrailManagerMeterBinder(auditTrailExecutionPlan);
+        }
+
         @Bean
         @ConditionalOnMissingBean(name = "casAuditTrailExecutionPlanConfigurer")
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
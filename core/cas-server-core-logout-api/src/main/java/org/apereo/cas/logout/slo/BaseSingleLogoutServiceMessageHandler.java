@@ -17,6 +17,7 @@ import org.apereo.cas.util.http.HttpClient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
@@ -48,6 +49,13 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
 
     private final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies;
 
+    /**
+     * Optional dispatcher that delivers back-channel logout messages
+     * instead of the http client, if defined.
+     */
+    @Setter
+    private SingleLogoutMessageDispatcher messageDispatcher;
+
     @Override
     public Collection<SingleLogoutRequestContext> handle(final WebApplicationService singleLogoutService,
                                                          final String ticketId,
@@ -208,6 +216,16 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
     protected boolean sendMessageToEndpoint(final LogoutHttpMessage msg,
                                             final SingleLogoutRequestContext request,
                                             final SingleLogoutMessage logoutMessage) {
+        if (messageDispatcher != null) {
+            val result = messageDispatcher.dispatch(msg, request.getTicketId());
+            if (msg.isAsynchronous()) {
+                return result.getNow(Boolean.TRUE);
+            }
+            return FunctionUtils.doAndHandle(result::get, e -> {
+                LoggingUtils.warn(LOGGER, e);
+                return Boolean.FALSE;
+            }).get();
+        }
         return this.httpClient.sendMessageToEndPoint(msg);
     }
 
@@ -0,0 +1,356 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.configuration.model.core.authentication.HttpClientProperties;
+import org.apereo.cas.configuration.model.core.slo.SingleLogOutDispatcherProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.http.HttpMessage;
+import org.apereo.cas.util.http.SimpleHttpClientFactoryBean;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.net.ssl.SSLContext;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcher}.
+ * <p>
+ * Logout messages are queued per destination, i.e. the scheme, host and port of the logout endpoint,
+ * in a bounded queue that is drained with a limited number of requests in flight for each destination.
+ * Messages are sent using a single HTTP client that keeps connections open for reuse and prefers HTTP/2,
+ * so concurrent requests to the same destination are multiplexed over one connection where possible.
+ * A message that is dispatched again for the same endpoint and correlation id while an identical message
+ * is still waiting in the queue is not queued twice, and messages that could not be delivered are sent again
+ * with an exponential backoff. Responses with the status codes accepted by the CAS HTTP client
+ * (see {@link SimpleHttpClientFactoryBean#DEFAULT_ACCEPTABLE_CODES}) count as delivered.
+ * Destinations without queued messages or requests in flight are evicted once they have been idle for a while.
+ * <p>
+ * The HTTP client uses the CAS SSL context and the proxy configured for the CAS HTTP client. The JDK HTTP client
+ * does not accept a custom hostname verifier and always verifies hostnames, so turning off hostname verification
+ * for the CAS HTTP client has no effect on the dispatcher.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@Getter
+public class DefaultSingleLogoutMessageDispatcher implements SingleLogoutMessageDispatcher, DisposableBean {
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private final AtomicLong deliveredMessages = new AtomicLong();
+
+    private final AtomicLong failedMessages = new AtomicLong();
+
+    private final AtomicLong rejectedMessages = new AtomicLong();
+
+    private final AtomicLong duplicateMessages = new AtomicLong();
+
+    private final AtomicLong retriedMessages = new AtomicLong();
+
+    private final AtomicLong totalLatency = new AtomicLong();
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Destination> destinations = new ConcurrentHashMap<>();
+
+    private final SingleLogOutDispatcherProperties properties;
+
+    private final ScheduledExecutorService executorService;
+
+    private final HttpClient httpClient;
+
+    private final Duration requestTimeout;
+
+    private final Duration retryDelay;
+
+    private final Duration destinationIdleTimeout;
+
+    public DefaultSingleLogoutMessageDispatcher(final SingleLogOutDispatcherProperties properties,
+                                                final SSLContext sslContext,
+                                                final HttpClientProperties httpClientProperties) {
+        this.properties = properties;
+        this.requestTimeout = Beans.newDuration(properties.getRequestTimeout());
+        this.retryDelay = Beans.newDuration(properties.getRetryDelay());
+        this.destinationIdleTimeout = Beans.newDuration(properties.getDestinationIdleTimeout());
+
+        val threadCount = new AtomicInteger();
+        this.executorService = Executors.newScheduledThreadPool(Math.max(properties.getPoolSize(), 1), runnable -> {
+            val thread = new Thread(runnable, "SingleLogoutDispatcherThread-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        val builder = HttpClient.newBuilder()
+            .version(properties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Beans.newDuration(properties.getConnectTimeout()))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .executor(executorService);
+        if (sslContext != null) {
+            builder.sslContext(sslContext);
+        }
+        if (StringUtils.isNotBlank(httpClientProperties.getProxyHost()) && httpClientProperties.getProxyPort() > 0) {
+            builder.proxy(ProxySelector.of(new InetSocketAddress(httpClientProperties.getProxyHost(), httpClientProperties.getProxyPort())));
+        }
+        if ("none".equalsIgnoreCase(httpClientProperties.getHostNameVerifier())) {
+            LOGGER.warn("Hostname verification cannot be turned off for the logout message dispatcher; "
+                        + "Hostnames of logout endpoints will be verified");
+        }
+        this.httpClient = builder.build();
+
+        val idleTimeout = Math.max(destinationIdleTimeout.toMillis(), 1);
+        executorService.scheduleWithFixedDelay(this::evictIdleDestinations, idleTimeout, idleTimeout, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> dispatch(final HttpMessage message, final String correlationId) {
+        try {
+            val uri = message.getUrl().toURI();
+            val name = uri.getScheme() + "://" + uri.getAuthority();
+            val key = uri + "|" + StringUtils.defaultString(correlationId) + '|' + DigestUtils.sha256(message.getMessage());
+            while (true) {
+                val result = destinations.computeIfAbsent(name, Destination::new).enqueue(key, message);
+                if (result != null) {
+                    return result;
+                }
+            }
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            rejectedMessages.incrementAndGet();
+            return CompletableFuture.completedFuture(Boolean.FALSE);
+        }
+    }
+
+    /**
+     * Gets the number of logout messages waiting in the queue across all destinations.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return destinations.values().stream().mapToInt(Destination::getQueueDepth).sum();
+    }
+
+    /**
+     * Gets the number of logout messages currently being sent across all destinations.
+     *
+     * @return the number of requests in flight
+     */
+    public int getRequestsInFlight() {
+        return destinations.values().stream().mapToInt(Destination::getRequestsInFlight).sum();
+    }
+
+    /**
+     * Gets the number of destinations that are tracked.
+     *
+     * @return the number of destinations
+     */
+    public int getDestinationCount() {
+        return destinations.size();
+    }
+
+    /**
+     * Evict destinations that have no queued messages or requests in flight,
+     * and that have been idle for longer than the configured timeout.
+     */
+    public void evictIdleDestinations() {
+        val idleSince = System.nanoTime() - destinationIdleTimeout.toNanos();
+        destinations.values().removeIf(destination -> destination.retireIfIdleSince(idleSince));
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+        destinations.values().forEach(Destination::clear);
+    }
+
+    private void send(final Destination destination, final PendingMessage pending) {
+        val message = pending.message();
+        val attempt = pending.attempts().incrementAndGet();
+        LOGGER.trace("Sending logout message to [{}], attempt [{}]", message.getUrl(), attempt);
+        try {
+            val request = HttpRequest.newBuilder(message.getUrl().toURI())
+                .timeout(requestTimeout)
+                .header("Content-Type", message.getContentType())
+                .POST(HttpRequest.BodyPublishers.ofString(message.getMessage()))
+                .build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    destination.release();
+                    if (error == null && SimpleHttpClientFactoryBean.DEFAULT_ACCEPTABLE_CODES.contains(response.statusCode())) {
+                        complete(pending, true);
+                    } else if (attempt < properties.getMaxAttempts() && isRetryable(response)) {
+                        val delay = (long) (retryDelay.toMillis() * Math.pow(properties.getRetryMultiplier(), attempt - 1));
+                        LOGGER.debug("Unable to deliver logout message to [{}]; Trying again in [{}] ms", message.getUrl(), delay);
+                        retriedMessages.incrementAndGet();
+                        destination.retryLater(pending, delay);
+                    } else {
+                        LOGGER.warn("Unable to deliver logout message to [{}] after [{}] attempt(s)", message.getUrl(), attempt);
+                        complete(pending, false);
+                    }
+                });
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            destination.release();
+            complete(pending, false);
+        }
+    }
+
+    private void complete(final PendingMessage pending, final boolean delivered) {
+        totalLatency.addAndGet(System.nanoTime() - pending.createdAt());
+        if (delivered) {
+            deliveredMessages.incrementAndGet();
+        } else {
+            failedMessages.incrementAndGet();
+        }
+        pending.result().complete(delivered);
+    }
+
+    private static boolean isRetryable(final HttpResponse<Void> response) {
+        return response == null
+               || response.statusCode() >= HttpURLConnection.HTTP_INTERNAL_ERROR
+               || response.statusCode() == HTTP_TOO_MANY_REQUESTS;
+    }
+
+    private record PendingMessage(String key, HttpMessage message, CompletableFuture<Boolean> result,
+                                  long createdAt, AtomicInteger attempts) {
+    }
+
+    private final class Destination {
+        private final String name;
+
+        private final Deque<PendingMessage> queue = new ArrayDeque<>();
+
+        private final Map<String, PendingMessage> queuedMessages = new HashMap<>();
+
+        private int requestsInFlight;
+
+        private int retriesScheduled;
+
+        private long lastActivity = System.nanoTime();
+
+        private boolean retired;
+
+        Destination(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * Queue the message for this destination.
+         *
+         * @param key     the key of the message
+         * @param message the message
+         * @return the result, or null if the destination was evicted and the message should be queued again
+         */
+        CompletableFuture<Boolean> enqueue(final String key, final HttpMessage message) {
+            final PendingMessage pending;
+            synchronized (this) {
+                if (retired) {
+                    return null;
+                }
+                lastActivity = System.nanoTime();
+                val existing = queuedMessages.get(key);
+                if (existing != null) {
+                    LOGGER.trace("Logout message to [{}] is already queued", message.getUrl());
+                    duplicateMessages.incrementAndGet();
+                    return existing.result();
+                }
+                if (queue.size() >= properties.getQueueCapacity()) {
+                    LOGGER.warn("Logout message queue for [{}] is full; Rejecting logout message to [{}]", name, message.getUrl());
+                    rejectedMessages.incrementAndGet();
+                    return CompletableFuture.completedFuture(Boolean.FALSE);
+                }
+                pending = new PendingMessage(key, message, new CompletableFuture<>(), System.nanoTime(), new AtomicInteger());
+                queue.offerLast(pending);
+                queuedMessages.put(key, pending);
+            }
+            drain();
+            return pending.result();
+        }
+
+        void retryLater(final PendingMessage pending, final long delay) {
+            synchronized (this) {
+                retriesScheduled++;
+            }
+            try {
+                executorService.schedule(() -> retry(pending), delay, TimeUnit.MILLISECONDS);
+            } catch (final RejectedExecutionException e) {
+                synchronized (this) {
+                    retriesScheduled--;
+                }
+                complete(pending, false);
+            }
+        }
+
+        void retry(final PendingMessage pending) {
+            synchronized (this) {
+                retriesScheduled--;
+                queue.offerFirst(pending);
+                queuedMessages.putIfAbsent(pending.key(), pending);
+            }
+            drain();
+        }
+
+        void release() {
+            synchronized (this) {
+                requestsInFlight--;
+                lastActivity = System.nanoTime();
+            }
+            drain();
+        }
+
+        synchronized boolean retireIfIdleSince(final long idleSince) {
+            retired = queue.isEmpty() && requestsInFlight == 0 && retriesScheduled == 0 && lastActivity - idleSince < 0;
+            return retired;
+        }
+
+        void drain() {
+            while (true) {
+                final PendingMessage next;
+                synchronized (this) {
+                    if (requestsInFlight >= Math.max(properties.getMaxConcurrentRequests(), 1) || queue.isEmpty()) {
+                        return;
+                    }
+                    next = queue.pollFirst();
+                    queuedMessages.remove(next.key(), next);
+                    requestsInFlight++;
+                }
+                send(this, next);
+            }
+        }
+
+        synchronized int getQueueDepth() {
+            return queue.size();
+        }
+
+        synchronized int getRequestsInFlight() {
+            return requestsInFlight;
+        }
+
+        synchronized void clear() {
+            queue.forEach(pending -> pending.result().complete(Boolean.FALSE));
+            queue.clear();
+            queuedMessages.clear();
+        }
+    }
+}
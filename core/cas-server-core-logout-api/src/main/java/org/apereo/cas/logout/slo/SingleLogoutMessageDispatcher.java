@@ -0,0 +1,31 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.util.http.HttpMessage;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcher}, responsible for delivering
+ * back-channel logout messages to the logout endpoints of applications.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@FunctionalInterface
+public interface SingleLogoutMessageDispatcher {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "singleLogoutMessageDispatcher";
+
+    /**
+     * Queue the logout message for delivery.
+     * Messages that share the same correlation id and are addressed to the same
+     * endpoint while an earlier message is still waiting in the queue are delivered only once.
+     *
+     * @param message       the message
+     * @param correlationId the correlation id, typically the ticket id that is being logged out
+     * @return the outcome of the delivery, completed with {@code false} if the message was rejected or could not be delivered
+     */
+    CompletableFuture<Boolean> dispatch(HttpMessage message, String correlationId);
+}
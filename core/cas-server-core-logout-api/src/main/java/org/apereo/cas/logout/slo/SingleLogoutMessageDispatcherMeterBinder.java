@@ -0,0 +1,57 @@
+package org.apereo.cas.logout.slo;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcherMeterBinder}.
+ * Exposes queue depth, delivery latency and outcome counters of the single logout message dispatcher as metrics.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+public class SingleLogoutMessageDispatcherMeterBinder implements MeterBinder {
+    private static final String METRIC_PREFIX = "cas.slo.dispatcher.";
+
+    private final DefaultSingleLogoutMessageDispatcher dispatcher;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + "queue.depth", dispatcher, DefaultSingleLogoutMessageDispatcher::getQueueDepth)
+            .description("Number of logout messages waiting to be sent")
+            .register(registry);
+        Gauge.builder(METRIC_PREFIX + "destinations", dispatcher, DefaultSingleLogoutMessageDispatcher::getDestinationCount)
+            .description("Number of destinations tracked by the dispatcher")
+            .register(registry);
+        Gauge.builder(METRIC_PREFIX + "in.flight", dispatcher, DefaultSingleLogoutMessageDispatcher::getRequestsInFlight)
+            .description("Number of logout messages being sent")
+            .register(registry);
+        FunctionTimer.builder(METRIC_PREFIX + "latency", dispatcher,
+                d -> d.getDeliveredMessages().get() + d.getFailedMessages().get(),
+                d -> d.getTotalLatency().get(), TimeUnit.NANOSECONDS)
+            .description("Time from queuing a logout message until it was delivered or given up on")
+            .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "delivered", dispatcher, d -> d.getDeliveredMessages().get())
+            .description("Number of logout messages delivered")
+            .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "failed", dispatcher, d -> d.getFailedMessages().get())
+            .description("Number of logout messages that could not be delivered")
+            .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "rejected", dispatcher, d -> d.getRejectedMessages().get())
+            .description("Number of logout messages rejected since the queue was full")
+            .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "duplicates", dispatcher, d -> d.getDuplicateMessages().get())
+            .description("Number of logout messages dispatched again while an identical message was already in the queue")
+            .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "retried", dispatcher, d -> d.getRetriedMessages().get())
+            .description("Number of times a logout message was sent again")
+            .register(registry);
+    }
+}
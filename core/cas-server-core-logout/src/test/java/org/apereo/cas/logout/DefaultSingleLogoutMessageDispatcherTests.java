@@ -0,0 +1,127 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.configuration.model.core.authentication.HttpClientProperties;
+import org.apereo.cas.configuration.model.core.slo.SingleLogOutDispatcherProperties;
+import org.apereo.cas.logout.slo.DefaultSingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcherMeterBinder;
+import org.apereo.cas.util.MockWebServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Logout")
+class DefaultSingleLogoutMessageDispatcherTests {
+
+    private static LogoutHttpMessage getLogoutMessage(final int port) throws Exception {
+        return getLogoutMessage(port, "LogoutMessage");
+    }
+
+    private static LogoutHttpMessage getLogoutMessage(final int port, final String message) throws Exception {
+        return new LogoutHttpMessage(new URL("http://localhost:" + port + "/logout"), message, true);
+    }
+
+    private static DefaultSingleLogoutMessageDispatcher getDispatcher(final SingleLogOutDispatcherProperties properties) {
+        return new DefaultSingleLogoutMessageDispatcher(properties, null, new HttpClientProperties());
+    }
+
+    @Test
+    void verifyMessageDelivered() throws Exception {
+        try (val webServer = new MockWebServer(9631, HttpStatus.OK)) {
+            webServer.responseBody("OK");
+            webServer.start();
+            val dispatcher = getDispatcher(new SingleLogOutDispatcherProperties());
+            val result = dispatcher.dispatch(getLogoutMessage(9631), "ST-1");
+            assertTrue(result.get(30, TimeUnit.SECONDS));
+            assertEquals(1, dispatcher.getDeliveredMessages().get());
+            assertEquals(0, dispatcher.getQueueDepth());
+
+            val registry = new SimpleMeterRegistry();
+            new SingleLogoutMessageDispatcherMeterBinder(dispatcher).bindTo(registry);
+            assertEquals(1, registry.get("cas.slo.dispatcher.delivered").functionCounter().count());
+            assertEquals(1, registry.get("cas.slo.dispatcher.latency").functionTimer().count());
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyMessageRetriedAndFailed() throws Exception {
+        try (val webServer = new MockWebServer(9632, HttpStatus.INTERNAL_SERVER_ERROR)) {
+            webServer.responseBody("Error");
+            webServer.start();
+            val properties = new SingleLogOutDispatcherProperties()
+                .setMaxAttempts(2)
+                .setRetryDelay("PT0.1S");
+            val dispatcher = getDispatcher(properties);
+            val result = dispatcher.dispatch(getLogoutMessage(9632), "ST-1");
+            assertFalse(result.get(30, TimeUnit.SECONDS));
+            assertEquals(1, dispatcher.getRetriedMessages().get());
+            assertEquals(1, dispatcher.getFailedMessages().get());
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyDuplicateMessagesQueuedOnceAndRejected() throws Exception {
+        try (val webServer = new MockWebServer(9633, HttpStatus.OK)) {
+            webServer.responseBody("OK");
+            webServer.start();
+            val properties = new SingleLogOutDispatcherProperties()
+                .setMaxConcurrentRequests(1)
+                .setQueueCapacity(1);
+            val dispatcher = getDispatcher(properties);
+            val first = dispatcher.dispatch(getLogoutMessage(9633, "LogoutMessage-1"), "ST-1");
+            val second = dispatcher.dispatch(getLogoutMessage(9633, "LogoutMessage-2"), "ST-2");
+            val duplicate = dispatcher.dispatch(getLogoutMessage(9633, "LogoutMessage-2"), "ST-2");
+            val rejected = dispatcher.dispatch(getLogoutMessage(9633, "LogoutMessage-3"), "ST-3");
+            assertSame(second, duplicate);
+            assertFalse(rejected.getNow(Boolean.TRUE));
+            assertEquals(1, dispatcher.getDuplicateMessages().get());
+            assertEquals(1, dispatcher.getRejectedMessages().get());
+            assertTrue(first.get(30, TimeUnit.SECONDS));
+            assertTrue(second.get(30, TimeUnit.SECONDS));
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyAcceptableStatusCodesDelivered() throws Exception {
+        try (val webServer = new MockWebServer(9634, HttpStatus.NO_CONTENT)) {
+            webServer.start();
+            val dispatcher = getDispatcher(new SingleLogOutDispatcherProperties());
+            val result = dispatcher.dispatch(getLogoutMessage(9634), "ST-1");
+            assertTrue(result.get(30, TimeUnit.SECONDS));
+            assertEquals(0, dispatcher.getRetriedMessages().get());
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyIdleDestinationsEvicted() throws Exception {
+        try (val webServer = new MockWebServer(9635, HttpStatus.OK)) {
+            webServer.responseBody("OK");
+            webServer.start();
+            val properties = new SingleLogOutDispatcherProperties().setDestinationIdleTimeout("PT0.1S");
+            val dispatcher = getDispatcher(properties);
+            assertTrue(dispatcher.dispatch(getLogoutMessage(9635), "ST-1").get(30, TimeUnit.SECONDS));
+            await().untilAsserted(() -> assertEquals(0, dispatcher.getDestinationCount()));
+            assertTrue(dispatcher.dispatch(getLogoutMessage(9635), "ST-2").get(30, TimeUnit.SECONDS));
+            assertEquals(2, dispatcher.getDeliveredMessages().get());
+            dispatcher.destroy();
+        }
+    }
+}
@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -54,6 +55,11 @@ public abstract class AbstractServicesManager implements ServicesManager {
 
     private final IndexedCollection<RegisteredService> indexedRegisteredServices;
 
+    /**
+     * Counts modifications of the cached service definitions, and is incremented after the cache is updated.
+     */
+    private final AtomicLong servicesModificationCount = new AtomicLong();
+
     protected AbstractServicesManager(final ServicesManagerConfigurationContext configurationContext) {
         this.configurationContext = configurationContext;
 
@@ -130,6 +136,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
     public synchronized void deleteAll() {
         configurationContext.getServicesCache().asMap().forEach((k, v) -> delete(v));
         configurationContext.getServicesCache().invalidateAll();
+        servicesModificationCount.incrementAndGet();
         val clientInfo = ClientInfoHolder.getClientInfo();
         publishEvent(new CasRegisteredServicesDeletedEvent(this, clientInfo));
     }
@@ -147,6 +154,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             publishEvent(new CasRegisteredServicePreDeleteEvent(this, service, clientInfo));
             configurationContext.getServiceRegistry().delete(service);
             configurationContext.getServicesCache().invalidate(service.getId());
+            servicesModificationCount.incrementAndGet();
             deleteInternal(service);
             publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
         }
@@ -179,7 +187,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
                     .map(locator -> {
                         LOGGER.debug("Service [{}] is found in service registry and can be supported by [{}]",
                             registeredService, locator.getName());
-                        cacheRegisteredService(registeredService);
+                        cacheRegisteredServiceIfAbsent(registeredService);
                         LOGGER.trace("Service [{}] is now cached from [{}]", service, serviceRegistry.getName());
                         return Optional.of(registeredService);
                     })
@@ -202,6 +210,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             .peek(RegisteredService::initialize)
             .collect(Collectors.toMap(RegisteredService::getId, Function.identity(), (r, s) -> s));
         configurationContext.getServicesCache().putAll(results);
+        servicesModificationCount.incrementAndGet();
         return results.values();
     }
 
@@ -249,7 +258,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             LOGGER.trace("The service with name [{}] is not found in the cache; trying to find it from [{}]", name, registry.getName());
             service = registry.findServiceByExactServiceName(name);
             if (service != null) {
-                cacheRegisteredService(service);
+                cacheRegisteredServiceIfAbsent(service);
                 LOGGER.trace("The service is found in [{}] and populated to the cache [{}]", registry.getName(), service);
             }
         }
@@ -273,7 +282,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             name, clazz, configurationContext.getServiceRegistry().getName());
         service = configurationContext.getServiceRegistry().findServiceByExactServiceName(name, clazz);
         if (service != null) {
-            cacheRegisteredService(service);
+            cacheRegisteredServiceIfAbsent(service);
             LOGGER.trace("The service is found in [{}] and populated to the cache [{}]",
                 configurationContext.getServiceRegistry().getName(), service);
         }
@@ -288,7 +297,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             .filter(getRegisteredServicesFilteringPredicate())
             .sorted()
             .peek(RegisteredService::initialize)
-            .peek(this::cacheRegisteredService)
+            .peek(this::cacheRegisteredServiceIfAbsent)
             .collect(Collectors.toList());
     }
 
@@ -302,7 +311,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
                 .filter(getRegisteredServicesFilteringPredicate())
                 .sorted()
                 .peek(RegisteredService::initialize)
-                .peek(this::cacheRegisteredService)
+                .peek(this::cacheRegisteredServiceIfAbsent)
                 .collect(Collectors.toList());
         }
         return new ArrayList<>();
@@ -352,6 +361,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         val servicesCache = configurationContext.getServicesCache();
         servicesCache.invalidateAll();
         servicesCache.putAll(servicesMap);
+        servicesModificationCount.incrementAndGet();
         indexedRegisteredServices.addAll(servicesMap.values());
         return servicesCache.asMap();
     }
@@ -441,8 +451,24 @@ public abstract class AbstractServicesManager implements ServicesManager {
     }
 
     private void cacheRegisteredService(final RegisteredService service) {
-        if (configurationContext.getServicesCache().getIfPresent(service.getId()) == null) {
-            configurationContext.getServicesCache().put(service.getId(), service);
+        val previous = configurationContext.getServicesCache().asMap().put(service.getId(), service);
+        servicesModificationCount.incrementAndGet();
+        if (previous != null) {
+            indexedRegisteredServices.remove(previous);
+        }
+        indexedRegisteredServices.add(service);
+    }
+
+    /**
+     * Cache the service found by a read operation, unless the cache already holds an entry for it.
+     * Entries are only replaced by save and load operations, and reading services leaves the
+     * modification count alone; a service that was missing from the cache changes its size instead.
+     *
+     * @param service the service
+     */
+    private void cacheRegisteredServiceIfAbsent(final RegisteredService service) {
+        val previous = configurationContext.getServicesCache().asMap().putIfAbsent(service.getId(), service);
+        if (previous == null) {
             indexedRegisteredServices.add(service);
         }
     }
@@ -5,12 +5,17 @@ import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
 
+import lombok.val;
+
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
  * Default implementation of the {@link ServicesManager} interface.
+ * Candidate services are located via a precompiled {@link RegisteredServiceMatchingIndex}
+ * that is rebuilt whenever the cached service definitions are modified, added, replaced or evicted.
  *
  * @author Scott Battaglia
  * @since 3.1
@@ -18,6 +23,8 @@ import java.util.stream.Collectors;
 @Monitorable
 public class DefaultServicesManager extends AbstractServicesManager {
 
+    private final AtomicReference<VersionedMatchingIndex> matchingIndex = new AtomicReference<>();
+
     public DefaultServicesManager(final ServicesManagerConfigurationContext context) {
         super(context);
     }
@@ -31,8 +38,40 @@ public class DefaultServicesManager extends AbstractServicesManager {
 
     @Override
     protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId) {
-        return getCacheableServicesStream().get()
-            .sorted(Comparator.naturalOrder())
-            .collect(Collectors.toList());
+        val index = getMatchingIndex();
+        if (index == null) {
+            return getCacheableServicesStream().get()
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.toList());
+        }
+        return index.getCandidates(serviceId);
+    }
+
+    /**
+     * Gets the matching index for the currently cached services,
+     * and rebuilds it if cached entries have been saved, deleted, loaded or evicted since.
+     * The modification count is read before the cache, so an index that is built while
+     * the cache is being modified is considered outdated and rebuilt on the next call.
+     *
+     * @return the matching index, or null if no services are cached.
+     */
+    protected RegisteredServiceMatchingIndex getMatchingIndex() {
+        val version = getServicesModificationCount().get();
+        val servicesCache = configurationContext.getServicesCache();
+        servicesCache.cleanUp();
+        val cachedServices = servicesCache.asMap();
+        if (cachedServices.isEmpty()) {
+            return null;
+        }
+        val current = matchingIndex.get();
+        if (current != null && current.version() == version && current.index().getSize() == cachedServices.size()) {
+            return current.index();
+        }
+        val index = new RegisteredServiceMatchingIndex(cachedServices.values());
+        matchingIndex.set(new VersionedMatchingIndex(version, index));
+        return index;
+    }
+
+    private record VersionedMatchingIndex(long version, RegisteredServiceMatchingIndex index) {
     }
 }
@@ -0,0 +1,264 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.FullRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is {@link RegisteredServiceMatchingIndex}.
+ * <p>
+ * A precompiled, immutable index of registered services that narrows down the list
+ * of candidate services for a given service identifier. Services are split into three groups:
+ * <ul>
+ *     <li>Literal service ids, looked up by exact (or case-insensitive) key.</li>
+ *     <li>Regular expressions that are anchored to a literal prefix (i.e. scheme and host),
+ *     kept in a prefix tree so that only prefixes of the requested service id are visited.</li>
+ *     <li>Everything else (true regular expressions, custom matching strategies or services
+ *     that are located by means other than their service id), which is always part of the candidates.</li>
+ * </ul>
+ * Candidates are always returned in the natural order of registered services
+ * so that {@link RegisteredService#getEvaluationOrder()} semantics are preserved.
+ * The index never excludes a service that could possibly match; final matching
+ * is still carried out by the registered service locators.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class RegisteredServiceMatchingIndex {
+    private static final String REGEX_METACHARACTERS = ".[]()*+?{}|^$\\";
+
+    private final RegisteredService[] sortedServices;
+
+    private final Map<String, int[]> literalServices;
+
+    private final Map<String, int[]> caseInsensitiveLiteralServices;
+
+    private final PrefixNode prefixedServices = new PrefixNode();
+
+    private final int[] unindexedServices;
+
+    @Getter
+    private final int size;
+
+    public RegisteredServiceMatchingIndex(final Collection<? extends RegisteredService> services) {
+        this.sortedServices = services.stream().sorted().toArray(RegisteredService[]::new);
+        this.size = sortedServices.length;
+
+        val literals = new HashMap<String, List<Integer>>();
+        val caseInsensitiveLiterals = new HashMap<String, List<Integer>>();
+        val unindexed = new ArrayList<Integer>();
+
+        for (var rank = 0; rank < sortedServices.length; rank++) {
+            val registeredService = sortedServices[rank];
+            val serviceId = StringUtils.defaultString(registeredService.getServiceId()).trim();
+            val strategy = registeredService.getMatchingStrategy();
+
+            if (!isIndexable(registeredService) || StringUtils.isBlank(serviceId)) {
+                unindexed.add(rank);
+            } else if (strategy instanceof LiteralRegisteredServiceMatchingStrategy literal) {
+                if (literal.isCaseInsensitive()) {
+                    caseInsensitiveLiterals.computeIfAbsent(normalize(serviceId), k -> new ArrayList<>()).add(rank);
+                } else {
+                    literals.computeIfAbsent(serviceId, k -> new ArrayList<>()).add(rank);
+                }
+            } else {
+                val anchored = strategy == null || strategy instanceof FullRegexRegisteredServiceMatchingStrategy;
+                val prefix = getLiteralPrefix(registeredService.getServiceId(), anchored);
+                if (StringUtils.isBlank(prefix)) {
+                    unindexed.add(rank);
+                } else {
+                    prefixedServices.add(normalize(prefix), rank);
+                }
+            }
+        }
+        this.literalServices = toRanks(literals);
+        this.caseInsensitiveLiteralServices = toRanks(caseInsensitiveLiterals);
+        this.unindexedServices = unindexed.stream().mapToInt(Integer::intValue).toArray();
+        prefixedServices.compact();
+        LOGGER.debug("Indexed [{}] service(s) with [{}] literal, [{}] case-insensitive literal and [{}] unindexed service definition(s)",
+            size, literalServices.size(), caseInsensitiveLiteralServices.size(), unindexedServices.length);
+    }
+
+    /**
+     * Extract the literal prefix that any matching service id must start with.
+     * The prefix is normalized by the caller since service id patterns are case-insensitive.
+     * A blank result indicates that no such prefix can be safely determined.
+     *
+     * @param pattern  the pattern
+     * @param anchored whether the pattern is implicitly anchored at the beginning of the input
+     * @return the literal prefix, or blank
+     */
+    public static String getLiteralPrefix(final String pattern, final boolean anchored) {
+        if (StringUtils.isBlank(pattern) || StringUtils.contains(pattern, '|')) {
+            return StringUtils.EMPTY;
+        }
+        var index = 0;
+        if (pattern.charAt(0) == '^') {
+            index++;
+        } else if (!anchored) {
+            return StringUtils.EMPTY;
+        }
+        val prefix = new StringBuilder();
+        while (index < pattern.length()) {
+            var current = pattern.charAt(index);
+            var length = 1;
+            if (current == '\\') {
+                if (index + 1 >= pattern.length() || Character.isLetterOrDigit(pattern.charAt(index + 1))) {
+                    break;
+                }
+                current = pattern.charAt(index + 1);
+                length = 2;
+            } else if (REGEX_METACHARACTERS.indexOf(current) >= 0) {
+                break;
+            }
+            val next = index + length < pattern.length() ? pattern.charAt(index + length) : 0;
+            if (next == '*' || next == '?' || next == '{') {
+                break;
+            }
+            prefix.append(current);
+            if (next == '+') {
+                break;
+            }
+            index += length;
+        }
+        return prefix.toString();
+    }
+
+    private static boolean isIndexable(final RegisteredService registeredService) {
+        return CasRegisteredService.FRIENDLY_NAME.equalsIgnoreCase(registeredService.getFriendlyName())
+            && (registeredService.getMatchingStrategy() == null
+            || registeredService.getMatchingStrategy() instanceof LiteralRegisteredServiceMatchingStrategy
+            || registeredService.getMatchingStrategy() instanceof FullRegexRegisteredServiceMatchingStrategy
+            || registeredService.getMatchingStrategy() instanceof PartialRegexRegisteredServiceMatchingStrategy);
+    }
+
+    /**
+     * Fold the given value the same way {@link String#equalsIgnoreCase(String)} does,
+     * one character at a time, so that lengths and prefixes are preserved.
+     */
+    private static String normalize(final String value) {
+        val chars = value.toCharArray();
+        for (var i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static Map<String, int[]> toRanks(final Map<String, List<Integer>> entries) {
+        val results = new HashMap<String, int[]>(entries.size());
+        entries.forEach((key, ranks) -> results.put(key, ranks.stream().mapToInt(Integer::intValue).toArray()));
+        return results;
+    }
+
+    /**
+     * Locate the candidate services that may match the given service id,
+     * in their natural evaluation order. Unindexed services are always included.
+     *
+     * @param serviceId the service id
+     * @return the candidate services
+     */
+    public List<RegisteredService> getCandidates(final String serviceId) {
+        val ranks = new RankCollector(unindexedServices.length + 8);
+        ranks.addAll(unindexedServices);
+        if (StringUtils.isNotBlank(serviceId)) {
+            ranks.addAll(literalServices.get(serviceId));
+            val normalizedServiceId = normalize(serviceId);
+            ranks.addAll(caseInsensitiveLiteralServices.get(normalizedServiceId));
+            prefixedServices.collect(normalizedServiceId, ranks);
+        }
+
+        val sortedRanks = ranks.toSortedArray();
+        val candidates = new ArrayList<RegisteredService>(sortedRanks.length);
+        for (val rank : sortedRanks) {
+            candidates.add(sortedServices[rank]);
+        }
+        return candidates;
+    }
+
+    /**
+     * Gets all indexed services in their natural evaluation order.
+     *
+     * @return the services
+     */
+    public List<RegisteredService> getServices() {
+        return Arrays.asList(sortedServices);
+    }
+
+    private static final class PrefixNode {
+        private final Map<Character, PrefixNode> children = new HashMap<>();
+
+        private List<Integer> entries;
+
+        private int[] ranks = new int[0];
+
+        void add(final String prefix, final int rank) {
+            var node = this;
+            for (var i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new PrefixNode());
+            }
+            if (node.entries == null) {
+                node.entries = new ArrayList<>();
+            }
+            node.entries.add(rank);
+        }
+
+        void compact() {
+            if (entries != null) {
+                ranks = entries.stream().mapToInt(Integer::intValue).toArray();
+                entries = null;
+            }
+            children.values().forEach(PrefixNode::compact);
+        }
+
+        void collect(final String serviceId, final RankCollector collector) {
+            var node = this;
+            for (var i = 0; i < serviceId.length() && node != null; i++) {
+                node = node.children.get(serviceId.charAt(i));
+                if (node != null) {
+                    collector.addAll(node.ranks);
+                }
+            }
+        }
+    }
+
+    private static final class RankCollector {
+        private int[] ranks;
+
+        private int count;
+
+        RankCollector(final int capacity) {
+            this.ranks = new int[Math.max(capacity, 1)];
+        }
+
+        void addAll(final int[] values) {
+            if (values != null && values.length > 0) {
+                if (count + values.length > ranks.length) {
+                    ranks = Arrays.copyOf(ranks, Math.max(ranks.length * 2, count + values.length));
+                }
+                System.arraycopy(values, 0, ranks, count, values.length);
+                count += values.length;
+            }
+        }
+
+        int[] toSortedArray() {
+            val results = Arrays.copyOf(ranks, count);
+            Arrays.sort(results);
+            return results;
+        }
+    }
+}
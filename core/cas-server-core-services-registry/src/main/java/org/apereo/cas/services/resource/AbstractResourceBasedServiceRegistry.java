@@ -11,6 +11,7 @@ import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServicePreDeleteEvent;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
@@ -35,6 +36,8 @@ import org.springframework.core.io.Resource;
 import org.springframework.util.Assert;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -46,7 +49,12 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -54,6 +62,10 @@ import java.util.stream.Stream;
 
 /**
  * This is {@link AbstractResourceBasedServiceRegistry}.
+ * <p>
+ * Service definition files are parsed concurrently, and files that have not changed since
+ * they were last loaded are not parsed again. Service registry listeners are always invoked
+ * on the thread that loads the registry, after files are parsed.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -80,6 +92,27 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
     @Getter
     protected Map<Long, RegisteredService> services = new ConcurrentHashMap<>();
 
+    /**
+     * Timestamps of files are only compared if they are older than this, when loaded,
+     * which covers the coarsest modification time granularity of common file systems.
+     * Files modified within this window are compared by content instead.
+     */
+    private static final long MODIFICATION_TIME_GRANULARITY_MILLIS = 2_000;
+
+    /**
+     * Index of loaded service definition files, keyed by path, used to skip parsing
+     * files that have not changed since they were last loaded.
+     */
+    private final Map<String, LoadedResource> loadedResources = new ConcurrentHashMap<>();
+
+    /**
+     * Maximum number of threads used to parse service definition files concurrently.
+     */
+    @Setter
+    private int loaderThreads = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+
+    private ExecutorService loaderExecutorService;
+
     /**
      * The Registered service json serializers.
      */
@@ -218,6 +251,7 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
                 LOGGER.debug("Found existing service definition by id [{}]. Saving...", service.getId());
             }
             services.put(service.getId(), service);
+            loadedResources.remove(getResourceKey(fileName));
             LOGGER.debug("Saved service to [{}]", fileName.getCanonicalPath());
         } catch (final IOException e) {
             throw new IllegalArgumentException("IO error opening file stream.", e);
@@ -236,6 +270,7 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
                 LOGGER.warn("Failed to delete service definition file [{}]", f.getCanonicalPath());
             } else {
                 removeRegisteredService(service);
+                loadedResources.remove(getResourceKey(f));
                 LOGGER.debug("Successfully deleted service definition file [{}]", f.getCanonicalPath());
             }
             publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
@@ -247,6 +282,7 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
     public void deleteAll() {
         val files = FileUtils.listFiles(this.serviceRegistryDirectory.toFile(), getExtensions(), true);
         files.forEach(File::delete);
+        loadedResources.clear();
     }
 
     @Override
@@ -256,9 +292,11 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         LOGGER.trace("Located [{}] files from [{}] are [{}]", getExtensions(), this.serviceRegistryDirectory, files);
         val clientInfo = ClientInfoHolder.getClientInfo();
 
-        this.services = files
+        val resourceKeys = files.stream().map(AbstractResourceBasedServiceRegistry::getResourceKey).collect(Collectors.toSet());
+        loadedResources.keySet().retainAll(resourceKeys);
+
+        this.services = loadFiles(files)
             .stream()
-            .map(this::load)
             .filter(Objects::nonNull)
             .flatMap(Collection::stream)
             .sorted()
@@ -275,52 +313,7 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
     @Override
     public Collection<RegisteredService> load(final File file) {
-        val fileName = file.getName();
-        if (!file.canRead()) {
-            LOGGER.warn("[{}] is not readable. Check file permissions", fileName);
-            return new ArrayList<>(0);
-        }
-        if (!file.exists()) {
-            LOGGER.warn("[{}] is not found at the path specified", fileName);
-            return new ArrayList<>(0);
-        }
-        if (file.length() == 0) {
-            LOGGER.debug("[{}] appears to be empty so no service definition will be loaded", fileName);
-            return new ArrayList<>(0);
-        }
-        if (fileName.startsWith(".")) {
-            LOGGER.debug("[{}] starts with ., ignoring", fileName);
-            return new ArrayList<>(0);
-        }
-        if (Arrays.stream(getExtensions()).noneMatch(fileName::endsWith)) {
-            LOGGER.debug("[{}] doesn't end with valid extension, ignoring", fileName);
-            return new ArrayList<>(0);
-        }
-
-        if (!RegexUtils.matches(this.serviceFileNamePattern, fileName)) {
-            LOGGER.warn("[{}] does not match the recommended pattern [{}]. "
-                    + "While CAS tries to be forgiving as much as possible, it's recommended "
-                    + "that you rename the file to match the requested pattern to avoid issues with duplicate service loading. "
-                    + "Future CAS versions may try to strictly force the naming syntax, refusing to load the file.",
-                fileName, this.serviceFileNamePattern.pattern());
-        }
-
-        LOGGER.debug("Attempting to read and parse [{}]", file.getAbsoluteFile());
-        try (val in = Files.newBufferedReader(file.toPath())) {
-            return this.registeredServiceSerializers
-                .stream()
-                .filter(s -> s.supports(file))
-                .map(s -> s.load(in))
-                .filter(Objects::nonNull)
-                .flatMap(Collection::stream)
-                .map(this::invokeServiceRegistryListenerPostLoad)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-        } catch (final Exception e) {
-            LOGGER.error("Error reading configuration file [{}]", fileName);
-            LoggingUtils.error(LOGGER, e);
-        }
-        return new ArrayList<>(0);
+        return completeLoading(parseFile(file));
     }
 
     @Override
@@ -347,6 +340,32 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
     @Override
     public void destroy() {
         this.serviceRegistryWatcherService.close();
+        shutdownLoaderExecutorService();
+    }
+
+    /**
+     * Gets the registered services that were last loaded from the given file.
+     *
+     * @param file the file
+     * @return the registered services, or an empty collection if the file was never loaded
+     */
+    protected Collection<RegisteredService> getRegisteredServicesLoadedFrom(final File file) {
+        return Optional.ofNullable(loadedResources.get(getResourceKey(file)))
+            .map(resource -> resource.serviceIds()
+                .stream()
+                .map(services::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()))
+            .orElseGet(List::of);
+    }
+
+    /**
+     * Forget about the service definitions loaded from the given file.
+     *
+     * @param file the file
+     */
+    protected void removeLoadedResource(final File file) {
+        loadedResources.remove(getResourceKey(file));
     }
 
     /**
@@ -390,6 +409,155 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         return null;
     }
 
+    private static String getResourceKey(final File file) {
+        return file.toPath().toAbsolutePath().normalize().toString();
+    }
+
+    private List<Collection<RegisteredService>> loadFiles(final Collection<File> files) {
+        val futures = files
+            .stream()
+            .map(file -> CompletableFuture.supplyAsync(() -> isUnchangedSinceLoaded(file)
+                ? new FileLoadResult(file, true, null)
+                : new FileLoadResult(file, false, parseFile(file)), getLoaderExecutorService()))
+            .toList();
+        return futures
+            .stream()
+            .map(CompletableFuture::join)
+            .map(result -> result.unchanged()
+                ? getRegisteredServicesLoadedFrom(result.file())
+                : completeLoading(result.parsedFile()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Read and parse the given file, without invoking service registry listeners,
+     * so that files can be parsed concurrently.
+     *
+     * @param file the file
+     * @return the parsed file, or null if the file is skipped or cannot be parsed
+     */
+    private ParsedFile parseFile(final File file) {
+        val fileName = file.getName();
+        if (!file.canRead()) {
+            LOGGER.warn("[{}] is not readable. Check file permissions", fileName);
+            return null;
+        }
+        if (!file.exists()) {
+            LOGGER.warn("[{}] is not found at the path specified", fileName);
+            return null;
+        }
+        if (file.length() == 0) {
+            LOGGER.debug("[{}] appears to be empty so no service definition will be loaded", fileName);
+            return null;
+        }
+        if (fileName.startsWith(".")) {
+            LOGGER.debug("[{}] starts with ., ignoring", fileName);
+            return null;
+        }
+        if (Arrays.stream(getExtensions()).noneMatch(fileName::endsWith)) {
+            LOGGER.debug("[{}] doesn't end with valid extension, ignoring", fileName);
+            return null;
+        }
+
+        if (!RegexUtils.matches(this.serviceFileNamePattern, fileName)) {
+            LOGGER.warn("[{}] does not match the recommended pattern [{}]. "
+                    + "While CAS tries to be forgiving as much as possible, it's recommended "
+                    + "that you rename the file to match the requested pattern to avoid issues with duplicate service loading. "
+                    + "Future CAS versions may try to strictly force the naming syntax, refusing to load the file.",
+                fileName, this.serviceFileNamePattern.pattern());
+        }
+
+        LOGGER.debug("Attempting to read and parse [{}]", file.getAbsoluteFile());
+        val resourceKey = getResourceKey(file);
+        try {
+            val loadedAt = System.currentTimeMillis();
+            val lastModified = file.lastModified();
+            val bytes = Files.readAllBytes(file.toPath());
+            val content = new String(bytes, StandardCharsets.UTF_8);
+            val in = new StringReader(content);
+            val services = this.registeredServiceSerializers
+                .stream()
+                .filter(s -> s.supports(file))
+                .map(s -> s.load(in))
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+            return new ParsedFile(resourceKey, lastModified, bytes.length, loadedAt, DigestUtils.sha256(content), services);
+        } catch (final Exception e) {
+            LOGGER.error("Error reading configuration file [{}]", fileName);
+            LoggingUtils.error(LOGGER, e);
+        }
+        loadedResources.remove(resourceKey);
+        return null;
+    }
+
+    private Collection<RegisteredService> completeLoading(final ParsedFile parsedFile) {
+        if (parsedFile == null) {
+            return new ArrayList<>(0);
+        }
+        val results = parsedFile.services()
+            .stream()
+            .map(this::invokeServiceRegistryListenerPostLoad)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        loadedResources.put(parsedFile.resourceKey(), new LoadedResource(parsedFile.lastModified(), parsedFile.length(),
+            parsedFile.loadedAt(), parsedFile.digest(), results.stream().map(RegisteredService::getId).toList()));
+        return results;
+    }
+
+    /**
+     * Determine whether the file is unchanged since it was last loaded, by its modification time and size.
+     * If the file was loaded within the modification time granularity of the file system,
+     * the modification time cannot tell a later change apart, so the file content is compared instead.
+     */
+    private boolean isUnchangedSinceLoaded(final File file) {
+        val resourceKey = getResourceKey(file);
+        val resource = loadedResources.get(resourceKey);
+        if (resource == null || !resource.serviceIds().stream().allMatch(services::containsKey)) {
+            return false;
+        }
+        val lastModified = file.lastModified();
+        if (resource.lastModified() != lastModified || resource.length() != file.length()) {
+            return false;
+        }
+        if (resource.loadedAt() - lastModified > MODIFICATION_TIME_GRANULARITY_MILLIS) {
+            LOGGER.trace("[{}] has not changed since it was last loaded", file);
+            return true;
+        }
+        return FunctionUtils.doAndHandle(() -> {
+            val checkedAt = System.currentTimeMillis();
+            val unchanged = resource.digest().equals(DigestUtils.sha256(Files.readString(file.toPath())));
+            if (unchanged && file.lastModified() == lastModified) {
+                LOGGER.trace("[{}] has the same content as when it was last loaded", file);
+                loadedResources.replace(resourceKey, resource, new LoadedResource(resource.lastModified(),
+                    resource.length(), checkedAt, resource.digest(), resource.serviceIds()));
+            }
+            return unchanged;
+        }, e -> {
+            LOGGER.debug("Unable to compare [{}] with its last loaded content: [{}]", file, e.getMessage());
+            return false;
+        }).get();
+    }
+
+    private synchronized ExecutorService getLoaderExecutorService() {
+        if (loaderExecutorService == null) {
+            val threadCount = new AtomicInteger();
+            loaderExecutorService = Executors.newFixedThreadPool(Math.max(loaderThreads, 1), runnable -> {
+                val thread = new Thread(runnable, "ServiceRegistryLoaderThread-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return loaderExecutorService;
+    }
+
+    private synchronized void shutdownLoaderExecutorService() {
+        if (loaderExecutorService != null) {
+            loaderExecutorService.shutdownNow();
+            loaderExecutorService = null;
+        }
+    }
+
     protected File getRegisteredServiceFileName(final RegisteredService service) {
         val fileName = resourceNamingStrategy.build(service, getExtensions()[0]);
 
@@ -421,6 +589,16 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
      */
     protected abstract String[] getExtensions();
 
+    private record LoadedResource(long lastModified, long length, long loadedAt, String digest, List<Long> serviceIds) {
+    }
+
+    private record ParsedFile(String resourceKey, long lastModified, long length, long loadedAt,
+                              String digest, List<RegisteredService> services) {
+    }
+
+    private record FileLoadResult(File file, boolean unchanged, ParsedFile parsedFile) {
+    }
+
     private void initializeRegistry(final Path configDirectory,
                                     final Collection<StringSerializer<RegisteredService>> serializers,
                                     final RegisteredServiceReplicationStrategy registeredServiceReplicationStrategy,
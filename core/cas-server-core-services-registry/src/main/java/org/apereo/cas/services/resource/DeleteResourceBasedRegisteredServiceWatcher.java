@@ -10,6 +10,7 @@ import org.apereo.inspektr.common.web.ClientInfoHolder;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * This is {@link DeleteResourceBasedRegisteredServiceWatcher}.
@@ -30,12 +31,18 @@ public class DeleteResourceBasedRegisteredServiceWatcher extends BaseResourceBas
         if (!fileName.startsWith(".") && Arrays.stream(serviceRegistryDao.getExtensions()).anyMatch(fileName::endsWith)) {
             LOGGER.debug("Service definition [{}] was deleted. Reloading cache...", file);
             val service = serviceRegistryDao.getRegisteredServiceFromFile(file);
+            val services = service != null
+                ? List.of(service)
+                : serviceRegistryDao.getRegisteredServicesLoadedFrom(file);
             val clientInfo = ClientInfoHolder.getClientInfo();
-            if (service != null) {
-                serviceRegistryDao.publishEvent(new CasRegisteredServicePreDeleteEvent(this, service, clientInfo));
-                serviceRegistryDao.removeRegisteredService(service);
-                LOGGER.debug("Successfully deleted service definition [{}]", service.getName());
-                serviceRegistryDao.publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
+            if (!services.isEmpty()) {
+                services.forEach(registeredService -> {
+                    serviceRegistryDao.publishEvent(new CasRegisteredServicePreDeleteEvent(this, registeredService, clientInfo));
+                    serviceRegistryDao.removeRegisteredService(registeredService);
+                    LOGGER.debug("Successfully deleted service definition [{}]", registeredService.getName());
+                    serviceRegistryDao.publishEvent(new CasRegisteredServiceDeletedEvent(this, registeredService, clientInfo));
+                });
+                serviceRegistryDao.removeLoadedResource(file);
             } else {
                 LOGGER.warn("Unable to locate a matching service definition from file [{}]. Reloading cache...", file);
                 val results = serviceRegistryDao.load();
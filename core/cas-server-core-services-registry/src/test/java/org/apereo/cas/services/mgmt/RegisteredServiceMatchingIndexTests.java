@@ -0,0 +1,93 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceMatchingStrategy;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegisteredServiceMatchingIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("RegisteredService")
+class RegisteredServiceMatchingIndexTests {
+
+    private static CasRegisteredService getRegisteredService(final long id, final String serviceId,
+                                                             final int order, final RegisteredServiceMatchingStrategy strategy) {
+        val service = new CasRegisteredService();
+        service.setId(id);
+        service.setName("Service" + id);
+        service.setServiceId(serviceId);
+        service.setEvaluationOrder(order);
+        service.setMatchingStrategy(strategy);
+        return service;
+    }
+
+    @Test
+    void verifyLiteralPrefix() {
+        assertEquals("https://app", RegisteredServiceMatchingIndex.getLiteralPrefix("^https://app.example.org/.*", true));
+        assertEquals("https://app.example.org/", RegisteredServiceMatchingIndex.getLiteralPrefix("https://app\\.example\\.org/.*", true));
+        assertEquals("https://example.or", RegisteredServiceMatchingIndex.getLiteralPrefix("https://example\\.org?", true));
+        assertEquals("https", RegisteredServiceMatchingIndex.getLiteralPrefix("https+://example.org", true));
+        assertEquals("https://", RegisteredServiceMatchingIndex.getLiteralPrefix("https://\\w+.org", true));
+        assertEquals("", RegisteredServiceMatchingIndex.getLiteralPrefix("https://example.org|http://example.org", true));
+        assertEquals("", RegisteredServiceMatchingIndex.getLiteralPrefix("https://example.org", false));
+        assertEquals("https://example", RegisteredServiceMatchingIndex.getLiteralPrefix("^https://example.org", false));
+        assertEquals("", RegisteredServiceMatchingIndex.getLiteralPrefix("(https|http)://.*", true));
+        assertEquals("", RegisteredServiceMatchingIndex.getLiteralPrefix(".*", true));
+    }
+
+    @Test
+    void verifyCandidatesKeepEvaluationOrder() {
+        val wildcard = getRegisteredService(1, ".*", 100, null);
+        val host = getRegisteredService(2, "^https://app\\.example\\.org/.*", 10, null);
+        val literal = getRegisteredService(3, "https://app.example.org/literal", 5,
+            new LiteralRegisteredServiceMatchingStrategy());
+        val caseInsensitive = getRegisteredService(4, "HTTPS://APP.EXAMPLE.ORG/literal", 50,
+            new LiteralRegisteredServiceMatchingStrategy(true));
+        val partial = getRegisteredService(5, "unrelated", 1, new PartialRegexRegisteredServiceMatchingStrategy());
+        val other = getRegisteredService(6, "https://other.example.org/.*", 2, null);
+
+        val index = new RegisteredServiceMatchingIndex(List.of(wildcard, host, literal, caseInsensitive, partial, other));
+        assertEquals(6, index.getSize());
+
+        val candidates = index.getCandidates("https://app.example.org/literal");
+        assertEquals(List.of(partial, literal, host, caseInsensitive, wildcard), candidates);
+        assertEquals(List.of(partial, host, wildcard), index.getCandidates("HTTPS://App.Example.org/path"));
+        assertEquals(List.of(partial, wildcard), index.getCandidates("https://unknown.org"));
+        assertEquals(List.of(partial, wildcard), index.getCandidates(null));
+
+        val located = candidates.stream()
+            .filter(service -> service.matches("https://app.example.org/literal"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(literal, located);
+    }
+
+    @Test
+    void verifyCandidatesMatchLinearScan() {
+        val services = IntStream.range(0, 500)
+            .mapToObj(i -> getRegisteredService(i, "^https://app" + i + "\\.example\\.org/.*", i % 7, null))
+            .map(RegisteredService.class::cast)
+            .toList();
+        val index = new RegisteredServiceMatchingIndex(services);
+        IntStream.range(0, 500).forEach(i -> {
+            val serviceId = "https://app" + i + ".example.org/login";
+            val expected = services.stream().sorted().filter(service -> service.matches(serviceId)).findFirst().orElseThrow();
+            val actual = index.getCandidates(serviceId).stream().filter(service -> service.matches(serviceId)).findFirst().orElseThrow();
+            assertEquals(expected, actual);
+        });
+    }
+}
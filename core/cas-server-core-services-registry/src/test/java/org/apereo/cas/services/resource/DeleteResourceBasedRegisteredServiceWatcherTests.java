@@ -1,5 +1,6 @@
 package org.apereo.cas.services.resource;
 
+import org.apereo.cas.services.CasRegisteredService;
 import org.apereo.cas.services.util.RegisteredServiceJsonSerializer;
 import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
@@ -9,8 +10,10 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -73,6 +76,39 @@ class DeleteResourceBasedRegisteredServiceWatcherTests {
         assertEquals(0, registry.size());
     }
 
+    @Test
+    void verifyServicesLoadedFromUnconventionalFileDeleted() throws Exception {
+        val events = new ArrayList<Class<?>>();
+        val mockAppContext = mock(ConfigurableApplicationContext.class);
+        doAnswer(args -> events.add(args.getArgument(0).getClass())).when(mockAppContext).publishEvent(any());
+        val directory = Files.createTempDirectory("services").toFile();
+        val file = new File(directory, "customservicedefinition.json");
+        val serializer = new RegisteredServiceJsonSerializer(mockAppContext);
+        val service = new CasRegisteredService();
+        service.setId(1000);
+        service.setName("CustomService");
+        service.setServiceId("https://custom.example.org");
+        serializer.to(file, service);
+
+        val registry = new AbstractResourceBasedServiceRegistry(new FileSystemResource(directory),
+            List.of(serializer), mockAppContext, new ArrayList<>()) {
+            @Override
+            protected String[] getExtensions() {
+                return new String[]{"json"};
+            }
+        };
+        assertEquals(1, registry.load().size());
+        assertTrue(file.delete());
+        events.clear();
+
+        val watcher = new DeleteResourceBasedRegisteredServiceWatcher(registry);
+        watcher.accept(file);
+        assertEquals(0, registry.size());
+        assertTrue(events.contains(CasRegisteredServiceDeletedEvent.class));
+        assertFalse(events.contains(CasRegisteredServicesLoadedEvent.class));
+        registry.destroy();
+    }
+
     @Test
     void verifyTempFilesIgnored() throws Exception {
         val result = new AtomicBoolean(false);
@@ -16,6 +16,7 @@ import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.core.io.ClassPathResource;
 import java.io.File;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
@@ -70,6 +71,48 @@ public abstract class BaseResourceBasedServiceRegistryTests extends AbstractServ
         assertTrue(newServiceRegistry.load(file).isEmpty());
     }
 
+    @Test
+    void verifyUnchangedFilesAreNotParsedAgain() {
+        val r = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        newServiceRegistry.save(r);
+        val loaded = newServiceRegistry.load();
+        assertEquals(1, loaded.size());
+        val reloaded = newServiceRegistry.load();
+        assertEquals(1, reloaded.size());
+        assertSame(loaded.iterator().next(), reloaded.iterator().next());
+    }
+
+    @Test
+    void verifyLoadAfterDestroy() {
+        val r = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        newServiceRegistry.save(r);
+        assertEquals(1, newServiceRegistry.load().size());
+        ((AbstractResourceBasedServiceRegistry) newServiceRegistry).destroy();
+        assertEquals(1, newServiceRegistry.load().size());
+    }
+
+    @Test
+    void verifyChangedFilesOfSameSizeAreParsedAgain() throws Exception {
+        val r = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        r.setDescription("Description-1");
+        newServiceRegistry.save(r);
+        assertEquals(1, newServiceRegistry.load().size());
+
+        val file = FileUtils.listFiles(RESOURCE.getFile(), null, true)
+            .stream()
+            .filter(f -> f.getName().contains("-" + r.getId() + '.'))
+            .findFirst()
+            .orElseThrow();
+        val lastModified = file.lastModified();
+        val content = FileUtils.readFileToString(file, StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(file, content.replace("Description-1", "Description-2"), StandardCharsets.UTF_8);
+        assertTrue(file.setLastModified(lastModified));
+
+        val reloaded = newServiceRegistry.load();
+        assertEquals(1, reloaded.size());
+        assertEquals("Description-2", reloaded.iterator().next().getDescription());
+    }
+
     @Test
     void verify() {
         val applicationContext = new StaticApplicationContext();
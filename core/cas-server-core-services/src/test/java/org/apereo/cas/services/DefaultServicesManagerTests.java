@@ -1,5 +1,6 @@
 package org.apereo.cas.services;
 
+import org.apereo.cas.services.mgmt.AbstractServicesManager;
 import org.apereo.cas.services.mgmt.DefaultServicesManager;
 import org.apereo.cas.services.query.RegisteredServiceQuery;
 
@@ -103,4 +104,37 @@ class DefaultServicesManagerTests extends AbstractServicesManagerTests<DefaultSe
         servicesManager.load();
         assertTrue(isServiceInCache(null, service.getId()));
     }
+
+    @Test
+    void verifyEditedServiceIsMatched() {
+        val service = new CasRegisteredService();
+        service.setId(7000);
+        service.setName(TEST);
+        service.setServiceId("https://app1.example.org");
+        servicesManager.save(service);
+        assertNotNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://app1.example.org")));
+
+        val editedService = new CasRegisteredService();
+        editedService.setId(service.getId());
+        editedService.setName(TEST);
+        editedService.setServiceId("https://app2.example.org");
+        servicesManager.save(editedService);
+        assertNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://app1.example.org")));
+        assertNotNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://app2.example.org")));
+    }
+
+    @Test
+    void verifyReadsDoNotModifyCachedServices() {
+        val service = new CasRegisteredService();
+        service.setId(7100);
+        service.setName(TEST);
+        service.setServiceId("https://app3.example.org");
+        servicesManager.save(service);
+        val modificationCount = ((AbstractServicesManager) servicesManager).getServicesModificationCount();
+        val version = modificationCount.get();
+        assertNotNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://app3.example.org")));
+        assertNotNull(servicesManager.findServiceBy(service.getId()));
+        assertFalse(servicesManager.getAllServices().isEmpty());
+        assertEquals(version, modificationCount.get());
+    }
 }
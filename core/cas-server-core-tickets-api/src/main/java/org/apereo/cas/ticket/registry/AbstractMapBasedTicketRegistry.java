@@ -2,6 +2,8 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketAwareTicket;
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
 import org.apereo.cas.ticket.registry.pubsub.commands.AddTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketMessageQueueCommand;
@@ -17,11 +19,20 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * This is {@link AbstractMapBasedTicketRegistry}.
+ * <p>
+ * Tickets that are stored in the map are also tracked by an {@link InMemoryTicketRegistryIndex},
+ * which is updated atomically with the map entry for each ticket. Session lookups
+ * and counts are answered from the index without walking through the entire map.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -33,6 +44,8 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
 
     protected final PublisherIdentifier publisherIdentifier;
 
+    private final InMemoryTicketRegistryIndex ticketIndex = new InMemoryTicketRegistryIndex();
+
     public AbstractMapBasedTicketRegistry(final CipherExecutor cipherExecutor,
                                           final TicketSerializationManager ticketSerializationManager,
                                           final TicketCatalog ticketCatalog,
@@ -63,6 +76,65 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
         return result;
     }
 
+    @Override
+    public long sessionCount() {
+        return Optional.ofNullable(getTicketIndex())
+            .map(InMemoryTicketRegistryIndex::countTicketGrantingTickets)
+            .orElseGet(super::sessionCount);
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return Optional.ofNullable(getTicketIndex())
+            .map(InMemoryTicketRegistryIndex::countServiceTickets)
+            .orElseGet(super::serviceTicketCount);
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        val index = getTicketIndex();
+        if (index == null) {
+            return super.countSessionsFor(principalId);
+        }
+        return index.getTicketGrantingTickets(principalId)
+            .stream()
+            .filter(getMapInstance()::containsKey)
+            .count();
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        val index = getTicketIndex();
+        if (index == null) {
+            return super.getSessionsFor(principalId);
+        }
+        return getTicketsFromIndex(index.getTicketGrantingTickets(principalId))
+            .filter(ticket -> ticket instanceof TicketGrantingTicket tgt && !ticket.isExpired()
+                && tgt.getAuthentication().getPrincipal().getId().equals(principalId));
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
+        val index = getTicketIndex();
+        if (index == null) {
+            return super.getSessionsWithAttributes(queryAttributes);
+        }
+        val digestedQuery = digestQueryAttributes(queryAttributes);
+        return getTicketsFromIndex(index.getTicketGrantingTickets())
+            .filter(ticket -> isSessionWithDigestedAttributes(ticket, digestedQuery));
+    }
+
+    /**
+     * Gets the tickets issued by the given ticket-granting ticket, such as service tickets
+     * and proxy-granting tickets, that are still found in the registry.
+     *
+     * @param ticketGrantingTicketId the ticket-granting ticket id
+     * @return the tickets
+     */
+    public Stream<? extends Ticket> getChildTickets(final String ticketGrantingTicketId) {
+        return getTicketsFromIndex(getTicketIndex().getChildren(digestIdentifier(ticketGrantingTicketId)));
+    }
+
     @Override
     public long deleteAll() {
         val result = deleteAllFromQueue();
@@ -113,8 +185,14 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     @Override
     public void addTicketToQueue(final Ticket ticket) throws Exception {
         val encTicket = encodeTicket(ticket);
+        val parentKey = ticket instanceof TicketGrantingTicketAwareTicket aware && aware.getTicketGrantingTicket() != null
+            ? digestIdentifier(aware.getTicketGrantingTicket().getId())
+            : null;
         LOGGER.debug("Putting ticket [{}] in registry.", ticket.getId());
-        getMapInstance().put(encTicket.getId(), encTicket);
+        getMapInstance().compute(encTicket.getId(), (key, existing) -> {
+            ticketIndex.add(key, ticket, parentKey);
+            return encTicket;
+        });
     }
 
     @Override
@@ -127,14 +205,37 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     @Override
     public long deleteTicketFromQueue(final String ticketId) {
         val encTicketId = digestIdentifier(ticketId);
-        return !StringUtils.isBlank(encTicketId) && getMapInstance().remove(encTicketId) != null ? 1 : 0;
+        return !StringUtils.isBlank(encTicketId) ? removeTicketEntry(encTicketId) : 0;
     }
 
     @Override
     public long deleteAllFromQueue() {
-        val size = getMapInstance().size();
-        getMapInstance().clear();
-        return size;
+        val count = new AtomicLong();
+        getMapInstance().keySet().forEach(key -> count.addAndGet(removeTicketEntry(key)));
+        return count.get();
+    }
+
+    /**
+     * Gets the secondary ticket index that is kept in sync with the map instance.
+     *
+     * @return the ticket index
+     */
+    protected InMemoryTicketRegistryIndex getTicketIndex() {
+        return ticketIndex;
+    }
+
+    private long removeTicketEntry(final String key) {
+        val removed = new AtomicLong();
+        getMapInstance().computeIfPresent(key, (k, existing) -> {
+            ticketIndex.remove(k);
+            removed.incrementAndGet();
+            return null;
+        });
+        return removed.get();
+    }
+
+    private Stream<Ticket> getTicketsFromIndex(final Collection<String> keys) {
+        return decodeTickets(keys.stream().map(getMapInstance()::get).filter(Objects::nonNull));
     }
 
     /**
@@ -1,6 +1,7 @@
 package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.authentication.CoreAuthenticationUtils;
+import org.apereo.cas.ticket.AbstractTicket;
 import org.apereo.cas.ticket.AuthenticatedServicesAwareTicketGrantingTicket;
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
 import org.apereo.cas.ticket.EncodedTicket;
@@ -12,13 +13,13 @@ import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CollectionUtils;
-import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.serialization.SerializationUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.io.ByteSource;
-import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +27,8 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -46,11 +49,14 @@ import java.util.stream.Stream;
  * @since 3.0.0
  */
 @Slf4j
-@AllArgsConstructor
 public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     private static final String MESSAGE = "Ticket encryption is not enabled. Falling back to default behavior";
 
+    private static final int DIGESTED_ATTRIBUTES_CACHE_SIZE = 10_000;
+
+    private static final Duration DIGESTED_ATTRIBUTES_CACHE_EXPIRATION = Duration.ofMinutes(30);
+
     @Setter
     protected CipherExecutor cipherExecutor;
 
@@ -58,6 +64,25 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     protected final TicketCatalog ticketCatalog;
 
+    /**
+     * Digests ids and attributes when ticket encryption is turned on.
+     */
+    @Setter
+    protected TicketIdDigester ticketIdDigester = TicketIdDigester.sha512();
+
+    private final Cache<String, DigestedTicketAttributes> digestedAttributes = Caffeine.newBuilder()
+        .maximumSize(DIGESTED_ATTRIBUTES_CACHE_SIZE)
+        .expireAfterAccess(DIGESTED_ATTRIBUTES_CACHE_EXPIRATION)
+        .build();
+
+    protected AbstractTicketRegistry(final CipherExecutor cipherExecutor,
+                                     final TicketSerializationManager ticketSerializationManager,
+                                     final TicketCatalog ticketCatalog) {
+        this.cipherExecutor = cipherExecutor;
+        this.ticketSerializationManager = ticketSerializationManager;
+        this.ticketCatalog = ticketCatalog;
+    }
+
     protected static String getPrincipalIdFrom(final Ticket ticket) {
         return ticket instanceof AuthenticationAwareTicket
             ? Optional.ofNullable(((AuthenticationAwareTicket) ticket).getAuthentication())
@@ -65,16 +90,39 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
             : StringUtils.EMPTY;
     }
 
+    /**
+     * Collect the attributes of the ticket's authentication and principal,
+     * and digest them if ticket encryption is turned on. Digested attributes of
+     * ticket-granting tickets are remembered, and digested again only once the attributes change.
+     *
+     * @param ticket the ticket
+     * @return the attributes
+     */
     protected Map collectAndDigestTicketAttributes(final Ticket ticket) {
         val currentAttributes = getCombinedTicketAttributes(ticket);
         if (isCipherExecutorEnabled()) {
-            val encodedAttributes = new HashMap<String, Object>(currentAttributes.size());
-            currentAttributes.forEach((key, value) -> encodedAttributes.put(digestIdentifier(key), digestIdentifier(value)));
-            return encodedAttributes;
+            if (ticket instanceof TicketGrantingTicket) {
+                val cached = digestedAttributes.getIfPresent(ticket.getId());
+                if (cached != null && cached.attributes().equals(currentAttributes)) {
+                    return new HashMap<>(cached.digestedAttributes());
+                }
+                val encodedAttributes = digestTicketAttributes(currentAttributes);
+                val snapshot = new HashMap<String, List<Object>>(currentAttributes.size());
+                currentAttributes.forEach((key, value) -> snapshot.put(key, new ArrayList<>(value)));
+                digestedAttributes.put(ticket.getId(), new DigestedTicketAttributes(snapshot, encodedAttributes));
+                return new HashMap<>(encodedAttributes);
+            }
+            return digestTicketAttributes(currentAttributes);
         }
         return currentAttributes;
     }
 
+    private Map<String, Object> digestTicketAttributes(final Map<String, List<Object>> attributes) {
+        val encodedAttributes = new HashMap<String, Object>(attributes.size());
+        attributes.forEach((key, value) -> encodedAttributes.put(digestIdentifier(key), digestIdentifier(value)));
+        return encodedAttributes;
+    }
+
     private static Map<String, List<Object>> getCombinedTicketAttributes(final Ticket ticket) {
         if (ticket instanceof AuthenticationAwareTicket authnTicket) {
             val authentication = authnTicket.getAuthentication();
@@ -138,21 +186,25 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public int deleteTicket(final Ticket ticket) throws Exception {
-        val count = new AtomicLong(0);
-        if (ticket instanceof TicketGrantingTicket tgt) {
-            LOGGER.debug("Removing children of ticket [{}] from the registry.", ticket.getId());
-            count.getAndAdd(deleteChildren(tgt));
-            if (ticket instanceof ProxyGrantingTicket) {
-                deleteProxyGrantingTicketFromParent((ProxyGrantingTicket) ticket);
-            } else {
-                deleteLinkedProxyGrantingTickets(count, tgt);
-            }
-        }
+        val count = new AtomicLong(deleteRelatedTickets(ticket));
         LOGGER.debug("Removing ticket [{}] from the registry.", ticket);
+        digestedAttributes.invalidate(ticket.getId());
         count.getAndAdd(deleteSingleTicket(ticket));
         return count.intValue();
     }
 
+    @Override
+    public int deleteTickets(final Collection<? extends Ticket> tickets) throws Exception {
+        val count = new AtomicLong(0);
+        for (val ticket : tickets) {
+            count.getAndAdd(deleteRelatedTickets(ticket));
+            digestedAttributes.invalidate(ticket.getId());
+        }
+        LOGGER.debug("Removing [{}] ticket(s) from the registry.", tickets.size());
+        count.getAndAdd(deleteSingleTickets(tickets));
+        return count.intValue();
+    }
+
     @Override
     public long sessionCount() {
         try (val tgtStream = stream().filter(TicketGrantingTicket.class::isInstance)) {
@@ -195,7 +247,7 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         if (StringUtils.isBlank(identifier)) {
             return identifier;
         }
-        val encodedId = DigestUtils.sha512(identifier);
+        val encodedId = ticketIdDigester.digest(identifier);
         LOGGER.debug("Digested original ticket id [{}] to [{}]", identifier, encodedId);
         return encodedId;
     }
@@ -210,31 +262,50 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
-        return getTickets(ticket -> {
-            if (ticket instanceof TicketGrantingTicket ticketGrantingTicket && !ticket.isExpired()
-                && ticketGrantingTicket.getAuthentication() != null) {
-                val attributes = collectAndDigestTicketAttributes(ticketGrantingTicket);
-
-                return queryAttributes.entrySet().stream().anyMatch(queryEntry -> {
-                    val attributeKey = digestIdentifier(queryEntry.getKey());
-
-                    if (attributes.containsKey(attributeKey)) {
-
-                        val authnAttributeValues = CollectionUtils.toCollection(attributes.get(attributeKey));
-
-                        return authnAttributeValues.stream().anyMatch(value -> {
-                            val attributeValue = value.toString();
-                            return queryEntry.getValue()
-                                .stream()
-                                .map(queryValue -> digestIdentifier(queryValue.toString()))
-                                .anyMatch(attributeValue::equalsIgnoreCase);
-                        });
-                    }
-                    return false;
-                });
-            }
-            return false;
-        });
+        val digestedQuery = digestQueryAttributes(queryAttributes);
+        return getTickets(ticket -> isSessionWithDigestedAttributes(ticket, digestedQuery));
+    }
+
+    protected boolean isSessionWithAttributes(final Ticket ticket, final Map<String, List<Object>> queryAttributes) {
+        return isSessionWithDigestedAttributes(ticket, digestQueryAttributes(queryAttributes));
+    }
+
+    /**
+     * Digest the query attributes once, so they can be matched against
+     * the digested attributes of each session.
+     *
+     * @param queryAttributes the query attributes
+     * @return the digested query attributes
+     */
+    protected Map<String, List<String>> digestQueryAttributes(final Map<String, List<Object>> queryAttributes) {
+        val digestedQuery = new HashMap<String, List<String>>(queryAttributes.size());
+        queryAttributes.forEach((key, values) -> digestedQuery.put(digestIdentifier(key), digestIdentifier(values)));
+        return digestedQuery;
+    }
+
+    protected boolean isSessionWithDigestedAttributes(final Ticket ticket, final Map<String, List<String>> digestedQuery) {
+        if (ticket instanceof TicketGrantingTicket ticketGrantingTicket && !ticket.isExpired()
+            && ticketGrantingTicket.getAuthentication() != null) {
+            val attributes = collectAndDigestTicketAttributes(ticketGrantingTicket);
+
+            return digestedQuery.entrySet().stream().anyMatch(queryEntry -> {
+                val attributeKey = queryEntry.getKey();
+
+                if (attributes.containsKey(attributeKey)) {
+
+                    val authnAttributeValues = CollectionUtils.toCollection(attributes.get(attributeKey));
+
+                    return authnAttributeValues.stream().anyMatch(value -> {
+                        val attributeValue = value.toString();
+                        return queryEntry.getValue()
+                            .stream()
+                            .anyMatch(attributeValue::equalsIgnoreCase);
+                    });
+                }
+                return false;
+            });
+        }
+        return false;
     }
 
     /**
@@ -245,6 +316,18 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      */
     public abstract long deleteSingleTicket(Ticket ticket);
 
+    /**
+     * Delete the given tickets, without their children, from the underlying store.
+     * Registries that are able to remove several entries with a single operation
+     * should override this operation. By default, tickets are removed one at a time.
+     *
+     * @param tickets the tickets
+     * @return the number of tickets deleted
+     */
+    public long deleteSingleTickets(final Collection<? extends Ticket> tickets) {
+        return tickets.stream().mapToLong(this::deleteSingleTicket).sum();
+    }
+
     protected abstract void addTicketInternal(Ticket ticket) throws Exception;
 
     protected int deleteTickets(final Set<String> tickets) {
@@ -336,6 +419,31 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return items.map(this::decodeTicket);
     }
 
+    /**
+     * Apply the delta to the ticket-granting ticket, typically
+     * after the ticket is loaded from a store that keeps deltas apart from the ticket itself.
+     *
+     * @param ticket the ticket
+     * @param delta  the delta
+     * @return the ticket
+     */
+    protected Ticket applyTicketGrantingTicketDelta(final Ticket ticket, final TicketGrantingTicketDelta delta) {
+        if (ticket instanceof final TicketGrantingTicket ticketGrantingTicket) {
+            if (ticketGrantingTicket instanceof final AuthenticatedServicesAwareTicketGrantingTicket servicesAware) {
+                servicesAware.getServices().putAll(delta.getAddedServices());
+                delta.getRemovedServices().forEach(servicesAware.getServices()::remove);
+            }
+            ticketGrantingTicket.getProxyGrantingTickets().putAll(delta.getAddedProxyGrantingTickets());
+            ticketGrantingTicket.getDescendantTickets().addAll(delta.getAddedDescendantTickets());
+            if (ticketGrantingTicket instanceof final AbstractTicket abstractTicket && delta.getLastTimeUsed() != null) {
+                abstractTicket.setLastTimeUsed(delta.getLastTimeUsed());
+                abstractTicket.setPreviousTimeUsed(delta.getPreviousTimeUsed());
+                abstractTicket.setCountOfUses(delta.getCountOfUses());
+            }
+        }
+        return ticket;
+    }
+
     protected boolean isCipherExecutorEnabled() {
         return this.cipherExecutor != null && this.cipherExecutor.isEnabled();
     }
@@ -352,6 +460,20 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
             ByteSource.wrap(encodedTicketObject).read(), ticket.getPrefix());
     }
 
+    private long deleteRelatedTickets(final Ticket ticket) throws Exception {
+        val count = new AtomicLong(0);
+        if (ticket instanceof final TicketGrantingTicket tgt) {
+            LOGGER.debug("Removing children of ticket [{}] from the registry.", ticket.getId());
+            count.getAndAdd(deleteChildren(tgt));
+            if (ticket instanceof final ProxyGrantingTicket pgt) {
+                deleteProxyGrantingTicketFromParent(pgt);
+            } else {
+                deleteLinkedProxyGrantingTickets(count, tgt);
+            }
+        }
+        return count.get();
+    }
+
     private void deleteLinkedProxyGrantingTickets(final AtomicLong count,
                                                   final TicketGrantingTicket tgt) throws Exception {
         val pgts = new LinkedHashSet<>(tgt.getProxyGrantingTickets().keySet());
@@ -368,4 +490,7 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         ticket.getTicketGrantingTicket().getProxyGrantingTickets().remove(ticket.getId());
         updateTicket(ticket.getTicketGrantingTicket());
     }
+
+    private record DigestedTicketAttributes(Map<String, List<Object>> attributes, Map<String, Object> digestedAttributes) {
+    }
 }
@@ -64,12 +64,19 @@ public class CachingTicketRegistry extends AbstractMapBasedTicketRegistry {
             .initialCapacity(INITIAL_CACHE_SIZE)
             .maximumSize(MAX_CACHE_SIZE)
             .expireAfter(new CachedTicketExpirationPolicy())
+            .evictionListener((String key, Ticket value, RemovalCause cause) -> super.getTicketIndex().remove(key))
             .removalListener(new CachedTicketRemovalListener())
             .build();
         this.mapInstance = this.storage.asMap();
         this.logoutManager = logoutManager;
     }
 
+    @Override
+    protected InMemoryTicketRegistryIndex getTicketIndex() {
+        storage.cleanUp();
+        return super.getTicketIndex();
+    }
+
     /**
      * The cached ticket expiration policy.
      */
@@ -1,36 +1,124 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.logout.SingleLogoutExecutionRequest;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.lock.LockRepository;
 
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This is {@link DefaultTicketRegistryCleaner}.
+ * <p>
+ * Expired tickets are divided into partitions based on the hash of the ticket id.
+ * Each partition is claimed via the {@link LockRepository}, including when there is a single partition,
+ * so that multiple CAS server nodes can share the work and never clean the same tickets at the same time. The expired tickets are then streamed once, and the tickets
+ * of claimed partitions are grouped into batches that are removed concurrently via
+ * {@link TicketRegistry#deleteTickets(java.util.Collection)}, each in its own transaction. Logout notifications
+ * for expired ticket-granting tickets are dispatched asynchronously and do not hold up ticket removal,
+ * nor does the cleaner wait for them to complete.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
  */
 @Slf4j
-@RequiredArgsConstructor
 @Transactional(transactionManager = "ticketTransactionManager")
-public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
+public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner, DisposableBean {
+    private static final String PARTITION_LOCK_KEY_PREFIX = "TicketRegistryCleanerPartition-";
+
     private final LockRepository lockRepository;
 
     private final LogoutManager logoutManager;
 
     private final TicketRegistry ticketRegistry;
 
+    private final TicketRegistryCleanerProperties properties;
+
+    private final TransactionOperations transactionOperations;
+
+    private final ExecutorService cleanerExecutor;
+
+    private final ExecutorService logoutExecutor;
+
+    /**
+     * Statistics collected during the last cleanup run.
+     */
+    @Getter
+    private volatile TicketRegistryCleanerStatistics statistics = TicketRegistryCleanerStatistics.empty();
+
+    @Getter
+    private final AtomicLong cleanerRuns = new AtomicLong();
+
+    @Getter
+    private final AtomicLong totalDuration = new AtomicLong();
+
+    @Getter
+    private final AtomicLong totalTicketsExamined = new AtomicLong();
+
+    @Getter
+    private final AtomicLong totalTicketsRemoved = new AtomicLong();
+
+    @Getter
+    private final AtomicLong totalPartitionsCleaned = new AtomicLong();
+
+    @Getter
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    public DefaultTicketRegistryCleaner(final LockRepository lockRepository,
+                                        final LogoutManager logoutManager,
+                                        final TicketRegistry ticketRegistry) {
+        this(lockRepository, logoutManager, ticketRegistry,
+            new TicketRegistryCleanerProperties(), TransactionOperations.withoutTransaction());
+    }
+
+    public DefaultTicketRegistryCleaner(final LockRepository lockRepository,
+                                        final LogoutManager logoutManager,
+                                        final TicketRegistry ticketRegistry,
+                                        final TicketRegistryCleanerProperties properties,
+                                        final TransactionOperations transactionOperations) {
+        this.lockRepository = lockRepository;
+        this.logoutManager = logoutManager;
+        this.ticketRegistry = ticketRegistry;
+        this.properties = properties;
+        this.transactionOperations = transactionOperations;
+        val concurrency = Math.max(1, properties.getMaxConcurrency());
+        this.cleanerExecutor = Executors.newFixedThreadPool(concurrency, newThreadFactory("TicketRegistryCleanerThread-"));
+        this.logoutExecutor = Executors.newFixedThreadPool(concurrency, newThreadFactory("TicketRegistryCleanerLogoutThread-"));
+    }
+
+    private static ThreadFactory newThreadFactory(final String prefix) {
+        val counter = new AtomicInteger();
+        return runnable -> {
+            val thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     @Override
     public int clean() {
         try {
@@ -48,23 +136,135 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
     @Override
     public int cleanTicket(final Ticket ticket) {
         return lockRepository.execute(ticket.getId(), Unchecked.supplier(() -> {
-            if (ticket instanceof TicketGrantingTicket) {
-                LOGGER.debug("Cleaning up expired ticket-granting ticket [{}]", ticket.getId());
-                logoutManager.performLogout(SingleLogoutExecutionRequest.builder()
-                    .ticketGrantingTicket((TicketGrantingTicket) ticket)
-                    .build());
+            if (ticket instanceof final TicketGrantingTicket ticketGrantingTicket) {
+                performLogout(ticketGrantingTicket);
             }
             LOGGER.debug("Cleaning up expired ticket [{}]", ticket.getId());
             return ticketRegistry.deleteTicket(ticket);
         })).orElseThrow();
     }
 
+    @Override
+    public void destroy() {
+        cleanerExecutor.shutdownNow();
+        logoutExecutor.shutdownNow();
+    }
+
     protected int cleanInternal() {
-        try (val expiredTickets = ticketRegistry.stream().filter(Objects::nonNull).filter(Ticket::isExpired)) {
-            val ticketsDeleted = expiredTickets.mapToInt(this::cleanTicket).sum();
-            LOGGER.info("[{}] expired tickets removed.", ticketsDeleted);
-            return ticketsDeleted;
+        val startTime = System.nanoTime();
+        val partitionCount = Math.max(1, properties.getPartitionCount());
+        val offset = ThreadLocalRandom.current().nextInt(partitionCount);
+        val claimedPartitions = new BitSet(partitionCount);
+        val examined = new AtomicLong();
+        val ticketsDeleted = claimPartitionsAndClean(offset, 0, partitionCount, claimedPartitions, examined);
+        val duration = System.nanoTime() - startTime;
+
+        statistics = new TicketRegistryCleanerStatistics(partitionCount, claimedPartitions.cardinality(),
+            examined.get(), ticketsDeleted, TimeUnit.NANOSECONDS.toMillis(duration));
+        cleanerRuns.incrementAndGet();
+        totalDuration.addAndGet(duration);
+        totalTicketsExamined.addAndGet(examined.get());
+        totalTicketsRemoved.addAndGet(ticketsDeleted);
+        totalPartitionsCleaned.addAndGet(claimedPartitions.cardinality());
+        LOGGER.info("[{}] expired tickets removed. Cleaned [{}] of [{}] partition(s), examining [{}] expired tickets in [{}]ms ([{}] tickets/s)",
+            ticketsDeleted, statistics.partitionsCleaned(), partitionCount, statistics.ticketsExamined(),
+            statistics.durationMillis(), statistics.getThroughput());
+        return ticketsDeleted;
+    }
+
+    /**
+     * Claim the partitions, starting at the given index, that are not being cleaned by another node,
+     * and clean all claimed partitions while holding their locks. Partition locks are obtained
+     * one after another, so that expired tickets only need to be streamed once for all claimed partitions.
+     *
+     * @param offset            the partition to start with
+     * @param index             the index of the partition to claim next
+     * @param partitionCount    the partition count
+     * @param claimedPartitions the partitions claimed so far
+     * @param examined          the count of examined tickets
+     * @return the count of removed tickets
+     */
+    protected int claimPartitionsAndClean(final int offset, final int index, final int partitionCount,
+                                          final BitSet claimedPartitions, final AtomicLong examined) {
+        if (index == partitionCount) {
+            return claimedPartitions.isEmpty() ? 0 : cleanPartitions(claimedPartitions, partitionCount, examined);
+        }
+        val partition = (offset + index) % partitionCount;
+        return lockRepository.execute(PARTITION_LOCK_KEY_PREFIX + partition, () -> {
+            claimedPartitions.set(partition);
+            return claimPartitionsAndClean(offset, index + 1, partitionCount, claimedPartitions, examined);
+        }).orElseGet(() -> {
+            LOGGER.debug("Partition [{}] of the ticket registry is being cleaned by another node", partition);
+            return claimPartitionsAndClean(offset, index + 1, partitionCount, claimedPartitions, examined);
+        });
+    }
+
+    /**
+     * Clean the expired tickets that belong to the given partitions,
+     * streaming the expired tickets of the registry once.
+     *
+     * @param partitions     the partitions
+     * @param partitionCount the partition count
+     * @param examined       the count of examined tickets
+     * @return the count of removed tickets
+     */
+    protected int cleanPartitions(final BitSet partitions, final int partitionCount, final AtomicLong examined) {
+        val batchSize = Math.max(1, properties.getBatchSize());
+        val permits = new Semaphore(Math.max(1, properties.getMaxConcurrency()));
+        val batches = new ArrayList<CompletableFuture<Integer>>();
+
+        try (val expiredTickets = ticketRegistry.getExpiredTickets()) {
+            var batch = new ArrayList<Ticket>(batchSize);
+            val iterator = expiredTickets
+                .filter(Objects::nonNull)
+                .filter(ticket -> partitions.get(Math.floorMod(ticket.getId().hashCode(), partitionCount)))
+                .iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                examined.incrementAndGet();
+                if (batch.size() >= batchSize || !iterator.hasNext()) {
+                    batches.add(submitBatch(batch, permits));
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
         }
+        val ticketsDeleted = batches.stream().mapToInt(CompletableFuture::join).sum();
+        LOGGER.debug("Partitions [{}] cleaned in [{}] batch(es) with [{}] expired tickets removed", partitions, batches.size(), ticketsDeleted);
+        return ticketsDeleted;
+    }
+
+    private CompletableFuture<Integer> submitBatch(final List<Ticket> batch, final Semaphore permits) {
+        Unchecked.runnable(permits::acquire).run();
+        return CompletableFuture
+            .supplyAsync(() -> transactionOperations.execute(status -> cleanBatch(batch)), cleanerExecutor)
+            .exceptionally(e -> {
+                LoggingUtils.error(LOGGER, e);
+                failedBatches.incrementAndGet();
+                return 0;
+            })
+            .thenApply(count -> Objects.requireNonNullElse(count, 0))
+            .whenComplete((result, e) -> permits.release());
+    }
+
+    private int cleanBatch(final List<Ticket> batch) {
+        batch.stream()
+            .filter(TicketGrantingTicket.class::isInstance)
+            .map(TicketGrantingTicket.class::cast)
+            .forEach(ticketGrantingTicket -> CompletableFuture
+                .runAsync(() -> performLogout(ticketGrantingTicket), logoutExecutor)
+                .exceptionally(e -> {
+                    LoggingUtils.error(LOGGER, e);
+                    return null;
+                }));
+        LOGGER.debug("Cleaning up [{}] expired ticket(s)", batch.size());
+        return FunctionUtils.doUnchecked(() -> ticketRegistry.deleteTickets(batch));
+    }
+
+    private void performLogout(final TicketGrantingTicket ticketGrantingTicket) {
+        LOGGER.debug("Cleaning up expired ticket-granting ticket [{}]", ticketGrantingTicket.getId());
+        logoutManager.performLogout(SingleLogoutExecutionRequest.builder()
+            .ticketGrantingTicket(ticketGrantingTicket)
+            .build());
     }
 
     /**
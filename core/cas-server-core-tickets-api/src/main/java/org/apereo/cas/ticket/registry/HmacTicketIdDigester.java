@@ -0,0 +1,54 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import lombok.val;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * This is {@link HmacTicketIdDigester} that digests identifiers
+ * with HMAC-SHA-256, truncated to a given length and encoded as base64url.
+ * Since the digest is keyed, it may be truncated safely and is cheaper to compute
+ * and to store than an unkeyed SHA-512 digest. {@link Mac} instances are reused per thread.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public class HmacTicketIdDigester implements TicketIdDigester {
+    /**
+     * Default length of the digest, in bytes.
+     */
+    public static final int DEFAULT_DIGEST_LENGTH = 16;
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final ThreadLocal<Mac> macs;
+
+    private final int digestLength;
+
+    public HmacTicketIdDigester(final byte[] key) {
+        this(key, DEFAULT_DIGEST_LENGTH);
+    }
+
+    public HmacTicketIdDigester(final byte[] key, final int digestLength) {
+        val secretKey = new SecretKeySpec(key, ALGORITHM);
+        this.digestLength = digestLength;
+        this.macs = ThreadLocal.withInitial(() -> FunctionUtils.doUnchecked(() -> {
+            val mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        }));
+    }
+
+    @Override
+    public String digest(final String identifier) {
+        val result = macs.get().doFinal(identifier.getBytes(StandardCharsets.UTF_8));
+        return EncodingUtils.encodeUrlSafeBase64(result.length > digestLength ? Arrays.copyOf(result, digestLength) : result);
+    }
+}
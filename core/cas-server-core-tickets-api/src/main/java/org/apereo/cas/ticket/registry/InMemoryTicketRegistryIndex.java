@@ -0,0 +1,190 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link InMemoryTicketRegistryIndex}.
+ * <p>
+ * Secondary indexes kept alongside the storage map of an {@link AbstractMapBasedTicketRegistry}
+ * so that session lookups and counts do not have to walk through every ticket in the registry.
+ * Tickets are tracked by their storage key (which is the digested ticket id, if encryption is turned on)
+ * and indexed by the authenticated principal, the ticket prefix and the parent ticket-granting ticket.
+ * The index only records keys; callers are expected to verify the presence of the ticket
+ * in the storage map, which remains the source of truth.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public class InMemoryTicketRegistryIndex {
+    private final Map<String, IndexedTicket> tickets = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> principals = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> prefixes = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> children = new ConcurrentHashMap<>();
+
+    private final Set<String> ticketGrantingTickets = ConcurrentHashMap.newKeySet();
+
+    private final Set<String> serviceTickets = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Fold the principal id the same way {@link String#equalsIgnoreCase(String)} does.
+     */
+    private static String normalize(final String principalId) {
+        val chars = principalId.toCharArray();
+        for (var i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static void addTo(final Map<String, Set<String>> index, final String indexKey, final String key) {
+        if (StringUtils.isNotBlank(indexKey)) {
+            index.computeIfAbsent(indexKey, k -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    private static void removeFrom(final Map<String, Set<String>> index, final String indexKey, final String key) {
+        if (StringUtils.isNotBlank(indexKey)) {
+            index.computeIfPresent(indexKey, (k, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /**
+     * Index the given ticket under its storage key, replacing previous index entries for the key.
+     *
+     * @param key       the storage key
+     * @param ticket    the ticket, not encoded
+     * @param parentKey the storage key of the parent ticket-granting ticket, if any
+     */
+    public void add(final String key, final Ticket ticket, final String parentKey) {
+        remove(key);
+        val principalId = ticket instanceof TicketGrantingTicket
+            ? AbstractTicketRegistry.getPrincipalIdFrom(ticket)
+            : StringUtils.EMPTY;
+        val entry = new IndexedTicket(ticket.getPrefix(),
+            StringUtils.isBlank(principalId) ? null : normalize(principalId), parentKey,
+            ticket instanceof TicketGrantingTicket, ticket instanceof ServiceTicket);
+        tickets.put(key, entry);
+        addTo(principals, entry.principal(), key);
+        addTo(prefixes, entry.prefix(), key);
+        addTo(children, entry.parent(), key);
+        if (entry.ticketGrantingTicket()) {
+            ticketGrantingTickets.add(key);
+        }
+        if (entry.serviceTicket()) {
+            serviceTickets.add(key);
+        }
+    }
+
+    /**
+     * Remove the index entries for the given storage key.
+     *
+     * @param key the storage key
+     */
+    public void remove(final String key) {
+        val entry = tickets.remove(key);
+        if (entry != null) {
+            removeFrom(principals, entry.principal(), key);
+            removeFrom(prefixes, entry.prefix(), key);
+            removeFrom(children, entry.parent(), key);
+            ticketGrantingTickets.remove(key);
+            serviceTickets.remove(key);
+        }
+    }
+
+    /**
+     * Remove all index entries.
+     */
+    public void clear() {
+        tickets.clear();
+        principals.clear();
+        prefixes.clear();
+        children.clear();
+        ticketGrantingTickets.clear();
+        serviceTickets.clear();
+    }
+
+    /**
+     * Gets the storage keys of ticket-granting tickets for the principal, compared case-insensitively.
+     *
+     * @param principalId the principal id
+     * @return the keys
+     */
+    public Set<String> getTicketGrantingTickets(final String principalId) {
+        return StringUtils.isBlank(principalId) ? Set.of() : principals.getOrDefault(normalize(principalId), Set.of());
+    }
+
+    /**
+     * Gets the storage keys of all ticket-granting tickets.
+     *
+     * @return the keys
+     */
+    public Set<String> getTicketGrantingTickets() {
+        return ticketGrantingTickets;
+    }
+
+    /**
+     * Gets the storage keys of tickets with the given prefix.
+     *
+     * @param prefix the prefix
+     * @return the keys
+     */
+    public Set<String> getTicketsWithPrefix(final String prefix) {
+        return prefixes.getOrDefault(prefix, Set.of());
+    }
+
+    /**
+     * Gets the storage keys of tickets issued by the given ticket-granting ticket.
+     *
+     * @param parentKey the storage key of the ticket-granting ticket
+     * @return the keys
+     */
+    public Set<String> getChildren(final String parentKey) {
+        return StringUtils.isBlank(parentKey) ? Set.of() : children.getOrDefault(parentKey, Set.of());
+    }
+
+    /**
+     * Count ticket-granting tickets.
+     *
+     * @return the count
+     */
+    public long countTicketGrantingTickets() {
+        return ticketGrantingTickets.size();
+    }
+
+    /**
+     * Count service tickets.
+     *
+     * @return the count
+     */
+    public long countServiceTickets() {
+        return serviceTickets.size();
+    }
+
+    /**
+     * Count all indexed tickets.
+     *
+     * @return the count
+     */
+    public long size() {
+        return tickets.size();
+    }
+
+    private record IndexedTicket(String prefix, String principal, String parent,
+                                 boolean ticketGrantingTicket, boolean serviceTicket) {
+    }
+}
@@ -0,0 +1,289 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryNearCacheProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
+import org.apereo.cas.ticket.registry.pubsub.commands.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketsMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.UpdateTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link NearCacheTicketRegistry}, which decorates a remote ticket registry
+ * with a small cache of ticket-granting tickets local to the CAS server node.
+ * <p>
+ * Ticket-granting tickets are read from the cache when present, and additions, updates and removals
+ * are written through to the underlying registry. Updates and removals are also published to other
+ * CAS server nodes via the ticket registry message queue. Commands received from other nodes only
+ * invalidate the local cache, since the changes are already stored in the underlying registry.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@Getter
+public class NearCacheTicketRegistry implements QueueableTicketRegistry {
+    private final TicketRegistry delegate;
+
+    private final QueueableTicketRegistryMessagePublisher ticketPublisher;
+
+    private final PublisherIdentifier publisherIdentifier;
+
+    private final Cache<String, Ticket> nearCache;
+
+    public NearCacheTicketRegistry(final TicketRegistry delegate,
+                                   final QueueableTicketRegistryMessagePublisher ticketPublisher,
+                                   final PublisherIdentifier publisherIdentifier,
+                                   final TicketRegistryNearCacheProperties properties) {
+        this.delegate = delegate;
+        this.ticketPublisher = ticketPublisher;
+        this.publisherIdentifier = publisherIdentifier;
+        this.nearCache = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(Beans.newDuration(properties.getExpireAfterWrite()))
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public void addTicket(final Ticket ticket) throws Exception {
+        delegate.addTicket(ticket);
+        cacheTicket(ticket);
+    }
+
+    @Override
+    public void addTicket(final Stream<? extends Ticket> toSave) throws Exception {
+        val tickets = toSave.toList();
+        delegate.addTicket(tickets.stream());
+        tickets.forEach(this::cacheTicket);
+    }
+
+    @Override
+    public <T extends Ticket> T getTicket(final String ticketId, final @NonNull Class<T> clazz) {
+        val ticket = getTicket(ticketId);
+        if (ticket == null) {
+            LOGGER.debug("Ticket [{}] with type [{}] cannot be found", ticketId, clazz.getSimpleName());
+            throw new InvalidTicketException(ticketId);
+        }
+        if (!clazz.isAssignableFrom(ticket.getClass())) {
+            throw new ClassCastException("Ticket [" + ticket.getId() + " is of type "
+                                         + ticket.getClass() + " when we were expecting " + clazz);
+        }
+        return clazz.cast(ticket);
+    }
+
+    @Override
+    public Ticket getTicket(final String ticketId) {
+        val cachedTicket = getCachedTicket(ticketId, ticket -> true);
+        if (cachedTicket != null) {
+            return cachedTicket;
+        }
+        val ticket = delegate.getTicket(ticketId);
+        cacheTicket(ticket);
+        return ticket;
+    }
+
+    @Override
+    public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
+        val cachedTicket = getCachedTicket(ticketId, predicate);
+        if (cachedTicket != null) {
+            return cachedTicket;
+        }
+        val ticket = delegate.getTicket(ticketId, predicate);
+        cacheTicket(ticket);
+        return ticket;
+    }
+
+    @Override
+    public int deleteTicket(final String ticketId) throws Exception {
+        if (StringUtils.isBlank(ticketId)) {
+            LOGGER.trace("No ticket id is provided for deletion");
+            return 0;
+        }
+        val ticket = getTicket(ticketId);
+        if (ticket == null) {
+            LOGGER.debug("Ticket [{}] could not be fetched from the registry; it may have been expired and deleted.", ticketId);
+            return 0;
+        }
+        return deleteTicket(ticket);
+    }
+
+    @Override
+    public int deleteTicket(final Ticket ticket) throws Exception {
+        val ticketIds = getCachedTicketIds(ticket);
+        ticketIds.forEach(nearCache::invalidate);
+        val count = delegate.deleteTicket(ticket);
+        ticketIds.forEach(ticketId -> publishMessageToQueue(new DeleteTicketMessageQueueCommand(publisherIdentifier, ticketId)));
+        return count;
+    }
+
+    @Override
+    public int deleteTickets(final Collection<? extends Ticket> tickets) throws Exception {
+        val ticketIds = tickets.stream().map(NearCacheTicketRegistry::getCachedTicketIds).flatMap(List::stream).toList();
+        ticketIds.forEach(nearCache::invalidate);
+        val count = delegate.deleteTickets(tickets);
+        ticketIds.forEach(ticketId -> publishMessageToQueue(new DeleteTicketMessageQueueCommand(publisherIdentifier, ticketId)));
+        return count;
+    }
+
+    @Override
+    public long deleteAll() {
+        nearCache.invalidateAll();
+        val count = delegate.deleteAll();
+        publishMessageToQueue(new DeleteTicketsMessageQueueCommand(publisherIdentifier));
+        return count;
+    }
+
+    @Override
+    public Collection<? extends Ticket> getTickets() {
+        return delegate.getTickets();
+    }
+
+    @Override
+    public Stream<? extends Ticket> getTickets(final Predicate<Ticket> predicate) {
+        return delegate.getTickets(predicate);
+    }
+
+    @Override
+    public Ticket updateTicket(final Ticket ticket) throws Exception {
+        val result = delegate.updateTicket(ticket);
+        if (ticket instanceof TicketGrantingTicket) {
+            cacheTicket(ticket);
+            publishMessageToQueue(new UpdateTicketMessageQueueCommand(publisherIdentifier, ticket));
+        }
+        return result;
+    }
+
+    @Override
+    public Ticket updateTicketGrantingTicket(final TicketGrantingTicket ticket, final TicketGrantingTicketDelta delta) throws Exception {
+        val result = delegate.updateTicketGrantingTicket(ticket, delta);
+        cacheTicket(ticket);
+        publishMessageToQueue(new UpdateTicketMessageQueueCommand(publisherIdentifier, ticket));
+        return result;
+    }
+
+    @Override
+    public long sessionCount() {
+        return delegate.sessionCount();
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return delegate.serviceTicketCount();
+    }
+
+    @Override
+    public Stream<? extends Ticket> stream() {
+        return delegate.stream();
+    }
+
+    @Override
+    public Stream<? extends Ticket> getExpiredTickets() {
+        return delegate.getExpiredTickets();
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return delegate.countSessionsFor(principalId);
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        return delegate.getSessionsFor(principalId);
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
+        return delegate.getSessionsWithAttributes(queryAttributes);
+    }
+
+    @Override
+    public String digestIdentifier(final String id) {
+        return delegate.digestIdentifier(id);
+    }
+
+    @Override
+    public void addTicketToQueue(final Ticket ticket) {
+        nearCache.invalidate(ticket.getId());
+    }
+
+    @Override
+    public Ticket updateTicketInQueue(final Ticket ticket) {
+        LOGGER.trace("Ticket [{}] is updated on another CAS server node; removing it from the near cache", ticket.getId());
+        nearCache.invalidate(ticket.getId());
+        return ticket;
+    }
+
+    @Override
+    public long deleteTicketFromQueue(final String ticketId) {
+        LOGGER.trace("Ticket [{}] is removed on another CAS server node; removing it from the near cache", ticketId);
+        nearCache.invalidate(ticketId);
+        return 1;
+    }
+
+    @Override
+    public long deleteAllFromQueue() {
+        val count = nearCache.estimatedSize();
+        nearCache.invalidateAll();
+        return count;
+    }
+
+    private Ticket getCachedTicket(final String ticketId, final Predicate<Ticket> predicate) {
+        if (StringUtils.isBlank(ticketId)) {
+            return null;
+        }
+        val cachedTicket = nearCache.getIfPresent(ticketId);
+        if (cachedTicket != null) {
+            if (cachedTicket.isExpired()) {
+                nearCache.invalidate(ticketId);
+                return null;
+            }
+            if (predicate.test(cachedTicket)) {
+                LOGGER.trace("Found ticket [{}] in the near cache", ticketId);
+                return cachedTicket;
+            }
+        }
+        return null;
+    }
+
+    private void cacheTicket(final Ticket ticket) {
+        if (ticket instanceof TicketGrantingTicket && !ticket.isExpired()) {
+            nearCache.put(ticket.getId(), ticket);
+        }
+    }
+
+    private static List<String> getCachedTicketIds(final Ticket ticket) {
+        val ticketIds = new ArrayList<String>();
+        ticketIds.add(ticket.getId());
+        if (ticket instanceof TicketGrantingTicket tgt) {
+            ticketIds.addAll(tgt.getProxyGrantingTickets().keySet());
+        }
+        return ticketIds;
+    }
+
+    private void publishMessageToQueue(final BaseMessageQueueCommand command) {
+        if (ticketPublisher.isEnabled()) {
+            ticketPublisher.publishMessageToQueue(command);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
+import org.apereo.cas.util.PublisherIdentifier;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+/**
+ * This is {@link NearCacheTicketRegistryPostProcessor}, which decorates the ticket registry bean
+ * with a {@link NearCacheTicketRegistry} once the underlying registry is fully initialized by Spring,
+ * so that the underlying registry remains a managed bean with its own lifecycle callbacks,
+ * injected resources and proxies. In-memory ticket registries are never decorated.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class NearCacheTicketRegistryPostProcessor implements BeanPostProcessor, Ordered {
+    private final ObjectProvider<CasConfigurationProperties> casProperties;
+
+    private final ObjectProvider<QueueableTicketRegistryMessagePublisher> ticketPublisher;
+
+    private final ObjectProvider<PublisherIdentifier> publisherIdentifier;
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!TicketRegistry.BEAN_NAME.equals(beanName) || !(bean instanceof final TicketRegistry registry)
+            || bean instanceof NearCacheTicketRegistry || !BeanSupplier.isNotProxy(bean)
+            || AbstractMapBasedTicketRegistry.class.isAssignableFrom(AopUtils.getTargetClass(bean))) {
+            return bean;
+        }
+        val properties = casProperties.getObject().getTicket().getRegistry().getNearCache();
+        if (!properties.isEnabled()) {
+            return bean;
+        }
+        val publisher = ticketPublisher.getObject();
+        if (!publisher.isEnabled()) {
+            throw new BeanCreationException(beanName, "Ticket registry near cache is enabled, yet no ticket registry message queue "
+                + "is available to invalidate cached tickets across CAS server nodes. Configure a message queue "
+                + "for the ticket registry or turn off the near cache.");
+        }
+        LOGGER.debug("Decorating ticket registry [{}] with a near cache", AopUtils.getTargetClass(bean).getSimpleName());
+        return new NearCacheTicketRegistry(registry, publisher, publisherIdentifier.getObject(), properties);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
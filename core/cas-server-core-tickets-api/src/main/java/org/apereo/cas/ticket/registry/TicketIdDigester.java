@@ -0,0 +1,32 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.util.DigestUtils;
+
+/**
+ * This is {@link TicketIdDigester}, which digests ticket ids, principal ids
+ * and attributes before they are handed over to the ticket registry storage
+ * when ticket encryption is turned on.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@FunctionalInterface
+public interface TicketIdDigester {
+
+    /**
+     * Digester that produces a hex-encoded SHA-512 digest.
+     *
+     * @return the ticket id digester
+     */
+    static TicketIdDigester sha512() {
+        return DigestUtils::sha512;
+    }
+
+    /**
+     * Digest the given identifier.
+     *
+     * @param identifier the identifier
+     * @return the digested identifier
+     */
+    String digest(String identifier);
+}
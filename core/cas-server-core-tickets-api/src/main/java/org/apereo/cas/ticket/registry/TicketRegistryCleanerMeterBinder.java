@@ -0,0 +1,47 @@
+package org.apereo.cas.ticket.registry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketRegistryCleanerMeterBinder}.
+ * Exposes run durations, examined and removed ticket counts and failures of the ticket registry cleaner as metrics.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+public class TicketRegistryCleanerMeterBinder implements MeterBinder {
+    private static final String METRIC_PREFIX = "cas.ticket.registry.cleaner.";
+
+    private final DefaultTicketRegistryCleaner cleaner;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionTimer.builder(METRIC_PREFIX + "runs", cleaner,
+                c -> c.getCleanerRuns().get(), c -> c.getTotalDuration().get(), TimeUnit.NANOSECONDS)
+            .description("Number and duration of ticket registry cleanup runs")
+            .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "tickets.examined", cleaner, c -> c.getTotalTicketsExamined().get())
+            .description("Number of expired tickets examined by the cleaner")
+            .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "tickets.removed", cleaner, c -> c.getTotalTicketsRemoved().get())
+            .description("Number of tickets removed by the cleaner, including child tickets")
+            .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "partitions.cleaned", cleaner, c -> c.getTotalPartitionsCleaned().get())
+            .description("Number of partitions claimed and cleaned by this node")
+            .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "batches.failed", cleaner, c -> c.getFailedBatches().get())
+            .description("Number of batches of expired tickets that could not be removed")
+            .register(registry);
+        Gauge.builder(METRIC_PREFIX + "last.run.throughput", cleaner, c -> c.getStatistics().getThroughput())
+            .description("Number of tickets removed per second during the last cleanup run")
+            .register(registry);
+    }
+}
@@ -0,0 +1,35 @@
+package org.apereo.cas.ticket.registry;
+
+/**
+ * This is {@link TicketRegistryCleanerStatistics}, describing
+ * the outcome of a single ticket registry cleanup run.
+ *
+ * @param partitions        the number of partitions of the ticket keyspace
+ * @param partitionsCleaned the number of partitions claimed and cleaned by this node
+ * @param ticketsExamined   the number of expired tickets examined
+ * @param ticketsRemoved    the number of tickets removed, including child tickets
+ * @param durationMillis    the duration of the run in milliseconds
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public record TicketRegistryCleanerStatistics(int partitions, int partitionsCleaned, long ticketsExamined,
+                                              long ticketsRemoved, long durationMillis) {
+
+    /**
+     * Statistics for a cleaner that has not run yet.
+     *
+     * @return the statistics
+     */
+    public static TicketRegistryCleanerStatistics empty() {
+        return new TicketRegistryCleanerStatistics(0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Number of tickets removed per second.
+     *
+     * @return the throughput
+     */
+    public long getThroughput() {
+        return durationMillis > 0 ? ticketsRemoved * 1000 / durationMillis : ticketsRemoved;
+    }
+}
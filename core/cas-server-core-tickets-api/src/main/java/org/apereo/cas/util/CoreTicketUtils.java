@@ -1,6 +1,9 @@
 package org.apereo.cas.util;
 
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
+import org.apereo.cas.ticket.registry.HmacTicketIdDigester;
+import org.apereo.cas.ticket.registry.TicketIdDigester;
+import org.apereo.cas.util.cipher.BaseBinaryCipherExecutor;
 import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -10,6 +13,8 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * This is {@link CoreTicketUtils}.
  *
@@ -19,6 +24,10 @@ import org.apache.commons.lang3.StringUtils;
 @Slf4j
 @UtilityClass
 public class CoreTicketUtils {
+    private static final String TICKET_ID_DIGEST_KEY_LABEL = "cas-ticket-registry-digest-key";
+
+    private static final int TICKET_ID_DIGEST_KEY_LENGTH = 32;
+
     /**
      * New ticket registry cipher executor cipher executor.
      *
@@ -60,13 +69,15 @@ public class CoreTicketUtils {
 
         if (enabled || forceIfBlankKeys) {
             LOGGER.debug("Ticket registry encryption/signing is enabled for [{}]", registryName);
-            return new DefaultTicketCipherExecutor(
+            val cipher = new DefaultTicketCipherExecutor(
                 registry.getEncryption().getKey(),
                 registry.getSigning().getKey(),
                 registry.getAlg(),
                 registry.getSigning().getKeySize(),
                 registry.getEncryption().getKeySize(),
                 registryName);
+            cipher.setStrategyType(BaseBinaryCipherExecutor.BinaryCipherStrategyType.valueOf(registry.getStrategyType()));
+            return cipher;
         }
         LOGGER.info("Ticket registry encryption/signing is turned off. This MAY NOT be safe in a clustered production environment. "
                     + "Consider using other choices to handle encryption, signing and verification of "
@@ -74,4 +85,36 @@ public class CoreTicketUtils {
         return CipherExecutor.noOp();
     }
 
+    /**
+     * New ticket registry ticket id digester.
+     *
+     * @param registry     the registry
+     * @param registryName the registry name
+     * @return the ticket id digester
+     */
+    public static TicketIdDigester newTicketIdDigester(final EncryptionRandomizedSigningJwtCryptographyProperties registry,
+                                                       final String registryName) {
+        if ("HMAC_SHA256".equalsIgnoreCase(registry.getDigestType())) {
+            val digestKey = getTicketIdDigestKey(registry);
+            if (digestKey != null) {
+                LOGGER.debug("Ticket registry [{}] will digest identifiers using HMAC-SHA-256", registryName);
+                return new HmacTicketIdDigester(digestKey);
+            }
+            LOGGER.warn("Ticket registry [{}] is configured to digest identifiers using HMAC-SHA-256, yet no digest or signing key is defined. "
+                        + "Identifiers must be digested consistently across CAS nodes, so CAS will fall back to SHA-512", registryName);
+        }
+        return TicketIdDigester.sha512();
+    }
+
+    private static byte[] getTicketIdDigestKey(final EncryptionRandomizedSigningJwtCryptographyProperties registry) {
+        if (StringUtils.isNotBlank(registry.getDigestKey())) {
+            return registry.getDigestKey().getBytes(StandardCharsets.UTF_8);
+        }
+        val signingKey = registry.getSigning().getKey();
+        if (StringUtils.isNotBlank(signingKey)) {
+            val deriver = new HmacTicketIdDigester(signingKey.getBytes(StandardCharsets.UTF_8), TICKET_ID_DIGEST_KEY_LENGTH);
+            return deriver.digest(TICKET_ID_DIGEST_KEY_LABEL).getBytes(StandardCharsets.UTF_8);
+        }
+        return null;
+    }
 }
@@ -37,6 +37,8 @@ import org.apereo.cas.ticket.proxy.ProxyTicketFactory;
 import org.apereo.cas.ticket.registry.CachingTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupport;
+import org.apereo.cas.ticket.registry.NearCacheTicketRegistry;
+import org.apereo.cas.ticket.registry.NearCacheTicketRegistryPostProcessor;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.ticket.registry.pubsub.DefaultQueueableTicketRegistryMessageReceiver;
@@ -58,10 +60,13 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -165,13 +170,18 @@ public class CasCoreTicketsConfiguration {
             LOGGER.info("Runtime memory is used as the persistence storage for retrieving and managing tickets. "
                         + "Tickets that are issued during runtime will be LOST when the web server is restarted. This MAY impact SSO functionality.");
             val mem = casProperties.getTicket().getRegistry().getInMemory();
+            val ticketIdDigester = CoreTicketUtils.newTicketIdDigester(mem.getCrypto(), "in-memory");
             if (mem.isCache()) {
-                return new CachingTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
+                val registry = new CachingTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
                     logoutManager, messageQueueTicketRegistryPublisher, messageQueueTicketRegistryIdentifier);
+                registry.setTicketIdDigester(ticketIdDigester);
+                return registry;
             }
             val storageMap = new ConcurrentHashMap<String, Ticket>(mem.getInitialCapacity(), mem.getLoadFactor(), mem.getConcurrency());
-            return new DefaultTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
+            val registry = new DefaultTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
                 storageMap, messageQueueTicketRegistryPublisher, messageQueueTicketRegistryIdentifier);
+            registry.setTicketIdDigester(ticketIdDigester);
+            return registry;
         }
 
         @Bean
@@ -203,6 +213,30 @@ public class CasCoreTicketsConfiguration {
                 : QueueableTicketRegistryMessageReceiver.noOp();
         }
 
+        @Bean
+        @ConditionalOnMissingBean(name = "ticketRegistryNearCachePostProcessor")
+        public static BeanPostProcessor ticketRegistryNearCachePostProcessor(
+            final ObjectProvider<CasConfigurationProperties> casProperties,
+            @Qualifier("messageQueueTicketRegistryPublisher")
+            final ObjectProvider<QueueableTicketRegistryMessagePublisher> messageQueueTicketRegistryPublisher,
+            @Qualifier("messageQueueTicketRegistryIdentifier")
+            final ObjectProvider<PublisherIdentifier> messageQueueTicketRegistryIdentifier) {
+            return new NearCacheTicketRegistryPostProcessor(casProperties,
+                messageQueueTicketRegistryPublisher, messageQueueTicketRegistryIdentifier);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "ticketRegistryNearCacheMeterBinder")
+        public MeterBinder ticketRegistryNearCacheMeterBinder(
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final ObjectProvider<TicketRegistry> ticketRegistry) {
+            return meterRegistry -> ticketRegistry.ifAvailable(registry -> {
+                if (registry instanceof NearCacheTicketRegistry nearCacheTicketRegistry) {
+                    CaffeineCacheMetrics.monitor(meterRegistry, nearCacheTicketRegistry.getNearCache(), "ticketRegistryNearCache");
+                }
+            });
+        }
+
         @ConditionalOnMissingBean(name = "messageQueueTicketRegistryIdentifier")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
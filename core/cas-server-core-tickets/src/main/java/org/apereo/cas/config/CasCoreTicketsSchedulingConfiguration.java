@@ -7,6 +7,7 @@ import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketRegistryCleanerMeterBinder;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.spring.beans.BeanCondition;
@@ -14,6 +15,7 @@ import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMatchingHostname;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -30,8 +32,10 @@ import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * This is {@link CasCoreTicketsSchedulingConfiguration}.
@@ -56,11 +60,13 @@ public class CasCoreTicketsSchedulingConfiguration {
         final CasConfigurationProperties casProperties,
         @Qualifier(LockRepository.BEAN_NAME) final LockRepository lockRepository,
         @Qualifier(LogoutManager.DEFAULT_BEAN_NAME) final LogoutManager logoutManager,
-        @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry) {
-        val isCleanerEnabled = casProperties.getTicket().getRegistry().getCleaner().getSchedule().isEnabled();
-        if (isCleanerEnabled) {
+        @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry,
+        @Qualifier("ticketTransactionManager") final PlatformTransactionManager ticketTransactionManager) {
+        val cleaner = casProperties.getTicket().getRegistry().getCleaner();
+        if (cleaner.getSchedule().isEnabled()) {
             LOGGER.debug("Ticket registry cleaner is enabled.");
-            return new DefaultTicketRegistryCleaner(lockRepository, logoutManager, ticketRegistry);
+            return new DefaultTicketRegistryCleaner(lockRepository, logoutManager, ticketRegistry,
+                cleaner, new TransactionTemplate(ticketTransactionManager));
         }
         LOGGER.debug("Ticket registry cleaner is not enabled. "
                      + "Expired tickets are not forcefully cleaned by CAS. It is up to the ticket registry itself to "
@@ -68,6 +74,17 @@ public class CasCoreTicketsSchedulingConfiguration {
         return NoOpTicketRegistryCleaner.getInstance();
     }
 
+    @Bean
+    @ConditionalOnMissingBean(name = "ticketRegistryCleanerMeterBinder")
+    public MeterBinder ticketRegistryCleanerMeterBinder(
+        @Qualifier("ticketRegistryCleaner") final TicketRegistryCleaner ticketRegistryCleaner) {
+        return registry -> {
+            if (ticketRegistryCleaner instanceof final DefaultTicketRegistryCleaner cleaner) {
+                new TicketRegistryCleanerMeterBinder(cleaner).bindTo(registry);
+            }
+        };
+    }
+
     @ConditionalOnMissingBean(name = "ticketRegistryCleanerScheduler")
     @ConditionalOnMatchingHostname(name = "cas.ticket.registry.cleaner.schedule.enabled-on-host")
     @Bean
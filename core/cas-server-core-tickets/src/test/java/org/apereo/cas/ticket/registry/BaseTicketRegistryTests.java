@@ -83,6 +83,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -366,6 +367,39 @@ public abstract class BaseTicketRegistryTests {
         assertEquals(Collections.singleton("ST-1"), services.keySet());
     }
 
+    @RepeatedTest(2)
+    public void verifyUpdateTicketGrantingTicketWithDelta() throws Exception {
+        val tgt = new TicketGrantingTicketImpl(
+            ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(tgt);
+        await().untilAsserted(() -> assertNotNull(ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class)));
+
+        var snapshot = TicketGrantingTicketDelta.snapshot(tgt);
+        tgt.grantServiceTicket("ST-1", RegisteredServiceTestUtils.getService("TGT_DELTA_TEST1"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+        val delta = snapshot.toDelta(tgt);
+        assertEquals(Collections.singleton("ST-1"), delta.getAddedServices().keySet());
+        assertFalse(delta.isDestructive());
+        ticketRegistry.updateTicketGrantingTicket(tgt, delta);
+
+        snapshot = TicketGrantingTicketDelta.snapshot(tgt);
+        tgt.grantServiceTicket("ST-2", RegisteredServiceTestUtils.getService("TGT_DELTA_TEST2"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+        ticketRegistry.updateTicketGrantingTicket(tgt, snapshot.toDelta(tgt));
+
+        await().untilAsserted(() -> {
+            val result = ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+            assertEquals(Set.of("ST-1", "ST-2"), ((AuthenticatedServicesAwareTicketGrantingTicket) result).getServices().keySet());
+            assertEquals(tgt.getCountOfUses(), result.getCountOfUses());
+        });
+
+        ticketRegistry.updateTicket(tgt);
+        val result = ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        assertEquals(Set.of("ST-1", "ST-2"), ((AuthenticatedServicesAwareTicketGrantingTicket) result).getServices().keySet());
+    }
+
     @RepeatedTest(2)
     public void verifyDeleteAllExistingTickets() throws Exception {
         assumeTrue(isIterableRegistry());
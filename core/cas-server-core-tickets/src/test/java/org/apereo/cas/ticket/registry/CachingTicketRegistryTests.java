@@ -66,4 +66,18 @@ class CachingTicketRegistryTests extends BaseTicketRegistryTests {
         ticket.markTicketExpired();
         assertNull(registry.getTicket(ticket.getId()));
     }
+
+    @RepeatedTest(1)
+    public void verifyExpirationUpdatesIndex() throws Exception {
+        val registry = getTicketRegistryInstance();
+        val ticket = new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + "-12347", RegisteredServiceTestUtils.getAuthentication("casuser"),
+            new HardTimeoutExpirationPolicy(1));
+        registry.addTicket(ticket);
+        assertEquals(1, registry.sessionCount());
+        assertEquals(1, registry.countSessionsFor("casuser"));
+        Thread.sleep(3000);
+        assertNull(registry.getTicket(ticket.getId()));
+        assertEquals(0, registry.sessionCount());
+        assertEquals(0, registry.countSessionsFor("casuser"));
+    }
 }
@@ -1,5 +1,6 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
 import org.apereo.cas.ticket.DefaultTicketCatalog;
@@ -7,10 +8,12 @@ import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.lock.LockRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionOperations;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -39,6 +42,41 @@ class DefaultTicketRegistryCleanerTests {
         assertEquals(0, ticketRegistry.sessionCount());
     }
 
+    @Test
+    void verifyPartitionedBatches() throws Exception {
+        val logoutManager = mock(LogoutManager.class);
+        val ticketRegistry = spy(new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog()));
+        for (var i = 0; i < 25; i++) {
+            val tgt = new MockTicketGrantingTicket("casuser" + i);
+            ticketRegistry.addTicket(tgt);
+            tgt.markTicketExpired();
+        }
+        ticketRegistry.addTicket(new MockTicketGrantingTicket("casuser"));
+
+        val properties = new TicketRegistryCleanerProperties()
+            .setBatchSize(3)
+            .setMaxConcurrency(2)
+            .setPartitionCount(4);
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.asDefault(), logoutManager,
+            ticketRegistry, properties, TransactionOperations.withoutTransaction());
+        assertEquals(25, cleaner.clean());
+        assertEquals(1, ticketRegistry.sessionCount());
+        verify(logoutManager, timeout(5000).times(25)).performLogout(any());
+
+        val statistics = cleaner.getStatistics();
+        assertEquals(4, statistics.partitions());
+        assertEquals(4, statistics.partitionsCleaned());
+        assertEquals(25, statistics.ticketsExamined());
+        assertEquals(25, statistics.ticketsRemoved());
+        verify(ticketRegistry, times(1)).getExpiredTickets();
+        verify(ticketRegistry, times(9)).deleteTickets(anyCollection());
+
+        val meterRegistry = new SimpleMeterRegistry();
+        new TicketRegistryCleanerMeterBinder(cleaner).bindTo(meterRegistry);
+        assertEquals(25, meterRegistry.get("cas.ticket.registry.cleaner.tickets.removed").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cas.ticket.registry.cleaner.runs").functionTimer().count());
+        cleaner.destroy();
+    }
 
     @Test
     void verifyCleanFail() {
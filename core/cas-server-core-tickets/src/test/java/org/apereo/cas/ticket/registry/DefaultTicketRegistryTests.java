@@ -4,6 +4,7 @@ import org.apereo.cas.mock.MockServiceTicket;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
 import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
@@ -12,6 +13,8 @@ import lombok.val;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Tag;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -55,6 +58,42 @@ class DefaultTicketRegistryTests extends BaseTicketRegistryTests {
         assertEquals(1, count);
     }
 
+    @RepeatedTest(1)
+    public void verifySecondaryIndexes() throws Exception {
+        val user = UUID.randomUUID().toString();
+        val tgt1 = new MockTicketGrantingTicket(user);
+        val tgt2 = new MockTicketGrantingTicket(user.toUpperCase(Locale.ENGLISH));
+        val st = new MockServiceTicket("ST-123456", RegisteredServiceTestUtils.getService(), tgt1);
+        val registry = (DefaultTicketRegistry) getNewTicketRegistry();
+        registry.addTicket(tgt1);
+        registry.addTicket(tgt2);
+        registry.addTicket(st);
+        registry.addTicket(new MockTicketGrantingTicket(UUID.randomUUID().toString()));
+
+        assertEquals(3, registry.sessionCount());
+        assertEquals(1, registry.serviceTicketCount());
+        assertEquals(2, registry.countSessionsFor(user));
+        assertEquals(1, registry.getSessionsFor(user).count());
+        assertEquals(List.of(st.getId()), registry.getChildTickets(tgt1.getId()).map(Ticket::getId).toList());
+        assertEquals(1, registry.getTicketIndex().getTicketsWithPrefix(ServiceTicket.PREFIX).size());
+
+        registry.updateTicket(tgt1);
+        assertEquals(3, registry.sessionCount());
+        assertEquals(2, registry.countSessionsFor(user));
+
+        registry.deleteTicket(st.getId());
+        assertEquals(0, registry.serviceTicketCount());
+        assertEquals(0, registry.getChildTickets(tgt1.getId()).count());
+
+        registry.deleteTicket(tgt1.getId());
+        assertEquals(2, registry.sessionCount());
+        assertEquals(1, registry.countSessionsFor(user));
+
+        registry.deleteAll();
+        assertEquals(0, registry.sessionCount());
+        assertEquals(0, registry.countSessionsFor(user));
+        assertEquals(0, registry.getTicketIndex().size());
+    }
 
     @RepeatedTest(1)
     public void verifyEncodeFails() throws Exception {
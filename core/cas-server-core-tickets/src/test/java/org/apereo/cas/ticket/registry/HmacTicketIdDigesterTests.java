@@ -0,0 +1,61 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
+import org.apereo.cas.util.CoreTicketUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link HmacTicketIdDigesterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Tickets")
+class HmacTicketIdDigesterTests {
+    @Test
+    void verifyDigest() {
+        val digester = new HmacTicketIdDigester("secret-key".getBytes(StandardCharsets.UTF_8));
+        val digest = digester.digest("TGT-1-abcdefghijklmnopqrstuvwxyz");
+        assertEquals(digest, digester.digest("TGT-1-abcdefghijklmnopqrstuvwxyz"));
+        assertNotEquals(digest, digester.digest("TGT-2-abcdefghijklmnopqrstuvwxyz"));
+        assertEquals(22, digest.length());
+        assertTrue(digest.matches("[A-Za-z0-9_-]+"));
+
+        val other = new HmacTicketIdDigester("other-key".getBytes(StandardCharsets.UTF_8));
+        assertNotEquals(digest, other.digest("TGT-1-abcdefghijklmnopqrstuvwxyz"));
+    }
+
+    @Test
+    void verifyDigestLength() {
+        val digester = new HmacTicketIdDigester("secret-key".getBytes(StandardCharsets.UTF_8), 32);
+        assertEquals(43, digester.digest("ST-1").length());
+    }
+
+    @Test
+    void verifyDigestKeyIsNotSigningKey() {
+        val properties = new EncryptionRandomizedSigningJwtCryptographyProperties().setDigestType("HMAC_SHA256");
+        properties.getSigning().setKey("signing-key");
+        val digester = CoreTicketUtils.newTicketIdDigester(properties, "Test");
+        assertInstanceOf(HmacTicketIdDigester.class, digester);
+        val signingKeyDigester = new HmacTicketIdDigester("signing-key".getBytes(StandardCharsets.UTF_8));
+        assertNotEquals(signingKeyDigester.digest("TGT-1"), digester.digest("TGT-1"));
+        assertEquals(digester.digest("TGT-1"), CoreTicketUtils.newTicketIdDigester(properties, "Test").digest("TGT-1"));
+
+        properties.setDigestKey("digest-key");
+        val digestKeyDigester = new HmacTicketIdDigester("digest-key".getBytes(StandardCharsets.UTF_8));
+        assertEquals(digestKeyDigester.digest("TGT-1"), CoreTicketUtils.newTicketIdDigester(properties, "Test").digest("TGT-1"));
+    }
+
+    @Test
+    void verifyDigestWithoutKeys() {
+        val properties = new EncryptionRandomizedSigningJwtCryptographyProperties().setDigestType("HMAC_SHA256");
+        assertFalse(CoreTicketUtils.newTicketIdDigester(properties, "Test") instanceof HmacTicketIdDigester);
+    }
+}
@@ -0,0 +1,116 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryNearCacheProperties;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.commands.UpdateTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link NearCacheTicketRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Tickets")
+class NearCacheTicketRegistryTests {
+    @Test
+    void verifyDisabled() {
+        val delegate = mock(TicketRegistry.class);
+        val processor = getPostProcessor(new CasConfigurationProperties(), QueueableTicketRegistryMessagePublisher.noOp());
+        assertSame(delegate, processor.postProcessAfterInitialization(delegate, TicketRegistry.BEAN_NAME));
+    }
+
+    @Test
+    void verifyInMemoryRegistryNotDecorated() {
+        val casProperties = new CasConfigurationProperties();
+        casProperties.getTicket().getRegistry().getNearCache().setEnabled(true);
+        val delegate = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+        val processor = getPostProcessor(casProperties, QueueableTicketRegistryMessagePublisher.noOp());
+        assertSame(delegate, processor.postProcessAfterInitialization(delegate, TicketRegistry.BEAN_NAME));
+    }
+
+    @Test
+    void verifyFailsWithoutMessageQueue() {
+        val casProperties = new CasConfigurationProperties();
+        casProperties.getTicket().getRegistry().getNearCache().setEnabled(true);
+        val processor = getPostProcessor(casProperties, QueueableTicketRegistryMessagePublisher.noOp());
+        assertThrows(BeanCreationException.class,
+            () -> processor.postProcessAfterInitialization(mock(TicketRegistry.class), TicketRegistry.BEAN_NAME));
+    }
+
+    @Test
+    void verifyDecorated() {
+        val casProperties = new CasConfigurationProperties();
+        casProperties.getTicket().getRegistry().getNearCache().setEnabled(true);
+        val publisher = mock(QueueableTicketRegistryMessagePublisher.class);
+        when(publisher.isEnabled()).thenReturn(Boolean.TRUE);
+        val delegate = mock(TicketRegistry.class);
+        val processor = getPostProcessor(casProperties, publisher);
+        assertSame(delegate, processor.postProcessAfterInitialization(delegate, "anotherTicketRegistry"));
+        val registry = processor.postProcessAfterInitialization(delegate, TicketRegistry.BEAN_NAME);
+        assertInstanceOf(NearCacheTicketRegistry.class, registry);
+        assertSame(delegate, ((NearCacheTicketRegistry) registry).getDelegate());
+    }
+
+    @Test
+    void verifyTicketsCachedAndInvalidated() throws Exception {
+        val delegate = spy(new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog()));
+        val publisher = mock(QueueableTicketRegistryMessagePublisher.class);
+        when(publisher.isEnabled()).thenReturn(Boolean.TRUE);
+        val registry = new NearCacheTicketRegistry(delegate, publisher,
+            new PublisherIdentifier(), new TicketRegistryNearCacheProperties().setEnabled(true));
+
+        val tgt = new MockTicketGrantingTicket(UUID.randomUUID().toString());
+        registry.addTicket(tgt);
+        assertSame(tgt, registry.getTicket(tgt.getId()));
+        assertSame(tgt, registry.getTicket(tgt.getId(), MockTicketGrantingTicket.class));
+        verify(delegate, never()).getTicket(anyString());
+
+        registry.updateTicket(tgt);
+        verify(publisher).publishMessageToQueue(any(UpdateTicketMessageQueueCommand.class));
+
+        registry.updateTicketInQueue(tgt);
+        assertNull(registry.getNearCache().getIfPresent(tgt.getId()));
+        assertNotNull(registry.getTicket(tgt.getId()));
+        verify(delegate).getTicket(tgt.getId());
+        assertNotNull(registry.getNearCache().getIfPresent(tgt.getId()));
+
+        assertEquals(1, registry.deleteTicketFromQueue(tgt.getId()));
+        assertNull(registry.getNearCache().getIfPresent(tgt.getId()));
+
+        registry.getTicket(tgt.getId());
+        assertEquals(1, registry.deleteTicket(tgt.getId()));
+        assertNull(registry.getNearCache().getIfPresent(tgt.getId()));
+        assertNull(registry.getTicket(tgt.getId()));
+        verify(publisher).publishMessageToQueue(any(DeleteTicketMessageQueueCommand.class));
+    }
+
+    private static NearCacheTicketRegistryPostProcessor getPostProcessor(final CasConfigurationProperties casProperties,
+                                                                         final QueueableTicketRegistryMessagePublisher publisher) {
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.getBeanFactory().registerSingleton("casProperties", casProperties);
+        applicationContext.getBeanFactory().registerSingleton("messageQueueTicketRegistryPublisher", publisher);
+        applicationContext.getBeanFactory().registerSingleton("messageQueueTicketRegistryIdentifier", new PublisherIdentifier());
+        applicationContext.refresh();
+        return new NearCacheTicketRegistryPostProcessor(
+            applicationContext.getBeanProvider(CasConfigurationProperties.class),
+            applicationContext.getBeanProvider(QueueableTicketRegistryMessagePublisher.class),
+            applicationContext.getBeanProvider(PublisherIdentifier.class));
+    }
+}
@@ -1,6 +1,7 @@
 package org.apereo.cas.util.cipher;
 
 import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.crypto.DecryptionException;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.gen.Base64RandomStringGenerator;
@@ -21,6 +22,7 @@ import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
 import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
 import java.security.spec.AlgorithmParameterSpec;
 
 /**
@@ -29,6 +31,12 @@ import java.security.spec.AlgorithmParameterSpec;
  * A implementation that is based on algorithms
  * provided by the default platform's JCE. By default AES encryption is
  * used.
+ * <p>
+ * Values may be encoded using one of the {@link BinaryCipherStrategyType strategies}.
+ * Values encoded with {@link BinaryCipherStrategyType#AUTHENTICATED_ENCRYPTION} are wrapped
+ * in a versioned envelope, {@code [version][nonce][ciphertext+tag]}, and can always be told apart
+ * from signed values, so values encoded with either strategy can be decoded regardless
+ * of the strategy that is currently configured.
  *
  * @author Misagh Moayyed
  * @since 4.2
@@ -43,6 +51,17 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
 
     private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
 
+    private static final byte ENVELOPE_VERSION_AUTHENTICATED_ENCRYPTION = 0x01;
+
+    private static final int GCM_NONCE_LENGTH = 12;
+
+    private static final int ENVELOPE_HEADER_LENGTH = 1 + GCM_NONCE_LENGTH;
+
+    private static final SecureRandom NONCE_GENERATOR = RandomUtils.getNativeInstance();
+
+    private static final ThreadLocal<Cipher> AUTHENTICATED_CIPHERS =
+        ThreadLocal.withInitial(() -> FunctionUtils.doUnchecked(() -> Cipher.getInstance(CIPHER_ALGORITHM)));
+
     /**
      * Name of the cipher/component whose keys are generated here.
      */
@@ -59,6 +78,8 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
 
     private byte[] encryptionSecretKey;
 
+    private BinaryCipherStrategyType strategyType = BinaryCipherStrategyType.ENCRYPT_AND_SIGN;
+
     protected BaseBinaryCipherExecutor(final String encryptionSecretKey, final String signingSecretKey,
                                        final int signingKeySize, final int encryptionKeySize,
                                        final String cipherName) {
@@ -77,6 +98,9 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
 
     @Override
     public byte[] encode(final byte[] value, final Object[] parameters) {
+        if (strategyType == BinaryCipherStrategyType.AUTHENTICATED_ENCRYPTION) {
+            return FunctionUtils.doUnchecked(() -> encryptAuthenticated(value));
+        }
         return FunctionUtils.doUnchecked(() -> {
             val aesCipher = Cipher.getInstance(CIPHER_ALGORITHM);
             aesCipher.init(Cipher.ENCRYPT_MODE, this.encryptionKey, this.parameterSpec);
@@ -88,6 +112,9 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
     @Override
     public byte[] decode(final byte[] value, final Object[] parameters) {
         try {
+            if (value.length > ENVELOPE_HEADER_LENGTH && value[0] == ENVELOPE_VERSION_AUTHENTICATED_ENCRYPTION) {
+                return decryptAuthenticated(value);
+            }
             val verifiedValue = verifySignature(value, getSigningKey());
             val aesCipher = Cipher.getInstance(CIPHER_ALGORITHM);
             aesCipher.init(Cipher.DECRYPT_MODE, this.encryptionKey, this.parameterSpec);
@@ -111,6 +138,26 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
      */
     protected abstract String getSigningKeySetting();
 
+    private byte[] encryptAuthenticated(final byte[] value) throws Exception {
+        val aesCipher = AUTHENTICATED_CIPHERS.get();
+        val result = new byte[ENVELOPE_HEADER_LENGTH + value.length + GCM_TAG_LENGTH / Byte.SIZE];
+        result[0] = ENVELOPE_VERSION_AUTHENTICATED_ENCRYPTION;
+        val nonce = new byte[GCM_NONCE_LENGTH];
+        NONCE_GENERATOR.nextBytes(nonce);
+        System.arraycopy(nonce, 0, result, 1, GCM_NONCE_LENGTH);
+        aesCipher.init(Cipher.ENCRYPT_MODE, this.encryptionKey, new GCMParameterSpec(GCM_TAG_LENGTH, nonce));
+        aesCipher.updateAAD(result, 0, 1);
+        aesCipher.doFinal(value, 0, value.length, result, ENVELOPE_HEADER_LENGTH);
+        return result;
+    }
+
+    private byte[] decryptAuthenticated(final byte[] value) throws Exception {
+        val aesCipher = AUTHENTICATED_CIPHERS.get();
+        aesCipher.init(Cipher.DECRYPT_MODE, this.encryptionKey, new GCMParameterSpec(GCM_TAG_LENGTH, value, 1, GCM_NONCE_LENGTH));
+        aesCipher.updateAAD(value, 0, 1);
+        return aesCipher.doFinal(value, ENVELOPE_HEADER_LENGTH, value.length - ENVELOPE_HEADER_LENGTH);
+    }
+
     private AlgorithmParameterSpec buildParameterSpec(final int encryptionKeySize) {
         val iv = new byte[encryptionSecretKey.length];
         if (encryptionKeySize > MINIMUM_ENCRYPTION_KEY_LENGTH) {
@@ -183,4 +230,19 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
         configureSigningKey(signingKeyToUse);
     }
 
+    /**
+     * The strategy used to encode values.
+     */
+    public enum BinaryCipherStrategyType {
+        /**
+         * Encrypt the value with an initialization vector derived from the encryption key,
+         * and then sign the result.
+         */
+        ENCRYPT_AND_SIGN,
+        /**
+         * Encrypt the value with a random nonce per value, relying on the authentication tag
+         * of AES-GCM for integrity instead of a separate signature.
+         */
+        AUTHENTICATED_ENCRYPTION
+    }
 }
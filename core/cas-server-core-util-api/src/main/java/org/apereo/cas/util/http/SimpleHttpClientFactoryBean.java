@@ -50,7 +50,6 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * The factory to build a {@link SimpleHttpClient}.
@@ -68,6 +67,14 @@ public class SimpleHttpClientFactoryBean implements HttpClientFactory {
      */
     public static final int MAX_CONNECTIONS_PER_ROUTE = 50;
 
+    /**
+     * The default status codes we accept.
+     */
+    public static final List<Integer> DEFAULT_ACCEPTABLE_CODES = List.of(HttpURLConnection.HTTP_OK,
+        HttpURLConnection.HTTP_NOT_MODIFIED, HttpURLConnection.HTTP_MOVED_TEMP,
+        HttpURLConnection.HTTP_MOVED_PERM, HttpURLConnection.HTTP_ACCEPTED,
+        HttpURLConnection.HTTP_NO_CONTENT);
+
     private static final int MAX_POOLED_CONNECTIONS = 100;
 
     private static final int DEFAULT_THREADS_NUMBER = 200;
@@ -76,14 +83,6 @@ public class SimpleHttpClientFactoryBean implements HttpClientFactory {
 
     private static final int TERMINATION_TIMEOUT_SECONDS = 5;
 
-    /**
-     * The default status codes we accept.
-     */
-    private static final int[] DEFAULT_ACCEPTABLE_CODES = {HttpURLConnection.HTTP_OK,
-        HttpURLConnection.HTTP_NOT_MODIFIED, HttpURLConnection.HTTP_MOVED_TEMP,
-        HttpURLConnection.HTTP_MOVED_PERM, HttpURLConnection.HTTP_ACCEPTED,
-        HttpURLConnection.HTTP_NO_CONTENT};
-
     /**
      * 20% of the total of threads in the pool to handle overhead.
      */
@@ -112,7 +111,7 @@ public class SimpleHttpClientFactoryBean implements HttpClientFactory {
     /**
      * List of HTTP status codes considered valid by the caller.
      */
-    private List<Integer> acceptableCodes = IntStream.of(DEFAULT_ACCEPTABLE_CODES).boxed().toList();
+    private List<Integer> acceptableCodes = DEFAULT_ACCEPTABLE_CODES;
 
     private long connectionTimeout = DEFAULT_TIMEOUT;
 
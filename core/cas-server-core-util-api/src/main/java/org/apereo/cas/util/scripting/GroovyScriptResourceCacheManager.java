@@ -17,6 +17,8 @@ import java.util.Set;
 
 /**
  * This is {@link GroovyScriptResourceCacheManager}.
+ * The underlying cache is safe for concurrent use and scripts are resolved
+ * atomically per cache key, without locking the cache as a whole.
  *
  * @author Misagh Moayyed
  * @since 6.3.0
@@ -41,9 +43,7 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
 
     @Override
     public ExecutableCompiledGroovyScript get(final String key) {
-        synchronized (cache) {
-            return this.cache.getIfPresent(key);
-        }
+        return this.cache.getIfPresent(key);
     }
 
     @Override
@@ -55,40 +55,30 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
     @CanIgnoreReturnValue
     public ScriptResourceCacheManager<String, ExecutableCompiledGroovyScript> put(
         final String key, final ExecutableCompiledGroovyScript value) {
-        synchronized (cache) {
-            this.cache.put(key, value);
-            return this;
-        }
+        this.cache.put(key, value);
+        return this;
     }
 
     @Override
     @CanIgnoreReturnValue
     public ScriptResourceCacheManager<String, ExecutableCompiledGroovyScript> remove(final String key) {
-        synchronized (cache) {
-            this.cache.invalidate(key);
-            return this;
-        }
+        this.cache.invalidate(key);
+        return this;
     }
 
     @Override
     public Set<String> getKeys() {
-        synchronized (cache) {
-            return this.cache.asMap().keySet();
-        }
+        return this.cache.asMap().keySet();
     }
 
     @Override
     public void close() {
-        synchronized (cache) {
-            cache.invalidateAll();
-        }
+        cache.invalidateAll();
     }
 
     @Override
     public boolean isEmpty() {
-        synchronized (cache) {
-            return cache.asMap().isEmpty();
-        }
+        return cache.asMap().isEmpty();
     }
 
     @Override
@@ -98,33 +88,39 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
 
         val cacheKey = ScriptResourceCacheManager.computeKey(keys);
         LOGGER.trace("Constructed cache key [{}] for keys [{}] mapped as groovy script", cacheKey, keys);
-        var script = (ExecutableCompiledGroovyScript) null;
-        if (containsKey(cacheKey)) {
-            script = get(cacheKey);
-            LOGGER.trace("Located cached groovy script [{}] for key [{}]", script, cacheKey);
-        } else {
+        return cache.get(cacheKey, key -> {
             try {
-                if (ScriptingUtils.isExternalGroovyScript(scriptResource)) {
-                    val scriptPath = SpringExpressionLanguageValueResolver.getInstance().resolve(scriptResource);
-                    val resource = ResourceUtils.getResourceFrom(scriptPath);
-                    script = new WatchableGroovyScriptResource(resource);
-                } else {
-                    var resourceToUse = scriptResource;
-                    if (ScriptingUtils.isInlineGroovyScript(resourceToUse)) {
-                        val matcher = ScriptingUtils.getMatcherForInlineGroovyScript(resourceToUse);
-                        if (matcher.find()) {
-                            resourceToUse = matcher.group(1);
-                        }
-                    }
-                    script = new GroovyShellScript(resourceToUse);
-                }
-                LOGGER.trace("Groovy script [{}] for key [{}] is not cached", scriptResource, cacheKey);
-                put(cacheKey, script);
-                LOGGER.trace("Cached groovy script [{}] for key [{}]", script, cacheKey);
+                LOGGER.trace("Groovy script [{}] for key [{}] is not cached", scriptResource, key);
+                val script = createScriptableResource(scriptResource);
+                LOGGER.trace("Cached groovy script [{}] for key [{}]", script, key);
+                return script;
             } catch (final Exception e) {
                 LoggingUtils.error(LOGGER, e);
             }
+            return null;
+        });
+    }
+
+    /**
+     * Create scriptable resource.
+     *
+     * @param scriptResource the script resource
+     * @return the executable compiled groovy script
+     * @throws Exception the exception
+     */
+    protected ExecutableCompiledGroovyScript createScriptableResource(final String scriptResource) throws Exception {
+        if (ScriptingUtils.isExternalGroovyScript(scriptResource)) {
+            val scriptPath = SpringExpressionLanguageValueResolver.getInstance().resolve(scriptResource);
+            val resource = ResourceUtils.getResourceFrom(scriptPath);
+            return new WatchableGroovyScriptResource(resource);
+        }
+        var resourceToUse = scriptResource;
+        if (ScriptingUtils.isInlineGroovyScript(resourceToUse)) {
+            val matcher = ScriptingUtils.getMatcherForInlineGroovyScript(resourceToUse);
+            if (matcher.find()) {
+                resourceToUse = matcher.group(1);
+            }
         }
-        return script;
+        return new GroovyShellScript(resourceToUse);
     }
 }
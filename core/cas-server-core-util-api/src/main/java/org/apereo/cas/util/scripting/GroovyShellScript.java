@@ -1,27 +1,37 @@
 package org.apereo.cas.util.scripting;
 
 import groovy.lang.Script;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.val;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * This is {@link GroovyShellScript}.
+ * <p>
+ * The script is compiled once into a script class that is shared with all other scripts
+ * of the same content. Each execution creates its own script instance and binding, so
+ * the same script can be safely executed by concurrent threads. Variables that are
+ * set via {@link #setBinding(Map)} apply to the next execution on the calling thread.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
  */
 @Getter
 public class GroovyShellScript implements ExecutableCompiledGroovyScript {
-    private final Script groovyScript;
+    private final Class<? extends Script> groovyScriptClass;
 
     private final String script;
 
+    @Getter(AccessLevel.NONE)
+    private final ThreadLocal<Map<String, Object>> bindingVariables = new ThreadLocal<>();
+
     public GroovyShellScript(final String script) {
         this.script = script;
-        this.groovyScript = ScriptingUtils.parseGroovyShellScript(script);
+        this.groovyScriptClass = ScriptingUtils.compileGroovyShellScript(script);
     }
 
     @Override
@@ -36,10 +46,15 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
 
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) {
-        if (this.groovyScript != null) {
-            return ScriptingUtils.executeGroovyShellScript(this.groovyScript, clazz);
+        try {
+            val variables = bindingVariables.get();
+            if (this.groovyScriptClass != null) {
+                return ScriptingUtils.executeGroovyShellScript(this.groovyScriptClass, variables, clazz);
+            }
+            return null;
+        } finally {
+            bindingVariables.remove();
         }
-        return null;
     }
 
     @Override
@@ -50,11 +65,20 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
     @Override
     public void setBinding(final Map<String, Object> variables) {
         if (variables != null && !variables.isEmpty()) {
-            val binding = this.groovyScript.getBinding();
-            variables.forEach(binding::setVariable);
+            val binding = bindingVariables.get();
+            if (binding == null) {
+                bindingVariables.set(new HashMap<>(variables));
+            } else {
+                binding.putAll(variables);
+            }
         }
     }
 
+    @Override
+    public void close() {
+        bindingVariables.remove();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
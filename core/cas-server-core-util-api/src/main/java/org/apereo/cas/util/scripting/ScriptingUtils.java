@@ -1,21 +1,30 @@
 package org.apereo.cas.util.scripting;
 
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
+import org.apereo.cas.util.function.FunctionUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import groovy.lang.Binding;
 import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
-import groovy.lang.GroovyShell;
 import groovy.lang.Script;
+import groovy.transform.CompileStatic;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.codehaus.groovy.runtime.InvokerInvocationException;
 import org.springframework.core.io.Resource;
 
@@ -25,6 +34,7 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -38,6 +48,25 @@ import java.util.regex.Pattern;
 @Slf4j
 @UtilityClass
 public class ScriptingUtils {
+    /**
+     * System property that, when set to {@code true}, compiles groovy scripts
+     * with {@code @CompileStatic} semantics. Scripts compiled statically must declare
+     * the types of the variables they use, including those passed via bindings.
+     */
+    public static final String SYSTEM_PROPERTY_GROOVY_COMPILE_STATIC = "CAS_GROOVY_COMPILE_STATIC";
+
+    private static final int COMPILED_SCRIPTS_CACHE_SIZE = 1_000;
+
+    private static final int SCRIPT_CLASS_NAME_HASH_LENGTH = 16;
+
+    /**
+     * Compiled groovy classes, keyed by the parent class loader and the hash of the script content,
+     * so that unchanged scripts are never compiled twice for the same class loader.
+     */
+    private static final Cache<CompiledScriptKey, Class<?>> COMPILED_SCRIPTS = Caffeine.newBuilder()
+        .maximumSize(COMPILED_SCRIPTS_CACHE_SIZE)
+        .build();
+
     @SuppressWarnings("InlineFormatString")
     private static final String INLINE_PATTERN = "%s\\s*\\{\\s*(.+)\\s*\\}";
 
@@ -149,6 +178,34 @@ public class ScriptingUtils {
         return null;
     }
 
+    /**
+     * Execute groovy shell script using a new script instance
+     * and a new binding, so that concurrent executions of the same
+     * compiled script do not share any state.
+     *
+     * @param <T>         the type parameter
+     * @param scriptClass the script class
+     * @param variables   the variables
+     * @param clazz       the clazz
+     * @return the t
+     */
+    public static <T> T executeGroovyShellScript(final Class<? extends Script> scriptClass,
+                                                 final Map<String, Object> variables,
+                                                 final Class<T> clazz) {
+        try {
+            val binding = new Binding();
+            binding.setVariable("logger", LOGGER);
+            if (variables != null && !variables.isEmpty()) {
+                variables.forEach(binding::setVariable);
+            }
+            val script = InvokerHelper.createScript(scriptClass, binding);
+            return executeGroovyShellScript(script, clazz);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
     /**
      * Execute groovy script via run object.
      *
@@ -287,15 +344,70 @@ public class ScriptingUtils {
      */
     public static Script parseGroovyShellScript(final String script) {
         try {
-            val shell = new GroovyShell();
             LOGGER.debug("Parsing groovy script [{}]", script);
-            return shell.parse(script);
+            return InvokerHelper.createScript(compileGroovyShellScriptClass(script), new Binding());
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
         return null;
     }
 
+    /**
+     * Compile groovy shell script into a script class.
+     * The compiled class is cached and shared by all scripts with the same content.
+     *
+     * @param script the script
+     * @return the script class, or null if the script cannot be compiled
+     */
+    public static Class<? extends Script> compileGroovyShellScript(final String script) {
+        try {
+            return compileGroovyShellScriptClass(script);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    /**
+     * Compile groovy script content into a class. Compiled classes are cached by the hash
+     * of the script content and the compilation mode.
+     *
+     * @param script   the script
+     * @param fileName the file name
+     * @param parent   the parent class loader
+     * @return the class
+     */
+    public static Class<?> compileGroovyScript(final String script, final String fileName, final ClassLoader parent) {
+        val compileStatic = isGroovyCompileStaticEnabled();
+        val key = new CompiledScriptKey(parent, DigestUtils.sha256(compileStatic + ":" + fileName + ':' + script));
+        return COMPILED_SCRIPTS.get(key, __ -> FunctionUtils.<Class<?>>doUnchecked(() -> {
+            LOGGER.debug("Compiling groovy script [{}] with static compilation [{}]", fileName, compileStatic);
+            val configuration = new CompilerConfiguration();
+            if (compileStatic) {
+                configuration.addCompilationCustomizers(new ASTTransformationCustomizer(CompileStatic.class));
+            }
+            try (val loader = new GroovyClassLoader(parent, configuration)) {
+                return loader.parseClass(script, fileName);
+            }
+        }));
+    }
+
+    /**
+     * Is groovy static compilation enabled?
+     *
+     * @return true/false
+     */
+    public static boolean isGroovyCompileStaticEnabled() {
+        return Boolean.getBoolean(SYSTEM_PROPERTY_GROOVY_COMPILE_STATIC);
+    }
+
+    private static Class<? extends Script> compileGroovyShellScriptClass(final String script) {
+        Objects.requireNonNull(script, "Groovy script cannot be null");
+        val parent = ObjectUtils.defaultIfNull(Thread.currentThread().getContextClassLoader(), ScriptingUtils.class.getClassLoader());
+        val fileName = "Script" + DigestUtils.sha256(script).substring(0, SCRIPT_CLASS_NAME_HASH_LENGTH) + ".groovy";
+        return (Class<? extends Script>) compileGroovyScript(script, fileName, parent);
+    }
+
     /**
      * Parse groovy script groovy object.
      *
@@ -306,8 +418,8 @@ public class ScriptingUtils {
     public static GroovyObject parseGroovyScript(final Resource groovyScript,
                                                  final boolean failOnError) {
         val parent = ScriptingUtils.class.getClassLoader();
-        try (val loader = new GroovyClassLoader(parent)) {
-            val groovyClass = loadGroovyClass(groovyScript, loader);
+        try {
+            val groovyClass = loadGroovyClass(groovyScript, parent);
             if (groovyClass != null) {
                 LOGGER.trace("Creating groovy object instance from class [{}]", groovyScript.getURI().getPath());
                 return (GroovyObject) groovyClass.getDeclaredConstructor().newInstance();
@@ -323,16 +435,17 @@ public class ScriptingUtils {
     }
 
     private Class loadGroovyClass(final Resource groovyScript,
-                                  final GroovyClassLoader loader) throws IOException {
+                                  final ClassLoader parent) throws IOException {
         if (ResourceUtils.isJarResource(groovyScript)) {
             try (val groovyReader = new BufferedReader(new InputStreamReader(groovyScript.getInputStream(), StandardCharsets.UTF_8))) {
-                return loader.parseClass(groovyReader, groovyScript.getFilename());
+                return compileGroovyScript(IOUtils.toString(groovyReader), groovyScript.getFilename(), parent);
             }
         }
 
         val groovyFile = groovyScript.getFile();
         if (groovyFile.exists()) {
-            return loader.parseClass(groovyFile);
+            val content = FileUtils.readFileToString(groovyFile, StandardCharsets.UTF_8);
+            return compileGroovyScript(content, groovyFile.getName(), parent);
         }
         return null;
     }
@@ -418,4 +531,7 @@ public class ScriptingUtils {
         }
         return null;
     }
+
+    private record CompiledScriptKey(ClassLoader classLoader, String digest) {
+    }
 }
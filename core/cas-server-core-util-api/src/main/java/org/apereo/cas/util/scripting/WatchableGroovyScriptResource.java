@@ -27,7 +27,7 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledGroovySc
 
     private transient FileWatcherService watcherService;
 
-    private transient GroovyObject groovyScript;
+    private transient volatile GroovyObject groovyScript;
 
     public WatchableGroovyScriptResource(final Resource script, final boolean enableWatcher) {
         this.resource = script;
@@ -5,6 +5,11 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -19,13 +24,56 @@ class GroovyShellScriptTests {
     @Test
     void verifyExec() {
         val shell = new GroovyShellScript("println 'test'");
-        assertNotNull(shell.getGroovyScript());
+        assertNotNull(shell.getGroovyScriptClass());
         assertNotNull(shell.getScript());
 
         assertDoesNotThrow(() -> shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY));
         assertNotNull(shell.toString());
     }
 
+    @Test
+    void verifyCompiledScriptIsShared() {
+        val script = "return 'shared-' + name";
+        val shell1 = new GroovyShellScript(script);
+        val shell2 = new GroovyShellScript(script);
+        assertSame(shell1.getGroovyScriptClass(), shell2.getGroovyScriptClass());
+    }
+
+    @Test
+    void verifyConcurrentExecution() {
+        val shell = new GroovyShellScript("return name");
+        val results = IntStream.range(0, 100)
+            .parallel()
+            .mapToObj(i -> {
+                val name = "user-" + i;
+                shell.setBinding(Map.of("name", name));
+                return name.equals(shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class));
+            })
+            .toList();
+        assertTrue(results.stream().allMatch(Boolean::booleanValue));
+        assertNull(shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class));
+    }
+
+    @Test
+    void verifyBindingClearedAfterFailedExecution() {
+        val shell = new GroovyShellScript("if (name == 'fail') { throw new RuntimeException('failed') }; return name");
+        shell.setBinding(Map.of("name", "fail"));
+        assertNull(shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class, false));
+        assertNull(shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class));
+    }
+
+    @Test
+    void verifyCompiledScriptIsKeyedByClassLoader() throws Exception {
+        val script = "return 'loader'";
+        val fileName = "ScriptLoaderTest.groovy";
+        val parent = getClass().getClassLoader();
+        val clazz = ScriptingUtils.compileGroovyScript(script, fileName, parent);
+        assertSame(clazz, ScriptingUtils.compileGroovyScript(script, fileName, parent));
+        try (val loader = new URLClassLoader(new URL[0], parent)) {
+            assertNotSame(clazz, ScriptingUtils.compileGroovyScript(script, fileName, loader));
+        }
+    }
+
     @Test
     void verifyUnknownBadScript() {
         val shell = new GroovyShellScript("###$$@@@!!!***&&&");
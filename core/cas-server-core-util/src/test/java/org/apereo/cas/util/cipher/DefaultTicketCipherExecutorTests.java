@@ -1,6 +1,7 @@
 package org.apereo.cas.util.cipher;
 
 import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.crypto.DecryptionException;
 
 import lombok.val;
 import org.junit.jupiter.api.Tag;
@@ -10,6 +11,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -72,6 +74,40 @@ class DefaultTicketCipherExecutorTests {
         assertEquals("ST-1234567890", new String(cipher3.decode(encoded), StandardCharsets.UTF_8));
     }
 
+    @Test
+    void verifyAuthenticatedEncryption() {
+        IntStream.of(16, 32, 128, 192, 256).forEach(keySize -> {
+            val cipher = new DefaultTicketCipherExecutor(null, null,
+                "AES", 512, keySize, "webflow");
+            cipher.setStrategyType(BaseBinaryCipherExecutor.BinaryCipherStrategyType.AUTHENTICATED_ENCRYPTION);
+            val value = "ST-1234567890".getBytes(StandardCharsets.UTF_8);
+            val encoded1 = cipher.encode(value);
+            val encoded2 = cipher.encode(value);
+            assertFalse(Arrays.equals(encoded1, encoded2));
+            assertEquals("ST-1234567890", new String(cipher.decode(encoded1), StandardCharsets.UTF_8));
+            assertEquals("ST-1234567890", new String(cipher.decode(encoded2), StandardCharsets.UTF_8));
+
+            encoded1[encoded1.length - 1] ^= 1;
+            assertThrows(DecryptionException.class, () -> cipher.decode(encoded1));
+        });
+    }
+
+    @Test
+    void verifyAuthenticatedEncryptionDecodesSignedValues() {
+        val signingKey = "GMj2k7oO-tv65hOfz5XPrzjKGtpqzvs9lDyLfhftfoNPjBQUPMwlmP3U6sPsz1NZB-Inc3YvL8rO1k9jYzqUwQ";
+        val encryptionKey = "oNNhN4m4hHBrayLpqt9gzA";
+        val cipher1 = new DefaultTicketCipherExecutor(encryptionKey, signingKey,
+            "AES", 512, 16, "webflow");
+        val encoded = cipher1.encode("ST-1234567890".getBytes(StandardCharsets.UTF_8));
+
+        val cipher2 = new DefaultTicketCipherExecutor(encryptionKey, signingKey,
+            "AES", 512, 16, "webflow");
+        cipher2.setStrategyType(BaseBinaryCipherExecutor.BinaryCipherStrategyType.AUTHENTICATED_ENCRYPTION);
+        assertEquals("ST-1234567890", new String(cipher2.decode(encoded), StandardCharsets.UTF_8));
+        val authenticated = cipher2.encode("ST-1234567890".getBytes(StandardCharsets.UTF_8));
+        assertEquals("ST-1234567890", new String(cipher1.decode(authenticated), StandardCharsets.UTF_8));
+    }
+
     @Test
     void verifyCompatibilityWithCAS63() {
         val encodedByCas63 = "ZXlKaGJHY2lPaUpJVXpVeE1pSXNJblI1Y0NJNklrcFhWQ0o5LkViVE0wX0ZzMnhfam9tTzNuMGtpcXU4ODhoZ1JZZlR5bUE5bkRHOGh3aWZCazVuND"
@@ -0,0 +1,33 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+
+/**
+ * This is {@link CacheFlowExecutionStateStorage}, which keeps
+ * flow execution snapshots inside a Spring {@link Cache}. This allows snapshots
+ * to be shared across nodes using any cache provider, such as Redis, Hazelcast or a JDBC-backed cache,
+ * whose expiration policy must be configured by the cache provider.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+public class CacheFlowExecutionStateStorage implements FlowExecutionStateStorage {
+    private final Cache cache;
+
+    @Override
+    public void put(final String id, final byte[] state) {
+        cache.put(id, state);
+    }
+
+    @Override
+    public byte[] get(final String id) {
+        return cache.get(id, byte[].class);
+    }
+
+    @Override
+    public void remove(final String id) {
+        cache.evict(id);
+    }
+}
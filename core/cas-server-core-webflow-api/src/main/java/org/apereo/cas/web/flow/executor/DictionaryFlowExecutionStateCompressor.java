@@ -0,0 +1,117 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * This is {@link DictionaryFlowExecutionStateCompressor}, which compresses
+ * flow execution snapshots using deflate with a preset dictionary. Serialized snapshots
+ * are short and repeat the same class names and field names, so a dictionary that already
+ * contains them compresses far better than a compressor that has to discover them in every payload.
+ * The same dictionary must be used to decompress snapshots.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+public class DictionaryFlowExecutionStateCompressor implements FlowExecutionStateCompressor {
+    /**
+     * Built-in dictionary that contains common class names found in serialized CAS flow executions.
+     * Deflate favors matches that are closer to the end of the dictionary, so the most common
+     * entries are listed last.
+     */
+    public static final byte[] DEFAULT_DICTIONARY = String.join(";", List.of(
+        "java.lang.Boolean",
+        "java.lang.Integer",
+        "java.lang.Long",
+        "java.time.ZonedDateTime",
+        "java.util.ArrayList",
+        "java.util.LinkedHashMap",
+        "java.util.HashMap",
+        "java.util.LinkedList",
+        "org.springframework.binding.message.Severity",
+        "org.springframework.binding.message.Message",
+        "org.apereo.cas.authentication.DefaultAuthentication",
+        "org.apereo.cas.authentication.principal.SimplePrincipal",
+        "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl",
+        "org.apereo.cas.authentication.credential.UsernamePasswordCredential",
+        "org.apereo.cas.authentication.credential.RememberMeUsernamePasswordCredential",
+        "org.springframework.webflow.execution.repository.support.CompositeFlowExecutionKey",
+        "org.apereo.cas.web.flow.executor.ClientFlowExecutionKey",
+        "org.apereo.cas.web.flow.executor.ClientFlowExecutionRepository$SerializedFlowExecutionState",
+        "org.springframework.webflow.engine.impl.FlowSessionImpl",
+        "org.springframework.webflow.engine.impl.FlowExecutionImpl",
+        "org.springframework.webflow.core.collection.LocalAttributeMap",
+        "flowExecutionUrl;flowRequestContext;credential;service;casLoginAuthenticationEvent;",
+        "viewActionState;viewState;initialFlowSetup;login;logout;conversationScope;flowScope;flowId;execution;"
+    )).getBytes(StandardCharsets.UTF_8);
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final byte[] dictionary;
+
+    private final int compressionLevel;
+
+    public DictionaryFlowExecutionStateCompressor(final byte[] dictionary) {
+        this(dictionary, Deflater.BEST_SPEED);
+    }
+
+    public DictionaryFlowExecutionStateCompressor() {
+        this(DEFAULT_DICTIONARY);
+    }
+
+    @Override
+    public byte[] compress(final byte[] data) {
+        val deflater = new Deflater(compressionLevel);
+        try {
+            deflater.setDictionary(dictionary);
+            deflater.setInput(data);
+            deflater.finish();
+            val out = new ByteArrayOutputStream(Math.max(data.length / 2, BUFFER_SIZE / 4));
+            val buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                val count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decompress(final byte[] data) throws IOException {
+        val inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            val out = new ByteArrayOutputStream(data.length * 2);
+            val buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                val count = inflater.inflate(buffer);
+                if (count == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(dictionary);
+                    } else if (inflater.needsInput()) {
+                        throw new IOException("Compressed flow execution state is truncated");
+                    } else {
+                        throw new IOException("Compressed flow execution state cannot be inflated any further");
+                    }
+                }
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } catch (final DataFormatException e) {
+            throw new IOException("Compressed flow execution state is invalid", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -2,46 +2,38 @@ package org.apereo.cas.web.flow.executor;
 
 import org.apereo.cas.util.LoggingUtils;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import lombok.val;
 import org.apache.commons.lang3.ArrayUtils;
 import org.cryptacular.bean.CipherBean;
-import org.springframework.aop.framework.Advised;
-import org.springframework.aop.support.AopUtils;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.NotSerializableException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.util.Objects;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Encodes an object by encrypting its serialized byte stream. Details of encryption are handled by an instance of
  * {@link CipherBean}.
  * <p>
- * Optional gzip compression of the serialized byte stream before encryption is supported and enabled by default.
+ * Optional compression of the serialized byte stream before encryption is supported, and gzip compression is
+ * enabled by default.
  *
  * @author Marvin S. Addison
  * @author Misagh Moayyed
  * @since 6.1
  */
 @Slf4j
-@RequiredArgsConstructor
-public class EncryptedTranscoder implements Transcoder {
+public class EncryptedTranscoder extends SerializingTranscoder {
     /**
      * Handles encryption/decryption details.
      */
     private final CipherBean cipherBean;
 
-    /**
-     * Flag to indicate whether to Gzip compression before encryption.
-     */
-    private final boolean compression;
+    public EncryptedTranscoder(final CipherBean cipherBean, final FlowExecutionStateCompressor compressor) {
+        super(compressor);
+        this.cipherBean = cipherBean;
+    }
+
+    public EncryptedTranscoder(final CipherBean cipherBean, final boolean compression) {
+        this(cipherBean, compression ? FlowExecutionStateCompressor.gzip() : FlowExecutionStateCompressor.none());
+    }
 
     public EncryptedTranscoder(final CipherBean cipherBean) {
         this(cipherBean, true);
@@ -52,71 +44,24 @@ public class EncryptedTranscoder implements Transcoder {
         if (o == null) {
             return ArrayUtils.EMPTY_BYTE_ARRAY;
         }
-        val outBuffer = new ByteArrayOutputStream();
-        try (val out = this.compression
-            ? new ObjectOutputStream(new GZIPOutputStream(outBuffer))
-            : new ObjectOutputStream(outBuffer)) {
-
-            writeObjectToOutputStream(o, out);
-        } catch (final NotSerializableException e) {
-            LoggingUtils.warn(LOGGER, e);
-        }
-        return encrypt(outBuffer);
+        return encrypt(super.encode(o));
     }
 
     @Override
-    @SuppressWarnings("BanSerializableRead")
     public Object decode(final byte[] encoded) throws IOException {
-        val data = decrypt(encoded);
-        try (val inBuffer = new ByteArrayInputStream(data);
-             val in = this.compression
-                 ? new ObjectInputStream(new GZIPInputStream(inBuffer))
-                 : new ObjectInputStream(inBuffer)) {
-            return in.readObject();
-        } catch (final Exception e) {
-            LoggingUtils.error(LOGGER, e);
-            throw new IOException("Deserialization error", e);
-        }
-    }
-
-    /**
-     * Write object to output stream.
-     *
-     * @param o   the o
-     * @param out the out
-     * @throws IOException the io exception
-     */
-    @SuppressWarnings("BanSerializableRead")
-    protected void writeObjectToOutputStream(final Object o, final ObjectOutputStream out) throws IOException {
-        var object = o;
-        if (AopUtils.isAopProxy(o)) {
-            try {
-                object = Advised.class.cast(o).getTargetSource().getTarget();
-            } catch (final Exception e) {
-                LoggingUtils.error(LOGGER, e);
-            }
-            if (object == null) {
-                LOGGER.error("Could not determine object [{}] from proxy",
-                    Objects.requireNonNull(o).getClass().getSimpleName());
-            }
-        }
-        if (object != null) {
-            out.writeObject(object);
-        } else {
-            LOGGER.warn("Unable to write object [{}] to the output stream", o);
-        }
+        return super.decode(decrypt(encoded));
     }
 
     /**
      * Encrypt.
      *
-     * @param outBuffer the out buffer
+     * @param data the serialized and compressed data
      * @return the byte [ ]
      * @throws IOException the io exception
      */
-    protected byte[] encrypt(final ByteArrayOutputStream outBuffer) throws IOException {
+    protected byte[] encrypt(final byte[] data) throws IOException {
         try {
-            return cipherBean.encrypt(outBuffer.toByteArray());
+            return cipherBean.encrypt(data);
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
             throw new IOException("Encryption error", e);
@@ -0,0 +1,82 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This is {@link FlowExecutionStateCompressor}, which compresses
+ * serialized flow execution snapshots before they are encrypted or stored.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public interface FlowExecutionStateCompressor {
+
+    /**
+     * Compressor that leaves snapshots as they are.
+     *
+     * @return the compressor
+     */
+    static FlowExecutionStateCompressor none() {
+        return new FlowExecutionStateCompressor() {
+            @Override
+            public byte[] compress(final byte[] data) {
+                return data;
+            }
+
+            @Override
+            public byte[] decompress(final byte[] data) {
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Compressor that uses GZIP.
+     *
+     * @return the compressor
+     */
+    static FlowExecutionStateCompressor gzip() {
+        return new FlowExecutionStateCompressor() {
+            @Override
+            public byte[] compress(final byte[] data) throws IOException {
+                val outBuffer = new ByteArrayOutputStream();
+                try (val out = new GZIPOutputStream(outBuffer)) {
+                    out.write(data);
+                }
+                return outBuffer.toByteArray();
+            }
+
+            @Override
+            public byte[] decompress(final byte[] data) throws IOException {
+                try (val in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+                    return IOUtils.toByteArray(in);
+                }
+            }
+        };
+    }
+
+    /**
+     * Compress data.
+     *
+     * @param data the data
+     * @return the compressed data
+     * @throws IOException the io exception
+     */
+    byte[] compress(byte[] data) throws IOException;
+
+    /**
+     * Decompress data.
+     *
+     * @param data the data
+     * @return the decompressed data
+     * @throws IOException the io exception
+     */
+    byte[] decompress(byte[] data) throws IOException;
+}
@@ -0,0 +1,46 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.spring.beans.BeanCondition;
+
+/**
+ * This is {@link FlowExecutionStateStorage}, which keeps serialized
+ * flow execution snapshots on the server so that the client only carries a short handle
+ * that references the stored snapshot.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public interface FlowExecutionStateStorage {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "flowExecutionStateStorage";
+
+    /**
+     * Condition that activates the flow execution state storage.
+     */
+    BeanCondition CONDITION = BeanCondition.on("cas.webflow.session.client.state-handles").isTrue();
+
+    /**
+     * Store the snapshot.
+     *
+     * @param id    the id
+     * @param state the serialized snapshot
+     */
+    void put(String id, byte[] state);
+
+    /**
+     * Get the snapshot.
+     *
+     * @param id the id
+     * @return the serialized snapshot, or null if it does not exist or has expired
+     */
+    byte[] get(String id);
+
+    /**
+     * Remove the snapshot.
+     *
+     * @param id the id
+     */
+    void remove(String id);
+}
@@ -0,0 +1,46 @@
+package org.apereo.cas.web.flow.executor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+
+/**
+ * This is {@link InMemoryFlowExecutionStateStorage}, which keeps
+ * flow execution snapshots in memory and removes them once they expire.
+ * This storage is only suitable for deployments that consist of a single node.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public class InMemoryFlowExecutionStateStorage implements FlowExecutionStateStorage {
+    private final Cache<String, byte[]> storage;
+
+    public InMemoryFlowExecutionStateStorage(final Duration timeout, final long maximumSize) {
+        this(timeout, maximumSize, Ticker.systemTicker());
+    }
+
+    public InMemoryFlowExecutionStateStorage(final Duration timeout, final long maximumSize, final Ticker ticker) {
+        this.storage = Caffeine.newBuilder()
+            .expireAfterWrite(timeout)
+            .maximumSize(maximumSize)
+            .ticker(ticker)
+            .build();
+    }
+
+    @Override
+    public void put(final String id, final byte[] state) {
+        storage.put(id, state);
+    }
+
+    @Override
+    public byte[] get(final String id) {
+        return storage.getIfPresent(id);
+    }
+
+    @Override
+    public void remove(final String id) {
+        storage.invalidate(id);
+    }
+}
@@ -0,0 +1,89 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Objects;
+
+/**
+ * Encodes an object by serializing it into a byte stream, which is then compressed
+ * by a {@link FlowExecutionStateCompressor}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SerializingTranscoder implements Transcoder {
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    /**
+     * Compresses the serialized byte stream.
+     */
+    protected final FlowExecutionStateCompressor compressor;
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        if (o == null) {
+            return ArrayUtils.EMPTY_BYTE_ARRAY;
+        }
+        val outBuffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try (val out = new ObjectOutputStream(outBuffer)) {
+            writeObjectToOutputStream(o, out);
+        } catch (final NotSerializableException e) {
+            LoggingUtils.warn(LOGGER, e);
+        }
+        return compressor.compress(outBuffer.toByteArray());
+    }
+
+    @Override
+    @SuppressWarnings("BanSerializableRead")
+    public Object decode(final byte[] encoded) throws IOException {
+        try (val in = new ObjectInputStream(new ByteArrayInputStream(compressor.decompress(encoded)))) {
+            return in.readObject();
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Deserialization error", e);
+        }
+    }
+
+    /**
+     * Write object to output stream.
+     *
+     * @param o   the o
+     * @param out the out
+     * @throws IOException the io exception
+     */
+    @SuppressWarnings("BanSerializableRead")
+    protected void writeObjectToOutputStream(final Object o, final ObjectOutputStream out) throws IOException {
+        var object = o;
+        if (AopUtils.isAopProxy(o)) {
+            try {
+                object = Advised.class.cast(o).getTargetSource().getTarget();
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+            if (object == null) {
+                LOGGER.error("Could not determine object [{}] from proxy",
+                    Objects.requireNonNull(o).getClass().getSimpleName());
+            }
+        }
+        if (object != null) {
+            out.writeObject(object);
+        } else {
+            LOGGER.warn("Unable to write object [{}] to the output stream", o);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.CipherBean;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * This is {@link StoredFlowExecutionStateTranscoder}, which keeps serialized flow execution
+ * snapshots in a {@link FlowExecutionStateStorage} and encodes them as a short handle that
+ * references the stored snapshot. The handle is encrypted and signed by the {@link CipherBean},
+ * so the client cannot forge or tamper with handles.
+ * <p>
+ * Snapshots are keyed by flow execution rather than by snapshot. The identifier is assigned once
+ * and kept in the conversation scope of the flow execution, so each step of the flow replaces the
+ * snapshot of the previous step and the storage holds one entry per live flow execution.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StoredFlowExecutionStateTranscoder implements Transcoder {
+    /**
+     * Conversation scope attribute that holds the identifier of the stored flow execution state.
+     */
+    public static final String ATTRIBUTE_FLOW_EXECUTION_STATE_ID = "flowExecutionStateId";
+
+    private final Transcoder transcoder;
+
+    private final CipherBean cipherBean;
+
+    private final FlowExecutionStateStorage storage;
+
+    private static String getFlowExecutionStateId(final Object o) {
+        if (o instanceof final ClientFlowExecutionRepository.SerializedFlowExecutionState state
+            && state.getConversationScope() != null) {
+            val conversationScope = state.getConversationScope();
+            if (!conversationScope.contains(ATTRIBUTE_FLOW_EXECUTION_STATE_ID)) {
+                conversationScope.put(ATTRIBUTE_FLOW_EXECUTION_STATE_ID, UUID.randomUUID().toString());
+            }
+            return conversationScope.getString(ATTRIBUTE_FLOW_EXECUTION_STATE_ID);
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        if (o == null) {
+            return ArrayUtils.EMPTY_BYTE_ARRAY;
+        }
+        val id = getFlowExecutionStateId(o);
+        storage.put(id, transcoder.encode(o));
+        try {
+            return cipherBean.encrypt(id.getBytes(StandardCharsets.UTF_8));
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            storage.remove(id);
+            throw new IOException("Encryption error", e);
+        }
+    }
+
+    @Override
+    public Object decode(final byte[] encoded) throws IOException {
+        final String id;
+        try {
+            id = new String(cipherBean.decrypt(encoded), StandardCharsets.UTF_8);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Decryption error", e);
+        }
+        val state = storage.get(id);
+        if (state == null) {
+            throw new IOException("Flow execution state " + id + " cannot be found or has expired");
+        }
+        return transcoder.decode(state);
+    }
+}
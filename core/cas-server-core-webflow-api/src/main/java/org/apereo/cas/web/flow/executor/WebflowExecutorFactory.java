@@ -1,11 +1,16 @@
 package org.apereo.cas.web.flow.executor;
 
+import org.apereo.cas.configuration.model.core.web.flow.WebflowClientSessionsProperties;
 import org.apereo.cas.configuration.model.core.web.flow.WebflowProperties;
 import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.webflow.conversation.impl.SessionBindingConversationManager;
 import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
 import org.springframework.webflow.engine.impl.FlowExecutionImplFactory;
@@ -32,6 +37,29 @@ public class WebflowExecutorFactory {
 
     private final FlowExecutionListener[] executionListeners;
 
+    private final FlowExecutionStateStorage flowExecutionStateStorage;
+
+    public WebflowExecutorFactory(final WebflowProperties webflowProperties,
+                                  final FlowDefinitionRegistry flowDefinitionRegistry,
+                                  final CipherExecutor webflowCipherExecutor,
+                                  final FlowExecutionListener[] executionListeners) {
+        this(webflowProperties, flowDefinitionRegistry, webflowCipherExecutor, executionListeners, null);
+    }
+
+    private static FlowExecutionStateCompressor getFlowExecutionStateCompressor(final WebflowClientSessionsProperties client) {
+        return switch (client.getCompression()) {
+            case NONE -> FlowExecutionStateCompressor.none();
+            case DICTIONARY -> StringUtils.isBlank(client.getCompressionDictionary())
+                ? new DictionaryFlowExecutionStateCompressor()
+                : FunctionUtils.doUnchecked(() -> {
+                    try (val is = ResourceUtils.getResourceFrom(client.getCompressionDictionary()).getInputStream()) {
+                        return new DictionaryFlowExecutionStateCompressor(IOUtils.toByteArray(is));
+                    }
+                });
+            default -> FlowExecutionStateCompressor.gzip();
+        };
+    }
+
     /**
      * Build flow executor.
      *
@@ -77,6 +105,14 @@ public class WebflowExecutorFactory {
 
     private Transcoder getWebflowStateTranscoder() {
         val cipherBean = new WebflowCipherBean(this.webflowCipherExecutor);
-        return new EncryptedTranscoder(cipherBean);
+        val client = webflowProperties.getSession().getClient();
+        val compressor = getFlowExecutionStateCompressor(client);
+        if (client.isStateHandles()) {
+            if (flowExecutionStateStorage == null) {
+                throw new IllegalStateException("State handles are enabled but no flow execution state storage is defined");
+            }
+            return new StoredFlowExecutionStateTranscoder(new SerializingTranscoder(compressor), cipherBean, flowExecutionStateStorage);
+        }
+        return new EncryptedTranscoder(cipherBean, compressor);
     }
 }
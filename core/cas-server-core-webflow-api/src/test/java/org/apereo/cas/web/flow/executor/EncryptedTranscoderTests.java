@@ -19,6 +19,8 @@ import org.springframework.aop.framework.ProxyFactoryBean;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -55,6 +57,7 @@ class EncryptedTranscoderTests {
         cipherBean2.setKeyPassword("changeit");
         cipherBean2.setNonce(new org.cryptacular.generator.sp80038a.RBGNonce());
         val transcoder2 = new EncryptedTranscoder(cipherBean2, false);
+        val transcoder3 = new EncryptedTranscoder(cipherBean1, new DictionaryFlowExecutionStateCompressor());
 
         return Stream.of(
             Arguments.arguments(transcoder1,
@@ -67,7 +70,8 @@ class EncryptedTranscoderTests {
                         + "sll=38.897678,-77.036517&sspn=0.00835,0.007939&vpsrc=6&t=w&"
                         + "g=1600+Pennsylvania+Avenue+Northwest+Washington,+DC+20500&ie=UTF8&hq=&"
                         + "hnear=1600+Pennsylvania+Ave+NW,+Washington,+District+of+Columbia,+20500&"
-                        + "ll=38.898521,-77.036517&spn=0.00835,0.007939&z=17&iwloc=A"))
+                        + "ll=38.898521,-77.036517&spn=0.00835,0.007939&z=17&iwloc=A")),
+            Arguments.arguments(transcoder3, new ArrayList<>(List.of("casuser", 1L, Boolean.TRUE)))
         );
     }
 
@@ -0,0 +1,96 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.val;
+import org.cryptacular.bean.AEADBlockCipherBean;
+import org.cryptacular.bean.KeyStoreFactoryBean;
+import org.cryptacular.generator.sp80038d.RBGNonce;
+import org.cryptacular.io.FileResource;
+import org.cryptacular.spec.AEADBlockCipherSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.definition.FlowDefinition;
+import org.springframework.webflow.execution.FlowExecution;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link StoredFlowExecutionStateTranscoderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Webflow")
+class StoredFlowExecutionStateTranscoderTests {
+    private AEADBlockCipherBean cipherBean;
+
+    @BeforeEach
+    public void setup() {
+        val ksFactory = new KeyStoreFactoryBean();
+        ksFactory.setResource(new FileResource(new File("src/test/resources/test-keystore.jceks")));
+        ksFactory.setType("JCEKS");
+        ksFactory.setPassword("changeit");
+
+        cipherBean = new AEADBlockCipherBean();
+        cipherBean.setBlockCipherSpec(new AEADBlockCipherSpec("AES", "GCM"));
+        cipherBean.setKeyStore(ksFactory.newInstance());
+        cipherBean.setKeyAlias("aes128");
+        cipherBean.setKeyPassword("changeit");
+        cipherBean.setNonce(new RBGNonce());
+    }
+
+    @Test
+    void verifyEncodeDecode() throws Exception {
+        val storage = new InMemoryFlowExecutionStateStorage(Duration.ofMinutes(1), 100);
+        val transcoder = new StoredFlowExecutionStateTranscoder(
+            new SerializingTranscoder(new DictionaryFlowExecutionStateCompressor()), cipherBean, storage);
+        val state = "casuser".repeat(1000);
+        val encoded = transcoder.encode(state);
+        assertTrue(encoded.length < 100);
+        assertEquals(state, transcoder.decode(encoded));
+
+        encoded[encoded.length - 1] ^= 1;
+        assertThrows(IOException.class, () -> transcoder.decode(encoded));
+    }
+
+    @Test
+    void verifyExpiredState() throws Exception {
+        val ticker = new AtomicLong();
+        val storage = new InMemoryFlowExecutionStateStorage(Duration.ofMinutes(1), 100, ticker::get);
+        val transcoder = new StoredFlowExecutionStateTranscoder(
+            new SerializingTranscoder(FlowExecutionStateCompressor.gzip()), cipherBean, storage);
+        val encoded = transcoder.encode("casuser");
+        assertEquals("casuser", transcoder.decode(encoded));
+        ticker.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertThrows(IOException.class, () -> transcoder.decode(encoded));
+    }
+
+    @Test
+    void verifyStateIsKeyedByFlowExecution() throws Exception {
+        val storage = mock(FlowExecutionStateStorage.class);
+        val transcoder = new StoredFlowExecutionStateTranscoder(
+            new SerializingTranscoder(FlowExecutionStateCompressor.gzip()), cipherBean, storage);
+
+        val definition = mock(FlowDefinition.class, withSettings().serializable());
+        when(definition.getId()).thenReturn("login");
+        val execution = mock(FlowExecution.class, withSettings().serializable());
+        when(execution.getDefinition()).thenReturn(definition);
+        val conversationScope = new LocalAttributeMap<>();
+        when(execution.getConversationScope()).thenReturn(conversationScope);
+
+        transcoder.encode(new ClientFlowExecutionRepository.SerializedFlowExecutionState(execution));
+        val id = conversationScope.getString(StoredFlowExecutionStateTranscoder.ATTRIBUTE_FLOW_EXECUTION_STATE_ID);
+        assertNotNull(id);
+        transcoder.encode(new ClientFlowExecutionRepository.SerializedFlowExecutionState(execution));
+        assertEquals(id, conversationScope.getString(StoredFlowExecutionStateTranscoder.ATTRIBUTE_FLOW_EXECUTION_STATE_ID));
+        verify(storage, times(2)).put(eq(id), any());
+    }
+}
@@ -28,6 +28,7 @@ import org.apereo.cas.ticket.UnsatisfiedAuthenticationPolicyException;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.cipher.BaseBinaryCipherExecutor;
 import org.apereo.cas.util.cipher.WebflowConversationStateCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.spring.beans.BeanCondition;
@@ -122,12 +123,14 @@ public class CasCoreWebflowConfiguration {
                 enabled = true;
             }
             if (enabled) {
-                return new WebflowConversationStateCipherExecutor(
+                val cipher = new WebflowConversationStateCipherExecutor(
                     crypto.getEncryption().getKey(),
                     crypto.getSigning().getKey(),
                     crypto.getAlg(),
                     crypto.getSigning().getKeySize(),
                     crypto.getEncryption().getKeySize());
+                cipher.setStrategyType(BaseBinaryCipherExecutor.BinaryCipherStrategyType.valueOf(crypto.getStrategyType()));
+                return cipher;
             }
             LOGGER.warn("Webflow encryption/signing is turned off. This "
                         + "MAY NOT be safe in a production environment. Consider using other choices to handle encryption, "
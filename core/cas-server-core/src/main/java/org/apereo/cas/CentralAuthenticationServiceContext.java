@@ -12,10 +12,13 @@ import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.lock.LockRepository;
 
+import lombok.Builder;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import java.time.Duration;
+
 /**
  * This is {@link CentralAuthenticationServiceContext}.
  *
@@ -46,4 +49,8 @@ public class CentralAuthenticationServiceContext {
     private final ServiceMatchingStrategy serviceMatchingStrategy;
 
     private final ConfigurableApplicationContext applicationContext;
+
+    @Builder.Default
+    private final ServiceTicketAttributeReleaseCache serviceTicketAttributeReleaseCache =
+        new ServiceTicketAttributeReleaseCache(Duration.ofSeconds(10));
 }
@@ -38,6 +38,7 @@ import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicketFactory;
 import org.apereo.cas.ticket.proxy.ProxyTicket;
 import org.apereo.cas.ticket.proxy.ProxyTicketFactory;
+import org.apereo.cas.ticket.registry.TicketGrantingTicketDelta;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
@@ -163,9 +164,11 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                     enforceRegisteredServiceAccess(selectedService, registeredService, accessPrincipal);
 
                     val factory = (ServiceTicketFactory) configurationContext.getTicketFactory().get(ServiceTicket.class);
+                    val snapshot = TicketGrantingTicketDelta.snapshot(ticketGrantingTicket);
                     val serviceTicket = factory.create(ticketGrantingTicket, selectedService, credentialProvided, ServiceTicket.class);
-                    configurationContext.getTicketRegistry().updateTicket(ticketGrantingTicket);
+                    configurationContext.getTicketRegistry().updateTicketGrantingTicket(ticketGrantingTicket, snapshot.toDelta(ticketGrantingTicket));
                     configurationContext.getTicketRegistry().addTicket(serviceTicket);
+                    configurationContext.getServiceTicketAttributeReleaseCache().put(serviceTicket.getId(), releasePolicyContext, policyAttributes);
 
                     LOGGER.info("Granted service ticket [{}] for service [{}] and principal [{}]",
                         serviceTicket.getId(), DigestUtils.abbreviate(selectedService.getId()), principal.getId());
@@ -281,7 +284,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                 .service(selectedService)
                 .principal(principal)
                 .build();
-            val attributesToRelease = attributePolicy.getAttributes(context);
+            val attributesToRelease = configurationContext.getServiceTicketAttributeReleaseCache().getAttributes(serviceTicketId, context);
             LOGGER.debug("Calculated attributes for release per the release policy are [{}]",
                 attributesToRelease.keySet());
 
@@ -306,7 +309,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                 .service(service)
                 .principal(principal)
                 .build();
-            val policyAttributes = registeredService.getAttributeReleasePolicy().getAttributes(releasePolicyContext);
+            val policyAttributes = configurationContext.getServiceTicketAttributeReleaseCache().getAttributes(serviceTicketId, releasePolicyContext);
             val merger = CoreAuthenticationUtils.getAttributeMerger(PrincipalAttributesCoreProperties.MergingStrategyTypes.MULTIVALUED);
             var accessAttributes = CoreAuthenticationUtils.mergeAttributes(principal.getAttributes(), authentication.getAttributes(), merger);
             accessAttributes = CoreAuthenticationUtils.mergeAttributes(accessAttributes, finalAuthentication.getPrincipal().getAttributes(), merger);
@@ -378,11 +381,13 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                 Unchecked.supplier(() -> {
                     val authentication = authenticationResult.getAuthentication();
                     val factory = (ProxyGrantingTicketFactory) configurationContext.getTicketFactory().get(ProxyGrantingTicket.class);
+                    val ticketGrantingTicket = serviceTicket.getTicketGrantingTicket();
+                    val snapshot = TicketGrantingTicketDelta.snapshot(ticketGrantingTicket);
                     val proxyGrantingTicket = factory.create(serviceTicket, authentication, ProxyGrantingTicket.class);
                     val clientInfo = ClientInfoHolder.getClientInfo();
                     LOGGER.debug("Generated proxy granting ticket [{}] based off of [{}]", proxyGrantingTicket, serviceTicketId);
                     configurationContext.getTicketRegistry().addTicket(proxyGrantingTicket);
-                    configurationContext.getTicketRegistry().updateTicket(serviceTicket.getTicketGrantingTicket());
+                    configurationContext.getTicketRegistry().updateTicketGrantingTicket(ticketGrantingTicket, snapshot.toDelta(ticketGrantingTicket));
                     doPublishEvent(new CasProxyGrantingTicketCreatedEvent(this, proxyGrantingTicket, clientInfo));
                     return proxyGrantingTicket;
                 }))
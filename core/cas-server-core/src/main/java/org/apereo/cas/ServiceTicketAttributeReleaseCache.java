@@ -0,0 +1,112 @@
+package org.apereo.cas;
+
+import org.apereo.cas.services.RegisteredServiceAttributeReleasePolicyContext;
+import org.apereo.cas.support.events.service.BaseCasRegisteredServiceEvent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This is {@link ServiceTicketAttributeReleaseCache}, which remembers the attributes
+ * calculated by the attribute release policy of a registered service when a service ticket is granted,
+ * so that validating the service ticket may reuse them instead of consulting attribute sources again.
+ * <p>
+ * Cached attributes are bound to the service ticket, and are only reused if the registered service definition,
+ * the principal and its attributes, and the service are unchanged. Cached attributes are discarded once the service
+ * ticket would have expired, or whenever registered service definitions are saved, deleted or reloaded.
+ * The cache is local to this node; validating a service ticket on another node calculates attributes again.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class ServiceTicketAttributeReleaseCache {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "serviceTicketAttributeReleaseCache";
+
+    private static final long MAXIMUM_SIZE = 50_000;
+
+    private final Cache<CacheKey, Map<String, List<Object>>> cache;
+
+    public ServiceTicketAttributeReleaseCache(final Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(timeToLive)
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+    }
+
+    private static CacheKey getCacheKey(final String serviceTicketId,
+                                        final RegisteredServiceAttributeReleasePolicyContext context) {
+        val registeredService = context.getRegisteredService();
+        val principal = context.getPrincipal();
+        return new CacheKey(serviceTicketId,
+            registeredService.getId(), registeredService.hashCode(),
+            principal.getId(), Objects.hashCode(principal.getAttributes()),
+            context.getService() == null ? null : context.getService().getId());
+    }
+
+    private static Map<String, List<Object>> copyOf(final Map<String, List<Object>> attributes) {
+        val results = new LinkedHashMap<String, List<Object>>(attributes.size());
+        attributes.forEach((name, values) -> results.put(name, values == null ? null : new ArrayList<>(values)));
+        return results;
+    }
+
+    /**
+     * Remember attributes calculated for the service ticket.
+     *
+     * @param serviceTicketId the service ticket id
+     * @param context         the attribute release context
+     * @param attributes      the attributes
+     */
+    public void put(final String serviceTicketId,
+                    final RegisteredServiceAttributeReleasePolicyContext context,
+                    final Map<String, List<Object>> attributes) {
+        cache.put(getCacheKey(serviceTicketId, context), copyOf(attributes));
+    }
+
+    /**
+     * Get attributes for the service ticket, calculating them via
+     * the attribute release policy if they are not remembered already.
+     *
+     * @param serviceTicketId the service ticket id
+     * @param context         the attribute release context
+     * @return the attributes
+     */
+    public Map<String, List<Object>> getAttributes(final String serviceTicketId,
+                                                   final RegisteredServiceAttributeReleasePolicyContext context) {
+        val key = getCacheKey(serviceTicketId, context);
+        val attributes = cache.get(key, __ -> {
+            LOGGER.trace("Calculating released attributes for service ticket [{}]", serviceTicketId);
+            val policy = Objects.requireNonNull(context.getRegisteredService().getAttributeReleasePolicy());
+            return copyOf(policy.getAttributes(context));
+        });
+        return copyOf(attributes);
+    }
+
+    /**
+     * Discard cached attributes when registered service definitions change.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServiceEvent(final BaseCasRegisteredServiceEvent event) {
+        LOGGER.trace("Discarding cached released attributes on [{}]", event.getClass().getSimpleName());
+        cache.invalidateAll();
+    }
+
+    private record CacheKey(String serviceTicketId, long registeredServiceId, int registeredServiceHash,
+                            String principalId, int principalAttributesHash, String serviceId) {
+    }
+}
@@ -3,6 +3,7 @@ package org.apereo.cas.config;
 import org.apereo.cas.CentralAuthenticationService;
 import org.apereo.cas.CentralAuthenticationServiceContext;
 import org.apereo.cas.DefaultCentralAuthenticationService;
+import org.apereo.cas.ServiceTicketAttributeReleaseCache;
 import org.apereo.cas.audit.AuditableExecution;
 import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
 import org.apereo.cas.authentication.AuthenticationServiceSelectionStrategyConfigurer;
@@ -38,6 +39,7 @@ import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.Ordered;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -90,9 +92,17 @@ public class CasCoreConfiguration {
             return new DefaultCentralAuthenticationService(centralAuthenticationServiceContext);
         }
 
+        @Bean
+        @ConditionalOnMissingBean(name = ServiceTicketAttributeReleaseCache.BEAN_NAME)
+        public ServiceTicketAttributeReleaseCache serviceTicketAttributeReleaseCache(final CasConfigurationProperties casProperties) {
+            val timeToLive = Duration.ofSeconds(casProperties.getTicket().getSt().getTimeToKillInSeconds());
+            return new ServiceTicketAttributeReleaseCache(timeToLive);
+        }
+
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public CentralAuthenticationServiceContext centralAuthenticationServiceContext(
+            @Qualifier(ServiceTicketAttributeReleaseCache.BEAN_NAME) final ServiceTicketAttributeReleaseCache serviceTicketAttributeReleaseCache,
             @Qualifier(AuthenticationServiceSelectionPlan.BEAN_NAME) final AuthenticationServiceSelectionPlan authenticationServiceSelectionPlan,
             @Qualifier("protocolTicketCipherExecutor") final CipherExecutor cipherExecutor,
             @Qualifier(PrincipalFactory.BEAN_NAME) final PrincipalFactory principalFactory,
@@ -116,6 +126,7 @@ public class CasCoreConfiguration {
                 .serviceMatchingStrategy(serviceMatchingStrategy)
                 .applicationContext(applicationContext)
                 .servicesManager(servicesManager)
+                .serviceTicketAttributeReleaseCache(serviceTicketAttributeReleaseCache)
                 .build();
         }
     }
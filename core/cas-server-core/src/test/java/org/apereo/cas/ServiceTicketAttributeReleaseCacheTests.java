@@ -0,0 +1,72 @@
+package org.apereo.cas;
+
+import org.apereo.cas.services.RegisteredServiceAttributeReleasePolicy;
+import org.apereo.cas.services.RegisteredServiceAttributeReleasePolicyContext;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link ServiceTicketAttributeReleaseCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Attributes")
+class ServiceTicketAttributeReleaseCacheTests {
+    private static RegisteredServiceAttributeReleasePolicyContext getContext(
+        final RegisteredServiceAttributeReleasePolicy policy, final String principal) {
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService("https://example.org");
+        registeredService.setAttributeReleasePolicy(policy);
+        return RegisteredServiceAttributeReleasePolicyContext.builder()
+            .registeredService(registeredService)
+            .service(RegisteredServiceTestUtils.getService("https://example.org"))
+            .principal(RegisteredServiceTestUtils.getPrincipal(principal))
+            .build();
+    }
+
+    @Test
+    void verifyAttributesReusedForServiceTicket() {
+        val policy = mock(RegisteredServiceAttributeReleasePolicy.class);
+        when(policy.getAttributes(any())).thenReturn(Map.of("cn", List.of("casuser")));
+        val cache = new ServiceTicketAttributeReleaseCache(Duration.ofMinutes(1));
+
+        val context = getContext(policy, "casuser");
+        cache.put("ST-1", context, Map.of("cn", List.of("cached")));
+        assertEquals(List.of("cached"), cache.getAttributes("ST-1", context).get("cn"));
+        verify(policy, never()).getAttributes(any());
+
+        assertEquals(List.of("casuser"), cache.getAttributes("ST-2", context).get("cn"));
+        assertEquals(List.of("casuser"), cache.getAttributes("ST-1", getContext(policy, "other")).get("cn"));
+        verify(policy, times(2)).getAttributes(any());
+    }
+
+    @Test
+    void verifyAttributesDiscardedOnServiceChange() {
+        val policy = mock(RegisteredServiceAttributeReleasePolicy.class);
+        when(policy.getAttributes(any())).thenReturn(Map.of("cn", List.of("casuser")));
+        val cache = new ServiceTicketAttributeReleaseCache(Duration.ofMinutes(1));
+
+        val context = getContext(policy, "casuser");
+        cache.put("ST-1", context, Map.of("cn", List.of("cached")));
+        context.getRegisteredService().setDescription("Changed");
+        assertEquals(List.of("casuser"), cache.getAttributes("ST-1", context).get("cn"));
+
+        cache.put("ST-1", context, Map.of("cn", List.of("cached")));
+        cache.handleRegisteredServiceEvent(new CasRegisteredServiceSavedEvent(this,
+            context.getRegisteredService(), mock(ClientInfo.class)));
+        assertEquals(List.of("casuser"), cache.getAttributes("ST-1", context).get("cn"));
+        verify(policy, times(2)).getAttributes(any());
+    }
+}
@@ -18,15 +18,19 @@ import org.apereo.inspektr.common.web.ClientInfo;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -41,6 +45,8 @@ import java.util.stream.Collectors;
 @Slf4j
 @SuppressWarnings("JavaUtilDate")
 public record DynamoDbAuditTrailManagerFacilitator(AuditDynamoDbProperties dynamoDbProperties, DynamoDbClient amazonDynamoDBClient) {
+    private static final int BATCH_WRITE_REQUEST_LIMIT = 25;
+
     /**
      * Build table attribute values map.
      *
@@ -96,6 +102,36 @@ public record DynamoDbAuditTrailManagerFacilitator(AuditDynamoDbProperties dynam
         LOGGER.debug("Record added with result [{}]", putItemResult);
     }
 
+    /**
+     * Save all records using batch write requests.
+     * Since records are keyed by principal, only the most recent record
+     * of each principal in a batch is retained, which matches the outcome of individual put requests.
+     *
+     * @param records the records
+     */
+    public void saveAll(final List<AuditActionContext> records) {
+        val items = new LinkedHashMap<String, Map<String, AttributeValue>>();
+        records.forEach(record -> {
+            val values = buildTableAttributeValuesMap(record);
+            val principal = values.get(ColumnNames.PRINCIPAL.getColumnName()).s();
+            items.remove(principal);
+            items.put(principal, values);
+        });
+        val writeRequests = items.values()
+            .stream()
+            .map(item -> WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build())
+            .toList();
+        for (var i = 0; i < writeRequests.size(); i += BATCH_WRITE_REQUEST_LIMIT) {
+            var pending = Map.<String, List<WriteRequest>>of(dynamoDbProperties.getTableName(),
+                writeRequests.subList(i, Math.min(i + BATCH_WRITE_REQUEST_LIMIT, writeRequests.size())));
+            while (!pending.isEmpty()) {
+                LOGGER.debug("Submitting batch write request for [{}] record(s)", pending.get(dynamoDbProperties.getTableName()).size());
+                val result = amazonDynamoDBClient.batchWriteItem(BatchWriteItemRequest.builder().requestItems(pending).build());
+                pending = result.hasUnprocessedItems() ? result.unprocessedItems() : Map.of();
+            }
+        }
+    }
+
     /**
      * Remove all.
      */
@@ -45,8 +45,10 @@ public class CassandraTicketRegistryConfiguration {
         final TicketSerializationManager ticketSerializationManager) {
         val cassandra = casProperties.getTicket().getRegistry().getCassandra();
         val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(cassandra.getCrypto(), "cassandra");
-        return new CassandraTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
+        val registry = new CassandraTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
             cassandraTicketRegistrySessionFactory, cassandra);
+        registry.setTicketIdDigester(CoreTicketUtils.newTicketIdDigester(cassandra.getCrypto(), "cassandra"));
+        return registry;
     }
 
     @Bean
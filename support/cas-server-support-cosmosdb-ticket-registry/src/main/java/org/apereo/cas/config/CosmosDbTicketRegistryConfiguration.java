@@ -67,8 +67,10 @@ public class CosmosDbTicketRegistryConfiguration {
             })
             .toList();
 
-        val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(
-            casProperties.getTicket().getRegistry().getCosmosDb().getCrypto(), "cosmos-db");
-        return new CosmosDbTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, containers);
+        val crypto = casProperties.getTicket().getRegistry().getCosmosDb().getCrypto();
+        val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(crypto, "cosmos-db");
+        val registry = new CosmosDbTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, containers);
+        registry.setTicketIdDigester(CoreTicketUtils.newTicketIdDigester(crypto, "cosmos-db"));
+        return registry;
     }
 }
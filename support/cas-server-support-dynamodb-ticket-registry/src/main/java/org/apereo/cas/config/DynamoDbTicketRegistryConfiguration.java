@@ -50,7 +50,9 @@ public class DynamoDbTicketRegistryConfiguration {
             val db = casProperties.getTicket().getRegistry().getDynamoDb();
             val crypto = db.getCrypto();
             val cipherExecutor = CoreTicketUtils.newTicketRegistryCipherExecutor(crypto, "dynamo-db");
-            return new DynamoDbTicketRegistry(cipherExecutor, ticketSerializationManager, ticketCatalog, dynamoDbTicketRegistryFacilitator);
+            val registry = new DynamoDbTicketRegistry(cipherExecutor, ticketSerializationManager, ticketCatalog, dynamoDbTicketRegistryFacilitator);
+            registry.setTicketIdDigester(CoreTicketUtils.newTicketIdDigester(crypto, "dynamo-db"));
+            return registry;
         }
     }
 
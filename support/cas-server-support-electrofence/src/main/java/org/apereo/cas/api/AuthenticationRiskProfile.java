@@ -0,0 +1,169 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link AuthenticationRiskProfile}, which summarizes the recent
+ * authentication history of a principal. It records how often the principal has authenticated
+ * from each IP address, user agent and geolocation, and at each hour of the day.
+ * Profiles are immutable; recording a new authentication event produces a new profile.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuthenticationRiskProfile {
+    private static final int HOURS_IN_DAY = 24;
+
+    private final long eventCount;
+
+    private final Map<String, Long> ipAddresses;
+
+    private final Map<String, Long> userAgents;
+
+    private final Map<GeoLocationRequest, Long> geoLocations;
+
+    private final long[] hoursOfDay;
+
+    /**
+     * Empty profile with no authentication history.
+     *
+     * @return the profile
+     */
+    public static AuthenticationRiskProfile empty() {
+        return new AuthenticationRiskProfile(0, Map.of(), Map.of(), Map.of(), new long[HOURS_IN_DAY]);
+    }
+
+    /**
+     * Build a profile from the given authentication events.
+     *
+     * @param events the events
+     * @return the profile
+     */
+    public static AuthenticationRiskProfile from(final Stream<? extends CasEvent> events) {
+        val profile = new AuthenticationRiskProfile(0, new HashMap<>(), new HashMap<>(), new HashMap<>(), new long[HOURS_IN_DAY]);
+        return events.reduce(profile, AuthenticationRiskProfile::record, (first, second) -> second);
+    }
+
+    private static String normalize(final String value) {
+        return StringUtils.isBlank(value) ? null : value.trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    private static <K> void increment(final Map<K, Long> counts, final K key) {
+        if (key != null) {
+            counts.merge(key, 1L, Long::sum);
+        }
+    }
+
+    private static int getHourOfDay(final CasEvent event) {
+        if (StringUtils.isBlank(event.getCreationTime())) {
+            return -1;
+        }
+        val creationTime = DateTimeUtils.convertToZonedDateTime(event.getCreationTime());
+        return creationTime == null ? -1 : creationTime.withZoneSameInstant(ZoneOffset.UTC).getHour();
+    }
+
+    /**
+     * Record the authentication event and produce a new profile.
+     *
+     * @param event the event
+     * @return the profile
+     */
+    public AuthenticationRiskProfile withEvent(final CasEvent event) {
+        val profile = new AuthenticationRiskProfile(eventCount, new HashMap<>(ipAddresses),
+            new HashMap<>(userAgents), new HashMap<>(geoLocations), Arrays.copyOf(hoursOfDay, HOURS_IN_DAY));
+        return profile.record(event);
+    }
+
+    /**
+     * Whether the profile contains any authentication history.
+     *
+     * @return true/false
+     */
+    public boolean isEmpty() {
+        return eventCount == 0;
+    }
+
+    /**
+     * Count authentication events from the given IP address.
+     *
+     * @param ipAddress the ip address
+     * @return the count
+     */
+    public long countIpAddress(final String ipAddress) {
+        val key = normalize(ipAddress);
+        return key == null ? 0 : ipAddresses.getOrDefault(key, 0L);
+    }
+
+    /**
+     * Count authentication events from the given user agent.
+     *
+     * @param userAgent the user agent
+     * @return the count
+     */
+    public long countUserAgent(final String userAgent) {
+        val key = normalize(userAgent);
+        return key == null ? 0 : userAgents.getOrDefault(key, 0L);
+    }
+
+    /**
+     * Count authentication events from the given geolocation.
+     *
+     * @param location the location
+     * @return the count
+     */
+    public long countGeoLocation(final GeoLocationRequest location) {
+        return location == null ? 0 : geoLocations.getOrDefault(location, 0L);
+    }
+
+    /**
+     * Count authentication events that took place between the given hours of the day,
+     * inclusively, in UTC. The window wraps around midnight if the starting hour is greater
+     * than the ending hour.
+     *
+     * @param fromHour the from hour
+     * @param toHour   the to hour
+     * @return the count
+     */
+    public long countHoursOfDay(final int fromHour, final int toHour) {
+        var count = 0L;
+        for (var hour = 0; hour < HOURS_IN_DAY; hour++) {
+            val inWindow = fromHour <= toHour
+                ? hour >= fromHour && hour <= toHour
+                : hour >= fromHour || hour <= toHour;
+            if (inWindow) {
+                count += hoursOfDay[hour];
+            }
+        }
+        return count;
+    }
+
+    private AuthenticationRiskProfile record(final CasEvent event) {
+        increment(ipAddresses, normalize(event.getClientIpAddress()));
+        increment(userAgents, normalize(event.getAgent()));
+        increment(geoLocations, event.getGeoLocation());
+        val hour = getHourOfDay(event);
+        if (hour >= 0) {
+            hoursOfDay[hour]++;
+        }
+        return new AuthenticationRiskProfile(eventCount + 1, ipAddresses, userAgents, geoLocations, hoursOfDay);
+    }
+}
@@ -0,0 +1,38 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.util.spring.CasEventListener;
+
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * This is {@link AuthenticationRiskProfileRepository}, which keeps track of
+ * {@link AuthenticationRiskProfile} instances, and keeps them up to date as authentication
+ * events are stored.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public interface AuthenticationRiskProfileRepository extends CasEventListener {
+    /**
+     * Bean name.
+     */
+    String BEAN_NAME = "authenticationRiskProfileRepository";
+
+    /**
+     * Gets the profile of the principal.
+     *
+     * @param principal the principal
+     * @return the profile
+     */
+    AuthenticationRiskProfile getProfile(String principal);
+
+    /**
+     * Handle events that are stored in the CAS event repository,
+     * and record them in the profile of the principal.
+     *
+     * @param event the event
+     */
+    @EventListener
+    void handleStoredEvent(AuditApplicationEvent event);
+}
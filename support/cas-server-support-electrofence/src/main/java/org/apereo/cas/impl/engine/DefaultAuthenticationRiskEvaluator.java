@@ -2,6 +2,7 @@ package org.apereo.cas.impl.engine;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
@@ -11,27 +12,80 @@ import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.apereo.inspektr.audit.annotation.Audit;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.beans.factory.DisposableBean;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This is {@link DefaultAuthenticationRiskEvaluator}.
+ * <p>
+ * The authentication profile of the principal is fetched once and shared by all calculators,
+ * which are then evaluated in parallel on a bounded pool that is shared by all authentication attempts.
+ * The data of the request is copied on the request thread before calculators are handed off to the pool.
+ * When the pool and its queue are saturated, or no threads are configured, calculators are evaluated on the request thread.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
 @Getter
-@RequiredArgsConstructor
-public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEvaluator {
+public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEvaluator, DisposableBean {
     private final List<AuthenticationRequestRiskCalculator> calculators;
 
+    private final AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
+
+    private final ExecutorService executorService;
+
+    public DefaultAuthenticationRiskEvaluator(final List<AuthenticationRequestRiskCalculator> calculators,
+                                              final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) {
+        this(calculators, authenticationRiskProfileRepository, 0, 0);
+    }
+
+    public DefaultAuthenticationRiskEvaluator(final List<AuthenticationRequestRiskCalculator> calculators,
+                                              final AuthenticationRiskProfileRepository authenticationRiskProfileRepository,
+                                              final int threads,
+                                              final int queueCapacity) {
+        this.calculators = calculators;
+        this.authenticationRiskProfileRepository = authenticationRiskProfileRepository;
+        this.executorService = threads > 0 ? newExecutorService(threads, queueCapacity) : null;
+    }
+
+    private static ExecutorService newExecutorService(final int threads, final int queueCapacity) {
+        val threadCount = new AtomicInteger();
+        val executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                val thread = new Thread(runnable, "AuthenticationRiskEvaluatorThread-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static AuthenticationRiskScore calculateAverageScore(final List<AuthenticationRiskScore> scores,
+                                                                 final int calculatorCount) {
+        val sum = scores
+            .stream()
+            .filter(Objects::nonNull)
+            .map(AuthenticationRiskScore::score)
+            .filter(Objects::nonNull)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        val score = sum.divide(BigDecimal.valueOf(calculatorCount), 2, RoundingMode.UP);
+        return new AuthenticationRiskScore(score);
+    }
+
     @Audit(action = AuditableActions.EVALUATE_RISKY_AUTHENTICATION,
         actionResolverName = AuditActionResolvers.ADAPTIVE_RISKY_AUTHENTICATION_ACTION_RESOLVER,
         resourceResolverName = AuditResourceResolvers.ADAPTIVE_RISKY_AUTHENTICATION_RESOURCE_RESOLVER)
@@ -48,16 +102,38 @@ public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEva
             return new AuthenticationRiskScore(AuthenticationRequestRiskCalculator.HIGHEST_RISK_SCORE);
         }
 
-        val scores = activeCalculators
+        val profile = authenticationRiskProfileRepository.getProfile(authentication.getPrincipal().getId());
+        if (executorService == null || activeCalculators.size() == 1) {
+            val scores = activeCalculators
+                .stream()
+                .map(calculator -> calculator.calculate(authentication, service, request, profile))
+                .toList();
+            return calculateAverageScore(scores, activeCalculators.size());
+        }
+
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val detachedRequest = request == null ? null : new DetachedHttpServletRequest(request);
+        val results = activeCalculators
             .stream()
-            .map(r -> r.calculate(authentication, service, request))
-            .filter(Objects::nonNull).toList();
+            .map(calculator -> CompletableFuture.supplyAsync(() -> {
+                val currentClientInfo = ClientInfoHolder.getClientInfo();
+                try {
+                    ClientInfoHolder.setClientInfo(clientInfo);
+                    return calculator.calculate(authentication, service, detachedRequest, profile);
+                } finally {
+                    ClientInfoHolder.setClientInfo(currentClientInfo);
+                }
+            }, executorService))
+            .toList();
 
-        val sum = scores.stream()
-            .map(AuthenticationRiskScore::score)
-            .filter(Objects::nonNull)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        val score = sum.divide(BigDecimal.valueOf(activeCalculators.size()), 2, RoundingMode.UP);
-        return new AuthenticationRiskScore(score);
+        val scores = results.stream().map(CompletableFuture::join).toList();
+        return calculateAverageScore(scores, activeCalculators.size());
+    }
+
+    @Override
+    public void destroy() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
     }
 }
@@ -0,0 +1,87 @@
+package org.apereo.cas.impl.engine;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.util.DateTimeUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileRepository}.
+ * <p>
+ * Profiles are built from the authentication history found in the {@link CasEventRepository}
+ * and are kept in memory for a configurable period of time. As ticket-granting ticket creation events
+ * are stored in the event repository, profiles that are kept in memory are updated incrementally.
+ * Events stored by other CAS server nodes are picked up once the profile is rebuilt.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class DefaultAuthenticationRiskProfileRepository implements AuthenticationRiskProfileRepository {
+    private static final String EVENT_TYPE = CasTicketGrantingTicketCreatedEvent.class.getName();
+
+    private final CasEventRepository casEventRepository;
+
+    private final CasConfigurationProperties casProperties;
+
+    private final Cache<String, AuthenticationRiskProfile> profiles;
+
+    public DefaultAuthenticationRiskProfileRepository(final CasEventRepository casEventRepository,
+                                                      final CasConfigurationProperties casProperties) {
+        this.casEventRepository = casEventRepository;
+        this.casProperties = casProperties;
+        val core = casProperties.getAuthn().getAdaptive().getRisk().getCore();
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(core.getProfileCacheSize())
+            .expireAfterWrite(Beans.newDuration(core.getProfileCacheDuration()))
+            .build();
+    }
+
+    @Override
+    public AuthenticationRiskProfile getProfile(final String principal) {
+        return profiles.get(principal, this::buildProfile);
+    }
+
+    @Override
+    public void handleStoredEvent(final AuditApplicationEvent event) {
+        val auditEvent = event.getAuditEvent();
+        if (EVENT_TYPE.equals(auditEvent.getType()) && StringUtils.isNotBlank(auditEvent.getPrincipal())) {
+            val casEvent = new CasEvent();
+            casEvent.setType(auditEvent.getType());
+            casEvent.setPrincipalId(auditEvent.getPrincipal());
+            val properties = new HashMap<String, String>();
+            auditEvent.getData().forEach((key, value) -> properties.put(key, String.valueOf(value)));
+            casEvent.setProperties(properties);
+            val timestamp = properties.containsKey(CasEvent.FIELD_TIMESTAMP)
+                ? DateTimeUtils.zonedDateTimeOf(casEvent.getTimestamp())
+                : DateTimeUtils.zonedDateTimeOf(auditEvent.getTimestamp());
+            casEvent.setCreationTime(timestamp.toString());
+            profiles.asMap().computeIfPresent(casEvent.getPrincipalId(), (principal, profile) -> profile.withEvent(casEvent));
+            LOGGER.trace("Recorded event [{}] in the authentication profile of [{}]", casEvent, casEvent.getPrincipalId());
+        }
+    }
+
+    private AuthenticationRiskProfile buildProfile(final String principal) {
+        val date = ZonedDateTime.now(ZoneOffset.UTC)
+            .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory());
+        LOGGER.debug("Building authentication profile for [{}] from events of type [{}] since [{}]", principal, EVENT_TYPE, date);
+        try (val events = casEventRepository.getEventsOfTypeForPrincipal(EVENT_TYPE, principal, date)) {
+            return AuthenticationRiskProfile.from(events);
+        }
+    }
+}
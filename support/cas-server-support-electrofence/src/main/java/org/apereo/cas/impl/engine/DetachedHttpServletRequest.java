@@ -0,0 +1,127 @@
+package org.apereo.cas.impl.engine;
+
+import lombok.val;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This is {@link DetachedHttpServletRequest}, which carries a copy of the headers, parameters,
+ * attributes and addresses of a request. Risk calculators are evaluated on worker threads,
+ * possibly after the container has recycled the original request, so they must only
+ * read request data that is captured on the request thread. Any other operation
+ * is passed on to the original request.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public class DetachedHttpServletRequest extends HttpServletRequestWrapper {
+    private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    private final Map<String, String[]> parameters;
+
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    private final String remoteAddr;
+
+    private final String remoteHost;
+
+    private final String localAddr;
+
+    private final String requestURI;
+
+    private final String method;
+
+    public DetachedHttpServletRequest(final HttpServletRequest request) {
+        super(request);
+        Collections.list(request.getHeaderNames())
+            .forEach(name -> headers.put(name, Collections.list(request.getHeaders(name))));
+        this.parameters = new LinkedHashMap<>(request.getParameterMap());
+        Collections.list(request.getAttributeNames())
+            .forEach(name -> attributes.put(name, request.getAttribute(name)));
+        this.remoteAddr = request.getRemoteAddr();
+        this.remoteHost = request.getRemoteHost();
+        this.localAddr = request.getLocalAddr();
+        this.requestURI = request.getRequestURI();
+        this.method = request.getMethod();
+    }
+
+    @Override
+    public String getHeader(final String name) {
+        val values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(final String name) {
+        return Collections.enumeration(headers.getOrDefault(name, List.of()));
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public String getParameter(final String name) {
+        val values = parameters.get(name);
+        return values == null || values.length == 0 ? null : values[0];
+    }
+
+    @Override
+    public String[] getParameterValues(final String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public Object getAttribute(final String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return remoteAddr;
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return remoteHost;
+    }
+
+    @Override
+    public String getLocalAddr() {
+        return localAddr;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return requestURI;
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+}
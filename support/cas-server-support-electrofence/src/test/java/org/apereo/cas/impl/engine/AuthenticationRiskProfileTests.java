@@ -0,0 +1,56 @@
+package org.apereo.cas.impl.engine;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuthenticationRiskProfileTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Authentication")
+class AuthenticationRiskProfileTests {
+    private static CasEvent createEvent(final String ipAddress, final String agent, final int hour) {
+        val event = new CasEvent();
+        event.setPrincipalId("casuser");
+        event.setCreationTime(ZonedDateTime.of(2023, 1, 1, hour, 0, 0, 0, ZoneOffset.UTC).toString());
+        event.putClientIpAddress(ipAddress);
+        event.putAgent(agent);
+        event.putGeoLocation(new GeoLocationRequest(40.71, -74.005));
+        return event;
+    }
+
+    @Test
+    void verifyProfile() {
+        val profile = AuthenticationRiskProfile.from(Stream.of(
+            createEvent("1.2.3.4", "Firefox", 1),
+            createEvent("1.2.3.4", "Chrome", 10),
+            createEvent("5.6.7.8", "firefox", 23)));
+        assertFalse(profile.isEmpty());
+        assertEquals(3, profile.getEventCount());
+        assertEquals(2, profile.countIpAddress("1.2.3.4"));
+        assertEquals(0, profile.countIpAddress("9.9.9.9"));
+        assertEquals(2, profile.countUserAgent("FIREFOX"));
+        assertEquals(3, profile.countGeoLocation(new GeoLocationRequest(40.71, -74.005)));
+        assertEquals(1, profile.countHoursOfDay(5, 12));
+        assertEquals(2, profile.countHoursOfDay(22, 2));
+
+        val updated = profile.withEvent(createEvent("9.9.9.9", "Safari", 11));
+        assertEquals(4, updated.getEventCount());
+        assertEquals(1, updated.countIpAddress("9.9.9.9"));
+        assertEquals(0, profile.countIpAddress("9.9.9.9"));
+        assertTrue(AuthenticationRiskProfile.empty().isEmpty());
+    }
+}
@@ -0,0 +1,38 @@
+package org.apereo.cas.impl.engine;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DetachedHttpServletRequestTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Authentication")
+class DetachedHttpServletRequestTests {
+    @Test
+    void verifyRequestDataIsCopied() {
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr("185.86.151.11");
+        request.addHeader("User-Agent", "Firefox");
+        request.addParameter("geolocation", "40.71,-74.005,1000,100");
+        request.setAttribute("name", "value");
+
+        val detached = new DetachedHttpServletRequest(request);
+        request.removeHeader("User-Agent");
+        request.removeAllParameters();
+        request.clearAttributes();
+        request.setRemoteAddr("127.0.0.1");
+
+        assertEquals("Firefox", detached.getHeader("user-agent"));
+        assertEquals("40.71,-74.005,1000,100", detached.getParameter("geolocation"));
+        assertEquals("value", detached.getAttribute("name"));
+        assertEquals("185.86.151.11", detached.getRemoteAddr());
+        assertNull(detached.getHeader("Accept"));
+    }
+}
@@ -49,7 +49,9 @@ public class GoogleCloudFirestoreTicketRegistryConfiguration {
         final TicketSerializationManager ticketSerializationManager) {
         val firestoreProps = casProperties.getTicket().getRegistry().getGoogleCloudFirestore();
         val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(firestoreProps.getCrypto(), "firestore");
-        return new GoogleCloudFirestoreTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, firestore);
+        val registry = new GoogleCloudFirestoreTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, firestore);
+        registry.setTicketIdDigester(CoreTicketUtils.newTicketIdDigester(firestoreProps.getCrypto(), "firestore"));
+        return registry;
     }
 
 
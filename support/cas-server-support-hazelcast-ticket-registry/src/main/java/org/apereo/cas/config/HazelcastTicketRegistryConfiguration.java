@@ -63,8 +63,10 @@ public class HazelcastTicketRegistryConfiguration {
         final CasConfigurationProperties casProperties) {
         val hz = casProperties.getTicket().getRegistry().getHazelcast();
         val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(hz.getCrypto(), "hazelcast");
-        return new HazelcastTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
+        val registry = new HazelcastTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
             casTicketRegistryHazelcastInstance, hz);
+        registry.setTicketIdDigester(CoreTicketUtils.newTicketIdDigester(hz.getCrypto(), "hazelcast"));
+        return registry;
     }
 
     @Bean(destroyMethod = "shutdown")
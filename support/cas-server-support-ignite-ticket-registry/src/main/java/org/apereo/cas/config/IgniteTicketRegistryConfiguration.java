@@ -186,6 +186,7 @@ public class IgniteTicketRegistryConfiguration {
         val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(igniteProperties.getCrypto(), "ignite");
         val registry = new IgniteTicketRegistry(cipher, ticketSerializationManager,
             ticketCatalog, igniteConfiguration, igniteProperties);
+        registry.setTicketIdDigester(CoreTicketUtils.newTicketIdDigester(igniteProperties.getCrypto(), "ignite"));
         registry.initialize();
         return registry;
     }
@@ -184,8 +184,10 @@ public class JpaTicketRegistryConfiguration {
                 .supply(() -> {
                     val jpa = casProperties.getTicket().getRegistry().getJpa();
                     val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(jpa.getCrypto(), "jpa");
-                    return new JpaTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
+                    val registry = new JpaTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
                         jpaBeanFactory, jpaTicketRegistryTransactionTemplate, casProperties);
+                    registry.setTicketIdDigester(CoreTicketUtils.newTicketIdDigester(jpa.getCrypto(), "jpa"));
+                    return registry;
                 })
                 .otherwiseProxy()
                 .get();
@@ -297,6 +297,26 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return Objects.requireNonNull(result);
     }
 
+    @Override
+    public long deleteSingleTickets(final Collection<? extends Ticket> tickets) {
+        val cascadingTickets = tickets.stream()
+            .collect(Collectors.partitioningBy(ticket -> ticketCatalog.find(ticket).getProperties().isCascadeRemovals()));
+        val result = transactionTemplate.execute(transactionStatus -> {
+            var totalCount = cascadingTickets.get(Boolean.TRUE).stream().mapToLong(this::deleteSingleTicket).sum();
+            val ticketIds = cascadingTickets.get(Boolean.FALSE).stream()
+                .map(ticket -> digestIdentifier(ticket.getId()))
+                .toList();
+            if (!ticketIds.isEmpty()) {
+                val sql = String.format("DELETE FROM %s o WHERE o.id IN :ids", getJpaTicketEntityFactory().getEntityName());
+                val query = entityManager.createQuery(sql);
+                query.setParameter("ids", ticketIds);
+                totalCount += query.executeUpdate();
+            }
+            return totalCount;
+        });
+        return Objects.requireNonNull(result);
+    }
+
     protected JpaTicketEntityFactory getJpaTicketEntityFactory() {
         val jpa = casProperties.getTicket().getRegistry().getJpa();
         return new JpaTicketEntityFactory(jpa.getDialect());
@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
 import org.apereo.cas.authentication.handler.support.AbstractUsernamePasswordAuthenticationHandler;
 import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
+import org.apereo.cas.authentication.support.CachingLdapDnResolver;
 import org.apereo.cas.monitor.Monitorable;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.CollectionUtils;
@@ -154,6 +155,10 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
             LOGGER.warn("DN resolution failed. [{}]", response.getDiagnosticMessage());
             throw new AccountNotFoundException(upc.getUsername() + " not found.");
         }
+        if (authenticator.getDnResolver() instanceof final CachingLdapDnResolver dnResolver) {
+            LOGGER.trace("Discarding cached DN for [{}] since authentication has failed", upc.getUsername());
+            dnResolver.invalidate(upc.getUsername());
+        }
         throw new FailedLoginException("Invalid credentials");
     }
 
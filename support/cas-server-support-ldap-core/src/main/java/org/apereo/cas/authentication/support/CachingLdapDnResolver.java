@@ -0,0 +1,94 @@
+package org.apereo.cas.authentication.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.ldaptive.LdapException;
+import org.ldaptive.auth.DnResolver;
+import org.ldaptive.auth.User;
+
+import java.time.Duration;
+
+/**
+ * This is {@link CachingLdapDnResolver}, which remembers the DNs resolved for usernames
+ * by another {@link DnResolver} for a period of time, so repeated authentication attempts
+ * for the same user can skip the DN search. Usernames for which no DN can be found
+ * may also be remembered, for a separate and typically shorter period of time, in which case
+ * no DN is returned for them, as if the DN search found nothing.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@Getter
+public class CachingLdapDnResolver implements DnResolver {
+    private final DnResolver delegate;
+
+    private final Cache<String, String> resolvedDns;
+
+    private final Cache<String, Boolean> unresolvedDns;
+
+    public CachingLdapDnResolver(final DnResolver delegate, final Duration expiration,
+                                 final Duration negativeExpiration, final long maximumSize) {
+        this.delegate = delegate;
+        this.resolvedDns = Caffeine.newBuilder()
+            .expireAfterWrite(expiration)
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+        this.unresolvedDns = negativeExpiration.isZero() || negativeExpiration.isNegative()
+            ? null
+            : Caffeine.newBuilder()
+                .expireAfterWrite(negativeExpiration)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public String resolve(final User user) throws LdapException {
+        val identifier = user.getIdentifier();
+        if (StringUtils.isBlank(identifier)) {
+            return delegate.resolve(user);
+        }
+        val cachedDn = resolvedDns.getIfPresent(identifier);
+        if (cachedDn != null) {
+            LOGGER.trace("Found cached DN [{}] for [{}]", cachedDn, identifier);
+            return cachedDn;
+        }
+        if (unresolvedDns != null && unresolvedDns.getIfPresent(identifier) != null) {
+            LOGGER.debug("DN for [{}] could not be found recently and will not be searched again yet", identifier);
+            return null;
+        }
+        val dn = delegate.resolve(user);
+        if (StringUtils.isBlank(dn)) {
+            recordUnresolved(identifier);
+        } else {
+            resolvedDns.put(identifier, dn);
+        }
+        return dn;
+    }
+
+    /**
+     * Discard any cached resolution outcome for the given username.
+     *
+     * @param identifier the identifier
+     */
+    public void invalidate(final String identifier) {
+        if (StringUtils.isNotBlank(identifier)) {
+            resolvedDns.invalidate(identifier);
+            if (unresolvedDns != null) {
+                unresolvedDns.invalidate(identifier);
+            }
+        }
+    }
+
+    private void recordUnresolved(final String identifier) {
+        if (unresolvedDns != null) {
+            unresolvedDns.put(identifier, Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.apereo.cas.authentication.support;
+
+import org.apereo.cas.authentication.LdapAuthenticationHandler;
+import org.apereo.cas.util.LdapUtils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.ldaptive.PooledConnectionFactory;
+
+import java.util.List;
+
+/**
+ * This is {@link LdapAuthenticationHandlerMeterBinder}.
+ * Exposes connection pool usage and DN resolution cache statistics of LDAP authentication handlers as metrics.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+public class LdapAuthenticationHandlerMeterBinder implements MeterBinder {
+    private static final String METRIC_PREFIX = "cas.ldap.authentication.";
+
+    private final List<LdapAuthenticationHandler> authenticationHandlers;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        authenticationHandlers.forEach(handler -> {
+            val authenticator = handler.getAuthenticator();
+            LdapUtils.getPooledConnectionFactories(authenticator).forEach((purpose, factory) -> {
+                Gauge.builder(METRIC_PREFIX + "pool.active", factory, PooledConnectionFactory::activeCount)
+                    .description("Number of LDAP connections checked out of the pool")
+                    .tag("handler", handler.getName())
+                    .tag("pool", purpose)
+                    .register(registry);
+                Gauge.builder(METRIC_PREFIX + "pool.available", factory, PooledConnectionFactory::availableCount)
+                    .description("Number of idle LDAP connections available in the pool")
+                    .tag("handler", handler.getName())
+                    .tag("pool", purpose)
+                    .register(registry);
+                Gauge.builder(METRIC_PREFIX + "pool.max", factory, PooledConnectionFactory::getMaxPoolSize)
+                    .description("Maximum number of LDAP connections in the pool")
+                    .tag("handler", handler.getName())
+                    .tag("pool", purpose)
+                    .register(registry);
+            });
+
+            if (authenticator.getDnResolver() instanceof CachingLdapDnResolver dnResolver) {
+                FunctionCounter.builder(METRIC_PREFIX + "dn.cache.hits", dnResolver,
+                        resolver -> resolver.getResolvedDns().stats().hitCount())
+                    .description("Number of DNs found in the cache")
+                    .tag("handler", handler.getName())
+                    .register(registry);
+                FunctionCounter.builder(METRIC_PREFIX + "dn.cache.misses", dnResolver,
+                        resolver -> resolver.getResolvedDns().stats().missCount())
+                    .description("Number of DNs that had to be searched")
+                    .tag("handler", handler.getName())
+                    .register(registry);
+                FunctionCounter.builder(METRIC_PREFIX + "dn.cache.negative.hits", dnResolver,
+                        resolver -> resolver.getUnresolvedDns() == null ? 0 : resolver.getUnresolvedDns().stats().hitCount())
+                    .description("Number of authentication attempts rejected since no DN was found recently")
+                    .tag("handler", handler.getName())
+                    .register(registry);
+            }
+        });
+    }
+}
@@ -5,6 +5,7 @@ import org.apereo.cas.authentication.CoreAuthenticationUtils;
 import org.apereo.cas.authentication.LdapAuthenticationHandler;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalNameTransformerUtils;
+import org.apereo.cas.authentication.support.CachingLdapDnResolver;
 import org.apereo.cas.authentication.support.DefaultLdapAccountStateHandler;
 import org.apereo.cas.authentication.support.OptionalWarningLdapAccountStateHandler;
 import org.apereo.cas.authentication.support.RejectResultCodeLdapPasswordPolicyHandlingStrategy;
@@ -40,6 +41,7 @@ import org.ldaptive.CompareConnectionValidator;
 import org.ldaptive.CompareRequest;
 import org.ldaptive.ConnectionConfig;
 import org.ldaptive.ConnectionFactory;
+import org.ldaptive.ConnectionFactoryManager;
 import org.ldaptive.Credential;
 import org.ldaptive.DefaultConnectionFactory;
 import org.ldaptive.DerefAliases;
@@ -116,9 +118,11 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Utilities related to LDAP functions.
@@ -1040,6 +1044,16 @@ public class LdapUtils {
         LOGGER.debug("Ldap authenticator configured with return attributes [{}] for [{}] and baseDn [{}]",
             multiMapAttributes.keySet(), props.getLdapUrl(), props.getBaseDn());
 
+        val dnResolutionCache = props.getDnResolutionCache();
+        if (dnResolutionCache.isEnabled() && authenticator.getDnResolver() != null
+            && !(authenticator.getDnResolver() instanceof FormatDnResolver)) {
+            LOGGER.debug("Caching resolved DNs for [{}] for [{}]", props.getLdapUrl(), dnResolutionCache.getExpiration());
+            authenticator.setDnResolver(new CachingLdapDnResolver(authenticator.getDnResolver(),
+                Beans.newDuration(dnResolutionCache.getExpiration()),
+                Beans.newDuration(dnResolutionCache.getNegativeExpiration()),
+                dnResolutionCache.getMaximumSize()));
+        }
+
         LOGGER.debug("Creating LDAP password policy handling strategy for [{}]", props.getLdapUrl());
         val strategy = createLdapPasswordPolicyHandlingStrategy(props, applicationContext);
 
@@ -1089,6 +1103,45 @@ public class LdapUtils {
         return handler;
     }
 
+    /**
+     * Gets the pooled connection factories used by the given authenticator,
+     * keyed by the purpose for which they are used.
+     *
+     * @param authenticator the authenticator
+     * @return the pooled connection factories
+     */
+    public static Map<String, PooledConnectionFactory> getPooledConnectionFactories(final Authenticator authenticator) {
+        val factories = new LinkedHashMap<String, PooledConnectionFactory>();
+        collectPooledConnectionFactories(factories, "authentication", Stream.of(authenticator.getAuthenticationHandler()));
+        collectPooledConnectionFactories(factories, "dn-resolution", unwrapResolvers(authenticator.getDnResolver()));
+        collectPooledConnectionFactories(factories, "entry-resolution", unwrapResolvers(authenticator.getEntryResolver()));
+        return factories;
+    }
+
+    private static void collectPooledConnectionFactories(final Map<String, PooledConnectionFactory> factories,
+                                                         final String purpose, final Stream<?> components) {
+        components
+            .filter(ConnectionFactoryManager.class::isInstance)
+            .map(component -> ((ConnectionFactoryManager) component).getConnectionFactory())
+            .filter(PooledConnectionFactory.class::isInstance)
+            .map(PooledConnectionFactory.class::cast)
+            .findFirst()
+            .ifPresent(factory -> factories.put(purpose, factory));
+    }
+
+    private static Stream<?> unwrapResolvers(final Object resolver) {
+        if (resolver instanceof CachingLdapDnResolver cachingResolver) {
+            return unwrapResolvers(cachingResolver.getDelegate());
+        }
+        if (resolver instanceof ChainingLdapDnResolver chainingResolver) {
+            return chainingResolver.resolvers().stream();
+        }
+        if (resolver instanceof ChainingLdapEntryResolver chainingResolver) {
+            return chainingResolver.resolvers().stream();
+        }
+        return Stream.ofNullable(resolver);
+    }
+
     @SuppressWarnings("UnusedVariable")
     private record ChainingLdapDnResolver(List<? extends DnResolver> resolvers) implements DnResolver {
         @Override
@@ -0,0 +1,61 @@
+package org.apereo.cas.authentication.support;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.ldaptive.auth.DnResolver;
+import org.ldaptive.auth.User;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CachingLdapDnResolverTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("LdapAuthentication")
+class CachingLdapDnResolverTests {
+    private static final String DN = "uid=casuser,ou=people,dc=example,dc=org";
+
+    @Test
+    void verifyResolvedDnIsCached() throws Exception {
+        val delegate = mock(DnResolver.class);
+        when(delegate.resolve(any())).thenReturn(DN);
+        val resolver = new CachingLdapDnResolver(delegate, Duration.ofMinutes(5), Duration.ofSeconds(30), 100);
+        assertEquals(DN, resolver.resolve(new User("casuser")));
+        assertEquals(DN, resolver.resolve(new User("casuser")));
+        verify(delegate, times(1)).resolve(any());
+
+        resolver.invalidate("casuser");
+        assertEquals(DN, resolver.resolve(new User("casuser")));
+        verify(delegate, times(2)).resolve(any());
+    }
+
+    @Test
+    void verifyUnresolvedDnIsCached() throws Exception {
+        val delegate = mock(DnResolver.class);
+        when(delegate.resolve(any())).thenReturn(null);
+        val resolver = new CachingLdapDnResolver(delegate, Duration.ofMinutes(5), Duration.ofSeconds(30), 100);
+        assertNull(resolver.resolve(new User("unknown")));
+        assertNull(resolver.resolve(new User("unknown")));
+        verify(delegate, times(1)).resolve(any());
+
+        resolver.invalidate("unknown");
+        assertNull(resolver.resolve(new User("unknown")));
+        verify(delegate, times(2)).resolve(any());
+    }
+
+    @Test
+    void verifyNegativeCachingDisabled() throws Exception {
+        val delegate = mock(DnResolver.class);
+        when(delegate.resolve(any())).thenReturn(null);
+        val resolver = new CachingLdapDnResolver(delegate, Duration.ofMinutes(5), Duration.ZERO, 100);
+        assertNull(resolver.resolve(new User("unknown")));
+        assertNull(resolver.resolve(new User("unknown")));
+        verify(delegate, times(2)).resolve(any());
+    }
+}
@@ -2,15 +2,18 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.authentication.AuthenticationEventExecutionPlanConfigurer;
 import org.apereo.cas.authentication.AuthenticationHandler;
+import org.apereo.cas.authentication.LdapAuthenticationHandler;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
+import org.apereo.cas.authentication.support.LdapAuthenticationHandlerMeterBinder;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.spring.beans.BeanContainer;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -82,6 +85,19 @@ public class LdapAuthenticationConfiguration {
             return BeanContainer.of(handlers);
         }
 
+        @Bean
+        @ConditionalOnMissingBean(name = "ldapAuthenticationHandlerMeterBinder")
+        public MeterBinder ldapAuthenticationHandlerMeterBinder(
+            @Qualifier("ldapAuthenticationHandlers")
+            final BeanContainer<AuthenticationHandler> ldapAuthenticationHandlers) {
+            val handlers = ldapAuthenticationHandlers.toList()
+                .stream()
+                .filter(LdapAuthenticationHandler.class::isInstance)
+                .map(LdapAuthenticationHandler.class::cast)
+                .collect(Collectors.toList());
+            return new LdapAuthenticationHandlerMeterBinder(handlers);
+        }
+
         @ConditionalOnMissingBean(name = "ldapAuthenticationEventExecutionPlanConfigurer")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
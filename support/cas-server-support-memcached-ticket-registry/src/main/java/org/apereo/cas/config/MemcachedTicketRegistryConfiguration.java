@@ -76,7 +76,9 @@ public class MemcachedTicketRegistryConfiguration {
             .getMemcached();
         val factory = new MemcachedPooledClientConnectionFactory(memcached, memcachedTicketRegistryTranscoder);
         val cipherExecutor = CoreTicketUtils.newTicketRegistryCipherExecutor(memcached.getCrypto(), "memcached");
-        return new MemcachedTicketRegistry(cipherExecutor, ticketSerializationManager, ticketCatalog, factory.getObjectPool());
+        val registry = new MemcachedTicketRegistry(cipherExecutor, ticketSerializationManager, ticketCatalog, factory.getObjectPool());
+        registry.setTicketIdDigester(CoreTicketUtils.newTicketIdDigester(memcached.getCrypto(), "memcached"));
+        return registry;
     }
 
     @Bean
@@ -2,13 +2,20 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.metrics.MonitorableMetricsAspect;
+import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 
 import io.micrometer.core.aop.TimedAspect;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Lazy;
 
 /**
  * This is {@link CasMetricsConfiguration} that attempts to create Spring-managed beans
@@ -20,9 +27,20 @@ import org.springframework.context.annotation.Bean;
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.Metrics)
 @AutoConfiguration
+@EnableAspectJAutoProxy
 public class CasMetricsConfiguration {
     @Bean
     public TimedAspect timedAspect(final MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "monitorableMetricsAspect")
+    @Lazy(false)
+    public MonitorableMetricsAspect monitorableMetricsAspect(
+        final MeterRegistry registry,
+        @Qualifier(TicketCatalog.BEAN_NAME)
+        final ObjectProvider<TicketCatalog> ticketCatalog) {
+        return new MonitorableMetricsAspect(registry, ticketCatalog);
+    }
 }
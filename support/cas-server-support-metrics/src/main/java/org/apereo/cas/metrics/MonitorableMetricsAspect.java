@@ -0,0 +1,187 @@
+package org.apereo.cas.metrics;
+
+import org.apereo.cas.monitor.Monitorable;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link MonitorableMetricsAspect}, which records
+ * latency histograms, error counts and the number of in-flight invocations
+ * for components that are marked with {@link Monitorable}.
+ * <p>
+ * Meters are tagged with the monitorable type, the component class and the method name.
+ * If the invocation carries a ticket or a ticket id, the ticket prefix is recorded
+ * as well, provided it is known to the {@link TicketCatalog}; any other prefix is recorded as
+ * {@code other}. Ticket ids themselves are never recorded so that the number of meters stays bounded.
+ * Meters are created once per tag combination and are reused on subsequent invocations.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@Aspect
+public class MonitorableMetricsAspect {
+    /**
+     * Metric name for invocation latency.
+     */
+    public static final String METRIC_NAME_INVOCATIONS = "cas.monitorable.invocations";
+
+    /**
+     * Metric name for failed invocations.
+     */
+    public static final String METRIC_NAME_ERRORS = "cas.monitorable.errors";
+
+    /**
+     * Metric name for in-flight invocations.
+     */
+    public static final String METRIC_NAME_ACTIVE = "cas.monitorable.active";
+
+    private static final String NO_TICKET_PREFIX = "none";
+
+    private static final String OTHER_TICKET_PREFIX = "other";
+
+    private final MeterRegistry meterRegistry;
+
+    private final SingletonSupplier<TicketCatalog> ticketCatalog;
+
+    private final Map<Class<?>, String> monitorableTypes = new ConcurrentHashMap<>();
+
+    private final Map<InvocationKey, InvocationMeters> invocationMeters = new ConcurrentHashMap<>();
+
+    private final Map<ErrorKey, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    public MonitorableMetricsAspect(final MeterRegistry meterRegistry,
+                                    final ObjectProvider<TicketCatalog> ticketCatalog) {
+        this.meterRegistry = meterRegistry;
+        this.ticketCatalog = SingletonSupplier.of(() -> ticketCatalog.getIfAvailable(DefaultTicketCatalog::new));
+    }
+
+    /**
+     * Determine the ticket prefix tag for the given argument.
+     * Prefixes that are not registered with the ticket catalog are mapped to {@code other},
+     * and arguments that do not look like a ticket or a ticket id are mapped to {@code none}.
+     *
+     * @param argument the argument
+     * @return the ticket prefix tag
+     */
+    String getTicketPrefix(final Object argument) {
+        if (argument instanceof final Ticket ticket) {
+            return getKnownTicketPrefix(ticket.getPrefix());
+        }
+        if (argument instanceof final String ticketId) {
+            val index = ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR);
+            if (index > 0) {
+                return getKnownTicketPrefix(ticketId.substring(0, index));
+            }
+        }
+        return NO_TICKET_PREFIX;
+    }
+
+    private String getKnownTicketPrefix(final String prefix) {
+        return prefix != null && ticketCatalog.obtain().contains(prefix) ? prefix : OTHER_TICKET_PREFIX;
+    }
+
+    private String getTicketPrefix(final Object[] arguments) {
+        return arguments != null && arguments.length > 0 ? getTicketPrefix(arguments[0]) : NO_TICKET_PREFIX;
+    }
+
+    private static String getMonitorableType(final Class<?> targetClass, final Class<?> declaringType) {
+        val candidates = Stream.of(
+            AnnotationUtils.findAnnotation(targetClass, Monitorable.class),
+            AnnotationUtils.findAnnotation(declaringType, Monitorable.class));
+        return candidates.filter(Objects::nonNull).findFirst().map(Monitorable::type).orElse("CAS");
+    }
+
+    /**
+     * Around pointcut to wrap all monitorable components in the CAS namespace,
+     * and record invocation metrics.
+     *
+     * @param joinPoint the join point
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    @Around("allMonitorableComponents()")
+    public Object aroundMonitorableComponents(final ProceedingJoinPoint joinPoint) throws Throwable {
+        val targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        val key = new InvocationKey(targetClass, joinPoint.getSignature().getName(), getTicketPrefix(joinPoint.getArgs()));
+        val meters = invocationMeters.computeIfAbsent(key, k -> createInvocationMeters(k, joinPoint));
+        meters.active().incrementAndGet();
+        val sample = Timer.start(meterRegistry);
+        try {
+            return joinPoint.proceed();
+        } catch (final Throwable e) {
+            errorCounters.computeIfAbsent(new ErrorKey(key, e.getClass()),
+                k -> Counter.builder(METRIC_NAME_ERRORS)
+                    .description("Number of failed invocations of monitorable CAS components")
+                    .tags(meters.tags())
+                    .tag("exception", k.exception().getSimpleName())
+                    .register(meterRegistry)).increment();
+            throw e;
+        } finally {
+            sample.stop(meters.timer());
+            meters.active().decrementAndGet();
+        }
+    }
+
+    private InvocationMeters createInvocationMeters(final InvocationKey key, final ProceedingJoinPoint joinPoint) {
+        val type = monitorableTypes.computeIfAbsent(key.targetClass(),
+            clazz -> getMonitorableType(clazz, joinPoint.getSignature().getDeclaringType()));
+        val tags = Tags.of("type", type,
+            "class", key.targetClass().getSimpleName(),
+            "method", key.method(),
+            "ticketPrefix", key.ticketPrefix());
+        LOGGER.trace("Registering metrics for monitorable component with tags [{}]", tags);
+        val timer = Timer.builder(METRIC_NAME_INVOCATIONS)
+            .description("Latency of invocations of monitorable CAS components")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        val active = new AtomicLong();
+        Gauge.builder(METRIC_NAME_ACTIVE, active, AtomicLong::get)
+            .description("Number of in-flight invocations of monitorable CAS components")
+            .tags(tags)
+            .register(meterRegistry);
+        return new InvocationMeters(tags, timer, active);
+    }
+
+    @Pointcut("(@within(org.apereo.cas.monitor.Monitorable) "
+              + "|| @annotation(org.apereo.cas.monitor.Monitorable)) "
+              + "&& within(org.apereo.cas..*) "
+              + "&& !within(org.apereo.cas..*config..*) "
+              + "&& !within(org.apereo.cas..*Configuration)")
+    private void allMonitorableComponents() {
+    }
+
+    private record InvocationKey(Class<?> targetClass, String method, String ticketPrefix) {
+    }
+
+    private record ErrorKey(InvocationKey invocation, Class<? extends Throwable> exception) {
+    }
+
+    private record InvocationMeters(Tags tags, Timer timer, AtomicLong active) {
+    }
+}
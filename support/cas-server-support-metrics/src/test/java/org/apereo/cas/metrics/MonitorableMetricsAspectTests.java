@@ -0,0 +1,128 @@
+package org.apereo.cas.metrics;
+
+import org.apereo.cas.config.CasMetricsConfiguration;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.monitor.Monitorable;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.DefaultTicketDefinition;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MonitorableMetricsAspectTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@SpringBootTest(classes = {
+    MetricsAutoConfiguration.class,
+    SimpleMetricsExportAutoConfiguration.class,
+    RefreshAutoConfiguration.class,
+    AopAutoConfiguration.class,
+    CasMetricsConfiguration.class,
+    MonitorableMetricsAspectTests.MonitorableMetricsTestConfiguration.class
+},
+    properties = "management.metrics.export.simple.enabled=true")
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@Tag("Metrics")
+class MonitorableMetricsAspectTests {
+    @Autowired
+    @Qualifier("ticketLookup")
+    private TicketLookup ticketLookup;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("monitorableMetricsAspect")
+    private MonitorableMetricsAspect monitorableMetricsAspect;
+
+    @Test
+    void verifyOperation() {
+        assertEquals("TGT-1-abcdef", ticketLookup.getTicket("TGT-1-abcdef"));
+        assertEquals("TGT-2-abcdef", ticketLookup.getTicket("TGT-2-abcdef"));
+        assertThrows(IllegalArgumentException.class, () -> ticketLookup.getTicket("ST-1-unknown"));
+
+        val timer = meterRegistry.find(MonitorableMetricsAspect.METRIC_NAME_INVOCATIONS)
+            .tag("type", "Tickets").tag("method", "getTicket").tag("ticketPrefix", "TGT").timer();
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+
+        val errors = meterRegistry.find(MonitorableMetricsAspect.METRIC_NAME_ERRORS)
+            .tag("ticketPrefix", "ST").tag("exception", IllegalArgumentException.class.getSimpleName()).counter();
+        assertNotNull(errors);
+        assertEquals(1, errors.count());
+
+        val active = meterRegistry.find(MonitorableMetricsAspect.METRIC_NAME_ACTIVE).tag("ticketPrefix", "TGT").gauge();
+        assertNotNull(active);
+        assertEquals(0, active.value());
+
+        assertEquals("casuser-1", ticketLookup.getTicket("casuser-1"));
+        assertEquals("casuser-2", ticketLookup.getTicket("casuser-2"));
+        val others = meterRegistry.find(MonitorableMetricsAspect.METRIC_NAME_INVOCATIONS)
+            .tag("method", "getTicket").tag("ticketPrefix", "other").timer();
+        assertNotNull(others);
+        assertEquals(2, others.count());
+        assertNull(meterRegistry.find(MonitorableMetricsAspect.METRIC_NAME_INVOCATIONS).tag("ticketPrefix", "casuser").timer());
+    }
+
+    @Test
+    void verifyTicketPrefix() {
+        assertEquals("TGT", monitorableMetricsAspect.getTicketPrefix("TGT-1-abcdef"));
+        assertEquals("ST", monitorableMetricsAspect.getTicketPrefix("ST-1-abcdef"));
+        assertEquals("none", monitorableMetricsAspect.getTicketPrefix("casuser"));
+        assertEquals("other", monitorableMetricsAspect.getTicketPrefix("tgt-1-abcdef"));
+        assertEquals("other", monitorableMetricsAspect.getTicketPrefix("ABCDEFG-1"));
+        assertEquals("none", monitorableMetricsAspect.getTicketPrefix(100));
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class MonitorableMetricsTestConfiguration {
+        @Bean
+        public TicketLookup ticketLookup() {
+            return new MonitorableTicketLookup();
+        }
+
+        @Bean
+        public TicketCatalog ticketCatalog() {
+            val catalog = new DefaultTicketCatalog();
+            catalog.register(new DefaultTicketDefinition(TicketGrantingTicket.class, TicketGrantingTicket.class, TicketGrantingTicket.PREFIX, 0));
+            catalog.register(new DefaultTicketDefinition(ServiceTicket.class, ServiceTicket.class, ServiceTicket.PREFIX, 0));
+            return catalog;
+        }
+    }
+
+    @FunctionalInterface
+    interface TicketLookup {
+        String getTicket(String id);
+    }
+
+    @Monitorable(type = "Tickets")
+    static class MonitorableTicketLookup implements TicketLookup {
+        @Override
+        public String getTicket(final String id) {
+            if (id.startsWith("ST")) {
+                throw new IllegalArgumentException("Unknown ticket");
+            }
+            return id;
+        }
+    }
+}
@@ -50,7 +50,9 @@ public class MongoDbTicketRegistryConfiguration {
             .createTicketCollections();
 
         val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(mongo.getCrypto(), "mongo");
-        return new MongoDbTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, mongoDbTicketRegistryTemplate);
+        val registry = new MongoDbTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, mongoDbTicketRegistryTemplate);
+        registry.setTicketIdDigester(CoreTicketUtils.newTicketIdDigester(mongo.getCrypto(), "mongo"));
+        return registry;
     }
 
     @ConditionalOnMissingBean(name = "mongoDbTicketRegistryTemplate")
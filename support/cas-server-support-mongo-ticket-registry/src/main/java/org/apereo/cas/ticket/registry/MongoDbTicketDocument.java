@@ -11,6 +11,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -57,6 +58,12 @@ public class MongoDbTicketDocument implements Serializable {
      */
     public static final String FIELD_NAME_ATTRIBUTES = "attributes";
 
+    /**
+     * Field name to hold the ticket-granting ticket deltas
+     * that are applied since the ticket was last written as a whole.
+     */
+    public static final String FIELD_NAME_DELTAS = "deltas";
+
     @Serial
     private static final long serialVersionUID = -4843440028617071224L;
 
@@ -75,5 +82,8 @@ public class MongoDbTicketDocument implements Serializable {
     @JsonProperty
     private Map<String, ?> attributes;
 
+    @JsonProperty
+    private List<String> deltas;
+
     private Date expireAt;
 }
@@ -11,7 +11,9 @@ import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mongodb.client.MongoCollection;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -48,6 +50,15 @@ import java.util.stream.Stream;
 public class MongoDbTicketRegistry extends AbstractTicketRegistry {
     private static final int PAGE_SIZE = 500;
 
+    /**
+     * Number of deltas kept on a ticket document, after which the ticket is compacted
+     * by writing it as a whole and discarding its deltas.
+     */
+    private static final int MAX_TICKET_DELTAS = 20;
+
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(true).build().toObjectMapper();
+
     private final MongoOperations mongoTemplate;
 
     public MongoDbTicketRegistry(final CipherExecutor cipherExecutor, final TicketSerializationManager ticketSerializationManager,
@@ -165,7 +176,8 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             LOGGER.debug("Located ticket definition [{}] in the ticket catalog", metadata);
             val collectionName = getTicketCollectionInstanceByMetadata(metadata);
             val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(holder.getTicketId()));
-            val update = Update.update(MongoDbTicketDocument.FIELD_NAME_JSON, holder.getJson());
+            val update = Update.update(MongoDbTicketDocument.FIELD_NAME_JSON, holder.getJson())
+                .unset(MongoDbTicketDocument.FIELD_NAME_DELTAS);
             val result = mongoTemplate.updateFirst(query, update, collectionName);
             LOGGER.debug("Updated ticket [{}] with result [{}]", ticket, result);
             return result.getMatchedCount() > 0 ? ticket : null;
@@ -176,6 +188,46 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The delta is pushed onto the ticket document, leaving the serialized ticket as it is.
+     * Deltas are applied to the ticket when it is loaded, and are discarded once the ticket
+     * is updated as a whole. Deltas are not pushed if ticket encryption is turned on, since they
+     * would carry service identifiers in plain text, or if the delta removes services from the ticket.
+     * Once the ticket document carries the maximum number of deltas, the ticket is compacted
+     * by updating it as a whole.
+     */
+    @Override
+    public Ticket updateTicketGrantingTicket(final TicketGrantingTicket ticket, final TicketGrantingTicketDelta delta) throws Exception {
+        if (isCipherExecutorEnabled() || delta.isDestructive()) {
+            return updateTicket(ticket);
+        }
+        LOGGER.debug("Updating ticket [{}] with delta [{}]", ticket.getId(), delta);
+        try {
+            val metadata = ticketCatalog.find(ticket);
+            if (metadata == null) {
+                LOGGER.error("Could not locate ticket definition in the catalog for ticket [{}]", ticket.getId());
+                return null;
+            }
+            val collectionName = getTicketCollectionInstanceByMetadata(metadata);
+            val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(digestIdentifier(ticket.getId()))
+                .and(MongoDbTicketDocument.FIELD_NAME_DELTAS + '.' + (MAX_TICKET_DELTAS - 1)).exists(false));
+            val update = new Update().push(MongoDbTicketDocument.FIELD_NAME_DELTAS,
+                MAPPER.writerFor(TicketGrantingTicketDelta.class).writeValueAsString(delta));
+            val result = mongoTemplate.updateFirst(query, update, collectionName);
+            LOGGER.debug("Updated ticket [{}] with result [{}]", ticket.getId(), result);
+            if (result.getMatchedCount() == 0) {
+                LOGGER.debug("Ticket [{}] carries [{}] deltas and will be compacted", ticket.getId(), MAX_TICKET_DELTAS);
+                return updateTicket(ticket);
+            }
+            return ticket;
+        } catch (final Exception e) {
+            LOGGER.error("Failed updating [{}]", ticket);
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
     @Override
     public Stream<Ticket> stream() {
         return ticketCatalog
@@ -186,6 +238,19 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .map(ticket -> decodeTicket(deserializeTicketFromMongoDocument(ticket)));
     }
 
+    @Override
+    public Stream<? extends Ticket> getExpiredTickets() {
+        val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT).lte(new Date()));
+        return ticketCatalog
+            .findAll()
+            .stream()
+            .map(this::getTicketCollectionInstanceByMetadata)
+            .flatMap(map -> mongoTemplate.stream(query, MongoDbTicketDocument.class, map))
+            .map(ticket -> decodeTicket(deserializeTicketFromMongoDocument(ticket)))
+            .filter(Objects::nonNull)
+            .filter(Ticket::isExpired);
+    }
+
     @Override
     public long sessionCount() {
         return countTicketsByTicketType(TicketGrantingTicket.class);
@@ -258,6 +323,22 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return res.getDeletedCount();
     }
 
+    @Override
+    public long deleteSingleTickets(final Collection<? extends Ticket> tickets) {
+        return tickets.stream()
+            .collect(Collectors.groupingBy(ticket -> getTicketCollectionInstanceByMetadata(ticketCatalog.find(ticket)),
+                Collectors.mapping(ticket -> digestIdentifier(ticket.getId()), Collectors.toList())))
+            .entrySet()
+            .stream()
+            .mapToLong(entry -> {
+                val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).in(entry.getValue()));
+                val res = mongoTemplate.remove(query, entry.getKey());
+                LOGGER.debug("Deleted [{}] ticket(s) from [{}]", res.getDeletedCount(), entry.getKey());
+                return res.getDeletedCount();
+            })
+            .sum();
+    }
+
     protected long countTicketsByTicketType(final Class<? extends Ticket> ticketType) {
         val ticketDefinitions = ticketCatalog.findTicketImplementations(ticketType);
         return ticketDefinitions.stream()
@@ -305,7 +386,12 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
     }
 
     protected Ticket deserializeTicketFromMongoDocument(final MongoDbTicketDocument document) {
-        return ticketSerializationManager.deserializeTicket(document.getJson(), document.getType());
+        val ticket = ticketSerializationManager.deserializeTicket(document.getJson(), document.getType());
+        if (document.getDeltas() != null) {
+            document.getDeltas().forEach(delta -> FunctionUtils.doUnchecked(__ ->
+                applyTicketGrantingTicketDelta(ticket, MAPPER.readValue(delta, TicketGrantingTicketDelta.class))));
+        }
+        return ticket;
     }
 }
 
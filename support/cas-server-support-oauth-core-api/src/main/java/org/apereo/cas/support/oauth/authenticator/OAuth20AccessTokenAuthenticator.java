@@ -3,6 +3,7 @@ package org.apereo.cas.support.oauth.authenticator;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessTokenService;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.token.JwtBuilder;
 
@@ -39,6 +40,8 @@ public class OAuth20AccessTokenAuthenticator implements Authenticator {
 
     private Set<String> requiredScopes = new LinkedHashSet<>();
 
+    private OAuth20StatelessAccessTokenService statelessAccessTokenService;
+
     private String extractAccessTokenFrom(final TokenCredentials tokenCredentials) {
         return OAuth20JwtAccessTokenEncoder.builder()
             .accessTokenJwtBuilder(accessTokenJwtBuilder)
@@ -49,10 +52,12 @@ public class OAuth20AccessTokenAuthenticator implements Authenticator {
     @Override
     public Optional<Credentials> validate(final CallContext callContext, final Credentials credentials) {
         val tokenCredentials = (TokenCredentials) credentials;
-        val token = extractAccessTokenFrom(tokenCredentials);
+        val statelessAccessToken = Optional.ofNullable(statelessAccessTokenService)
+            .flatMap(service -> service.resolve(tokenCredentials.getToken()));
+        val token = statelessAccessToken.map(OAuth20AccessToken::getId).orElseGet(() -> extractAccessTokenFrom(tokenCredentials));
         LOGGER.trace("Received access token [{}] for authentication", token);
 
-        val accessToken = ticketRegistry.getTicket(token, OAuth20AccessToken.class);
+        val accessToken = statelessAccessToken.orElseGet(() -> ticketRegistry.getTicket(token, OAuth20AccessToken.class));
         if (accessToken == null || accessToken.isExpired()) {
             LOGGER.error("Provided access token [{}] is either not found in the ticket registry or has expired", token);
             return Optional.empty();
@@ -1,6 +1,7 @@
 package org.apereo.cas.support.oauth.web.endpoints;
 
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -12,6 +13,8 @@ import org.springframework.stereotype.Controller;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.util.Optional;
+
 
 /**
  * This controller is the base controller for wrapping OAuth protocol in CAS.
@@ -39,6 +42,18 @@ public abstract class BaseOAuth20Controller<T extends OAuth20ConfigurationContex
             .decode(token);
     }
 
+    /**
+     * Resolve the stateless access token that is represented by the token,
+     * without looking it up in the ticket registry.
+     *
+     * @param token the token
+     * @return the access token
+     */
+    protected Optional<OAuth20AccessToken> resolveStatelessAccessToken(final String token) {
+        return Optional.ofNullable(getConfigurationContext().getStatelessAccessTokenService())
+            .flatMap(service -> service.resolve(token));
+    }
+
     protected void ensureSessionReplicationIsAutoconfiguredIfNeedBe(final HttpServletRequest request) {
         val replicationProps = getConfigurationContext().getCasProperties().getAuthn().getPac4j().getCore().getSessionReplication();
         val cookieAutoconfigured = replicationProps.getCookie().isAutoConfigureCookiePath();
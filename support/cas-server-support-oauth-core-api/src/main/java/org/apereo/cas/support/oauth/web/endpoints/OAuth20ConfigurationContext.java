@@ -26,6 +26,7 @@ import org.apereo.cas.ticket.ExpirationPolicyBuilder;
 import org.apereo.cas.ticket.OAuth20TokenSigningAndEncryptionService;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessTokenService;
 import org.apereo.cas.ticket.device.OAuth20DeviceToken;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.token.JwtBuilder;
@@ -138,6 +139,8 @@ public class OAuth20ConfigurationContext {
 
     private final ArgumentExtractor argumentExtractor;
 
+    private final OAuth20StatelessAccessTokenService statelessAccessTokenService;
+
     /**
      * Gets ticket granting ticket.
      *
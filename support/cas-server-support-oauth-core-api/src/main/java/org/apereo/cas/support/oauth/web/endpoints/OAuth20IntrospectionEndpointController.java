@@ -133,8 +133,13 @@ public class OAuth20IntrospectionEndpointController<T extends OAuth20Configurati
                 LOGGER.debug("Located access token [{}] in the request", accessToken);
                 OAuth20Token ticket = null;
                 try {
-                    val token = extractAccessTokenFrom(accessToken);
-                    ticket = getConfigurationContext().getTicketRegistry().getTicket(token, OAuth20Token.class);
+                    val statelessAccessToken = resolveStatelessAccessToken(accessToken);
+                    if (statelessAccessToken.isPresent()) {
+                        ticket = statelessAccessToken.get();
+                    } else {
+                        val token = extractAccessTokenFrom(accessToken);
+                        ticket = getConfigurationContext().getTicketRegistry().getTicket(token, OAuth20Token.class);
+                    }
                 } catch (final InvalidTicketException e) {
                     LOGGER.trace(e.getMessage(), e);
                     LOGGER.info("Unable to fetch access token [{}]: [{}]", accessToken, e.getMessage());
@@ -6,6 +6,7 @@ import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.ticket.OAuth20Token;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessToken;
 import org.apereo.cas.ticket.refreshtoken.OAuth20RefreshToken;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
@@ -110,10 +111,12 @@ public class OAuth20RevocationEndpointController<T extends OAuth20ConfigurationC
     protected ModelAndView generateRevocationResponse(final String token,
                                                       final String clientId,
                                                       final HttpServletResponse response) throws Exception {
-        val registryToken = FunctionUtils.doAndHandle(() -> {
-            val state = getConfigurationContext().getTicketRegistry().getTicket(token, OAuth20Token.class);
-            return state == null || state.isExpired() ? null : state;
-        });
+        val registryToken = resolveStatelessAccessToken(token)
+            .map(OAuth20Token.class::cast)
+            .orElseGet(() -> FunctionUtils.doAndHandle(() -> {
+                val state = getConfigurationContext().getTicketRegistry().getTicket(token, OAuth20Token.class);
+                return state == null || state.isExpired() ? null : state;
+            }));
         if (registryToken == null) {
             LOGGER.error("Provided token [{}] has not been found in the ticket registry", token);
         } else if (isRefreshToken(registryToken) || isAccessToken(registryToken)) {
@@ -124,6 +127,8 @@ public class OAuth20RevocationEndpointController<T extends OAuth20ConfigurationC
 
             if (isRefreshToken(registryToken)) {
                 revokeToken((OAuth20RefreshToken) registryToken);
+            } else if (registryToken instanceof final OAuth20StatelessAccessToken statelessAccessToken) {
+                getConfigurationContext().getStatelessAccessTokenService().revoke(statelessAccessToken);
             } else {
                 revokeToken(registryToken.getId());
             }
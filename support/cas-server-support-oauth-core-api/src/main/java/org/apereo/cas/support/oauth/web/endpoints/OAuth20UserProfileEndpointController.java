@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.AuthenticationCredentialsThreadLocalBinder;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessToken;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 
@@ -82,10 +83,11 @@ public class OAuth20UserProfileEndpointController<T extends OAuth20Configuration
             return buildUnauthorizedResponseEntity(OAuth20Constants.MISSING_ACCESS_TOKEN);
         }
 
-        val accessTokenTicket = FunctionUtils.doAndHandle(() -> {
-            val state = getConfigurationContext().getTicketRegistry().getTicket(decodedAccessTokenId, OAuth20AccessToken.class);
-            return state == null || state.isExpired() ? null : state;
-        });
+        val accessTokenTicket = resolveStatelessAccessToken(accessTokenResult.getKey())
+            .orElseGet(() -> FunctionUtils.doAndHandle(() -> {
+                val state = getConfigurationContext().getTicketRegistry().getTicket(decodedAccessTokenId, OAuth20AccessToken.class);
+                return state == null || state.isExpired() ? null : state;
+            }));
         if (accessTokenTicket == null || accessTokenTicket.isExpired()) {
             LOGGER.error("Access token [{}] cannot be found in the ticket registry or has expired.", decodedAccessTokenId);
             return buildUnauthorizedResponseEntity(OAuth20Constants.EXPIRED_ACCESS_TOKEN);
@@ -114,6 +116,10 @@ public class OAuth20UserProfileEndpointController<T extends OAuth20Configuration
     }
 
     protected void updateAccessTokenUsage(final OAuth20AccessToken accessTokenTicket) throws Exception {
+        if (accessTokenTicket instanceof OAuth20StatelessAccessToken) {
+            LOGGER.trace("Access token [{}] is stateless and is not tracked by the ticket registry", accessTokenTicket.getId());
+            return;
+        }
         accessTokenTicket.update();
         if (accessTokenTicket.isExpired()) {
             getConfigurationContext().getTicketRegistry().deleteTicket(accessTokenTicket.getId());
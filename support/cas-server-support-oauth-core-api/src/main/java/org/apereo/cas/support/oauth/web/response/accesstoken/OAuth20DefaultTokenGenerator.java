@@ -14,6 +14,7 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessTokenService;
 import org.apereo.cas.ticket.device.OAuth20DeviceToken;
 import org.apereo.cas.ticket.device.OAuth20DeviceTokenFactory;
 import org.apereo.cas.ticket.device.OAuth20DeviceUserCode;
@@ -25,6 +26,7 @@ import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -76,6 +78,12 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
      */
     protected final CasConfigurationProperties casProperties;
 
+    /**
+     * The stateless access token service, if any.
+     */
+    @Setter
+    protected OAuth20StatelessAccessTokenService statelessAccessTokenService;
+
     private static OAuth20TokenGeneratedResult generateAccessTokenResult(
         final AccessTokenRequestContext holder,
         final Pair<OAuth20AccessToken, OAuth20RefreshToken> pair) {
@@ -167,13 +175,21 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
         val clientId = Optional.ofNullable(holder.getRegisteredService())
             .map(OAuthRegisteredService::getClientId).orElse(StringUtils.EMPTY);
         val requestedClaims = holder.getClaims().getOrDefault(OAuth20Constants.CLAIMS_USERINFO, new HashMap<>());
-        requestedClaims.forEach(authnBuilder::addAttribute);
+        requestedClaims.entrySet()
+            .stream()
+            .filter(entry -> !OAuth20StatelessAccessTokenService.CLAIM_STATELESS.equalsIgnoreCase(entry.getKey()))
+            .forEach(entry -> authnBuilder.addAttribute(entry.getKey(), entry.getValue()));
 
         FunctionUtils.doIfNotNull(holder.getDpop(),
             __ -> authnBuilder.addAttribute(OAuth20Constants.DPOP, holder.getDpop()));
         FunctionUtils.doIfNotNull(holder.getDpopConfirmation(),
             __ -> authnBuilder.addAttribute(OAuth20Constants.DPOP_CONFIRMATION, holder.getDpopConfirmation()));
-        
+
+        val stateless = statelessAccessTokenService != null && statelessAccessTokenService.supports(holder);
+        if (stateless) {
+            authnBuilder.addAttribute(OAuth20StatelessAccessTokenService.CLAIM_STATELESS, Boolean.TRUE);
+            authnBuilder.addAttribute(OAuth20Constants.CLIENT_ID, clientId);
+        }
         val authentication = authnBuilder.build();
         LOGGER.debug("Creating access token for [{}]", holder);
         val ticketGrantingTicket = holder.getTicketGrantingTicket();
@@ -186,8 +202,12 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
             holder.getGrantType());
 
         LOGGER.debug("Created access token [{}]", accessToken);
-        addTicketToRegistry(accessToken, ticketGrantingTicket);
-        LOGGER.debug("Added access token [{}] to registry", accessToken);
+        if (stateless) {
+            LOGGER.debug("Access token [{}] is stateless and will not be added to registry", accessToken);
+        } else {
+            addTicketToRegistry(accessToken, ticketGrantingTicket);
+            LOGGER.debug("Added access token [{}] to registry", accessToken);
+        }
 
         updateOAuthCode(holder, accessToken);
 
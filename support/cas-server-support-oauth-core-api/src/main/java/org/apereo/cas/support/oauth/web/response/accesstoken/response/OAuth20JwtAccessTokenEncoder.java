@@ -7,6 +7,7 @@ import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessTokenService;
 import org.apereo.cas.token.JwtBuilder;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DateTimeUtils;
@@ -90,6 +91,11 @@ public class OAuth20JwtAccessTokenEncoder implements CipherExecutor<String, Stri
         val authentication = accessToken.getAuthentication();
         val attributes = new HashMap<>(authentication.getAttributes());
         attributes.putAll(authentication.getPrincipal().getAttributes());
+        attributes.remove(OAuth20StatelessAccessTokenService.CLAIM_STATELESS);
+        if (authentication.containsAttribute(OAuth20StatelessAccessTokenService.CLAIM_STATELESS)) {
+            attributes.put(OAuth20StatelessAccessTokenService.CLAIM_STATELESS,
+                authentication.getAttributes().get(OAuth20StatelessAccessTokenService.CLAIM_STATELESS));
+        }
 
         if (accessToken.getAuthentication().containsAttribute(OAuth20Constants.DPOP_CONFIRMATION)) {
             CollectionUtils.firstElement(accessToken.getAuthentication().getAttributes().get(OAuth20Constants.DPOP_CONFIRMATION))
@@ -0,0 +1,191 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.authentication.DefaultAuthenticationBuilder;
+import org.apereo.cas.authentication.principal.PrincipalFactory;
+import org.apereo.cas.authentication.principal.ServiceFactory;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceCipherExecutor;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.support.oauth.OAuth20Constants;
+import org.apereo.cas.support.oauth.OAuth20GrantTypes;
+import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
+import org.apereo.cas.support.oauth.util.OAuth20Utils;
+import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenRequestContext;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.token.JwtBuilder;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jwt.PlainJWT;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link DefaultOAuth20StatelessAccessTokenService}, which handles access tokens
+ * issued for the {@code client_credentials} grant as signed JWTs. Only tokens that carry
+ * the {@link #CLAIM_STATELESS} claim are accepted, so that access tokens tracked by the
+ * ticket registry can never bypass the registry. Verified access tokens are remembered
+ * by the hash of the encoded token for a short while, so that repeated requests with the same token
+ * do not verify its signature again.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class DefaultOAuth20StatelessAccessTokenService implements OAuth20StatelessAccessTokenService {
+    private static final long MAXIMUM_SIZE = 50_000;
+
+    private static final List<String> AUTHENTICATION_ATTRIBUTES = List.of(OAuth20Constants.GRANT_TYPE,
+        OAuth20Constants.SCOPE, OAuth20Constants.DPOP, OAuth20Constants.DPOP_CONFIRMATION, CLAIM_STATELESS);
+
+    private final CasConfigurationProperties casProperties;
+
+    private final JwtBuilder accessTokenJwtBuilder;
+
+    private final ServicesManager servicesManager;
+
+    private final ServiceFactory<WebApplicationService> webApplicationServiceFactory;
+
+    private final PrincipalFactory principalFactory;
+
+    private final OAuth20StatelessAccessTokenRevocationList revocationList;
+
+    private final Cache<String, OAuth20AccessToken> verifiedAccessTokens;
+
+    public DefaultOAuth20StatelessAccessTokenService(final CasConfigurationProperties casProperties,
+                                                     final JwtBuilder accessTokenJwtBuilder,
+                                                     final ServicesManager servicesManager,
+                                                     final ServiceFactory<WebApplicationService> webApplicationServiceFactory,
+                                                     final PrincipalFactory principalFactory,
+                                                     final OAuth20StatelessAccessTokenRevocationList revocationList) {
+        this.casProperties = casProperties;
+        this.accessTokenJwtBuilder = accessTokenJwtBuilder;
+        this.servicesManager = servicesManager;
+        this.webApplicationServiceFactory = webApplicationServiceFactory;
+        this.principalFactory = principalFactory;
+        this.revocationList = revocationList;
+        val timeout = casProperties.getAuthn().getOauth().getAccessToken().getStatelessVerificationCacheTimeout();
+        this.verifiedAccessTokens = Caffeine.newBuilder()
+            .expireAfterWrite(Beans.newDuration(timeout))
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+    }
+
+    @Override
+    public boolean supports(final AccessTokenRequestContext context) {
+        val properties = casProperties.getAuthn().getOauth().getAccessToken();
+        val registeredService = context.getRegisteredService();
+        return properties.isStateless()
+               && context.getGrantType() == OAuth20GrantTypes.CLIENT_CREDENTIALS
+               && !context.isGenerateRefreshToken()
+               && (properties.isCreateAsJwt() || (registeredService != null && registeredService.isJwtAccessToken()));
+    }
+
+    @Override
+    public Optional<OAuth20AccessToken> resolve(final String encodedAccessToken) {
+        if (!casProperties.getAuthn().getOauth().getAccessToken().isStateless() || StringUtils.isBlank(encodedAccessToken)) {
+            return Optional.empty();
+        }
+        val accessToken = verifiedAccessTokens.get(DigestUtils.sha256(encodedAccessToken), __ -> verify(encodedAccessToken));
+        return Optional.ofNullable(accessToken)
+            .filter(token -> !token.isExpired())
+            .filter(token -> !revocationList.isRevoked(token.getId()));
+    }
+
+    @Override
+    public void revoke(final OAuth20AccessToken accessToken) {
+        revocationList.revoke(accessToken);
+    }
+
+    protected OAuth20AccessToken verify(final String encodedAccessToken) {
+        return FunctionUtils.doAndHandle(() -> {
+            val jwt = JWTParser.parse(encodedAccessToken);
+            if (jwt instanceof PlainJWT) {
+                LOGGER.trace("Unsigned access tokens cannot be accepted as stateless access tokens");
+                return null;
+            }
+            val serviceId = jwt.getHeader().getCustomParam(RegisteredServiceCipherExecutor.CUSTOM_HEADER_REGISTERED_SERVICE_ID);
+            val headerService = Optional.ofNullable(serviceId)
+                .map(id -> servicesManager.findServiceBy(Long.parseLong(id.toString()), OAuthRegisteredService.class));
+            val claims = accessTokenJwtBuilder.unpack(headerService.map(RegisteredService.class::cast), encodedAccessToken);
+            val stateless = CollectionUtils.firstElement(claims.getClaim(CLAIM_STATELESS))
+                .map(value -> Boolean.parseBoolean(value.toString()))
+                .orElse(Boolean.FALSE);
+            if (!stateless) {
+                LOGGER.trace("Access token [{}] was not issued as a stateless access token", claims.getJWTID());
+                return null;
+            }
+            val grantType = CollectionUtils.firstElement(claims.getClaim(OAuth20Constants.GRANT_TYPE)).map(Object::toString);
+            if (!grantType.map(OAuth20GrantTypes.CLIENT_CREDENTIALS.getType()::equalsIgnoreCase).orElse(Boolean.FALSE)) {
+                LOGGER.trace("Access token [{}] was not issued for the client credentials grant", claims.getJWTID());
+                return null;
+            }
+            val clientId = CollectionUtils.firstElement(claims.getClaim(OAuth20Constants.CLIENT_ID)).map(Object::toString).orElse(null);
+            val registeredService = headerService.orElseGet(
+                () -> OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, clientId));
+            if (registeredService == null || !StringUtils.equals(registeredService.getClientId(), clientId)
+                || claims.getIssueTime() == null || claims.getExpirationTime() == null) {
+                LOGGER.debug("Access token [{}] cannot be linked to a registered service or lacks issue/expiration times",
+                    claims.getJWTID());
+                return null;
+            }
+            return buildAccessToken(encodedAccessToken, claims, registeredService);
+        }, e -> {
+            LOGGER.debug("Unable to verify stateless access token: [{}]", e.getMessage());
+            return null;
+        }).get();
+    }
+
+    protected OAuth20AccessToken buildAccessToken(final String encodedAccessToken,
+                                                  final JWTClaimsSet claims,
+                                                  final OAuthRegisteredService registeredService) {
+        val attributes = new LinkedHashMap<String, List<Object>>();
+        claims.getClaims()
+            .entrySet()
+            .stream()
+            .filter(entry -> !JWTClaimsSet.getRegisteredNames().contains(entry.getKey()))
+            .filter(entry -> entry.getValue() != null)
+            .forEach(entry -> attributes.put(entry.getKey(), CollectionUtils.toCollection(entry.getValue(), ArrayList.class)));
+
+        val scopes = CollectionUtils.toCollection(attributes.getOrDefault(OAuth20Constants.SCOPE, List.of()))
+            .stream()
+            .map(Object::toString)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        val issueTime = claims.getIssueTime().toInstant();
+        val principal = principalFactory.createPrincipal(claims.getSubject(), attributes);
+        val authenticationBuilder = DefaultAuthenticationBuilder.newInstance()
+            .setPrincipal(principal)
+            .setAuthenticationDate(issueTime.atZone(ZoneOffset.UTC));
+        AUTHENTICATION_ATTRIBUTES
+            .stream()
+            .filter(attributes::containsKey)
+            .forEach(name -> authenticationBuilder.addAttribute(name, attributes.get(name)));
+
+        val timeToLive = Math.max(0, claims.getExpirationTime().toInstant().getEpochSecond() - issueTime.getEpochSecond());
+        val accessToken = new OAuth20StatelessAccessToken(claims.getJWTID(),
+            webApplicationServiceFactory.createService(registeredService.getServiceId()),
+            authenticationBuilder.build(), new HardTimeoutExpirationPolicy(timeToLive),
+            encodedAccessToken, scopes, registeredService.getClientId());
+        accessToken.setCreationTime(issueTime.atZone(ZoneOffset.UTC));
+        accessToken.setLastTimeUsed(accessToken.getCreationTime());
+        return accessToken;
+    }
+}
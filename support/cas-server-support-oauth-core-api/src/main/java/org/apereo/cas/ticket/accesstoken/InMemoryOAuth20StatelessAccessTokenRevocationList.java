@@ -0,0 +1,56 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+/**
+ * This is {@link InMemoryOAuth20StatelessAccessTokenRevocationList}, which remembers
+ * revoked access tokens in memory until each token expires. Revocations are only
+ * visible to the node that handled them.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class InMemoryOAuth20StatelessAccessTokenRevocationList implements OAuth20StatelessAccessTokenRevocationList {
+    private final Cache<String, ZonedDateTime> revokedTokens = Caffeine.newBuilder()
+        .expireAfter(new RevokedAccessTokenExpiry())
+        .build();
+
+    @Override
+    public void revoke(final OAuth20AccessToken accessToken) {
+        val expirationTime = accessToken.getExpirationPolicy().getMaximumExpirationTime(accessToken);
+        LOGGER.debug("Revoking stateless access token [{}] until [{}]", accessToken.getId(), expirationTime);
+        revokedTokens.put(accessToken.getId(), expirationTime);
+    }
+
+    @Override
+    public boolean isRevoked(final String accessTokenId) {
+        return revokedTokens.getIfPresent(accessTokenId) != null;
+    }
+
+    private static final class RevokedAccessTokenExpiry implements Expiry<String, ZonedDateTime> {
+        @Override
+        public long expireAfterCreate(final String key, final ZonedDateTime expirationTime, final long currentTime) {
+            return Math.max(1, Duration.between(ZonedDateTime.now(expirationTime.getZone()), expirationTime).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final ZonedDateTime expirationTime,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, expirationTime, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final ZonedDateTime expirationTime,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
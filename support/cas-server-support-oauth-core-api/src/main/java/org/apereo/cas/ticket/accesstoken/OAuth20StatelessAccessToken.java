@@ -0,0 +1,38 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.support.oauth.OAuth20GrantTypes;
+import org.apereo.cas.support.oauth.OAuth20ResponseTypes;
+import org.apereo.cas.ticket.ExpirationPolicy;
+
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.HashMap;
+
+/**
+ * This is {@link OAuth20StatelessAccessToken}, which represents an access token
+ * that is reconstructed from a self-contained JWT rather than the ticket registry.
+ * Such tokens are never stored in or updated by the ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@NoArgsConstructor
+public class OAuth20StatelessAccessToken extends OAuth20DefaultAccessToken {
+    @Serial
+    private static final long serialVersionUID = -2761628532419634513L;
+
+    public OAuth20StatelessAccessToken(final String id,
+                                       final Service service,
+                                       final Authentication authentication,
+                                       final ExpirationPolicy expirationPolicy,
+                                       final String token,
+                                       final Collection<String> scopes,
+                                       final String clientId) {
+        super(id, service, authentication, expirationPolicy, null, token, scopes,
+            clientId, new HashMap<>(), OAuth20ResponseTypes.NONE, OAuth20GrantTypes.CLIENT_CREDENTIALS);
+    }
+}
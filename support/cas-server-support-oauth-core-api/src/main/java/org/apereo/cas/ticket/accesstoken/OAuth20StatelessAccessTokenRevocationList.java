@@ -0,0 +1,32 @@
+package org.apereo.cas.ticket.accesstoken;
+
+/**
+ * This is {@link OAuth20StatelessAccessTokenRevocationList}, which tracks stateless access tokens
+ * that are revoked before they expire. Since stateless access tokens are not tracked by the ticket registry,
+ * revoked tokens are remembered here until they would have expired. Deployments with multiple nodes
+ * must use an implementation that is shared across all nodes.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public interface OAuth20StatelessAccessTokenRevocationList {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "oauthStatelessAccessTokenRevocationList";
+
+    /**
+     * Revoke the access token until it expires.
+     *
+     * @param accessToken the access token
+     */
+    void revoke(OAuth20AccessToken accessToken);
+
+    /**
+     * Whether the access token is revoked.
+     *
+     * @param accessTokenId the access token id
+     * @return true/false
+     */
+    boolean isRevoked(String accessTokenId);
+}
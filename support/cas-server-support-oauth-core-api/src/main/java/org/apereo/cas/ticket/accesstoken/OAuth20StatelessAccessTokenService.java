@@ -0,0 +1,51 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenRequestContext;
+
+import java.util.Optional;
+
+/**
+ * This is {@link OAuth20StatelessAccessTokenService}, which decides whether access tokens
+ * may be issued without being tracked by the ticket registry, and reconstructs such access tokens
+ * from their self-contained JWT representation.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public interface OAuth20StatelessAccessTokenService {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "oauthStatelessAccessTokenService";
+
+    /**
+     * Claim that marks access tokens that are issued statelessly.
+     * Access tokens without this claim are never resolved as stateless access tokens.
+     */
+    String CLAIM_STATELESS = "cas_stateless";
+
+    /**
+     * Whether the access token requested by this context may be issued
+     * without being tracked by the ticket registry.
+     *
+     * @param context the context
+     * @return true/false
+     */
+    boolean supports(AccessTokenRequestContext context);
+
+    /**
+     * Verify the encoded access token and reconstruct the stateless access token it represents.
+     * Access tokens that are not stateless, expired or revoked are not resolved.
+     *
+     * @param encodedAccessToken the encoded access token
+     * @return the access token
+     */
+    Optional<OAuth20AccessToken> resolve(String encodedAccessToken);
+
+    /**
+     * Revoke the stateless access token.
+     *
+     * @param accessToken the access token
+     */
+    void revoke(OAuth20AccessToken accessToken);
+}
@@ -0,0 +1,117 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.ticket.ExpirationPolicy;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketFactory;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link TicketRegistryOAuth20StatelessAccessTokenRevocationList}, which records
+ * revoked access tokens as transient session tickets in the ticket registry, so that revocations
+ * are shared with all nodes that use the same ticket registry or receive its replicated tickets.
+ * Each record expires along with the access token it revokes.
+ * <p>
+ * Checking whether a token is revoked never reaches the ticket registry. Revocations are kept
+ * in a local list, which is updated immediately for revocations made on this node, and is
+ * periodically refreshed from the ticket registry for revocations made on other nodes.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TicketRegistryOAuth20StatelessAccessTokenRevocationList implements OAuth20StatelessAccessTokenRevocationList {
+    private static final String REVOCATION_TICKET_ID_PREFIX = "OAUTHREVOKED-";
+
+    private final Cache<String, ZonedDateTime> revokedTokens = Caffeine.newBuilder()
+        .expireAfter(new RevokedAccessTokenExpiry())
+        .build();
+
+    private final TicketRegistry ticketRegistry;
+
+    private final TicketFactory ticketFactory;
+
+    @Override
+    public void revoke(final OAuth20AccessToken accessToken) {
+        val expirationTime = accessToken.getExpirationPolicy().getMaximumExpirationTime(accessToken);
+        val digest = DigestUtils.sha256(accessToken.getId());
+        revokedTokens.put(digest, expirationTime);
+        val timeToLive = Duration.between(ZonedDateTime.now(expirationTime.getZone()), expirationTime).toSeconds();
+        if (timeToLive > 0) {
+            val properties = new HashMap<String, Serializable>();
+            properties.put(ExpirationPolicy.class.getName(), new HardTimeoutExpirationPolicy(timeToLive));
+            val factory = (TransientSessionTicketFactory) ticketFactory.get(TransientSessionTicket.class);
+            val ticket = factory.create(REVOCATION_TICKET_ID_PREFIX + digest, properties);
+            LOGGER.debug("Recording revocation of stateless access token [{}] as [{}]", accessToken.getId(), ticket.getId());
+            FunctionUtils.doUnchecked(__ -> ticketRegistry.addTicket(ticket));
+        }
+    }
+
+    @Override
+    public boolean isRevoked(final String accessTokenId) {
+        return revokedTokens.getIfPresent(DigestUtils.sha256(accessTokenId)) != null;
+    }
+
+    /**
+     * Refresh the local revocation list with revocations recorded in the ticket registry.
+     */
+    @Scheduled(initialDelayString = "${cas.authn.oauth.access-token.stateless-revocation-refresh-interval:PT30S}",
+        fixedDelayString = "${cas.authn.oauth.access-token.stateless-revocation-refresh-interval:PT30S}")
+    public void refresh() {
+        FunctionUtils.doAndHandle(__ -> {
+            val ticketIdPrefix = TransientSessionTicketFactory.normalizeTicketId(REVOCATION_TICKET_ID_PREFIX);
+            try (val tickets = ticketRegistry.getTickets(ticket -> ticket.getId().startsWith(ticketIdPrefix) && !ticket.isExpired())) {
+                val count = new AtomicLong();
+                tickets.forEach(ticket -> {
+                    val digest = StringUtils.removeStart(ticket.getId(), ticketIdPrefix);
+                    revokedTokens.asMap().putIfAbsent(digest, getExpirationTime(ticket));
+                    count.incrementAndGet();
+                });
+                LOGGER.trace("Refreshed [{}] stateless access token revocation(s) from the ticket registry", count.get());
+            }
+        });
+    }
+
+    private static ZonedDateTime getExpirationTime(final Ticket ticket) {
+        return ticket.getExpirationPolicy().getMaximumExpirationTime(ticket);
+    }
+
+    private static final class RevokedAccessTokenExpiry implements Expiry<String, ZonedDateTime> {
+        @Override
+        public long expireAfterCreate(final String key, final ZonedDateTime expirationTime, final long currentTime) {
+            return Math.max(1, Duration.between(ZonedDateTime.now(expirationTime.getZone()), expirationTime).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final ZonedDateTime expirationTime,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, expirationTime, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final ZonedDateTime expirationTime,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
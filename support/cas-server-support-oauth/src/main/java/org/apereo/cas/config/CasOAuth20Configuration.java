@@ -104,10 +104,14 @@ import org.apereo.cas.ticket.ExpirationPolicyBuilder;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketFactoryExecutionPlanConfigurer;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.accesstoken.DefaultOAuth20StatelessAccessTokenService;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenExpirationPolicyBuilder;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenFactory;
 import org.apereo.cas.ticket.accesstoken.OAuth20DefaultAccessTokenFactory;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessTokenRevocationList;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessTokenService;
+import org.apereo.cas.ticket.accesstoken.TicketRegistryOAuth20StatelessAccessTokenRevocationList;
 import org.apereo.cas.ticket.code.OAuth20CodeExpirationPolicyBuilder;
 import org.apereo.cas.ticket.code.OAuth20CodeFactory;
 import org.apereo.cas.ticket.code.OAuth20DefaultOAuthCodeFactory;
@@ -306,7 +310,9 @@ public class CasOAuth20Configuration {
             final ObjectProvider<List<OAuth20AuthorizationResponseBuilder>> oauthAuthorizationResponseBuilders,
             final ObjectProvider<List<OAuth20AuthorizationRequestValidator>> oauthAuthorizationRequestValidators,
             @Qualifier("oauthTokenGenerator")
-            final OAuth20TokenGenerator oauthTokenGenerator) {
+            final OAuth20TokenGenerator oauthTokenGenerator,
+            @Qualifier(OAuth20StatelessAccessTokenService.BEAN_NAME)
+            final OAuth20StatelessAccessTokenService oauthStatelessAccessTokenService) {
             return OAuth20ConfigurationContext.builder()
                 .argumentExtractor(argumentExtractor)
                 .requestParameterResolver(oauthRequestParameterResolver)
@@ -340,6 +346,7 @@ public class CasOAuth20Configuration {
                 .oauthRequestValidators(oauthAuthorizationRequestValidators)
                 .clientSecretValidator(oauth20ClientSecretValidator)
                 .authenticationAttributeReleasePolicy(authenticationAttributeReleasePolicy)
+                .statelessAccessTokenService(oauthStatelessAccessTokenService)
                 .build();
         }
     }
@@ -371,6 +378,36 @@ public class CasOAuth20Configuration {
     @Configuration(value = "CasOAuth20TokenGeneratorConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class CasOAuth20TokenGeneratorConfiguration {
+        @ConditionalOnMissingBean(name = OAuth20StatelessAccessTokenRevocationList.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public OAuth20StatelessAccessTokenRevocationList oauthStatelessAccessTokenRevocationList(
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final TicketRegistry ticketRegistry,
+            @Qualifier(TicketFactory.BEAN_NAME)
+            final TicketFactory ticketFactory) {
+            return new TicketRegistryOAuth20StatelessAccessTokenRevocationList(ticketRegistry, ticketFactory);
+        }
+
+        @ConditionalOnMissingBean(name = OAuth20StatelessAccessTokenService.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public OAuth20StatelessAccessTokenService oauthStatelessAccessTokenService(
+            @Qualifier(OAuth20StatelessAccessTokenRevocationList.BEAN_NAME)
+            final OAuth20StatelessAccessTokenRevocationList oauthStatelessAccessTokenRevocationList,
+            @Qualifier("accessTokenJwtBuilder")
+            final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier(ServicesManager.BEAN_NAME)
+            final ServicesManager servicesManager,
+            @Qualifier(WebApplicationService.BEAN_NAME_FACTORY)
+            final ServiceFactory<WebApplicationService> webApplicationServiceFactory,
+            @Qualifier("oauthPrincipalFactory")
+            final PrincipalFactory oauthPrincipalFactory,
+            final CasConfigurationProperties casProperties) {
+            return new DefaultOAuth20StatelessAccessTokenService(casProperties, accessTokenJwtBuilder,
+                servicesManager, webApplicationServiceFactory, oauthPrincipalFactory, oauthStatelessAccessTokenRevocationList);
+        }
+
         @ConditionalOnMissingBean(name = "oauthTokenGenerator")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -385,11 +422,15 @@ public class CasOAuth20Configuration {
             final OAuth20AccessTokenFactory defaultAccessTokenFactory,
             @Qualifier(TicketRegistry.BEAN_NAME)
             final TicketRegistry ticketRegistry,
+            @Qualifier(OAuth20StatelessAccessTokenService.BEAN_NAME)
+            final OAuth20StatelessAccessTokenService oauthStatelessAccessTokenService,
             final CasConfigurationProperties casProperties) {
-            return new OAuth20DefaultTokenGenerator(
+            val generator = new OAuth20DefaultTokenGenerator(
                 defaultAccessTokenFactory, defaultDeviceTokenFactory,
                 defaultDeviceUserCodeFactory, defaultRefreshTokenFactory,
                 ticketRegistry, casProperties);
+            generator.setStatelessAccessTokenService(oauthStatelessAccessTokenService);
+            return generator;
         }
 
         @ConditionalOnMissingBean(name = "accessTokenResponseGenerator")
@@ -1518,8 +1559,12 @@ public class CasOAuth20Configuration {
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
             @Qualifier(TicketRegistry.BEAN_NAME)
-            final TicketRegistry ticketRegistry) {
-            return new OAuth20AccessTokenAuthenticator(ticketRegistry, accessTokenJwtBuilder);
+            final TicketRegistry ticketRegistry,
+            @Qualifier(OAuth20StatelessAccessTokenService.BEAN_NAME)
+            final OAuth20StatelessAccessTokenService oauthStatelessAccessTokenService) {
+            val authenticator = new OAuth20AccessTokenAuthenticator(ticketRegistry, accessTokenJwtBuilder);
+            authenticator.setStatelessAccessTokenService(oauthStatelessAccessTokenService);
+            return authenticator;
         }
     }
 
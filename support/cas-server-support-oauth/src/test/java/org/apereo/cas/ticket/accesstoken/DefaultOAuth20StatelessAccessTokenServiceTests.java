@@ -0,0 +1,139 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.AbstractOAuth20Tests;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.support.oauth.OAuth20Constants;
+import org.apereo.cas.support.oauth.OAuth20GrantTypes;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.token.JwtBuilder;
+import org.apereo.cas.util.DateTimeUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultOAuth20StatelessAccessTokenServiceTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("OAuthToken")
+@TestPropertySource(properties = {
+    "cas.authn.oauth.access-token.stateless=true",
+    "cas.authn.oauth.access-token.crypto.encryption.key=AZ5y4I9qzKPYUVNL2Td4RMbpg6Z-ldui8VEFg8hsj1M",
+    "cas.authn.oauth.access-token.crypto.signing.key=cAPyoHMrOMWrwydOXzBA-ufZQM-TilnLjbRgMQWlUlwFmy07bOtAgCIdNBma3c5P4ae_JV6n1OpOAYqSh2NkmQ",
+    "cas.authn.oauth.access-token.crypto.enabled=true"
+})
+class DefaultOAuth20StatelessAccessTokenServiceTests extends AbstractOAuth20Tests {
+    @Autowired
+    @Qualifier(OAuth20StatelessAccessTokenService.BEAN_NAME)
+    private OAuth20StatelessAccessTokenService oauthStatelessAccessTokenService;
+
+    @Autowired
+    @Qualifier(TicketFactory.BEAN_NAME)
+    private TicketFactory ticketFactory;
+
+    @BeforeEach
+    public void initialize() {
+        clearAllServices();
+    }
+
+    @Test
+    void verifyClientCredentialsTokenIsStateless() {
+        val registeredService = getRegisteredService(UUID.randomUUID().toString(), "secret", new LinkedHashSet<>());
+        registeredService.setJwtAccessToken(true);
+        servicesManager.save(registeredService);
+
+        val mv = generateAccessTokenResponseAndGetModelAndView(registeredService,
+            RegisteredServiceTestUtils.getAuthentication("casuser"), OAuth20GrantTypes.CLIENT_CREDENTIALS);
+        val encodedAccessToken = mv.getModel().get(OAuth20Constants.ACCESS_TOKEN).toString();
+
+        val resolved = oauthStatelessAccessTokenService.resolve(encodedAccessToken);
+        assertTrue(resolved.isPresent());
+        val accessToken = resolved.get();
+        assertInstanceOf(OAuth20StatelessAccessToken.class, accessToken);
+        assertEquals(registeredService.getClientId(), accessToken.getClientId());
+        assertEquals("casuser", accessToken.getAuthentication().getPrincipal().getId());
+        assertNull(ticketRegistry.getTicket(accessToken.getId(), OAuth20AccessToken.class));
+
+        oauthStatelessAccessTokenService.revoke(accessToken);
+        assertTrue(oauthStatelessAccessTokenService.resolve(encodedAccessToken).isEmpty());
+    }
+
+    @Test
+    void verifyRevocationIsSharedThroughTicketRegistry() {
+        val registeredService = getRegisteredService(UUID.randomUUID().toString(), "secret", new LinkedHashSet<>());
+        registeredService.setJwtAccessToken(true);
+        servicesManager.save(registeredService);
+
+        val mv = generateAccessTokenResponseAndGetModelAndView(registeredService,
+            RegisteredServiceTestUtils.getAuthentication("casuser"), OAuth20GrantTypes.CLIENT_CREDENTIALS);
+        val encodedAccessToken = mv.getModel().get(OAuth20Constants.ACCESS_TOKEN).toString();
+        val accessToken = oauthStatelessAccessTokenService.resolve(encodedAccessToken).orElseThrow();
+
+        val revocationList = new TicketRegistryOAuth20StatelessAccessTokenRevocationList(ticketRegistry, ticketFactory);
+        val otherNodeRevocationList = new TicketRegistryOAuth20StatelessAccessTokenRevocationList(ticketRegistry, ticketFactory);
+        assertFalse(otherNodeRevocationList.isRevoked(accessToken.getId()));
+        revocationList.revoke(accessToken);
+        assertTrue(revocationList.isRevoked(accessToken.getId()));
+        assertFalse(otherNodeRevocationList.isRevoked(accessToken.getId()));
+        otherNodeRevocationList.refresh();
+        assertTrue(otherNodeRevocationList.isRevoked(accessToken.getId()));
+    }
+
+    @Test
+    void verifyClientCredentialsTokenWithoutStatelessClaim() {
+        val registeredService = getRegisteredService(UUID.randomUUID().toString(), "secret", new LinkedHashSet<>());
+        registeredService.setJwtAccessToken(true);
+        servicesManager.save(registeredService);
+
+        val request = JwtBuilder.JwtRequest.builder()
+            .serviceAudience(Set.of(registeredService.getClientId()))
+            .issueDate(new Date())
+            .jwtId("AT-" + UUID.randomUUID())
+            .subject("casuser")
+            .validUntilDate(DateTimeUtils.dateOf(ZonedDateTime.now(ZoneOffset.UTC).plusHours(1)))
+            .attributes(Map.of(
+                OAuth20Constants.GRANT_TYPE, List.of(OAuth20GrantTypes.CLIENT_CREDENTIALS.getType()),
+                OAuth20Constants.CLIENT_ID, List.of(registeredService.getClientId())))
+            .registeredService(Optional.of(registeredService))
+            .issuer(casProperties.getServer().getPrefix())
+            .build();
+        val encodedAccessToken = accessTokenJwtBuilder.build(request);
+        assertTrue(oauthStatelessAccessTokenService.resolve(encodedAccessToken).isEmpty());
+    }
+
+    @Test
+    void verifyAuthorizationCodeTokenIsNotStateless() {
+        val registeredService = getRegisteredService(UUID.randomUUID().toString(), "secret", new LinkedHashSet<>());
+        registeredService.setJwtAccessToken(true);
+        servicesManager.save(registeredService);
+
+        val mv = generateAccessTokenResponseAndGetModelAndView(registeredService);
+        val encodedAccessToken = mv.getModel().get(OAuth20Constants.ACCESS_TOKEN).toString();
+        assertTrue(oauthStatelessAccessTokenService.resolve(encodedAccessToken).isEmpty());
+    }
+
+    @Test
+    void verifyUnknownToken() {
+        assertTrue(oauthStatelessAccessTokenService.resolve("unknown-token").isEmpty());
+        assertTrue(oauthStatelessAccessTokenService.resolve(null).isEmpty());
+    }
+}
@@ -3,11 +3,13 @@ package org.apereo.cas.support.pac4j.authentication.clients;
 import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.authentication.principal.ClientCustomPropertyConstants;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.CasCoreConfigurationUtils;
 import org.apereo.cas.configuration.model.support.pac4j.Pac4jBaseClientProperties;
 import org.apereo.cas.configuration.model.support.pac4j.oidc.BasePac4jOidcClientProperties;
 import org.apereo.cas.configuration.model.support.pac4j.oidc.Pac4jOidcClientProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.crypto.PrivateKeyFactoryBean;
@@ -22,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.Synchronized;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -64,17 +67,24 @@ import org.pac4j.saml.store.EmptyStoreFactory;
 import org.pac4j.saml.store.HttpSessionStoreFactory;
 import org.pac4j.saml.store.SAMLMessageStoreFactory;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.FileSystemResource;
 
 import java.security.interfaces.ECPrivateKey;
 import java.time.Period;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -99,21 +109,76 @@ public abstract class BaseDelegatedClientFactory implements DelegatedClientFacto
 
     private final Cache<String, Collection<IndirectClient>> clientsCache;
 
+    private final Map<IndirectClient, String> loadedClientFingerprints = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private volatile Map<String, IndirectClient> fingerprintedClients = Map.of();
+
+    private volatile Map<String, IndirectClient> registeredClients = Map.of();
+
     protected abstract Collection<IndirectClient> loadClients();
 
     @Override
-    @Synchronized
     public final Collection<IndirectClient> build() {
-        val core = casProperties.getAuthn().getPac4j().getCore();
-        val currentClients = getCachedClients().isEmpty() || !core.isLazyInit() ? loadClients() : getCachedClients();
-        clientsCache.put(casProperties.getServer().getName(), currentClients);
-        return currentClients;
+        val cachedClients = clientsCache.getIfPresent(casProperties.getServer().getName());
+        return cachedClients == null ? loadAndRegisterClients(false) : cachedClients;
     }
 
     @Override
     public Collection<IndirectClient> rebuild() {
-        clientsCache.invalidateAll();
-        return build();
+        return loadAndRegisterClients(true);
+    }
+
+    /**
+     * Load clients and register them, replacing the clients that are currently registered.
+     * Clients whose configuration has not changed since they were last registered are
+     * carried over as they are, rather than being rebuilt and initialized again.
+     * Registered clients that are handed back as they are keep their fingerprints.
+     *
+     * @param force whether clients should be loaded even if already cached
+     * @return the registered clients
+     */
+    @Synchronized
+    protected Collection<IndirectClient> loadAndRegisterClients(final boolean force) {
+        val cacheKey = casProperties.getServer().getName();
+        val cachedClients = clientsCache.getIfPresent(cacheKey);
+        if (cachedClients != null && !force) {
+            return cachedClients;
+        }
+        loadedClientFingerprints.clear();
+        val previousFingerprints = new IdentityHashMap<IndirectClient, String>();
+        fingerprintedClients.forEach((fingerprint, client) -> previousFingerprints.put(client, fingerprint));
+        val newFingerprintedClients = new HashMap<String, IndirectClient>();
+        val loadedClients = loadClients()
+            .stream()
+            .map(client -> {
+                val fingerprint = Optional.ofNullable(loadedClientFingerprints.get(client))
+                    .orElseGet(() -> previousFingerprints.get(client));
+                if (fingerprint == null || newFingerprintedClients.containsKey(fingerprint)) {
+                    return client;
+                }
+                val registeredClient = getRegisteredClientIfUnchanged(client, fingerprint);
+                newFingerprintedClients.put(fingerprint, registeredClient);
+                return registeredClient;
+            })
+            .toList();
+        loadedClientFingerprints.clear();
+
+        val newClients = new LinkedHashMap<String, IndirectClient>();
+        loadedClients.forEach(client -> newClients.put(client.getName(), client));
+        LOGGER.debug("Registered delegated clients [{}]", newClients.keySet());
+        fingerprintedClients = newFingerprintedClients;
+        registeredClients = Collections.unmodifiableMap(newClients);
+        clientsCache.put(cacheKey, loadedClients);
+        return loadedClients;
+    }
+
+    /**
+     * Gets registered clients, indexed by client name.
+     *
+     * @return the registered clients
+     */
+    protected Map<String, IndirectClient> getRegisteredClients() {
+        return registeredClients;
     }
 
     protected Collection<IndirectClient> getCachedClients() {
@@ -154,11 +219,58 @@ public abstract class BaseDelegatedClientFactory implements DelegatedClientFacto
             case QUERY_PARAMETER -> client.setCallbackUrlResolver(new QueryParameterCallbackUrlResolver());
         }
         customizers.forEach(customizer -> customizer.customize(client));
-        if (!givenProperties.getAuthn().getPac4j().getCore().isLazyInit()) {
+
+        val fingerprint = getClientFingerprint(client, clientProperties, callbackUrl);
+        if (fingerprint != null) {
+            loadedClientFingerprints.put(client, fingerprint);
+        }
+        if (!givenProperties.getAuthn().getPac4j().getCore().isLazyInit()
+            && (fingerprint == null || !fingerprintedClients.containsKey(fingerprint))) {
             client.init();
         }
     }
 
+    private IndirectClient getRegisteredClientIfUnchanged(final IndirectClient client, final String fingerprint) {
+        val registeredClient = fingerprintedClients.get(fingerprint);
+        if (registeredClient != null) {
+            LOGGER.trace("Client [{}] is unchanged and will be reused", registeredClient.getName());
+            return registeredClient;
+        }
+        return client;
+    }
+
+    private static String getClientFingerprint(final IndirectClient client,
+                                               final Pac4jBaseClientProperties clientProperties,
+                                               final String callbackUrl) {
+        return FunctionUtils.doAndHandle(() -> {
+            val properties = CasCoreConfigurationUtils.asMap(clientProperties);
+            return DigestUtils.sha256(client.getClass().getName() + '|' + callbackUrl + '|' + properties
+                + '|' + getReferencedResourcesFingerprint(properties));
+        }, e -> {
+            LOGGER.debug("Unable to calculate fingerprint for client [{}]: [{}]", client.getName(), e.getMessage());
+            return null;
+        }).get();
+    }
+
+    /**
+     * Digest the contents of local files referenced by client properties, such as keystores
+     * or metadata files, so that rotating a file in place is noticed as a change.
+     */
+    private static String getReferencedResourcesFingerprint(final Map<String, Object> properties) throws Exception {
+        val fingerprint = new StringBuilder();
+        for (val entry : new TreeMap<>(properties).entrySet()) {
+            if (entry.getValue() instanceof final String location
+                && StringUtils.isNotBlank(location) && !ResourceUtils.isUrl(location)) {
+                val resource = ResourceUtils.getRawResourceFrom(location);
+                if (resource instanceof final FileSystemResource file && file.getFile().isFile()) {
+                    val contents = DigestUtils.digest(MessageDigestAlgorithms.SHA_256, file.getContentAsByteArray());
+                    fingerprint.append(entry.getKey()).append('=').append(contents).append(';');
+                }
+            }
+        }
+        return fingerprint.toString();
+    }
+
 
     protected Collection<IndirectClient> buildFoursquareIdentityProviders(final CasConfigurationProperties casProperties) {
         val pac4jProperties = casProperties.getAuthn().getPac4j();
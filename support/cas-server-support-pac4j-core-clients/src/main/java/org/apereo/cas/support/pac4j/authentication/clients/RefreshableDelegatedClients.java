@@ -2,15 +2,24 @@ package org.apereo.cas.support.pac4j.authentication.clients;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.pac4j.core.client.Client;
 import org.pac4j.core.client.Clients;
+import org.pac4j.core.client.IndirectClient;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * This is {@link RefreshableDelegatedClients}.
+ * <p>
+ * Clients are obtained from the {@link DelegatedClientFactory}, and are only re-initialized
+ * and re-indexed by name when the factory produces a new set of clients.
  *
  * @author Misagh Moayyed
  * @since 6.4.0
@@ -19,29 +28,50 @@ import java.util.Optional;
 public class RefreshableDelegatedClients extends Clients {
     private final DelegatedClientFactory delegatedClientFactory;
 
+    private volatile Collection<IndirectClient> builtClients;
+
+    private volatile Map<String, Client> clientsByName = Map.of();
+
     public RefreshableDelegatedClients(final String callbackUrl,
                                        final DelegatedClientFactory delegatedClientFactory) {
         setCallbackUrl(callbackUrl);
         this.delegatedClientFactory = delegatedClientFactory;
     }
 
+    private static String getClientKey(final String name) {
+        return name.toLowerCase(Locale.ENGLISH).trim();
+    }
+
     @Override
     public Optional<Client> findClient(final String name) {
-        setClients(buildDelegatedClients());
-        init();
-        return super.findClient(name);
+        refreshDelegatedClients();
+        return StringUtils.isBlank(name) ? Optional.empty() : Optional.ofNullable(clientsByName.get(getClientKey(name)));
     }
 
     @Override
     public List<Client> findAllClients() {
-        setClients(buildDelegatedClients());
-        init();
+        refreshDelegatedClients();
         return super.findAllClients();
     }
-    
-    protected List<Client> buildDelegatedClients() {
-        val clients = delegatedClientFactory.build();
+
+    protected List<Client> buildDelegatedClients(final Collection<IndirectClient> clients) {
         LOGGER.debug("The following clients are built: [{}]", clients);
         return new ArrayList<>(clients);
     }
+
+    private void refreshDelegatedClients() {
+        if (builtClients != delegatedClientFactory.build()) {
+            synchronized (this) {
+                val currentClients = delegatedClientFactory.build();
+                if (builtClients != currentClients) {
+                    setClients(buildDelegatedClients(currentClients));
+                    init();
+                    val indexedClients = new HashMap<String, Client>();
+                    getClients().forEach(client -> indexedClients.put(getClientKey(client.getName()), client));
+                    clientsByName = indexedClients;
+                    builtClients = currentClients;
+                }
+            }
+        }
+    }
 }
@@ -2,6 +2,7 @@ package org.apereo.cas.support.pac4j.authentication.clients;
 
 import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.HttpUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
@@ -36,6 +37,10 @@ import java.util.stream.Collectors;
 /**
  * This is {@link RestfulDelegatedClientFactory}.
  *
+ * <p>
+ * Clients are only rebuilt when the payload received from the REST endpoint has changed
+ * since clients were last loaded.
+ *
  * @author Misagh Moayyed
  * @since 6.2.0
  */
@@ -44,6 +49,8 @@ public class RestfulDelegatedClientFactory extends BaseDelegatedClientFactory {
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(false).build().toObjectMapper();
 
+    private volatile String payloadDigest;
+
     public RestfulDelegatedClientFactory(final Collection<DelegatedClientFactoryCustomizer> customizers,
                                          final CasSSLContext casSSLContext,
                                          final CasConfigurationProperties casProperties,
@@ -69,10 +76,17 @@ public class RestfulDelegatedClientFactory extends BaseDelegatedClientFactory {
             try {
                 if (response != null && HttpStatus.valueOf(response.getCode()).is2xxSuccessful()) {
                     val result = IOUtils.toString(((HttpEntityContainer) response).getEntity().getContent(), StandardCharsets.UTF_8);
-                    if ("cas".equalsIgnoreCase(restProperties.getType())) {
-                        return buildClientsBasedCasProperties(result);
+                    val digest = DigestUtils.sha256(result);
+                    val registeredClients = getRegisteredClients();
+                    if (digest.equals(payloadDigest) && !registeredClients.isEmpty()) {
+                        LOGGER.debug("Delegated clients received from [{}] are unchanged", restProperties.getUrl());
+                        return new ArrayList<>(registeredClients.values());
                     }
-                    return buildClientsBasedPac4jProperties(result);
+                    val clients = "cas".equalsIgnoreCase(restProperties.getType())
+                        ? buildClientsBasedCasProperties(result)
+                        : buildClientsBasedPac4jProperties(result);
+                    payloadDigest = digest;
+                    return clients;
                 }
                 return new ArrayList<>();
             } finally {
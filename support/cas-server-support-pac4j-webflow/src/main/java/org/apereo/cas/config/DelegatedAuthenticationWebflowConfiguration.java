@@ -75,6 +75,7 @@ import org.apereo.cas.web.flow.configurer.CasMultifactorWebflowCustomizer;
 import org.apereo.cas.web.flow.controller.DefaultDelegatedAuthenticationNavigationController;
 import org.apereo.cas.web.flow.error.DefaultDelegatedClientAuthenticationFailureEvaluator;
 import org.apereo.cas.web.flow.error.DelegatedAuthenticationErrorViewResolver;
+import org.apereo.cas.web.flow.executor.FlowExecutionStateStorage;
 import org.apereo.cas.web.flow.executor.WebflowExecutorFactory;
 import org.apereo.cas.web.flow.resolver.CasDelegatingWebflowEventResolver;
 import org.apereo.cas.web.flow.resolver.CasWebflowEventResolver;
@@ -702,9 +703,10 @@ public class DelegatedAuthenticationWebflowConfiguration {
         public FlowExecutor delegatedClientRedirectFlowExecutor(
             final CasConfigurationProperties casProperties,
             @Qualifier("delegatedClientRedirectFlowRegistry") final FlowDefinitionRegistry delegatedClientRedirectFlowRegistry,
-            @Qualifier("webflowCipherExecutor") final CipherExecutor webflowCipherExecutor) {
+            @Qualifier("webflowCipherExecutor") final CipherExecutor webflowCipherExecutor,
+            @Qualifier(FlowExecutionStateStorage.BEAN_NAME) final FlowExecutionStateStorage flowExecutionStateStorage) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
-                delegatedClientRedirectFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS);
+                delegatedClientRedirectFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS, flowExecutionStateStorage);
             return factory.build();
         }
     }
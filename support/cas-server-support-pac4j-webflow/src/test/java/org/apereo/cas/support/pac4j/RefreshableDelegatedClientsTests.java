@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.pac4j.cas.client.CasClient;
 
 import java.util.List;
+import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +32,7 @@ class RefreshableDelegatedClientsTests {
         when(delegatedFactory.build()).thenReturn(List.of(client));
         assertFalse(refreshableClients.findAllClients().isEmpty());
         assertTrue(refreshableClients.findClient(client.getName()).isPresent());
-
+        assertSame(client, refreshableClients.findClient(client.getName().toUpperCase(Locale.ENGLISH)).orElseThrow());
+        assertTrue(refreshableClients.findClient("Unknown").isEmpty());
     }
 }
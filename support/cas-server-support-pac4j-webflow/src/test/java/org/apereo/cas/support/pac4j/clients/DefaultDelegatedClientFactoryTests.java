@@ -1,6 +1,10 @@
 package org.apereo.cas.support.pac4j.clients;
 
+import org.apereo.cas.configuration.CasConfigurationProperties;
+
 import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -11,11 +15,14 @@ import org.pac4j.saml.client.SAML2Client;
 import org.pac4j.saml.metadata.DefaultSAML2MetadataSigner;
 import org.pac4j.saml.store.HttpSessionStoreFactory;
 import org.pac4j.saml.store.SAMLMessageStoreFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -45,8 +52,12 @@ class DefaultDelegatedClientFactoryTests {
             val clients1 = List.copyOf(delegatedClientFactory.build());
             assertEquals(2, clients1.size());
             val clients2 = List.copyOf(delegatedClientFactory.build());
-            assertFalse(clients2.stream()
-                .allMatch(c2 -> clients1.stream().anyMatch(client -> client.hashCode() == c2.hashCode())));
+            assertTrue(clients2.stream()
+                .allMatch(c2 -> clients1.stream().anyMatch(client -> client == c2)));
+            val clients3 = List.copyOf(delegatedClientFactory.rebuild());
+            assertEquals(2, clients3.size());
+            assertTrue(clients3.stream()
+                .allMatch(c3 -> clients1.stream().anyMatch(client -> client == c3)));
         }
     }
 
@@ -356,4 +367,33 @@ class DefaultDelegatedClientFactoryTests {
             assertTrue(client.getConfiguration().getSamlMessageStoreFactory() instanceof HttpSessionStoreFactory);
         }
     }
+
+    @Nested
+    @SuppressWarnings("ClassCanBeStatic")
+    @TestPropertySource(properties = {
+        "cas.authn.pac4j.saml[0].keystore-path=file:/tmp/keystore-rotated-${#randomNumber6}.jks",
+        "cas.authn.pac4j.saml[0].keystore-password=1234567890",
+        "cas.authn.pac4j.saml[0].private-key-password=1234567890",
+        "cas.authn.pac4j.saml[0].metadata.identity-provider-metadata-path=classpath:idp-metadata.xml",
+        "cas.authn.pac4j.saml[0].metadata.service-provider.file-system.location=file:/tmp/sp.xml",
+        "cas.authn.pac4j.saml[0].service-provider-entity-id=test-entityid",
+        "cas.authn.pac4j.core.lazy-init=true"
+    })
+    class Saml2ClientsWithRotatedKeystore extends BaseDelegatedClientFactoryTests {
+        @Autowired
+        private CasConfigurationProperties casProperties;
+
+        @Test
+        void verifyClientIsRebuiltWhenKeystoreChanges() throws Exception {
+            val keystore = new File(casProperties.getAuthn().getPac4j().getSaml().get(0)
+                .getKeystorePath().replace("file:", StringUtils.EMPTY));
+            FileUtils.writeStringToFile(keystore, "keystore-1", StandardCharsets.UTF_8);
+            val client1 = delegatedClientFactory.rebuild().iterator().next();
+            val client2 = delegatedClientFactory.rebuild().iterator().next();
+            assertSame(client1, client2);
+            FileUtils.writeStringToFile(keystore, "keystore-2", StandardCharsets.UTF_8);
+            val client3 = delegatedClientFactory.rebuild().iterator().next();
+            assertNotSame(client1, client3);
+        }
+    }
 }
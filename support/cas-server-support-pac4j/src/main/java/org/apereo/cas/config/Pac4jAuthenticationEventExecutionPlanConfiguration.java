@@ -284,10 +284,7 @@ public class Pac4jAuthenticationEventExecutionPlanConfiguration {
             final CasSSLContext casSslContext) {
 
             val core = casProperties.getAuthn().getPac4j().getCore();
-            val clientsCache = Caffeine.newBuilder()
-                .maximumSize(core.getCacheSize())
-                .expireAfterAccess(Beans.newDuration(core.getCacheDuration()))
-                .<String, Collection<IndirectClient>>build();
+            val cacheDuration = Beans.newDuration(core.getCacheDuration());
 
             val customizers = Optional.ofNullable(customizerList.getIfAvailable())
                 .map(result -> {
@@ -296,9 +293,17 @@ public class Pac4jAuthenticationEventExecutionPlanConfiguration {
                 }).orElseGet(() -> new ArrayList<>(0));
 
             if (StringUtils.isNotBlank(casProperties.getAuthn().getPac4j().getRest().getUrl())) {
+                val clientsCache = Caffeine.newBuilder()
+                    .maximumSize(core.getCacheSize())
+                    .expireAfterWrite(cacheDuration)
+                    .<String, Collection<IndirectClient>>build();
                 return new RestfulDelegatedClientFactory(customizers, casSslContext,
                     casProperties, samlMessageStoreFactory, clientsCache);
             }
+            val clientsCache = Caffeine.newBuilder()
+                .maximumSize(core.getCacheSize())
+                .expireAfterAccess(cacheDuration)
+                .<String, Collection<IndirectClient>>build();
             return new DefaultDelegatedClientFactory(casProperties,
                 customizers, casSslContext, samlMessageStoreFactory, clientsCache);
         }
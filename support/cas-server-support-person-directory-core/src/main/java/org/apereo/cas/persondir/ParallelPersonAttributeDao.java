@@ -0,0 +1,342 @@
+package org.apereo.cas.persondir;
+
+import org.apereo.cas.monitor.ExecutableObserver;
+import org.apereo.cas.monitor.MonitorableTask;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.services.persondir.IPersonAttributeDao;
+import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.IPersonAttributes;
+import org.apereo.services.persondir.support.BasePersonAttributeDao;
+import org.apereo.services.persondir.support.IUsernameAttributeProvider;
+import org.apereo.services.persondir.support.SimpleUsernameAttributeProvider;
+import org.apereo.services.persondir.support.merger.IAttributeMerger;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link ParallelPersonAttributeDao}, which queries attribute repositories
+ * concurrently and merges their results together.
+ * <p>
+ * Attribute repositories are grouped by their order. Repositories that share the same order
+ * are considered independent and are queried concurrently, each with its own timeout.
+ * Groups are processed in order, and the attributes found by a group are added to the query
+ * that is passed onto the next group, so that repositories that depend on attributes
+ * produced by others may be given a higher order. Repositories that fail or time out are skipped,
+ * and their results are excluded from the final result set. Repositories that fail repeatedly are no longer
+ * queried for a period of time, until the circuit breaker allows them to be tried again.
+ * <p>
+ * Each query runs as a cancellable task on a bounded pool. The timeout of a query is measured from the moment
+ * it starts to execute, and a query that runs past its timeout is interrupted to release its thread.
+ * Queries that wait too long for a thread, or cannot be queued at all, are skipped without counting against
+ * the circuit breaker of the repository, since the repository was never asked.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@Getter
+@Setter
+public class ParallelPersonAttributeDao extends BasePersonAttributeDao implements DisposableBean {
+    private static final String MONITORABLE_TASK_NAME = "PersonAttributeDao";
+
+    private final List<IPersonAttributeDao> personAttributeDaos;
+
+    private final IAttributeMerger merger;
+
+    private final ThreadPoolExecutor executorService;
+
+    private final Map<IPersonAttributeDao, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    private IUsernameAttributeProvider usernameAttributeProvider = new SimpleUsernameAttributeProvider();
+
+    private ExecutableObserver executableObserver;
+
+    private Duration timeout = Duration.ofSeconds(5);
+
+    private Duration queueTimeout = Duration.ofSeconds(2);
+
+    private int failureThreshold = 5;
+
+    private Duration circuitBreakerDuration = Duration.ofSeconds(30);
+
+    private boolean requireAll;
+
+    private boolean recoverExceptions = true;
+
+    private Clock clock = Clock.systemUTC();
+
+    public ParallelPersonAttributeDao(final List<IPersonAttributeDao> personAttributeDaos,
+                                      final IAttributeMerger merger,
+                                      final int threads,
+                                      final int queueCapacity) {
+        this.personAttributeDaos = new ArrayList<>(personAttributeDaos);
+        this.merger = merger;
+        val poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        val threadCount = new AtomicInteger();
+        this.executorService = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new LinkedBlockingQueue<>(),
+            runnable -> {
+                val thread = new Thread(runnable, "PersonAttributeDaoThread-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    private static Map<String, List<Object>> toMultivaluedAttributes(final Map<String, ?> attributes) {
+        val results = new LinkedHashMap<String, List<Object>>(attributes.size());
+        attributes.forEach((key, value) -> results.put(key, CollectionUtils.toCollection(value, ArrayList.class)));
+        return results;
+    }
+
+    private static String getSourceId(final IPersonAttributeDao dao) {
+        return Arrays.stream(dao.getId()).collect(Collectors.joining(","));
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        return throwable instanceof ExecutionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    @Override
+    public IPersonAttributes getPerson(final String uid, final Set<IPersonAttributes> resolvedPeople,
+                                       final IPersonAttributeDaoFilter filter) {
+        val query = Map.<String, List<Object>>of(usernameAttributeProvider.getUsernameAttribute(), List.of(uid));
+        val people = getPeopleWithMultivaluedAttributes(query, filter, resolvedPeople);
+        if (people == null || people.isEmpty()) {
+            return null;
+        }
+        if (people.size() > 1) {
+            throw new IllegalStateException("Multiple person records were found for " + uid);
+        }
+        return people.iterator().next();
+    }
+
+    @Override
+    public Set<IPersonAttributes> getPeople(final Map<String, Object> query, final IPersonAttributeDaoFilter filter,
+                                            final Set<IPersonAttributes> resolvedPeople) {
+        return getPeopleWithMultivaluedAttributes(toMultivaluedAttributes(query), filter, resolvedPeople);
+    }
+
+    @Override
+    public Set<IPersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                     final IPersonAttributeDaoFilter filter,
+                                                                     final Set<IPersonAttributes> resolvedPeople) {
+        val stages = personAttributeDaos
+            .stream()
+            .filter(dao -> filter == null || filter.choosePersonAttributeDao(dao))
+            .collect(Collectors.groupingBy(IPersonAttributeDao::getOrder, TreeMap::new, Collectors.toList()));
+
+        Set<IPersonAttributes> resultPeople = null;
+        var currentQuery = new LinkedHashMap<>(query);
+        for (val stage : stages.values()) {
+            val seed = currentQuery;
+            val futures = new LinkedHashMap<IPersonAttributeDao, AttributeRepositoryTask>();
+            stage.forEach(dao -> futures.put(dao, submit(dao, seed, filter, resolvedPeople)));
+
+            for (val entry : futures.entrySet()) {
+                val people = collect(entry.getKey(), entry.getValue());
+                if (people != null && !people.isEmpty()) {
+                    resultPeople = resultPeople == null ? new LinkedHashSet<>(people) : merger.mergeResults(resultPeople, people);
+                }
+            }
+
+            if (resultPeople != null && resultPeople.size() == 1) {
+                val person = resultPeople.iterator().next();
+                currentQuery = new LinkedHashMap<>(person.getAttributes());
+                currentQuery.putAll(query);
+            }
+        }
+        return resultPeople;
+    }
+
+    @Override
+    public Set<String> getPossibleUserAttributeNames(final IPersonAttributeDaoFilter filter) {
+        return personAttributeDaos
+            .stream()
+            .filter(dao -> filter == null || filter.choosePersonAttributeDao(dao))
+            .map(dao -> dao.getPossibleUserAttributeNames(filter))
+            .filter(Objects::nonNull)
+            .flatMap(Set::stream)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public Set<String> getAvailableQueryAttributes(final IPersonAttributeDaoFilter filter) {
+        return personAttributeDaos
+            .stream()
+            .filter(dao -> filter == null || filter.choosePersonAttributeDao(dao))
+            .map(dao -> dao.getAvailableQueryAttributes(filter))
+            .filter(Objects::nonNull)
+            .flatMap(Set::stream)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    private AttributeRepositoryTask submit(final IPersonAttributeDao dao,
+                                           final Map<String, List<Object>> query,
+                                           final IPersonAttributeDaoFilter filter,
+                                           final Set<IPersonAttributes> resolvedPeople) {
+        val circuitBreaker = circuitBreakers.computeIfAbsent(dao, __ -> new CircuitBreaker());
+        if (circuitBreaker.isOpen(clock.instant())) {
+            LOGGER.debug("Skipping attribute repository [{}] that has failed [{}] time(s) in a row",
+                getSourceId(dao), circuitBreaker.getFailures());
+            return null;
+        }
+        val task = new AttributeRepositoryTask(() -> observe(dao, () -> dao.getPeopleWithMultivaluedAttributes(query, filter, resolvedPeople)));
+        try {
+            executorService.execute(task);
+        } catch (final RejectedExecutionException e) {
+            LOGGER.warn("Attribute repository [{}] cannot be queried since the queue of pending queries is full", getSourceId(dao));
+            task.cancel(false);
+        }
+        return task;
+    }
+
+    private Set<IPersonAttributes> observe(final IPersonAttributeDao dao,
+                                           final Supplier<Set<IPersonAttributes>> supplier) {
+        val sourceId = getSourceId(dao);
+        if (executableObserver == null) {
+            val startTime = System.nanoTime();
+            try {
+                return supplier.get();
+            } finally {
+                LOGGER.trace("Attribute repository [{}] responded in [{}]ms", sourceId,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            }
+        }
+        val task = new MonitorableTask(MONITORABLE_TASK_NAME);
+        task.getBoundedValues().put("source", sourceId);
+        return FunctionUtils.doUnchecked(() -> executableObserver.supply(task, supplier));
+    }
+
+    private Set<IPersonAttributes> collect(final IPersonAttributeDao dao,
+                                           final AttributeRepositoryTask task) {
+        val sourceId = getSourceId(dao);
+        if (task == null || !task.awaitStart(queueTimeout)) {
+            if (task != null && !task.isCancelled()) {
+                LOGGER.warn("Attribute repository [{}] did not get a thread within [{}] and will be skipped", sourceId, queueTimeout);
+                task.cancel(false);
+                executorService.remove(task);
+            }
+            if (requireAll) {
+                throw new IllegalStateException("Attribute repository " + sourceId + " is unavailable and all sources are required");
+            }
+            return null;
+        }
+        val circuitBreaker = circuitBreakers.get(dao);
+        try {
+            val people = task.get(task.getRemainingTime(timeout), TimeUnit.NANOSECONDS);
+            circuitBreaker.success();
+            if (requireAll && (people == null || people.isEmpty())) {
+                throw new IllegalStateException("No results were produced by attribute repository " + sourceId
+                    + " and all sources are required");
+            }
+            return people;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for attribute repository " + sourceId, e);
+        } catch (final ExecutionException | TimeoutException e) {
+            if (e instanceof TimeoutException) {
+                LOGGER.debug("Attribute repository [{}] did not respond within [{}] and will be interrupted", sourceId, timeout);
+                task.cancel(true);
+            }
+            val cause = unwrap(e);
+            circuitBreaker.failure(clock.instant(), failureThreshold, circuitBreakerDuration);
+            if (requireAll || !recoverExceptions) {
+                throw cause instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException("Attribute repository " + sourceId + " failed to produce results", cause);
+            }
+            LOGGER.warn("Attribute repository [{}] failed to produce results in time and will be skipped: [{}]", sourceId, cause.toString());
+            LOGGER.debug(cause.getMessage(), cause);
+            return null;
+        }
+    }
+
+    private static final class AttributeRepositoryTask extends FutureTask<Set<IPersonAttributes>> {
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private volatile long startTime;
+
+        AttributeRepositoryTask(final Callable<Set<IPersonAttributes>> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void run() {
+            startTime = System.nanoTime();
+            started.countDown();
+            super.run();
+        }
+
+        boolean awaitStart(final Duration queueTimeout) {
+            return FunctionUtils.doUnchecked(() -> !isCancelled() && started.await(queueTimeout.toNanos(), TimeUnit.NANOSECONDS));
+        }
+
+        long getRemainingTime(final Duration timeout) {
+            return Math.max(0, timeout.toNanos() - (System.nanoTime() - startTime));
+        }
+    }
+
+    private static final class CircuitBreaker {
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private volatile Instant openUntil;
+
+        int getFailures() {
+            return failures.get();
+        }
+
+        boolean isOpen(final Instant now) {
+            val until = openUntil;
+            return until != null && now.isBefore(until);
+        }
+
+        void success() {
+            failures.set(0);
+            openUntil = null;
+        }
+
+        void failure(final Instant now, final int threshold, final Duration duration) {
+            if (threshold > 0 && failures.incrementAndGet() >= threshold) {
+                openUntil = now.plus(duration);
+            }
+        }
+    }
+}
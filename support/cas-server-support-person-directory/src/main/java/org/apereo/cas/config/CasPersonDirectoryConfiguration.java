@@ -10,8 +10,11 @@ import org.apereo.cas.authentication.principal.PrincipalResolutionExecutionPlanC
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesCoreProperties;
 import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.monitor.ExecutableObserver;
 import org.apereo.cas.persondir.DefaultPersonDirectoryAttributeRepositoryPlan;
+import org.apereo.cas.persondir.ParallelPersonAttributeDao;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryCustomizer;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryPlan;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryPlanConfigurer;
@@ -208,6 +211,27 @@ public class CasPersonDirectoryConfiguration {
             return CoreAuthenticationUtils.getAttributeMerger(casProperties.getAuthn().getAttributeRepository().getCore().getMerger());
         }
 
+        private static IPersonAttributeDao getParallelAttributeRepository(
+            final CasConfigurationProperties casProperties,
+            final IAttributeMerger attributeRepositoryAttributeMerger,
+            final PersonDirectoryAttributeRepositoryPlan personDirectoryAttributeRepositoryPlan,
+            final ObjectProvider<ExecutableObserver> executableObserver) {
+            val core = casProperties.getAuthn().getAttributeRepository().getCore();
+            val parallel = core.getParallel();
+            val dao = new ParallelPersonAttributeDao(personDirectoryAttributeRepositoryPlan.getAttributeRepositories(),
+                attributeRepositoryAttributeMerger, parallel.getThreads(), parallel.getQueueCapacity());
+            dao.setTimeout(Beans.newDuration(parallel.getTimeout()));
+            dao.setQueueTimeout(Beans.newDuration(parallel.getQueueTimeout()));
+            dao.setFailureThreshold(parallel.getFailureThreshold());
+            dao.setCircuitBreakerDuration(Beans.newDuration(parallel.getCircuitBreakerDuration()));
+            dao.setRequireAll(core.isRequireAllRepositorySources());
+            dao.setRecoverExceptions(core.isRecoverExceptions());
+            dao.setExecutableObserver(executableObserver.getIfAvailable());
+            LOGGER.debug("Configured attribute repository sources to be queried in parallel: [{}]",
+                personDirectoryAttributeRepositoryPlan.getAttributeRepositories());
+            return dao;
+        }
+
         @Bean
         @ConditionalOnMissingBean(name = "aggregatingAttributeRepository")
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -215,8 +239,15 @@ public class CasPersonDirectoryConfiguration {
             @Qualifier("attributeRepositoryAttributeMerger")
             final IAttributeMerger attributeRepositoryAttributeMerger,
             final CasConfigurationProperties casProperties,
+            @Qualifier(ExecutableObserver.BEAN_NAME)
+            final ObjectProvider<ExecutableObserver> executableObserver,
             @Qualifier("personDirectoryAttributeRepositoryPlan")
             final PersonDirectoryAttributeRepositoryPlan personDirectoryAttributeRepositoryPlan) {
+            if (casProperties.getAuthn().getAttributeRepository().getCore().getAggregation()
+                == PrincipalAttributesCoreProperties.AggregationStrategyTypes.PARALLEL) {
+                return getParallelAttributeRepository(casProperties, attributeRepositoryAttributeMerger,
+                    personDirectoryAttributeRepositoryPlan, executableObserver);
+            }
             val aggregate = getAggregateAttributeRepository(casProperties);
             aggregate.setMerger(attributeRepositoryAttributeMerger);
 
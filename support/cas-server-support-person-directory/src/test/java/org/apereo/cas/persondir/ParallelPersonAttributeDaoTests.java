@@ -0,0 +1,139 @@
+package org.apereo.cas.persondir;
+
+import lombok.val;
+import org.apereo.services.persondir.IPersonAttributeDao;
+import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.support.CaseInsensitiveNamedPersonImpl;
+import org.apereo.services.persondir.support.merger.MultivaluedAttributeMerger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link ParallelPersonAttributeDaoTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Attributes")
+class ParallelPersonAttributeDaoTests {
+    private static IPersonAttributeDao newStubDao(final int order, final Map<String, List<Object>> attributes) {
+        val dao = mock(IPersonAttributeDao.class);
+        when(dao.getId()).thenReturn(new String[]{attributes.keySet().toString()});
+        when(dao.getOrder()).thenReturn(order);
+        when(dao.getPeopleWithMultivaluedAttributes(anyMap(), any(), any()))
+            .thenReturn(Set.of(new CaseInsensitiveNamedPersonImpl("casuser", attributes)));
+        return dao;
+    }
+
+    private static IPersonAttributeDao newFailingDao(final int order) {
+        val dao = mock(IPersonAttributeDao.class);
+        when(dao.getId()).thenReturn(new String[]{"failing"});
+        when(dao.getOrder()).thenReturn(order);
+        when(dao.getPeopleWithMultivaluedAttributes(anyMap(), any(), any())).thenThrow(new IllegalArgumentException("failed"));
+        return dao;
+    }
+
+    private static IPersonAttributeDao newSlowDao(final int order) {
+        val dao = mock(IPersonAttributeDao.class);
+        when(dao.getId()).thenReturn(new String[]{"slow"});
+        when(dao.getOrder()).thenReturn(order);
+        when(dao.getPeopleWithMultivaluedAttributes(anyMap(), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return Set.of();
+        });
+        return dao;
+    }
+
+    @Test
+    void verifyPartialResults() throws Exception {
+        val failing = newFailingDao(0);
+        val dao = new ParallelPersonAttributeDao(List.of(
+            newStubDao(0, Map.of("cn", List.of("cas"))),
+            failing,
+            newSlowDao(0),
+            newStubDao(0, Map.of("mail", List.of("cas@example.org")))),
+            new MultivaluedAttributeMerger(), 4, 10);
+        dao.setTimeout(Duration.ofMillis(500));
+        val person = dao.getPerson("casuser", Set.of(), IPersonAttributeDaoFilter.alwaysChoose());
+        assertNotNull(person);
+        assertEquals("cas", person.getAttributeValue("cn"));
+        assertEquals("cas@example.org", person.getAttributeValue("mail"));
+        dao.destroy();
+    }
+
+    @Test
+    void verifyCircuitBreaker() throws Exception {
+        val failing = newFailingDao(0);
+        val dao = new ParallelPersonAttributeDao(List.of(newStubDao(0, Map.of("cn", List.of("cas"))), failing),
+            new MultivaluedAttributeMerger(), 2, 10);
+        dao.setFailureThreshold(2);
+        dao.setCircuitBreakerDuration(Duration.ofMinutes(1));
+        for (var i = 0; i < 5; i++) {
+            assertNotNull(dao.getPerson("casuser", Set.of(), IPersonAttributeDaoFilter.alwaysChoose()));
+        }
+        verify(failing, times(2)).getPeopleWithMultivaluedAttributes(anyMap(), any(), any());
+        dao.destroy();
+    }
+
+    @Test
+    void verifyFailureWithoutRecovery() throws Exception {
+        val dao = new ParallelPersonAttributeDao(List.of(newStubDao(0, Map.of("cn", List.of("cas"))), newFailingDao(0)),
+            new MultivaluedAttributeMerger(), 2, 10);
+        dao.setRecoverExceptions(false);
+        assertThrows(IllegalArgumentException.class,
+            () -> dao.getPerson("casuser", Set.of(), IPersonAttributeDaoFilter.alwaysChoose()));
+        dao.destroy();
+    }
+
+    @Test
+    void verifyCascadingStages() throws Exception {
+        val dependent = mock(IPersonAttributeDao.class);
+        when(dependent.getId()).thenReturn(new String[]{"dependent"});
+        when(dependent.getOrder()).thenReturn(1);
+        val person = new CaseInsensitiveNamedPersonImpl("casuser", Map.of("memberOf", List.of("admins")));
+        when(dependent.getPeopleWithMultivaluedAttributes(argThat(query -> query.containsKey("cn")), any(), any()))
+            .thenReturn(Set.of(person));
+
+        val dao = new ParallelPersonAttributeDao(List.of(dependent, newStubDao(0, Map.of("cn", List.of("cas")))),
+            new MultivaluedAttributeMerger(), 2, 10);
+        val result = dao.getPerson("casuser", Set.of(), IPersonAttributeDaoFilter.alwaysChoose());
+        assertNotNull(result);
+        assertEquals("cas", result.getAttributeValue("cn"));
+        assertEquals("admins", result.getAttributeValue("memberOf"));
+        dao.destroy();
+    }
+
+    @Test
+    void verifySlowRepositoryIsInterrupted() throws Exception {
+        val interrupted = new AtomicBoolean();
+        val slow = mock(IPersonAttributeDao.class);
+        when(slow.getId()).thenReturn(new String[]{"slow"});
+        when(slow.getOrder()).thenReturn(0);
+        when(slow.getPeopleWithMultivaluedAttributes(anyMap(), any(), any())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (final InterruptedException e) {
+                interrupted.set(true);
+            }
+            return Set.of();
+        });
+        val dao = new ParallelPersonAttributeDao(List.of(slow, newStubDao(1, Map.of("cn", List.of("cas")))),
+            new MultivaluedAttributeMerger(), 1, 10);
+        dao.setTimeout(Duration.ofMillis(500));
+        val person = dao.getPerson("casuser", Set.of(), IPersonAttributeDaoFilter.alwaysChoose());
+        assertNotNull(person);
+        assertEquals("cas", person.getAttributeValue("cn"));
+        assertTrue(interrupted.get());
+        dao.destroy();
+    }
+}
@@ -35,6 +35,11 @@ public class RedisCompositeKey {
      */
     private static final String CAS_PRINCIPAL_PREFIX = "CAS_PRINCIPAL";
 
+    /**
+     * Ticket expirations prefix.
+     */
+    private static final String CAS_TICKET_EXPIRATION_PREFIX = "CAS_TICKET_EXPIRATION";
+
     @Builder.Default
     private final String query = "*";
 
@@ -59,6 +64,16 @@ public class RedisCompositeKey {
         return RedisCompositeKey.builder().prefix(CAS_PRINCIPAL_PREFIX).build();
     }
 
+    /**
+     * For ticket expirations redis composite key, which tracks the
+     * expiration instant of each ticket per ticket prefix.
+     *
+     * @return the redis composite key
+     */
+    public static RedisCompositeKey forTicketExpirations() {
+        return RedisCompositeKey.builder().prefix(CAS_TICKET_EXPIRATION_PREFIX).build();
+    }
+
     /**
      * To key pattern string.
      *
@@ -12,7 +12,9 @@ import org.springframework.data.annotation.Id;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link RedisTicketDocument}.
@@ -59,6 +61,17 @@ public class RedisTicketDocument implements Serializable {
      */
     public static final String FIELD_NAME_ATTRIBUTES = "attributes";
 
+    /**
+     * Prefix of the fields that hold ticket-granting ticket deltas
+     * applied since the ticket was last written as a whole.
+     */
+    public static final String FIELD_NAME_DELTA_PREFIX = "delta:";
+
+    /**
+     * Field name to hold the number of ticket-granting ticket deltas.
+     */
+    public static final String FIELD_NAME_DELTA_COUNT = "deltaCount";
+
     @Serial
     private static final long serialVersionUID = -5043447728617071226L;
     
@@ -81,6 +94,9 @@ public class RedisTicketDocument implements Serializable {
     @JsonProperty
     private String attributes;
 
+    @JsonProperty
+    private List<String> deltas;
+
     /**
      * From document map to redis document.
      *
@@ -95,6 +111,12 @@ public class RedisTicketDocument implements Serializable {
             .prefix(document.get(FIELD_NAME_PREFIX))
             .principal(document.get(FIELD_NAME_PRINCIPAL))
             .attributes(document.get(FIELD_NAME_ATTRIBUTES))
+            .deltas(document.entrySet()
+                .stream()
+                .filter(entry -> entry.getKey().startsWith(FIELD_NAME_DELTA_PREFIX))
+                .sorted(Map.Entry.comparingByKey())
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList()))
             .build();
     }
 }
@@ -5,51 +5,70 @@ import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.ticket.registry.pub.RedisTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.lock.LockRepository;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.redis.lettucemod.api.sync.RedisModulesCommands;
 import com.redis.lettucemod.search.CreateOptions;
 import com.redis.lettucemod.search.Document;
 import com.redis.lettucemod.search.Field;
 import lombok.Data;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.hjson.JsonValue;
 import org.hjson.Stringify;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
-import org.springframework.data.redis.core.RedisKeyValueAdapter;
 import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
-import org.springframework.data.redis.core.convert.MappingConfiguration;
-import org.springframework.data.redis.core.index.IndexConfiguration;
-import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
  * Key-value ticket registry implementation that stores tickets in redis keyed on the ticket ID.
+ * <p>
+ * Tickets are stored as hashes whose fields are those of {@link RedisTicketDocument},
+ * which allows them to be indexed by RediSearch. All writes for a ticket, including its
+ * expiration, principal session tracking and expiration index, are sent in a single pipelined
+ * round-trip. The ticket hash itself is rewritten atomically by a Lua script.
+ * Keys are iterated using {@code SCAN} cursors and never via {@code KEYS}.
+ * Ticket-granting tickets may be updated with deltas that are written as separate hash fields,
+ * leaving the serialized ticket as it is.
  *
  * @author serv
  * @since 5.1.0
@@ -60,6 +79,30 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     private static final String SEARCH_INDEX_NAME = RedisTicketDocument.class.getSimpleName() + "Index";
 
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    /**
+     * Number of deltas kept on a ticket hash, after which the ticket is compacted
+     * by writing it as a whole and discarding its deltas.
+     */
+    private static final int MAX_TICKET_DELTAS = 20;
+
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(true).build().toObjectMapper();
+
+    /**
+     * Replaces the ticket hash with the given fields and sets its expiration.
+     * Expects the ticket key, followed by the expiration in seconds and the hash fields and values.
+     */
+    private static final byte[] WRITE_TICKET_SCRIPT = toBytes("""
+        redis.call('DEL', KEYS[1])
+        redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+        redis.call('EXPIRE', KEYS[1], ARGV[1])
+        return redis.status_reply('OK')
+        """);
+
+    private static final String BACKFILL_LOCK_KEY_PREFIX = "RedisTicketExpirationBackfill-";
+
     private final CasRedisTemplates casRedisTemplates;
 
     private final Cache<String, Ticket> ticketCache;
@@ -68,6 +111,11 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     private final Optional<RedisModulesCommands> redisModuleCommands;
 
+    private final Set<String> backfilledTicketPrefixes = ConcurrentHashMap.newKeySet();
+
+    @Setter
+    private LockRepository lockRepository = LockRepository.noOp();
+
     public RedisTicketRegistry(final CipherExecutor cipherExecutor,
                                final TicketSerializationManager ticketSerializationManager,
                                final TicketCatalog ticketCatalog,
@@ -107,6 +155,15 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
                 return null;
             });
         }
+
+        options = ScanOptions.scanOptions().match(RedisCompositeKey.forTicketExpirations().toKeyPattern()).build();
+        try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
+            casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+                StreamSupport.stream(result.spliterator(), false)
+                    .forEach(id -> connection.keyCommands().del(id.getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+        }
         ticketCache.invalidateAll();
         messagePublisher.deleteAll();
         return size.get();
@@ -114,17 +171,20 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public long deleteSingleTicket(final Ticket ticket) {
-        val redisTicketsKey = RedisCompositeKey.forTickets().withTicketId(ticket.getPrefix(), digestIdentifier(ticket.getId()));
-        val redisKeyPattern = redisTicketsKey.toKeyPattern();
-        val count = Stream.of(redisKeyPattern)
-            .mapToInt(id -> BooleanUtils.toBoolean(casRedisTemplates.getTicketsRedisTemplate().delete(id)) ? 1 : 0)
-            .sum();
-
+        val digestedId = digestIdentifier(ticket.getId());
+        val redisTicketsKey = RedisCompositeKey.forTickets().withTicketId(ticket.getPrefix(), digestedId);
         val principal = digestIdentifier(getPrincipalIdFrom(ticket));
-        val redisPrincipalKey = RedisCompositeKey.forPrincipal().withQuery(principal);
-        val redisPrincipalPattern = redisPrincipalKey.toKeyPattern();
-        Stream.of(redisPrincipalPattern)
-            .forEach(id -> casRedisTemplates.getSessionsRedisTemplate().delete(id));
+
+        val results = casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(toBytes(redisTicketsKey.toKeyPattern()));
+            connection.zSetCommands().zRem(toBytes(getExpirationsKey(ticket.getPrefix())), toBytes(digestedId));
+            if (StringUtils.isNotBlank(principal) && ticket instanceof TicketGrantingTicket) {
+                val redisPrincipalKey = RedisCompositeKey.forPrincipal().withQuery(principal).toKeyPattern();
+                connection.setCommands().sRem(toBytes(redisPrincipalKey), serializeSessionMember(digestedId));
+            }
+            return null;
+        });
+        val count = !results.isEmpty() && results.get(0) instanceof Number deleted ? deleted.longValue() : 0;
 
         ticketCache.invalidate(redisTicketsKey.getQuery());
         messagePublisher.delete(ticket);
@@ -133,11 +193,17 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public void addTicket(final Stream<? extends Ticket> toSave) {
-        FunctionUtils.doAndHandle(__ ->
+        FunctionUtils.doAndHandle(__ -> {
+            val tickets = toSave.filter(ticket -> ticket != null && !ticket.isExpired()).collect(Collectors.toList());
             casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
-                toSave.forEach(this::addTicketInternal);
+                tickets.forEach(ticket -> {
+                    LOGGER.debug("Adding ticket [{}]", ticket);
+                    writeTicket(connection, ticket);
+                });
                 return null;
-            }));
+            });
+            tickets.forEach(messagePublisher::add);
+        });
     }
 
     @Override
@@ -159,6 +225,51 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The delta is written onto the ticket hash as a separate field with {@code HSET},
+     * leaving the serialized ticket as it is. Deltas are applied to the ticket when it is loaded,
+     * and are discarded once the ticket is written as a whole. Deltas are not written if ticket
+     * encryption is turned on, or if the delta removes services from the ticket. Once the ticket
+     * carries the maximum number of deltas, the ticket is compacted by updating it as a whole.
+     */
+    @Override
+    public Ticket updateTicketGrantingTicket(final TicketGrantingTicket ticket, final TicketGrantingTicketDelta delta) throws Exception {
+        if (isCipherExecutorEnabled() || delta.isDestructive()) {
+            return updateTicket(ticket);
+        }
+        LOGGER.debug("Updating ticket [{}] with delta [{}]", ticket.getId(), delta);
+        val json = MAPPER.writerFor(TicketGrantingTicketDelta.class).writeValueAsString(delta);
+        val digestedId = digestIdentifier(ticket.getId());
+        val redisKey = RedisCompositeKey.forTickets().withTicketId(ticket.getPrefix(), digestedId);
+        val key = toBytes(redisKey.toKeyPattern());
+        val field = String.format("%s%010d:%s", RedisTicketDocument.FIELD_NAME_DELTA_PREFIX,
+            delta.getCountOfUses(), DigestUtils.sha256(json));
+        val timeout = RedisCompositeKey.getTimeout(ticket);
+
+        val results = casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hExists(key, toBytes(RedisTicketDocument.FIELD_NAME_JSON));
+            connection.hashCommands().hSet(key, toBytes(field), toBytes(json));
+            connection.hashCommands().hIncrBy(key, toBytes(RedisTicketDocument.FIELD_NAME_DELTA_COUNT), 1);
+            connection.keyCommands().expire(key, timeout);
+            connection.zSetCommands().zAdd(toBytes(getExpirationsKey(ticket.getPrefix())),
+                System.currentTimeMillis() + timeout * 1000D, toBytes(digestedId));
+            return null;
+        });
+        if (!Boolean.TRUE.equals(results.get(0))) {
+            LOGGER.debug("Ticket [{}] cannot be found to apply the delta", ticket.getId());
+            casRedisTemplates.getTicketsRedisTemplate().delete(redisKey.toKeyPattern());
+            return null;
+        }
+        if (results.get(2) instanceof final Number count && count.longValue() >= MAX_TICKET_DELTAS) {
+            LOGGER.debug("Ticket [{}] carries [{}] deltas and will be compacted", ticket.getId(), count);
+            return updateTicket(ticket);
+        }
+        ticketCache.put(redisKey.getQuery(), ticket);
+        messagePublisher.update(ticket);
+        return ticket;
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         return FunctionUtils.doAndHandle(() -> {
@@ -178,18 +289,8 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Stream<? extends Ticket> stream() {
-        return fetchKeysForTickets()
-            .map(redisKey -> {
-                val adapter = buildRedisKeyValueAdapter(redisKey);
-                val document = adapter.get(redisKey, redisKey, RedisTicketDocument.class);
-                if (document == null) {
-                    casRedisTemplates.getTicketsRedisTemplate().delete(redisKey);
-                    return null;
-                }
-                return document;
-            })
-            .filter(Objects::nonNull)
-            .map(RedisTicketDocument.class::cast)
+        return scanKeys(RedisCompositeKey.forTickets().toKeyPattern())
+            .flatMap(batch -> readTicketDocuments(batch).stream())
             .map(this::deserializeAsTicket)
             .map(this::decodeTicket)
             .filter(Objects::nonNull)
@@ -202,6 +303,36 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
             });
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Only tickets whose scores in the expiration index have passed are read,
+     * rather than scanning and reading every ticket.
+     */
+    @Override
+    public Stream<? extends Ticket> getExpiredTickets() {
+        val now = System.currentTimeMillis();
+        return ticketCatalog.findAll()
+            .stream()
+            .map(TicketDefinition::getPrefix)
+            .distinct()
+            .flatMap(prefix -> {
+                val expirations = toBytes(getExpirationsKey(prefix));
+                val members = casRedisTemplates.getTicketsRedisTemplate().execute(
+                    (RedisCallback<Set<byte[]>>) connection -> connection.zSetCommands().zRangeByScore(expirations, 0, now));
+                val keys = Optional.ofNullable(members).orElseGet(Set::of)
+                    .stream()
+                    .map(member -> RedisCompositeKey.forTickets()
+                        .withTicketId(prefix, new String(member, StandardCharsets.UTF_8)).toKeyPattern())
+                    .collect(Collectors.toList());
+                return IntStream.range(0, (keys.size() + SCAN_BATCH_SIZE - 1) / SCAN_BATCH_SIZE)
+                    .mapToObj(batch -> keys.subList(batch * SCAN_BATCH_SIZE, Math.min(keys.size(), (batch + 1) * SCAN_BATCH_SIZE)));
+            })
+            .flatMap(batch -> readTicketDocuments(batch).stream())
+            .map(this::deserializeAsTicket)
+            .map(this::decodeTicket)
+            .filter(Objects::nonNull)
+            .filter(Ticket::isExpired);
+    }
 
     @Override
     public Stream<? extends Ticket> getSessionsFor(final String principalId) {
@@ -223,20 +354,12 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public long sessionCount() {
-        val options = ScanOptions.scanOptions()
-            .match(RedisCompositeKey.forTickets().withIdPattern(TicketGrantingTicket.PREFIX).toKeyPattern()).build();
-        try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
-            return result.stream().count();
-        }
+        return countTickets(TicketGrantingTicket.PREFIX);
     }
 
     @Override
     public long serviceTicketCount() {
-        val options = ScanOptions.scanOptions()
-            .match(RedisCompositeKey.forTickets().withIdPattern(ServiceTicket.PREFIX).toKeyPattern()).build();
-        try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
-            return result.stream().count();
-        }
+        return countTickets(ServiceTicket.PREFIX);
     }
 
     @Override
@@ -267,13 +390,135 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
             .orElseGet(() -> super.getSessionsWithAttributes(queryAttributes));
     }
 
-    private Stream<String> fetchKeysForTickets() {
-        return fetchKeysForTickets(RedisCompositeKey.forTickets().toKeyPattern());
+    /**
+     * Count tickets with the given prefix, using the expiration index
+     * that is maintained as tickets are added and removed. Entries of tickets
+     * that have expired in Redis are trimmed from the index first.
+     * Tickets that were stored before the index was maintained are added
+     * to the index once, by whichever node first counts tickets with the prefix.
+     *
+     * @param ticketPrefix the ticket prefix
+     * @return the count
+     */
+    private long countTickets(final String ticketPrefix) {
+        if (!backfilledTicketPrefixes.contains(ticketPrefix)) {
+            try {
+                backfillTicketExpirationsIfNecessary(ticketPrefix);
+                backfilledTicketPrefixes.add(ticketPrefix);
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+        }
+        val key = toBytes(getExpirationsKey(ticketPrefix));
+        val results = casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zRemRangeByScore(key, 0, System.currentTimeMillis());
+            connection.zSetCommands().zCard(key);
+            return null;
+        });
+        return results.size() > 1 && results.get(1) instanceof Number count ? count.longValue() : 0;
     }
 
-    private Stream<String> fetchKeysForTickets(final String key) {
-        LOGGER.debug("Loading keys for pattern [{}]", key);
-        return Objects.requireNonNull(casRedisTemplates.getTicketsRedisTemplate().keys(key)).stream();
+    /**
+     * Backfill the expiration index for the ticket prefix, unless it is marked as done in Redis.
+     * The backfill runs while holding a lock, so that only one node scans existing tickets,
+     * and is then marked as done so that it does not run again when nodes restart.
+     *
+     * @param ticketPrefix the ticket prefix
+     */
+    private void backfillTicketExpirationsIfNecessary(final String ticketPrefix) {
+        val marker = getExpirationsKey(ticketPrefix) + ":BACKFILLED";
+        val ticketsRedisTemplate = casRedisTemplates.getTicketsRedisTemplate();
+        if (Boolean.TRUE.equals(ticketsRedisTemplate.hasKey(marker))) {
+            return;
+        }
+        lockRepository.execute(BACKFILL_LOCK_KEY_PREFIX + ticketPrefix, () -> {
+            if (!Boolean.TRUE.equals(ticketsRedisTemplate.hasKey(marker))) {
+                backfillTicketExpirations(ticketPrefix);
+                ticketsRedisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.stringCommands().set(toBytes(marker), toBytes(String.valueOf(System.currentTimeMillis()))));
+            }
+            return marker;
+        }).orElseThrow(() -> new IllegalStateException("Unable to obtain lock to backfill expiration index for " + ticketPrefix));
+    }
+
+    private void backfillTicketExpirations(final String ticketPrefix) {
+        val expirations = toBytes(getExpirationsKey(ticketPrefix));
+        val keyPrefix = RedisCompositeKey.forTickets().withTicketId(ticketPrefix, StringUtils.EMPTY).toKeyPattern();
+        val count = new AtomicLong();
+        try (val keys = scanKeys(keyPrefix + '*')) {
+            keys.forEach(batch -> {
+                val ttls = casRedisTemplates.getTicketsRedisTemplate().execute((RedisCallback<List<Object>>) connection -> {
+                    connection.openPipeline();
+                    batch.forEach(key -> connection.keyCommands().pTtl(toBytes(key)));
+                    return connection.closePipeline();
+                });
+                Objects.requireNonNull(ttls);
+                val now = System.currentTimeMillis();
+                casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+                    for (var i = 0; i < batch.size(); i++) {
+                        if (ttls.get(i) instanceof final Number ttl && ttl.longValue() > 0) {
+                            val digestedId = StringUtils.removeStart(batch.get(i), keyPrefix);
+                            connection.zSetCommands().zAdd(expirations, now + ttl.doubleValue(), toBytes(digestedId));
+                            count.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            });
+        }
+        LOGGER.debug("Tracked [{}] existing ticket(s) with prefix [{}] in the expiration index", count.get(), ticketPrefix);
+    }
+
+    private Stream<List<String>> scanKeys(final String pattern) {
+        LOGGER.debug("Scanning keys for pattern [{}]", pattern);
+        val options = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH_SIZE).build();
+        val cursor = casRedisTemplates.getTicketsRedisTemplate().scan(options);
+        val iterator = new ScanBatchIterator(cursor);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(cursor::close);
+    }
+
+    private List<RedisTicketDocument> readTicketDocuments(final List<String> keys) {
+        val results = casRedisTemplates.getTicketsRedisTemplate().execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            keys.forEach(key -> connection.hashCommands().hGetAll(toBytes(key)));
+            return connection.closePipeline();
+        });
+        return Objects.requireNonNull(results)
+            .stream()
+            .map(RedisTicketRegistry::toTicketDocument)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private RedisTicketDocument readTicketDocument(final String key) {
+        val result = casRedisTemplates.getTicketsRedisTemplate().execute(
+            (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(toBytes(key)));
+        return toTicketDocument(result);
+    }
+
+    private static RedisTicketDocument toTicketDocument(final Object result) {
+        if (result instanceof Map<?, ?> fields && !fields.isEmpty()) {
+            val document = new LinkedHashMap<String, String>();
+            fields.forEach((field, value) -> document.put(
+                new String((byte[]) field, StandardCharsets.UTF_8),
+                new String((byte[]) value, StandardCharsets.UTF_8)));
+            return document.containsKey(RedisTicketDocument.FIELD_NAME_JSON) ? RedisTicketDocument.from(document) : null;
+        }
+        return null;
+    }
+
+    private static byte[] toBytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String getExpirationsKey(final String ticketPrefix) {
+        return RedisCompositeKey.forTicketExpirations().withQuery(ticketPrefix).toKeyPattern();
+    }
+
+    private byte[] serializeSessionMember(final String digestedId) {
+        val serializer = (RedisSerializer<String>) casRedisTemplates.getSessionsRedisTemplate().getValueSerializer();
+        return Objects.requireNonNull(serializer).serialize(digestedId);
     }
 
     protected RedisTicketDocument buildTicketAsDocument(final Ticket ticket) {
@@ -317,10 +562,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
             .orElseGet(() -> {
                 val redisKeyPattern = redisKey.toKeyPattern();
                 return Stream.of(redisKeyPattern)
-                    .map(key -> {
-                        val adapter = buildRedisKeyValueAdapter(key);
-                        return adapter.get(key, key, RedisTicketDocument.class);
-                    })
+                    .map(this::readTicketDocument)
                     .filter(Objects::nonNull)
                     .map(this::deserializeAsTicket)
                     .map(this::decodeTicket)
@@ -338,50 +580,61 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
     }
 
 
-    private RedisCompositeKey addOrUpdateTicket(final Ticket ticket) {
-        val userId = digestIdentifier(getPrincipalIdFrom(ticket));
+    private void addOrUpdateTicket(final Ticket ticket) {
+        casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+            writeTicket(connection, ticket);
+            return null;
+        });
+    }
 
+    /**
+     * Queue the commands to store the ticket document as a hash with an expiration,
+     * track the ticket in the expiration index and, for ticket-granting tickets,
+     * in the principal's session set. Expected to run on a pipelined connection.
+     * The hash is deleted and written again by a single script, so that fields
+     * that are no longer present on the ticket, such as deltas, do not stay behind
+     * and readers never observe the ticket as missing.
+     *
+     * @param connection the connection
+     * @param ticket     the ticket
+     */
+    private void writeTicket(final RedisConnection connection, final Ticket ticket) {
+        val userId = digestIdentifier(getPrincipalIdFrom(ticket));
         val digestedId = digestIdentifier(ticket.getId());
         val redisKey = RedisCompositeKey.forTickets().withTicketId(ticket.getPrefix(), digestedId);
-
         val timeout = RedisCompositeKey.getTimeout(ticket);
-        val redisKeyPattern = redisKey.toKeyPattern();
+        val key = toBytes(redisKey.toKeyPattern());
 
         val ticketDocument = buildTicketAsDocument(ticket);
-
-        casRedisTemplates.getTicketsRedisTemplate().boundValueOps(redisKeyPattern).set(ticketDocument, timeout, TimeUnit.SECONDS);
-        val adapter = buildRedisKeyValueAdapter(redisKeyPattern);
-        adapter.put(ticketDocument.getTicketId(), ticketDocument, redisKeyPattern);
-        casRedisTemplates.getTicketsRedisTemplate().expire(redisKeyPattern, timeout, TimeUnit.SECONDS);
-        ticketCache.put(redisKey.getQuery(), ticket);
+        val keysAndArgs = new ArrayList<byte[]>();
+        keysAndArgs.add(key);
+        keysAndArgs.add(toBytes(String.valueOf(timeout)));
+        putField(keysAndArgs, RedisTicketDocument.FIELD_NAME_JSON, ticketDocument.getJson());
+        putField(keysAndArgs, RedisTicketDocument.FIELD_NAME_ID, ticketDocument.getTicketId());
+        putField(keysAndArgs, RedisTicketDocument.FIELD_NAME_TYPE, ticketDocument.getType());
+        putField(keysAndArgs, RedisTicketDocument.FIELD_NAME_PRINCIPAL, ticketDocument.getPrincipal());
+        putField(keysAndArgs, RedisTicketDocument.FIELD_NAME_PREFIX, ticketDocument.getPrefix());
+        putField(keysAndArgs, RedisTicketDocument.FIELD_NAME_ATTRIBUTES, ticketDocument.getAttributes());
+        connection.scriptingCommands().eval(WRITE_TICKET_SCRIPT, ReturnType.STATUS, 1, keysAndArgs.toArray(byte[][]::new));
+
+        val now = System.currentTimeMillis();
+        val expirations = toBytes(getExpirationsKey(ticket.getPrefix()));
+        connection.zSetCommands().zAdd(expirations, now + timeout * 1000D, toBytes(digestedId));
+        connection.zSetCommands().zRemRangeByScore(expirations, 0, now);
 
         if (StringUtils.isNotBlank(userId) && ticket instanceof TicketGrantingTicket) {
-            val redisPrincipalPattern = RedisCompositeKey.forPrincipal().withQuery(userId).toKeyPattern();
-            val ops = casRedisTemplates.getSessionsRedisTemplate().boundSetOps(redisPrincipalPattern);
-            ops.add(digestedId);
-            ops.expire(timeout, TimeUnit.SECONDS);
+            val redisPrincipalKey = toBytes(RedisCompositeKey.forPrincipal().withQuery(userId).toKeyPattern());
+            connection.setCommands().sAdd(redisPrincipalKey, serializeSessionMember(digestedId));
+            connection.keyCommands().expire(redisPrincipalKey, timeout);
         }
-
-        return redisKey;
+        ticketCache.put(redisKey.getQuery(), ticket);
     }
 
-    private RedisKeyValueAdapter buildRedisKeyValueAdapter(final String redisKeyPattern) {
-        val redisMappingContext = new RedisMappingContext(
-            new MappingConfiguration(new IndexConfiguration(), new KeyspaceConfiguration() {
-                @Override
-                protected Iterable<KeyspaceSettings> initialConfiguration() {
-                    return Collections.singleton(new KeyspaceSettings(RedisTicketDocument.class, redisKeyPattern));
-                }
-            }));
-
-        val adapter = new RedisKeyValueAdapter(casRedisTemplates.getTicketsRedisTemplate(), redisMappingContext) {
-            @Override
-            public byte[] createKey(final String keyspace, final String id) {
-                return toBytes(redisKeyPattern);
-            }
-        };
-        adapter.afterPropertiesSet();
-        return adapter;
+    private static void putField(final List<byte[]> fields, final String name, final String value) {
+        if (value != null) {
+            fields.add(toBytes(name));
+            fields.add(toBytes(value));
+        }
     }
 
     private void createIndexesIfNecessary() {
@@ -404,7 +657,41 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
     }
 
     protected Ticket deserializeAsTicket(final RedisTicketDocument document) {
-        return ticketSerializationManager.deserializeTicket(document.getJson(), document.getType());
+        val ticket = ticketSerializationManager.deserializeTicket(document.getJson(), document.getType());
+        if (document.getDeltas() != null) {
+            document.getDeltas().forEach(delta -> FunctionUtils.doUnchecked(__ ->
+                applyTicketGrantingTicketDelta(ticket, MAPPER.readValue(delta, TicketGrantingTicketDelta.class))));
+        }
+        return ticket;
+    }
+
+    private static final class ScanBatchIterator implements Iterator<List<String>> {
+        private final Cursor<String> cursor;
+
+        ScanBatchIterator(final Cursor<String> cursor) {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            val hasNext = cursor.hasNext();
+            if (!hasNext) {
+                cursor.close();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public List<String> next() {
+            if (!cursor.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            val batch = new ArrayList<String>(SCAN_BATCH_SIZE);
+            while (batch.size() < SCAN_BATCH_SIZE && cursor.hasNext()) {
+                batch.add(cursor.next());
+            }
+            return batch;
+        }
     }
 
     @Data
@@ -117,6 +117,41 @@ class RedisServerTicketRegistryTests {
             assertEquals(0, getNewTicketRegistry().sessionCount());
             assertEquals(0, getNewTicketRegistry().serviceTicketCount());
         }
+
+        @RepeatedTest(2)
+        public void verifyTicketGrantingTicketDeltasAreCompacted() throws Exception {
+            val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+            getNewTicketRegistry().addTicket(tgt);
+            val totalServices = 50;
+            for (var i = 0; i < totalServices; i++) {
+                val snapshot = TicketGrantingTicketDelta.snapshot(tgt);
+                tgt.grantServiceTicket("ST-" + i, RegisteredServiceTestUtils.getService(UUID.randomUUID().toString()),
+                    NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+                assertNotNull(getNewTicketRegistry().updateTicketGrantingTicket(tgt, snapshot.toDelta(tgt)));
+            }
+            val result = (TicketGrantingTicketImpl) getNewTicketRegistry().getTicket(tgt.getId(), TicketGrantingTicket.class);
+            assertEquals(totalServices, result.getServices().size());
+            assertEquals(tgt.getCountOfUses(), result.getCountOfUses());
+        }
+
+        @RepeatedTest(1)
+        public void verifyExistingTicketsAreCounted() throws Exception {
+            val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+            getNewTicketRegistry().addTicket(tgt);
+            val sessionCount = getNewTicketRegistry().sessionCount();
+            assertTrue(sessionCount > 0);
+
+            val expirationsKey = RedisCompositeKey.forTicketExpirations().withQuery(TicketGrantingTicket.PREFIX).toKeyPattern();
+            getCasRedisTemplates().getTicketsRedisTemplate().delete(expirationsKey);
+            getCasRedisTemplates().getTicketsRedisTemplate().delete(expirationsKey + ":BACKFILLED");
+            val cache = Caffeine.newBuilder().initialCapacity(100).<String, Ticket>build();
+            val secondRegistry = new RedisTicketRegistry(CipherExecutor.noOp(), ticketSerializationManager, ticketCatalog,
+                getCasRedisTemplates(), cache, mock(RedisTicketRegistryMessagePublisher.class), Optional.empty());
+            assertEquals(sessionCount, secondRegistry.sessionCount());
+            assertEquals(sessionCount, getNewTicketRegistry().sessionCount());
+        }
     }
 
     @Nested
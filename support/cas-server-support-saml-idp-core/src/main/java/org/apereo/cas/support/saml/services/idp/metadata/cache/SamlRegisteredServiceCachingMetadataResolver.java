@@ -5,6 +5,7 @@ import org.apereo.cas.support.saml.services.SamlRegisteredService;
 
 import net.shibboleth.shared.resolver.CriteriaSet;
 
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -68,4 +69,13 @@ public interface SamlRegisteredServiceCachingMetadataResolver {
      * @return the OpenSAML config bean
      */
     OpenSamlConfigBean getOpenSamlConfigBean();
+
+    /**
+     * Gets statistics collected by the underlying cache, if any.
+     *
+     * @return the statistics
+     */
+    default Map<String, Object> getStatistics() {
+        return Map.of();
+    }
 }
@@ -16,25 +16,34 @@ import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.collect.Iterables;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Synchronized;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import org.jooq.lambda.Unchecked;
+import org.opensaml.core.criterion.EntityIdCriterion;
 import org.opensaml.core.criterion.SatisfyAnyCriterion;
 import org.opensaml.saml.metadata.criteria.entity.impl.EvaluableEntityRoleEntityDescriptorCriterion;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
 import org.opensaml.saml.saml2.metadata.EntityDescriptor;
 import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An adaptation of metadata resolver which handles the resolution of metadata resources
  * inside a cache. It basically is a fancy wrapper around a cache, and constructs the cache
  * semantics before processing the resolution of metadata for a SAML service.
+ * <p>
+ * Resolution is not serialized; loading of metadata resolvers is single-flight per cache key,
+ * which is a guarantee of the underlying cache. Entity ids that are successfully resolved are
+ * kept in an index that points back to the cache entry that produced them, so that
+ * lookups for the same entity by other services can reuse the cached resolver
+ * without having to scan all cached resolvers.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -43,6 +52,8 @@ import java.util.Optional;
 @Monitorable
 public class SamlRegisteredServiceDefaultCachingMetadataResolver implements SamlRegisteredServiceCachingMetadataResolver {
 
+    private final Map<String, SamlRegisteredServiceCacheKey> entityIndex = new ConcurrentHashMap<>();
+
     private final LoadingCache<SamlRegisteredServiceCacheKey, CachedMetadataResolverResult> cache;
 
     @Getter
@@ -60,6 +71,7 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
             .maximumSize(core.getCacheMaximumSize())
             .recordStats()
             .expireAfter(new SamlRegisteredServiceMetadataExpirationPolicy(metadataCacheExpiration))
+            .removalListener((key, value, cause) -> removeFromEntityIndex((SamlRegisteredServiceCacheKey) key))
             .build(loader);
     }
 
@@ -71,7 +83,6 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     }
 
     @Override
-    @Synchronized
     public CachedMetadataResolverResult resolve(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
         val metadataLocation = SpringExpressionLanguageValueResolver.getInstance().resolve(service.getMetadataLocation());
         LOGGER.debug("Resolving metadata for [{}] at [{}]", service.getName(), metadataLocation);
@@ -102,6 +113,7 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     public void invalidate() {
         LOGGER.trace("Invalidating cache, removing all metadata resolvers");
         cache.invalidateAll();
+        entityIndex.clear();
     }
 
     @Override
@@ -109,6 +121,7 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         LOGGER.trace("Invalidating cache for [{}].", service.getName());
         val cacheKey = new SamlRegisteredServiceCacheKey(service, criteriaSet);
         cache.invalidate(cacheKey);
+        removeFromEntityIndex(cacheKey);
     }
 
     @Override
@@ -142,22 +155,8 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         final CriteriaSet criteriaSet,
         final SamlRegisteredServiceCacheKey cacheKey) {
 
-        val result = cache
-            .asMap()
-            .values()
-            .stream()
-            .map(Unchecked.function(res -> {
-                val entity = res.getMetadataResolver().resolveSingle(criteriaSet);
-                return Optional.ofNullable(entity)
-                    .map(e -> MetadataResolverCacheQueryResult.builder()
-                        .result(res)
-                        .entityDescriptor(Optional.of(e))
-                        .build());
-            }))
-            .filter(Optional::isPresent)
-            .flatMap(Optional::stream)
-            .findFirst();
-
+        val entityId = Optional.ofNullable(criteriaSet.get(EntityIdCriterion.class)).map(EntityIdCriterion::getEntityId);
+        val result = entityId.flatMap(id -> locateIndexedMetadataResolver(id, criteriaSet));
         if (result.isPresent()) {
             return result.get();
         }
@@ -165,12 +164,55 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         val cacheResult = Objects.requireNonNull(cache.get(cacheKey));
         LOGGER.debug("Loaded and cached SAML metadata [{}] from [{}]",
             cacheResult.getMetadataResolver().getId(), service.getMetadataLocation());
+        val entityDescriptor = entityId.map(Unchecked.function(id -> {
+            val entity = cacheResult.getMetadataResolver().resolveSingle(criteriaSet);
+            if (entity != null) {
+                LOGGER.trace("Indexing entity [{}] with metadata resolver cache key [{}]", id, cacheKey.getId());
+                entityIndex.put(id, cacheKey);
+            }
+            return entity;
+        }));
         return MetadataResolverCacheQueryResult.builder()
-            .entityDescriptor(Optional.empty())
+            .entityDescriptor(entityDescriptor)
             .result(cacheResult)
             .build();
     }
 
+    /**
+     * Locate a cached metadata resolver that is known to have produced the given entity.
+     * Stale index entries whose cache entry is gone or can no longer resolve the entity
+     * are removed, and the caller is expected to fall back onto the cache loader.
+     *
+     * @param entityId    the entity id
+     * @param criteriaSet the criteria set
+     * @return the query result
+     */
+    protected Optional<MetadataResolverCacheQueryResult> locateIndexedMetadataResolver(final String entityId,
+                                                                                        final CriteriaSet criteriaSet) {
+        val indexedKey = entityIndex.get(entityId);
+        if (indexedKey == null) {
+            return Optional.empty();
+        }
+        val cachedResult = cache.asMap().get(indexedKey);
+        val entity = Optional.ofNullable(cachedResult)
+            .map(Unchecked.function(res -> res.getMetadataResolver().resolveSingle(criteriaSet)));
+        if (entity.isPresent()) {
+            LOGGER.trace("Located entity [{}] via indexed metadata resolver cache key [{}]", entityId, indexedKey.getId());
+            return Optional.of(MetadataResolverCacheQueryResult.builder()
+                .result(cachedResult)
+                .entityDescriptor(entity)
+                .build());
+        }
+        entityIndex.remove(entityId, indexedKey);
+        return Optional.empty();
+    }
+
+    private void removeFromEntityIndex(final SamlRegisteredServiceCacheKey cacheKey) {
+        if (cacheKey != null) {
+            entityIndex.values().removeIf(cacheKey::equals);
+        }
+    }
+
     @SuperBuilder
     @Getter
     @SuppressWarnings("UnusedMethod")
@@ -204,6 +246,22 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         return cache.stats();
     }
 
+    @Override
+    public Map<String, Object> getStatistics() {
+        val stats = cache.stats();
+        val results = new LinkedHashMap<String, Object>();
+        results.put("size", cache.estimatedSize());
+        results.put("indexedEntities", entityIndex.size());
+        results.put("hitCount", stats.hitCount());
+        results.put("missCount", stats.missCount());
+        results.put("hitRate", stats.hitRate());
+        results.put("loadSuccessCount", stats.loadSuccessCount());
+        results.put("loadFailureCount", stats.loadFailureCount());
+        results.put("averageLoadPenalty", stats.averageLoadPenalty());
+        results.put("evictionCount", stats.evictionCount());
+        return results;
+    }
+
     @SuperBuilder
     @Getter
     private static class MetadataResolverCacheQueryResult {
@@ -0,0 +1,93 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache.resolver;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import net.shibboleth.shared.resolver.CriteriaSet;
+import net.shibboleth.shared.resolver.ResolverException;
+import org.opensaml.core.criterion.EntityIdCriterion;
+import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * This is {@link MappedFileMetadataResolver}.
+ * <p>
+ * A metadata resolver that is backed by a {@link MappedMetadataIndex}. Rather than building
+ * a DOM for the entire metadata aggregate, only the {@code EntityDescriptor} of the requested
+ * entity is parsed and passed through the configured metadata filters (i.e. signature validation)
+ * on demand. Filtered results are kept in a bounded cache.
+ * <p>
+ * The signature and validity of the aggregate root are verified once before the index is put to use,
+ * so the filters that are configured here only apply to individual entity descriptors. Entities stop
+ * resolving once the validity of the aggregate root has passed, if valid metadata is required.
+ * Resolution requires an {@link EntityIdCriterion}; queries that do not specify an entity id produce no results.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@Getter
+public class MappedFileMetadataResolver extends AbstractMetadataResolver {
+    private final MappedMetadataIndex metadataIndex;
+
+    private final Cache<String, Optional<EntityDescriptor>> entityDescriptors;
+
+    public MappedFileMetadataResolver(final MappedMetadataIndex metadataIndex, final long cacheSize) {
+        this.metadataIndex = metadataIndex;
+        this.entityDescriptors = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    @Override
+    public Iterable<EntityDescriptor> resolve(final CriteriaSet criteria) throws ResolverException {
+        val criterion = criteria != null ? criteria.get(EntityIdCriterion.class) : null;
+        if (criterion == null) {
+            LOGGER.trace("No entity id criterion is provided; metadata resolver [{}] only resolves entities by their id", getId());
+            return new ArrayList<>(0);
+        }
+        if (isRequireValidMetadata() && !metadataIndex.isValid()) {
+            LOGGER.warn("Metadata aggregate [{}] has expired; metadata resolver [{}] will not resolve entities from it",
+                metadataIndex.getFile(), getId());
+            return new ArrayList<>(0);
+        }
+        val entityId = criterion.getEntityId();
+        return entityDescriptors.get(entityId, this::parseEntityDescriptor)
+            .filter(this::isValid)
+            .map(List::of)
+            .orElseGet(List::of);
+    }
+
+    /**
+     * Parse and filter the entity descriptor for the given entity id.
+     *
+     * @param entityId the entity id
+     * @return the entity descriptor
+     */
+    protected Optional<EntityDescriptor> parseEntityDescriptor(final String entityId) {
+        return metadataIndex.getEntityDescriptor(entityId).flatMap(fragment -> {
+            try (val input = new ByteArrayInputStream(fragment.getBytes(StandardCharsets.UTF_8))) {
+                LOGGER.trace("Parsing entity descriptor [{}] from [{}]", entityId, metadataIndex.getFile());
+                val metadata = unmarshallMetadata(input);
+                val filtered = filterMetadata(metadata);
+                if (filtered instanceof EntityDescriptor entityDescriptor) {
+                    entityDescriptor.releaseDOM();
+                    entityDescriptor.releaseChildrenDOM(true);
+                    return Optional.of(entityDescriptor);
+                }
+                LOGGER.debug("Entity descriptor [{}] is removed by metadata filters of [{}]", entityId, getId());
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+            return Optional.empty();
+        });
+    }
+}
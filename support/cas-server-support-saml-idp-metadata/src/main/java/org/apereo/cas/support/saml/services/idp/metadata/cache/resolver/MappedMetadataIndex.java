@@ -0,0 +1,356 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache.resolver;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * This is {@link MappedMetadataIndex}.
+ * <p>
+ * Memory-maps a (potentially very large) SAML metadata aggregate on disk and indexes
+ * the byte ranges of each {@code EntityDescriptor} by its entity id, without building
+ * a DOM for the document. Individual entity descriptors can then be extracted on demand
+ * as standalone XML fragments, carrying the namespace declarations that are in scope
+ * for each entity descriptor in the aggregate.
+ * The index is immutable and may be shared across metadata resolvers that point to the same file.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@Getter
+public class MappedMetadataIndex {
+    private static final String ENTITY_DESCRIPTOR = "EntityDescriptor";
+
+    private static final Pattern PATTERN_NAMESPACE_DECLARATION = Pattern.compile("(xmlns(?::[\\w.-]+)?)\\s*=\\s*(\"[^\"]*\"|'[^']*')");
+
+    private static final Pattern PATTERN_VALID_UNTIL = Pattern.compile("\\svalidUntil\\s*=\\s*(\"([^\"]*)\"|'([^']*)')");
+
+    private static final Pattern PATTERN_ENTITY_ID = Pattern.compile("\\sentityID\\s*=\\s*(\"([^\"]*)\"|'([^']*)')");
+
+    private final File file;
+
+    private final long lastModified;
+
+    private final long length;
+
+    private final Instant validUntil;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, IndexedEntity> entities;
+
+    @Getter(AccessLevel.NONE)
+    private final MappedByteBuffer buffer;
+
+    private MappedMetadataIndex(final File file, final MappedByteBuffer buffer,
+                                final Instant validUntil, final Map<String, IndexedEntity> entities) {
+        this.file = file;
+        this.lastModified = file.lastModified();
+        this.length = file.length();
+        this.buffer = buffer;
+        this.validUntil = validUntil;
+        this.entities = Map.copyOf(entities);
+    }
+
+    /**
+     * Build the index by scanning the given metadata file.
+     *
+     * @param file the file
+     * @return the mapped metadata index
+     * @throws IOException the exception
+     */
+    public static MappedMetadataIndex of(final File file) throws IOException {
+        try (val channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Metadata file " + file + " is too large to be memory-mapped");
+            }
+            val buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            val entities = new HashMap<String, IndexedEntity>();
+            val validUntil = scan(buffer, entities);
+            LOGGER.debug("Indexed [{}] entity descriptor(s) in metadata file [{}]", entities.size(), file);
+            return new MappedMetadataIndex(file, buffer, validUntil, entities);
+        }
+    }
+
+    /**
+     * Scan the buffer for entity descriptors. Namespace declarations of the enclosing elements
+     * are tracked with a stack of scopes, so that each entity descriptor only carries the
+     * declarations that are in scope at its own position in the document.
+     *
+     * @param buffer   the buffer
+     * @param entities the entities
+     * @return the validity of the root element, if any
+     */
+    private static Instant scan(final ByteBuffer buffer, final Map<String, IndexedEntity> entities) {
+        val limit = buffer.limit();
+        val scopes = new ArrayDeque<NamespaceScope>();
+        Instant validUntil = null;
+        var rootFound = false;
+        var position = 0;
+        while (position < limit) {
+            position = indexOf(buffer, (byte) '<', position);
+            if (position < 0 || position + 1 >= limit) {
+                return validUntil;
+            }
+            val next = buffer.get(position + 1);
+            if (next == '?') {
+                position = skipPast(buffer, "?>", position);
+            } else if (startsWith(buffer, position, "<!--")) {
+                position = skipPast(buffer, "-->", position);
+            } else if (startsWith(buffer, position, "<![CDATA[")) {
+                position = skipPast(buffer, "]]>", position);
+            } else if (next == '/') {
+                val tagEnd = skipPast(buffer, ">", position);
+                if (tagEnd >= 0 && !scopes.isEmpty()) {
+                    val endTag = decode(buffer, position, tagEnd);
+                    if (endTag.substring(2, endTag.length() - 1).trim().equals(scopes.peek().elementName())) {
+                        scopes.pop();
+                    }
+                }
+                position = tagEnd;
+            } else if (next == '!') {
+                position = skipPast(buffer, ">", position);
+            } else {
+                val tagEnd = findTagEnd(buffer, position);
+                if (tagEnd < 0) {
+                    return validUntil;
+                }
+                val startTag = decode(buffer, position, tagEnd + 1);
+                val qualifiedName = getElementName(startTag);
+                if (!rootFound) {
+                    rootFound = true;
+                    validUntil = getValidUntil(startTag);
+                }
+                val parentNamespaces = scopes.isEmpty() ? Map.<String, String>of() : scopes.peek().namespaces();
+                if (qualifiedName.equals(ENTITY_DESCRIPTOR) || qualifiedName.endsWith(':' + ENTITY_DESCRIPTOR)) {
+                    val end = startTag.endsWith("/>") ? tagEnd + 1 : skipPast(buffer, "</" + qualifiedName + '>', tagEnd);
+                    if (end < 0) {
+                        return validUntil;
+                    }
+                    val start = position;
+                    getEntityId(startTag).ifPresent(entityId ->
+                        entities.putIfAbsent(entityId, new IndexedEntity(start, end, parentNamespaces)));
+                    position = end;
+                } else {
+                    if (!startTag.endsWith("/>")) {
+                        scopes.push(new NamespaceScope(qualifiedName, getNamespacesInScope(startTag, parentNamespaces)));
+                    }
+                    position = tagEnd + 1;
+                }
+            }
+            if (position < 0) {
+                return validUntil;
+            }
+        }
+        return validUntil;
+    }
+
+    private static Map<String, String> getNamespacesInScope(final String startTag, final Map<String, String> parentNamespaces) {
+        val matcher = PATTERN_NAMESPACE_DECLARATION.matcher(startTag);
+        if (!matcher.find()) {
+            return parentNamespaces;
+        }
+        val namespaces = new LinkedHashMap<>(parentNamespaces);
+        do {
+            namespaces.put(matcher.group(1), matcher.group(2));
+        } while (matcher.find());
+        return Map.copyOf(namespaces);
+    }
+
+    private static Instant getValidUntil(final String startTag) {
+        val matcher = PATTERN_VALID_UNTIL.matcher(startTag);
+        if (matcher.find()) {
+            val value = StringUtils.defaultIfBlank(matcher.group(2), matcher.group(3));
+            try {
+                return Instant.parse(value.trim());
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to parse validUntil [{}] of the metadata aggregate", value);
+            }
+        }
+        return null;
+    }
+
+    private static Optional<String> getEntityId(final String startTag) {
+        val matcher = PATTERN_ENTITY_ID.matcher(startTag);
+        if (matcher.find()) {
+            val value = StringUtils.defaultIfBlank(matcher.group(2), matcher.group(3));
+            return Optional.ofNullable(value).map(MappedMetadataIndex::unescape);
+        }
+        return Optional.empty();
+    }
+
+    private static String unescape(final String value) {
+        return value.replace("&lt;", "<").replace("&gt;", ">")
+            .replace("&quot;", "\"").replace("&apos;", "'").replace("&amp;", "&");
+    }
+
+    private static String getElementName(final String startTag) {
+        var end = 1;
+        while (end < startTag.length()) {
+            val c = startTag.charAt(end);
+            if (Character.isWhitespace(c) || c == '>' || c == '/') {
+                break;
+            }
+            end++;
+        }
+        return startTag.substring(1, end);
+    }
+
+    private static int findTagEnd(final ByteBuffer buffer, final int start) {
+        var quote = (byte) 0;
+        for (var i = start; i < buffer.limit(); i++) {
+            val b = buffer.get(i);
+            if (quote != 0) {
+                if (b == quote) {
+                    quote = 0;
+                }
+            } else if (b == '"' || b == '\'') {
+                quote = b;
+            } else if (b == '>') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(final ByteBuffer buffer, final byte value, final int from) {
+        for (var i = from; i < buffer.limit(); i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(final ByteBuffer buffer, final int position, final String value) {
+        if (position + value.length() > buffer.limit()) {
+            return false;
+        }
+        for (var i = 0; i < value.length(); i++) {
+            if (buffer.get(position + i) != (byte) value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipPast(final ByteBuffer buffer, final String value, final int from) {
+        val first = (byte) value.charAt(0);
+        var position = from;
+        while (true) {
+            position = indexOf(buffer, first, position);
+            if (position < 0) {
+                return -1;
+            }
+            if (startsWith(buffer, position, value)) {
+                return position + value.length();
+            }
+            position++;
+        }
+    }
+
+    private static String decode(final ByteBuffer buffer, final int start, final int end) {
+        val bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Whether the index is still current for the underlying file.
+     *
+     * @return true/false
+     */
+    public boolean isCurrent() {
+        return file.exists() && file.lastModified() == lastModified && file.length() == length;
+    }
+
+    /**
+     * Whether the aggregate is still valid, based on the validUntil attribute of its root element.
+     *
+     * @return true/false
+     */
+    public boolean isValid() {
+        return validUntil == null || Instant.now().isBefore(validUntil);
+    }
+
+    /**
+     * Gets all indexed entity ids.
+     *
+     * @return the entity ids
+     */
+    public Set<String> getEntityIds() {
+        return entities.keySet();
+    }
+
+    /**
+     * Extract the entity descriptor for the given entity id as a standalone XML document,
+     * with the namespace declarations that are in scope for the entity injected into its root element.
+     *
+     * @param entityId the entity id
+     * @return the XML fragment, if the entity is indexed
+     */
+    public Optional<String> getEntityDescriptor(final String entityId) {
+        val entity = entities.get(entityId);
+        if (entity == null) {
+            return Optional.empty();
+        }
+        val fragment = decode(buffer, entity.start(), entity.end());
+        val elementName = getElementName(fragment);
+        val startTag = fragment.substring(0, findTagEnd(fragment));
+        val declaredPrefixes = new HashSet<String>();
+        val matcher = PATTERN_NAMESPACE_DECLARATION.matcher(startTag);
+        while (matcher.find()) {
+            declaredPrefixes.add(matcher.group(1));
+        }
+        val declarations = new StringBuilder();
+        entity.namespaces().forEach((prefix, uri) -> {
+            if (!declaredPrefixes.contains(prefix)) {
+                declarations.append(' ').append(prefix).append('=').append(uri);
+            }
+        });
+        val insertAt = elementName.length() + 1;
+        return Optional.of(fragment.substring(0, insertAt) + declarations + fragment.substring(insertAt));
+    }
+
+    private static int findTagEnd(final String fragment) {
+        var quote = (char) 0;
+        for (var i = 0; i < fragment.length(); i++) {
+            val c = fragment.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i;
+            }
+        }
+        return fragment.length();
+    }
+
+    private record IndexedEntity(int start, int end, Map<String, String> namespaces) {
+    }
+
+    private record NamespaceScope(String elementName, Map<String, String> namespaces) {
+    }
+}
@@ -26,7 +26,6 @@ import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOCase;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.filefilter.AndFileFilter;
 import org.apache.commons.io.filefilter.CanReadFileFilter;
 import org.apache.commons.io.filefilter.CanWriteFileFilter;
@@ -40,6 +39,10 @@ import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
 import org.jooq.lambda.Unchecked;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
+import org.opensaml.saml.metadata.resolver.filter.MetadataFilter;
+import org.opensaml.saml.metadata.resolver.filter.impl.RequiredValidUntilFilter;
+import org.opensaml.saml.metadata.resolver.filter.impl.SignatureValidationFilter;
+import org.opensaml.saml.metadata.resolver.impl.AbstractBatchMetadataResolver;
 import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
 import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.UrlResource;
@@ -48,13 +51,24 @@ import org.springframework.http.HttpStatus;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is {@link UrlResourceMetadataResolver}.
+ * <p>
+ * Metadata is streamed to the backup file on disk without being held in memory.
+ * If aggregates are configured to be indexed, the backup file is memory-mapped and
+ * indexed by entity id once, and the index is shared by all services that point to
+ * the same metadata location. Before an index is put to use for a service, the aggregate
+ * is verified with the signature and validity filters of that service. Verification is done
+ * once per metadata location and filter configuration, and is shared by all services that
+ * configure the same filters.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -69,6 +83,10 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
 
     private final File metadataBackupDirectory;
 
+    private final Map<String, MappedMetadataIndex> metadataIndexes = new ConcurrentHashMap<>();
+
+    private final Map<MetadataAggregateVerificationKey, MappedMetadataIndex> verifiedMetadataIndexes = new ConcurrentHashMap<>();
+
     public UrlResourceMetadataResolver(final HttpClient httpClient,
                                        final SamlIdPProperties samlIdPProperties,
                                        final OpenSamlConfigBean configBean) {
@@ -117,8 +135,8 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
             if (backupFile.exists() && backupFile.canRead()) {
                 try {
                     val metadataProvider = getMetadataResolverFromFile(backupFile);
-                    configureAndInitializeSingleMetadataResolver(metadataProvider, service);
-                    if (Boolean.TRUE.equals(metadataProvider.isRootValid())) {
+                    initializeMetadataResolver(metadataProvider, service, metadataLocation);
+                    if (isMetadataBackupValid(metadataProvider)) {
                         LOGGER.debug("Metadata backup file for service [{}] at [{}] is valid. CAS will reuse the SAML2 metadata file "
                                      + "at [{}] and will not download new metadata from [{}]", service.getName(), canonicalPath, canonicalPath, metadataLocation);
                         return CollectionUtils.wrap(metadataProvider);
@@ -136,7 +154,7 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
             val status = HttpStatus.valueOf(response.getCode());
             if (shouldHttpResponseStatusBeProcessed(status)) {
                 val metadataProvider = getMetadataResolverFromResponse(response, backupFile);
-                configureAndInitializeSingleMetadataResolver(metadataProvider, service);
+                initializeMetadataResolver(metadataProvider, service, metadataLocation);
                 return CollectionUtils.wrap(metadataProvider);
             }
         } catch (final UnauthorizedServiceException e) {
@@ -173,6 +191,32 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
         return false;
     }
 
+    /**
+     * Is metadata loaded from the backup file valid and reusable?
+     *
+     * @param metadataProvider the metadata provider
+     * @return true/false
+     */
+    protected boolean isMetadataBackupValid(final AbstractMetadataResolver metadataProvider) {
+        if (metadataProvider instanceof AbstractBatchMetadataResolver batchResolver) {
+            return Boolean.TRUE.equals(batchResolver.isRootValid());
+        }
+        return metadataProvider instanceof final MappedFileMetadataResolver mappedResolver
+               && !mappedResolver.getMetadataIndex().getEntityIds().isEmpty()
+               && mappedResolver.getMetadataIndex().isValid();
+    }
+
+    @Override
+    protected void addMetadataFiltersToMetadataResolver(final AbstractMetadataResolver metadataProvider,
+                                                        final List<MetadataFilter> metadataFilterList) {
+        if (metadataProvider instanceof MappedFileMetadataResolver) {
+            LOGGER.trace("Signature and validity of the metadata aggregate are verified before indexing; "
+                         + "Filters that apply to the aggregate root are skipped for individual entity descriptors");
+            metadataFilterList.removeIf(filter -> filter instanceof SignatureValidationFilter || filter instanceof RequiredValidUntilFilter);
+        }
+        super.addMetadataFiltersToMetadataResolver(metadataProvider, metadataFilterList);
+    }
+
     /**
      * Should http response status be processed?
      *
@@ -194,23 +238,89 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
     protected AbstractMetadataResolver getMetadataResolverFromResponse(final HttpResponse response,
                                                                        final File backupFile) throws Exception {
         val entity = ((HttpEntityContainer) response).getEntity();
-        val result = IOUtils.toString(entity.getContent(), StandardCharsets.UTF_8);
         val path = backupFile.toPath();
-        LOGGER.trace("Writing metadata to file at [{}]", path);
-        try (val output = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            IOUtils.write(result, output);
-            output.flush();
+        val downloadFile = Files.createTempFile(path.getParent(), backupFile.getName(), ".download");
+        try (val input = entity.getContent()) {
+            LOGGER.trace("Streaming metadata to file at [{}]", path);
+            Files.copy(input, downloadFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(downloadFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(downloadFile);
         }
         EntityUtils.consume(entity);
         return getMetadataResolverFromFile(backupFile);
     }
 
-    private InMemoryResourceMetadataResolver getMetadataResolverFromFile(final File backupFile) throws Exception {
+    private AbstractMetadataResolver getMetadataResolverFromFile(final File backupFile) throws Exception {
+        val http = samlIdPProperties.getMetadata().getHttp();
+        if (http.isIndexAggregates()) {
+            val metadataIndex = getMetadataIndex(backupFile);
+            val metadataResolver = new MappedFileMetadataResolver(metadataIndex, http.getIndexedEntitiesCacheSize());
+            metadataResolver.setId("RegisteredServiceMetadata-" + backupFile.getName());
+            return metadataResolver;
+        }
         val metadataResolver = new InMemoryResourceMetadataResolver(backupFile, configBean);
         metadataResolver.setId("RegisteredServiceMetadata-" + backupFile.getName());
         return metadataResolver;
     }
 
+    private MappedMetadataIndex getMetadataIndex(final File backupFile) throws IOException {
+        val key = backupFile.getCanonicalPath();
+        return metadataIndexes.compute(key, (path, index) -> {
+            if (index != null && index.isCurrent()) {
+                LOGGER.trace("Reusing metadata index for [{}] with [{}] entities", path, index.getEntityIds().size());
+                return index;
+            }
+            return FunctionUtils.doUnchecked(() -> MappedMetadataIndex.of(backupFile));
+        });
+    }
+
+    private void initializeMetadataResolver(final AbstractMetadataResolver metadataProvider,
+                                            final SamlRegisteredService service,
+                                            final String metadataLocation) throws Exception {
+        if (metadataProvider instanceof final MappedFileMetadataResolver mappedResolver) {
+            verifyMetadataAggregate(mappedResolver.getMetadataIndex(), service, metadataLocation);
+        }
+        configureAndInitializeSingleMetadataResolver(metadataProvider, service);
+    }
+
+    /**
+     * Verify the metadata aggregate behind the index with the signature and validity filters
+     * of the service, by parsing the aggregate once as a whole. The index is refused if the
+     * aggregate root cannot be verified or is no longer valid. The outcome is remembered for
+     * the metadata location and the filter configuration of the service, so other services
+     * with the same configuration do not verify the aggregate again.
+     *
+     * @param metadataIndex    the metadata index
+     * @param service          the service
+     * @param metadataLocation the metadata location
+     * @throws Exception the exception
+     */
+    protected void verifyMetadataAggregate(final MappedMetadataIndex metadataIndex,
+                                           final SamlRegisteredService service,
+                                           final String metadataLocation) throws Exception {
+        val verificationKey = new MetadataAggregateVerificationKey(metadataLocation,
+            service.getMetadataSignatureLocation(), service.isRequireSignedRoot(), service.getMetadataMaxValidity());
+        if (verifiedMetadataIndexes.get(verificationKey) == metadataIndex) {
+            LOGGER.trace("Metadata aggregate [{}] is already verified for [{}]", metadataIndex.getFile(), verificationKey);
+            return;
+        }
+        val aggregateResolver = new InMemoryResourceMetadataResolver(metadataIndex.getFile(), configBean);
+        try {
+            configureAndInitializeSingleMetadataResolver(aggregateResolver, service);
+            if (!Boolean.TRUE.equals(aggregateResolver.isRootValid())) {
+                metadataIndexes.remove(metadataIndex.getFile().getCanonicalPath(), metadataIndex);
+                verifiedMetadataIndexes.remove(verificationKey);
+                throw new SamlException("Metadata aggregate at " + metadataIndex.getFile()
+                                        + " failed signature or validity checks for service " + service.getName() + " and will not be indexed");
+            }
+            LOGGER.debug("Verified metadata aggregate [{}] for service [{}]", metadataIndex.getFile(), service.getName());
+            verifiedMetadataIndexes.put(verificationKey, metadataIndex);
+        } finally {
+            aggregateResolver.destroy();
+        }
+    }
+
     /**
      * Fetch metadata http response.
      *
@@ -272,4 +382,8 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
                 CanWriteFileFilter.CAN_WRITE, CanReadFileFilter.CAN_READ)), TrueFileFilter.INSTANCE);
         backups.forEach(Unchecked.consumer(FileUtils::forceDelete));
     }
+
+    private record MetadataAggregateVerificationKey(String metadataLocation, String metadataSignatureLocation,
+                                                    boolean requireSignedRoot, long metadataMaxValidity) {
+    }
 }
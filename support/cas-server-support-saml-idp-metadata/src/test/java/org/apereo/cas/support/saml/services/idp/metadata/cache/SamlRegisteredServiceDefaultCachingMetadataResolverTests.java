@@ -23,6 +23,10 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -170,6 +174,30 @@ class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends BaseSamlI
 
     }
 
+    @Test
+    void verifyConcurrentResolutionLoadsOnce() throws Exception {
+        val resolver = getResolver("PT5M");
+        val service = getSamlRegisteredService(1, ".*", "classpath:aggregate-md.xml");
+        val entities = List.of("https://issues.shibboleth.net/shibboleth",
+            "https://mfa-auth.dev.phenoapp.com/Saml2", "https://gitlab.com");
+        val executor = Executors.newFixedThreadPool(8);
+        try {
+            val tasks = IntStream.range(0, 30)
+                .mapToObj(i -> (Callable<CachedMetadataResolverResult>) () ->
+                    resolver.resolve(service, getCriteriaFor(entities.get(i % entities.size()))))
+                .toList();
+            for (val future : executor.invokeAll(tasks)) {
+                assertNotNull(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, resolver.getCacheStatistics().loadSuccessCount());
+        assertEquals(entities.size(), resolver.getStatistics().get("indexedEntities"));
+        resolver.invalidate();
+        assertEquals(0, resolver.getStatistics().get("indexedEntities"));
+    }
+
     @Test
     void verifyMissingMetadataInMDQ() {
         val criteriaSet1 = getCriteriaFor("https://shib-sp-test-preprod.dartmouth.edu/shibboleth");
@@ -8,9 +8,14 @@ import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.util.MockWebServer;
 
 import lombok.val;
+import net.shibboleth.shared.resolver.CriteriaSet;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.opensaml.core.criterion.EntityIdCriterion;
+import org.opensaml.saml.common.xml.SAMLConstants;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.UrlResource;
@@ -152,4 +157,60 @@ class UrlResourceMetadataResolverTests extends BaseSamlIdPServicesTests {
             assertFalse(results.isEmpty());
         }
     }
+
+    @Test
+    void verifyResolverIndexesAggregates() throws Exception {
+        try (val webServer = new MockWebServer(9156, new ClassPathResource("aggregate-md.xml"), HttpStatus.OK)) {
+            webServer.start();
+            val props = new SamlIdPProperties();
+            props.getMetadata().getFileSystem().setLocation(new FileSystemResource(FileUtils.getTempDirectory()).getFile().getCanonicalPath());
+            props.getMetadata().getHttp().setIndexAggregates(true);
+            props.getMetadata().getHttp().setForceMetadataRefresh(false);
+            val resolver = new UrlResourceMetadataResolver(httpClient, props, openSamlConfigBean);
+
+            val service1 = new SamlRegisteredService();
+            service1.setName("Aggregate1");
+            service1.setId(1000);
+            service1.setMetadataLocation("http://localhost:9156");
+            val results1 = resolver.resolve(service1);
+            assertEquals(1, results1.size());
+            val metadataResolver1 = (MappedFileMetadataResolver) results1.iterator().next();
+
+            val criteria = new CriteriaSet(new EntityIdCriterion("https://gitlab.com"));
+            val entity = metadataResolver1.resolveSingle(criteria);
+            assertNotNull(entity);
+            assertEquals("https://gitlab.com", entity.getEntityID());
+            assertNotNull(entity.getSPSSODescriptor(SAMLConstants.SAML20P_NS));
+            assertNull(metadataResolver1.resolveSingle(new CriteriaSet(new EntityIdCriterion("unknown-entity"))));
+            assertFalse(metadataResolver1.resolve(new CriteriaSet()).iterator().hasNext());
+
+            val service2 = new SamlRegisteredService();
+            service2.setName("Aggregate2");
+            service2.setId(2000);
+            service2.setMetadataLocation("http://localhost:9156");
+            val metadataResolver2 = (MappedFileMetadataResolver) resolver.resolve(service2).iterator().next();
+            assertSame(metadataResolver1.getMetadataIndex(), metadataResolver2.getMetadataIndex());
+            assertNotNull(metadataResolver2.resolveSingle(criteria));
+        }
+    }
+
+    @Test
+    void verifyResolverRefusesExpiredAggregate() throws Exception {
+        val metadata = IOUtils.toString(new ClassPathResource("aggregate-md.xml").getInputStream(), StandardCharsets.UTF_8)
+            .replace("validUntil=\"2091-12-06T18:41:22Z\"", "validUntil=\"2001-12-06T18:41:22Z\"");
+        try (val webServer = new MockWebServer(9157, new ByteArrayResource(metadata.getBytes(StandardCharsets.UTF_8)), HttpStatus.OK)) {
+            webServer.start();
+            val props = new SamlIdPProperties();
+            props.getMetadata().getFileSystem().setLocation(new FileSystemResource(FileUtils.getTempDirectory()).getFile().getCanonicalPath());
+            props.getMetadata().getHttp().setIndexAggregates(true);
+            props.getMetadata().getHttp().setForceMetadataRefresh(true);
+            val resolver = new UrlResourceMetadataResolver(httpClient, props, openSamlConfigBean);
+
+            val service = new SamlRegisteredService();
+            service.setName("ExpiredAggregate");
+            service.setId(3000);
+            service.setMetadataLocation("http://localhost:9157");
+            assertTrue(resolver.resolve(service).isEmpty());
+        }
+    }
 }
@@ -173,6 +173,22 @@ public class SamlRegisteredServiceCachedMetadataEndpoint extends BaseCasActuator
         }, e -> ResponseEntity.badRequest().body(Map.of("error", e.getMessage()))).get();
     }
 
+    /**
+     * Gets statistics collected by the metadata cache.
+     *
+     * @return the statistics
+     */
+    @GetMapping(path = "/statistics", produces = {
+        MEDIA_TYPE_SPRING_BOOT_V2_JSON,
+        MEDIA_TYPE_SPRING_BOOT_V3_JSON,
+        MediaType.APPLICATION_JSON_VALUE,
+        MEDIA_TYPE_CAS_YAML
+    })
+    @Operation(summary = "Get statistics collected by the SAML2 metadata cache, such as hit, miss and load counts")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        return ResponseEntity.ok(cachingMetadataResolver.getStatistics());
+    }
+
     private SamlRegisteredService findRegisteredService(final String serviceId) {
         var matchedServices = (Collection<RegisteredService>) null;
         if (NumberUtils.isCreatable(serviceId)) {
@@ -79,7 +79,9 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
     private final CasConfigurationProperties casProperties;
 
     private final SamlIdPMetadataLocator samlIdPMetadataLocator;
-    
+
+    private final SamlIdPSecurityParametersCache samlIdPSecurityParametersCache;
+
     private static boolean doesCredentialFingerprintMatch(final AbstractCredential credential,
                                                           final SamlRegisteredService samlRegisteredService) {
         val fingerprint = samlRegisteredService.getSigningCredentialFingerprint();
@@ -200,6 +202,8 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
 
     /**
      * Build signature signing parameters signature signing parameters.
+     * Parameters are cached per service and service provider metadata,
+     * and are built again once the SAML2 IdP metadata artifacts change.
      *
      * @param descriptor the descriptor
      * @param service    the service
@@ -207,6 +211,19 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
      */
     protected SignatureSigningParameters buildSignatureSigningParameters(final RoleDescriptor descriptor,
                                                                final SamlRegisteredService service) {
+        return samlIdPSecurityParametersCache.get(UsageType.SIGNING.name(), service, descriptor,
+            () -> resolveSignatureSigningParameters(descriptor, service));
+    }
+
+    /**
+     * Resolve signature signing parameters.
+     *
+     * @param descriptor the descriptor
+     * @param service    the service
+     * @return the signature signing parameters
+     */
+    protected SignatureSigningParameters resolveSignatureSigningParameters(final RoleDescriptor descriptor,
+                                                                           final SamlRegisteredService service) {
         return FunctionUtils.doUnchecked(() -> {
             val criteria = new CriteriaSet();
             val signatureSigningConfiguration = getSignatureSigningConfiguration(service);
@@ -20,6 +20,7 @@ import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import net.shibboleth.shared.resolver.ResolverException;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.opensaml.core.criterion.EntityIdCriterion;
 import org.opensaml.saml.criterion.EntityRoleCriterion;
 import org.opensaml.saml.saml2.core.Assertion;
@@ -76,10 +77,14 @@ import java.util.Optional;
 @Slf4j
 @RequiredArgsConstructor
 public class SamlIdPObjectEncrypter {
+    private static final String DECRYPTION_USAGE = "DECRYPTION";
+
     private final SamlIdPProperties samlIdPProperties;
 
     private final SamlIdPMetadataLocator samlIdPMetadataLocator;
 
+    private final SamlIdPSecurityParametersCache samlIdPSecurityParametersCache;
+
     private static void handleEncryptionFailure(final SamlRegisteredService service,
                                                 final SamlRegisteredServiceServiceProviderMetadataFacade adaptor) {
         val entityId = adaptor.getEntityId();
@@ -170,9 +175,12 @@ public class SamlIdPObjectEncrypter {
                          final SamlRegisteredService service,
                          final SamlRegisteredServiceServiceProviderMetadataFacade adaptor) {
         try {
-            val config = configureDecryptionSecurityConfiguration(service);
-            configureKeyDecryptionCredential(adaptor.getEntityId(), adaptor, service, config);
-            val parameters = resolveDecryptionParameters(service, config);
+            val parameters = samlIdPSecurityParametersCache.get(DECRYPTION_USAGE, service, adaptor.entityDescriptor(),
+                () -> FunctionUtils.doUnchecked(() -> {
+                    val config = configureDecryptionSecurityConfiguration(service);
+                    configureKeyDecryptionCredential(adaptor.getEntityId(), adaptor, service, config);
+                    return resolveDecryptionParameters(service, config);
+                }));
             val decrypter = getDecrypter(encryptedId, service, adaptor, parameters);
             return (NameID) decrypter.decrypt(encryptedId);
         } catch (final Exception e) {
@@ -182,6 +190,7 @@ public class SamlIdPObjectEncrypter {
 
     /**
      * Build encrypter for saml object encrypter.
+     * Encryption parameters are cached per service and service provider metadata.
      *
      * @param samlObject the saml object
      * @param service    the service
@@ -191,6 +200,24 @@ public class SamlIdPObjectEncrypter {
     protected Encrypter buildEncrypterForSamlObject(final Object samlObject,
                                                     final SamlRegisteredService service,
                                                     final SamlRegisteredServiceServiceProviderMetadataFacade adaptor) {
+        val parameters = samlIdPSecurityParametersCache.get(UsageType.ENCRYPTION.name(), service, adaptor.entityDescriptor(),
+            () -> buildEncryptionParameters(samlObject, service, adaptor));
+        LOGGER.trace("Building encrypter component for [{}]", adaptor.getEntityId());
+        return getEncrypter(samlObject, service, adaptor, parameters.getLeft(), parameters.getRight());
+    }
+
+    /**
+     * Build key and data encryption parameters.
+     *
+     * @param samlObject the saml object
+     * @param service    the service
+     * @param adaptor    the adaptor
+     * @return the key and data encryption parameters
+     */
+    protected Pair<KeyEncryptionParameters, DataEncryptionParameters> buildEncryptionParameters(
+        final Object samlObject,
+        final SamlRegisteredService service,
+        final SamlRegisteredServiceServiceProviderMetadataFacade adaptor) {
         val entityId = adaptor.getEntityId();
         LOGGER.trace("Calculating encryption security configuration for [{}] based on service [{}]", entityId, service.getName());
         val encryptionConfiguration = configureEncryptionSecurityConfiguration(service);
@@ -211,8 +238,7 @@ public class SamlIdPObjectEncrypter {
         if (dataEncParams != null) {
             LOGGER.trace("Data encryption algorithm for [{}] is [{}]", entityId, dataEncParams.getAlgorithm());
         }
-        LOGGER.trace("Building encrypter component for [{}]", entityId);
-        return getEncrypter(samlObject, service, adaptor, keyEncParams, dataEncParams);
+        return Pair.of(keyEncParams, dataEncParams);
     }
 
     /**
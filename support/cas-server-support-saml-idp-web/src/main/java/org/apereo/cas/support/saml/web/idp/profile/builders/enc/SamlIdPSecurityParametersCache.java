@@ -0,0 +1,118 @@
+package org.apereo.cas.support.saml.web.idp.profile.builders.enc;
+
+import org.apereo.cas.support.saml.idp.metadata.locator.SamlIdPMetadataLocator;
+import org.apereo.cas.support.saml.services.SamlRegisteredService;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.opensaml.core.xml.XMLObject;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link SamlIdPSecurityParametersCache}, which remembers the security parameters
+ * that are resolved to sign, encrypt and decrypt SAML objects, so that keys and credentials
+ * do not have to be loaded and resolved again for every request.
+ * <p>
+ * Entries are keyed by the registered service definition and the service provider metadata
+ * for which they are built, and are tied to the SAML2 IdP metadata artifacts that were in effect
+ * at the time. Changes to the service definition, the service provider metadata or the
+ * SAML2 IdP metadata artifacts force the entry to be built again.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class SamlIdPSecurityParametersCache {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "samlIdPSecurityParametersCache";
+
+    private final SamlIdPMetadataLocator samlIdPMetadataLocator;
+
+    private final Cache<CacheKey, CacheEntry> cache;
+
+    public SamlIdPSecurityParametersCache(final SamlIdPMetadataLocator samlIdPMetadataLocator,
+                                          final Duration expiration,
+                                          final long maximumSize) {
+        this.samlIdPMetadataLocator = samlIdPMetadataLocator;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterAccess(expiration)
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * Get the security parameters for the given usage, service and metadata,
+     * or build and remember them if none are found.
+     * Parameters that cannot be built are not remembered.
+     *
+     * @param <T>      the type parameter
+     * @param usage    the usage
+     * @param service  the service
+     * @param metadata the service provider metadata
+     * @param loader   the loader
+     * @return the security parameters
+     */
+    public <T> T get(final String usage, final SamlRegisteredService service,
+                     final XMLObject metadata, final Supplier<T> loader) {
+        val key = new CacheKey(usage, service.getId(), service.hashCode(), metadata);
+        val artifacts = getMetadataArtifacts(service);
+        val entry = cache.getIfPresent(key);
+        if (entry != null && entry.artifacts().equals(artifacts)) {
+            LOGGER.trace("Using cached [{}] security parameters for service [{}]", usage, service.getName());
+            return (T) entry.value();
+        }
+        LOGGER.trace("Building [{}] security parameters for service [{}]", usage, service.getName());
+        val value = loader.get();
+        if (value == null) {
+            cache.invalidate(key);
+        } else {
+            cache.put(key, new CacheEntry(artifacts, value));
+        }
+        return value;
+    }
+
+    /**
+     * Invalidate all cached security parameters.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    protected List<String> getMetadataArtifacts(final SamlRegisteredService service) {
+        val document = samlIdPMetadataLocator.fetch(Optional.of(service));
+        if (document == null) {
+            return List.of();
+        }
+        return Arrays.asList(document.getMetadata(), document.getSigningCertificate(), document.getSigningKey(),
+            document.getEncryptionCertificate(), document.getEncryptionKey());
+    }
+
+    private record CacheKey(String usage, long serviceId, int serviceHash, XMLObject metadata) {
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof CacheKey key
+                   && serviceId == key.serviceId
+                   && serviceHash == key.serviceHash
+                   && metadata == key.metadata
+                   && usage.equals(key.usage);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(usage, serviceId, serviceHash, System.identityHashCode(metadata));
+        }
+    }
+
+    private record CacheEntry(List<String> artifacts, Object value) {
+    }
+}
@@ -13,6 +13,7 @@ import org.apereo.cas.authentication.principal.PersistentIdGenerator;
 import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
 import org.apereo.cas.services.ServicesManager;
@@ -34,6 +35,7 @@ import org.apereo.cas.support.saml.web.idp.profile.builders.conditions.SamlProfi
 import org.apereo.cas.support.saml.web.idp.profile.builders.enc.DefaultSamlIdPObjectSigner;
 import org.apereo.cas.support.saml.web.idp.profile.builders.enc.SamlIdPObjectEncrypter;
 import org.apereo.cas.support.saml.web.idp.profile.builders.enc.SamlIdPObjectSigner;
+import org.apereo.cas.support.saml.web.idp.profile.builders.enc.SamlIdPSecurityParametersCache;
 import org.apereo.cas.support.saml.web.idp.profile.builders.nameid.SamlProfileSamlNameIdBuilder;
 import org.apereo.cas.support.saml.web.idp.profile.builders.response.SamlProfileSaml2ResponseBuilder;
 import org.apereo.cas.support.saml.web.idp.profile.builders.response.SamlProfileSamlResponseBuilderConfigurationContext;
@@ -473,14 +475,29 @@ public class SamlIdPConfiguration {
     @Configuration(value = "SamlIdPCryptoConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class SamlIdPCryptoConfiguration {
+        @ConditionalOnMissingBean(name = SamlIdPSecurityParametersCache.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public SamlIdPSecurityParametersCache samlIdPSecurityParametersCache(
+            @Qualifier("samlIdPMetadataLocator")
+            final SamlIdPMetadataLocator samlIdPMetadataLocator,
+            final CasConfigurationProperties casProperties) {
+            val core = casProperties.getAuthn().getSamlIdp().getMetadata().getCore();
+            return new SamlIdPSecurityParametersCache(samlIdPMetadataLocator,
+                Beans.newDuration(core.getCacheExpiration()), core.getCacheMaximumSize());
+        }
+
         @ConditionalOnMissingBean(name = "samlObjectEncrypter")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public SamlIdPObjectEncrypter samlObjectEncrypter(
             @Qualifier("samlIdPMetadataLocator")
             final SamlIdPMetadataLocator samlIdPMetadataLocator,
+            @Qualifier(SamlIdPSecurityParametersCache.BEAN_NAME)
+            final SamlIdPSecurityParametersCache samlIdPSecurityParametersCache,
             final CasConfigurationProperties casProperties) {
-            return new SamlIdPObjectEncrypter(casProperties.getAuthn().getSamlIdp(), samlIdPMetadataLocator);
+            return new SamlIdPObjectEncrypter(casProperties.getAuthn().getSamlIdp(),
+                samlIdPMetadataLocator, samlIdPSecurityParametersCache);
         }
 
         @ConditionalOnMissingBean(name = SamlIdPObjectSigner.DEFAULT_BEAN_NAME)
@@ -491,8 +508,11 @@ public class SamlIdPConfiguration {
             @Qualifier("casSamlIdPMetadataResolver")
             final MetadataResolver casSamlIdPMetadataResolver,
             @Qualifier("samlIdPMetadataLocator")
-            final SamlIdPMetadataLocator samlIdPMetadataLocator) {
-            return new DefaultSamlIdPObjectSigner(casSamlIdPMetadataResolver, casProperties, samlIdPMetadataLocator);
+            final SamlIdPMetadataLocator samlIdPMetadataLocator,
+            @Qualifier(SamlIdPSecurityParametersCache.BEAN_NAME)
+            final SamlIdPSecurityParametersCache samlIdPSecurityParametersCache) {
+            return new DefaultSamlIdPObjectSigner(casSamlIdPMetadataResolver, casProperties,
+                samlIdPMetadataLocator, samlIdPSecurityParametersCache);
         }
     }
 
@@ -58,6 +58,15 @@ class SamlRegisteredServiceCachedMetadataEndpointTests extends BaseSamlIdPConfig
         assertFalse(response.getBody().containsKey(samlRegisteredService.getServiceId()));
     }
 
+    @Test
+    void verifyCacheStatistics() {
+        endpoint.getCachedMetadataObject(samlRegisteredService.getServiceId(), samlRegisteredService.getServiceId(), true);
+        val response = endpoint.getCacheStatistics();
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().containsKey("loadSuccessCount"));
+        assertTrue(response.getBody().containsKey("indexedEntities"));
+    }
+
     @Test
     void verifyCachedMetadataObject() {
         val response = endpoint.getCachedMetadataObject(samlRegisteredService.getServiceId(), StringUtils.EMPTY, true);
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.opensaml.messaging.context.MessageContext;
 import org.opensaml.saml.common.xml.SAMLConstants;
+import org.opensaml.xmlsec.context.SecurityParametersContext;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.TestPropertySource;
@@ -44,4 +45,33 @@ class DefaultSamlIdPObjectSignerTests extends BaseSamlIdPConfigurationTests {
             SAMLConstants.SAML2_POST_BINDING_URI, authnRequest, new MessageContext()));
 
     }
+
+    @Test
+    void cachesSigningParameters() throws Exception {
+        val samlRegisteredService = getSamlRegisteredServiceFor(true, true, false, "https://cassp.example.org");
+        samlRegisteredService.setId(2000);
+        samlRegisteredService.setName("ObjectSignerCacheTest");
+
+        val adaptor = SamlRegisteredServiceServiceProviderMetadataFacade
+            .get(samlRegisteredServiceCachingMetadataResolver, samlRegisteredService,
+                samlRegisteredService.getServiceId()).get();
+
+        val firstContext = new MessageContext();
+        val authnRequest = SamlIdPTestUtils.getAuthnRequest(openSamlConfigBean, samlRegisteredService);
+        samlIdPObjectSigner.encode(authnRequest, samlRegisteredService, adaptor, new MockHttpServletResponse(),
+            new MockHttpServletRequest(), SAMLConstants.SAML2_POST_BINDING_URI, authnRequest, firstContext);
+        val firstParameters = firstContext.getSubcontext(SecurityParametersContext.class).getSignatureSigningParameters();
+        assertNotNull(firstParameters);
+
+        val secondContext = new MessageContext();
+        samlIdPObjectSigner.encode(authnRequest, samlRegisteredService, adaptor, new MockHttpServletResponse(),
+            new MockHttpServletRequest(), SAMLConstants.SAML2_POST_BINDING_URI, authnRequest, secondContext);
+        assertSame(firstParameters, secondContext.getSubcontext(SecurityParametersContext.class).getSignatureSigningParameters());
+
+        samlRegisteredService.setSigningSignatureCanonicalizationAlgorithm("http://www.w3.org/2001/10/xml-exc-c14n#");
+        val thirdContext = new MessageContext();
+        samlIdPObjectSigner.encode(authnRequest, samlRegisteredService, adaptor, new MockHttpServletResponse(),
+            new MockHttpServletRequest(), SAMLConstants.SAML2_POST_BINDING_URI, authnRequest, thirdContext);
+        assertNotSame(firstParameters, thirdContext.getSubcontext(SecurityParametersContext.class).getSignatureSigningParameters());
+    }
 }
@@ -2,8 +2,12 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.hz.HazelcastConfigurationFactory;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.web.flow.executor.FlowExecutionStateStorage;
+import org.apereo.cas.web.flow.executor.HazelcastFlowExecutionStateStorage;
 
 import com.hazelcast.config.AttributeConfig;
 import com.hazelcast.config.IndexConfig;
@@ -13,13 +17,16 @@ import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.instance.impl.HazelcastInstanceFactory;
 import lombok.val;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.session.HazelcastSessionProperties;
 import org.springframework.boot.autoconfigure.session.SessionProperties;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
@@ -40,8 +47,9 @@ import java.time.Duration;
 @EnableConfigurationProperties({CasConfigurationProperties.class,
     SessionProperties.class, HazelcastSessionProperties.class, ServerProperties.class})
 @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.SessionManagement, module = "hazelcast")
-@AutoConfiguration
+@AutoConfiguration(before = CasWebflowContextConfiguration.class)
 public class HazelcastSessionConfiguration {
+    private static final String MAP_NAME_FLOW_EXECUTION_STATE = "casFlowExecutionState";
 
     /**
      * Hazelcast instance that is used by the spring session
@@ -85,4 +93,22 @@ public class HazelcastSessionConfiguration {
         HazelcastConfigurationFactory.setConfigMap(mapConfig, hazelcastInstance.getConfig());
         return hazelcastInstance;
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = FlowExecutionStateStorage.BEAN_NAME)
+    public FlowExecutionStateStorage flowExecutionStateStorage(
+        final ConfigurableApplicationContext applicationContext,
+        final CasConfigurationProperties casProperties,
+        @Qualifier("hazelcastInstance")
+        final HazelcastInstance hazelcastInstance) {
+        return BeanSupplier.of(FlowExecutionStateStorage.class)
+            .when(FlowExecutionStateStorage.CONDITION.given(applicationContext.getEnvironment()))
+            .supply(() -> {
+                val client = casProperties.getWebflow().getSession().getClient();
+                return new HazelcastFlowExecutionStateStorage(hazelcastInstance,
+                    MAP_NAME_FLOW_EXECUTION_STATE, Beans.newDuration(client.getStateTimeout()));
+            })
+            .otherwiseProxy()
+            .get();
+    }
 }
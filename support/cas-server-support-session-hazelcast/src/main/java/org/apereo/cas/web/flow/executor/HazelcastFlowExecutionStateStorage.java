@@ -0,0 +1,44 @@
+package org.apereo.cas.web.flow.executor;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link HazelcastFlowExecutionStateStorage}, which keeps
+ * flow execution snapshots inside a distributed Hazelcast map
+ * so that they can be shared across all nodes of the cluster.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+public class HazelcastFlowExecutionStateStorage implements FlowExecutionStateStorage {
+    private final HazelcastInstance hazelcastInstance;
+
+    private final String mapName;
+
+    private final Duration timeout;
+
+    @Override
+    public void put(final String id, final byte[] state) {
+        getStorage().set(id, state, timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public byte[] get(final String id) {
+        return getStorage().get(id);
+    }
+
+    @Override
+    public void remove(final String id) {
+        getStorage().delete(id);
+    }
+
+    private IMap<String, byte[]> getStorage() {
+        return hazelcastInstance.getMap(mapName);
+    }
+}
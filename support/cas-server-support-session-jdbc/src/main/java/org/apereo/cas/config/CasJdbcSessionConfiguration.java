@@ -2,9 +2,14 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeaturesEnabled;
+import org.apereo.cas.web.flow.executor.FlowExecutionStateStorage;
+import org.apereo.cas.web.flow.executor.JdbcFlowExecutionStateStorage;
 
+import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
@@ -13,11 +18,14 @@ import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.session.JdbcSessionDataSourceScriptDatabaseInitializer;
 import org.springframework.boot.autoconfigure.session.JdbcSessionProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.session.jdbc.config.annotation.SpringSessionDataSource;
 import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
 
 import javax.sql.DataSource;
+import java.time.Clock;
 
 /**
  * This is {@link CasJdbcSessionConfiguration}.
@@ -32,7 +40,7 @@ import javax.sql.DataSource;
 @EnableJdbcHttpSession
 @EnableConfigurationProperties({CasConfigurationProperties.class, JdbcSessionProperties.class})
 @ImportAutoConfiguration(DataSourceAutoConfiguration.class)
-@AutoConfiguration
+@AutoConfiguration(before = CasWebflowContextConfiguration.class)
 public class CasJdbcSessionConfiguration {
     @Bean
     @ConditionalOnMissingBean
@@ -44,4 +52,24 @@ public class CasJdbcSessionConfiguration {
         return new JdbcSessionDataSourceScriptDatabaseInitializer(
             sessionDataSource.getIfAvailable(dataSource::getObject), properties);
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = FlowExecutionStateStorage.BEAN_NAME)
+    public FlowExecutionStateStorage flowExecutionStateStorage(
+        final ConfigurableApplicationContext applicationContext,
+        final CasConfigurationProperties casProperties,
+        @SpringSessionDataSource
+        final ObjectProvider<DataSource> sessionDataSource,
+        final ObjectProvider<DataSource> dataSource) {
+        return BeanSupplier.of(FlowExecutionStateStorage.class)
+            .when(FlowExecutionStateStorage.CONDITION.given(applicationContext.getEnvironment()))
+            .supply(() -> {
+                val client = casProperties.getWebflow().getSession().getClient();
+                val jdbcTemplate = new JdbcTemplate(sessionDataSource.getIfAvailable(dataSource::getObject));
+                return new JdbcFlowExecutionStateStorage(jdbcTemplate,
+                    Beans.newDuration(client.getStateTimeout()), Clock.systemUTC());
+            })
+            .otherwiseProxy()
+            .get();
+    }
 }
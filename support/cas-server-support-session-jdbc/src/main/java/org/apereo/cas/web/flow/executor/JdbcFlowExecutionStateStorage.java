@@ -0,0 +1,108 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.sql.DatabaseMetaData;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link JdbcFlowExecutionStateStorage}, which keeps
+ * flow execution snapshots inside a relational database table
+ * so that they can be shared across all nodes of the cluster.
+ * Expired snapshots are never returned and are periodically removed from the table.
+ * The table is created, if missing, once the storage is initialized.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class JdbcFlowExecutionStateStorage implements FlowExecutionStateStorage, InitializingBean {
+    /**
+     * Table that holds flow execution snapshots.
+     */
+    public static final String TABLE_NAME = "CAS_FLOW_EXECUTION_STATE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Duration timeout;
+
+    private final Clock clock;
+
+    private final AtomicLong lastCleanup = new AtomicLong();
+
+    public JdbcFlowExecutionStateStorage(final JdbcTemplate jdbcTemplate,
+                                         final Duration timeout,
+                                         final Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.timeout = timeout;
+        this.clock = clock;
+    }
+
+    private static String getBlobColumnType(final String databaseProductName) {
+        val productName = StringUtils.defaultString(databaseProductName).toLowerCase(Locale.ENGLISH);
+        if (productName.contains("postgres")) {
+            return "BYTEA";
+        }
+        if (productName.contains("mysql") || productName.contains("mariadb")) {
+            return "LONGBLOB";
+        }
+        if (productName.contains("microsoft")) {
+            return "VARBINARY(MAX)";
+        }
+        return "BLOB";
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        createTableIfNecessary();
+    }
+
+    private void createTableIfNecessary() {
+        try {
+            val productName = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (ID VARCHAR(255) NOT NULL PRIMARY KEY, STATE "
+                + getBlobColumnType(productName) + " NOT NULL, EXPIRES_AT BIGINT NOT NULL)");
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to create table [{}]: [{}]", TABLE_NAME, e.getMessage());
+        }
+    }
+
+    @Override
+    public void put(final String id, final byte[] state) {
+        val now = clock.millis();
+        val expiresAt = now + timeout.toMillis();
+        val updated = jdbcTemplate.update("UPDATE " + TABLE_NAME + " SET STATE = ?, EXPIRES_AT = ? WHERE ID = ?", state, expiresAt, id);
+        if (updated == 0) {
+            jdbcTemplate.update("INSERT INTO " + TABLE_NAME + " (ID, STATE, EXPIRES_AT) VALUES (?, ?, ?)", id, state, expiresAt);
+        }
+        removeExpiredStates(now);
+    }
+
+    @Override
+    public byte[] get(final String id) {
+        val results = jdbcTemplate.query("SELECT STATE FROM " + TABLE_NAME + " WHERE ID = ? AND EXPIRES_AT > ?",
+            (rs, rowNum) -> rs.getBytes("STATE"), id, clock.millis());
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    @Override
+    public void remove(final String id) {
+        jdbcTemplate.update("DELETE FROM " + TABLE_NAME + " WHERE ID = ?", id);
+    }
+
+    private void removeExpiredStates(final long now) {
+        val previous = lastCleanup.get();
+        if (now - previous >= timeout.toMillis() && lastCleanup.compareAndSet(previous, now)) {
+            val count = jdbcTemplate.update("DELETE FROM " + TABLE_NAME + " WHERE EXPIRES_AT <= ?", now);
+            LOGGER.debug("Removed [{}] expired flow execution state(s)", count);
+        }
+    }
+}
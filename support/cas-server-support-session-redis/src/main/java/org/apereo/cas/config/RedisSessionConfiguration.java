@@ -2,10 +2,21 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.web.flow.executor.CacheFlowExecutionStateStorage;
+import org.apereo.cas.web.flow.executor.FlowExecutionStateStorage;
 
+import lombok.val;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
 
 /**
@@ -17,5 +28,30 @@ import org.springframework.session.data.redis.config.annotation.web.http.EnableR
 @EnableRedisHttpSession
 @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.SessionManagement, module = "redis")
 @EnableConfigurationProperties(CasConfigurationProperties.class)
-@AutoConfiguration
-public class RedisSessionConfiguration {}
+@AutoConfiguration(before = CasWebflowContextConfiguration.class)
+public class RedisSessionConfiguration {
+    private static final String CACHE_NAME_FLOW_EXECUTION_STATE = "casFlowExecutionState";
+
+    @Bean
+    @ConditionalOnMissingBean(name = FlowExecutionStateStorage.BEAN_NAME)
+    public FlowExecutionStateStorage flowExecutionStateStorage(
+        final ConfigurableApplicationContext applicationContext,
+        final CasConfigurationProperties casProperties,
+        final RedisConnectionFactory redisConnectionFactory) {
+        return BeanSupplier.of(FlowExecutionStateStorage.class)
+            .when(FlowExecutionStateStorage.CONDITION.given(applicationContext.getEnvironment()))
+            .supply(() -> {
+                val client = casProperties.getWebflow().getSession().getClient();
+                val cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
+                    .entryTtl(Beans.newDuration(client.getStateTimeout()))
+                    .disableCachingNullValues();
+                val cacheManager = RedisCacheManager.builder(redisConnectionFactory)
+                    .cacheDefaults(cacheConfig)
+                    .build();
+                cacheManager.afterPropertiesSet();
+                return new CacheFlowExecutionStateStorage(cacheManager.getCache(CACHE_NAME_FLOW_EXECUTION_STATE));
+            })
+            .otherwiseProxy()
+            .get();
+    }
+}
@@ -1,16 +1,58 @@
 package org.apereo.cas.web.support;
 
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+
 import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * This is {@link AbstractInspektrAuditHandlerInterceptorAdapter}.
+ * <p>
+ * Failed submissions are tracked per client address and username by a
+ * {@link SlidingWindowThrottledSubmissionCounter}, backed by a {@link ThrottledSubmissionCounterStore}.
+ * A request exceeds the threshold once the rate of failures within the configured range,
+ * measured over at least two failures, goes over the threshold rate. Throttled attempts are still
+ * recorded in the audit log.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
  */
+@Slf4j
+@Getter
 public abstract class AbstractInspektrAuditHandlerInterceptorAdapter extends AbstractThrottledSubmissionHandlerInterceptorAdapter {
-    protected AbstractInspektrAuditHandlerInterceptorAdapter(final ThrottledSubmissionHandlerConfigurationContext configurationContext) {
+    private static final String REQUEST_ATTRIBUTE_FAILURE_RECORDED = AbstractInspektrAuditHandlerInterceptorAdapter.class.getName() + ".failureRecorded";
+
+    private final SlidingWindowThrottledSubmissionCounter submissionCounter;
+
+    protected AbstractInspektrAuditHandlerInterceptorAdapter(final ThrottledSubmissionHandlerConfigurationContext configurationContext,
+                                                             final ThrottledSubmissionCounterStore counterStore) {
         super(configurationContext);
+        this.submissionCounter = SlidingWindowThrottledSubmissionCounter.of(counterStore,
+            configurationContext.getCasProperties().getAuthn().getThrottle().getFailure());
+    }
+
+    @Override
+    public void recordSubmissionFailure(final HttpServletRequest request) {
+        if (request.getAttribute(REQUEST_ATTRIBUTE_FAILURE_RECORDED) == null) {
+            request.setAttribute(REQUEST_ATTRIBUTE_FAILURE_RECORDED, Boolean.TRUE);
+            val count = submissionCounter.record(getThrottleKey(request));
+            LOGGER.debug("Recorded submission failure; [{}] failure(s) in the current bucket", count);
+        }
+    }
+
+    @Override
+    public boolean exceedsThreshold(final HttpServletRequest request) {
+        val failures = submissionCounter.count(getThrottleKey(request));
+        val rate = failures * 1000.0D / submissionCounter.getWindow().toMillis();
+        LOGGER.debug("Found [{}] failure(s) within the window, calculated as rate of [{}]", failures, rate);
+        return failures >= 2 && rate > getThresholdRate();
+    }
+
+    @Override
+    public void release() {
+        submissionCounter.getStore().removeExpired();
     }
 
     @Override
@@ -18,4 +60,16 @@ public abstract class AbstractInspektrAuditHandlerInterceptorAdapter extends Abs
         super.recordThrottle(request);
         recordAuditAction(request, ACTION_THROTTLED_LOGIN_ATTEMPT);
     }
+
+    /**
+     * Build the throttling key for the request from the client address and username.
+     *
+     * @param request the request
+     * @return the key
+     */
+    protected String getThrottleKey(final HttpServletRequest request) {
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val remoteAddress = clientInfo != null ? clientInfo.getClientIpAddress() : request.getRemoteAddr();
+        return SlidingWindowThrottledSubmissionCounter.getKey(remoteAddress, getUsernameParameterFromRequest(request));
+    }
 }
@@ -0,0 +1,55 @@
+package org.apereo.cas.web.support;
+
+import lombok.val;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link InMemoryThrottledSubmissionCounterStore}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public class InMemoryThrottledSubmissionCounterStore implements ThrottledSubmissionCounterStore {
+    private final Map<String, Map<Long, Counter>> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public long increment(final String key, final long bucket, final Instant expiration) {
+        val result = new AtomicLong();
+        counters.compute(key, (k, buckets) -> {
+            val entries = buckets == null ? new ConcurrentHashMap<Long, Counter>() : buckets;
+            result.set(entries.computeIfAbsent(bucket, b -> new Counter(new AtomicLong(), expiration)).value().incrementAndGet());
+            return entries;
+        });
+        return result.get();
+    }
+
+    @Override
+    public long count(final String key, final long fromBucket, final long toBucket) {
+        val buckets = counters.getOrDefault(key, Map.of());
+        var total = 0L;
+        for (var bucket = fromBucket; bucket <= toBucket; bucket++) {
+            val counter = buckets.get(bucket);
+            if (counter != null) {
+                total += counter.value().get();
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public void removeExpired() {
+        val now = Instant.now(Clock.systemUTC());
+        counters.keySet().forEach(key -> counters.computeIfPresent(key, (k, buckets) -> {
+            buckets.values().removeIf(counter -> counter.expiration().isBefore(now));
+            return buckets.isEmpty() ? null : buckets;
+        }));
+    }
+
+    private record Counter(AtomicLong value, Instant expiration) {
+    }
+}
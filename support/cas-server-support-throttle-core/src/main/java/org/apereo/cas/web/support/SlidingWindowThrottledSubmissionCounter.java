@@ -0,0 +1,101 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.configuration.model.support.throttle.ThrottleFailureProperties;
+import org.apereo.cas.util.DigestUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * This is {@link SlidingWindowThrottledSubmissionCounter}.
+ * <p>
+ * Counts failed submissions per client address and username within a sliding window
+ * that spans the configured failure range. The window is divided into a fixed number
+ * of time buckets, so recording a failure and counting failures within the window
+ * are constant-time operations against the {@link ThrottledSubmissionCounterStore},
+ * regardless of how many failures are recorded elsewhere. Counters expire once they
+ * fall out of the window.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class SlidingWindowThrottledSubmissionCounter {
+    /**
+     * Default number of buckets in the window.
+     */
+    public static final int DEFAULT_BUCKET_COUNT = 10;
+
+    private final ThrottledSubmissionCounterStore store;
+
+    private final Duration window;
+
+    private final int bucketCount;
+
+    private final Clock clock;
+
+    /**
+     * Build a counter whose window matches the failure range of the throttling configuration.
+     *
+     * @param store   the store
+     * @param failure the failure settings
+     * @return the counter
+     */
+    public static SlidingWindowThrottledSubmissionCounter of(final ThrottledSubmissionCounterStore store,
+                                                             final ThrottleFailureProperties failure) {
+        return new SlidingWindowThrottledSubmissionCounter(store, Duration.ofSeconds(Math.max(1, failure.getRangeSeconds())),
+            DEFAULT_BUCKET_COUNT, Clock.systemUTC());
+    }
+
+    /**
+     * Build the throttling key for the given client address and username.
+     * The key is digested so that it has a fixed length and does not reveal the username.
+     *
+     * @param remoteAddress the remote address
+     * @param username      the username
+     * @return the key
+     */
+    public static String getKey(final String remoteAddress, final String username) {
+        return DigestUtils.sha256(StringUtils.defaultString(remoteAddress) + ';' + StringUtils.defaultString(username));
+    }
+
+    /**
+     * Record a failed submission.
+     *
+     * @param key the key
+     * @return the number of failures recorded in the current bucket
+     */
+    public long record(final String key) {
+        val bucketWidth = getBucketWidthMillis();
+        val bucket = clock.millis() / bucketWidth;
+        val expiration = Instant.ofEpochMilli((bucket + 1) * bucketWidth).plus(window);
+        return store.increment(key, bucket, expiration);
+    }
+
+    /**
+     * Count failed submissions within the window.
+     *
+     * @param key the key
+     * @return the count
+     */
+    public long count(final String key) {
+        val bucket = clock.millis() / getBucketWidthMillis();
+        return store.count(key, bucket - bucketCount + 1, bucket);
+    }
+
+    /**
+     * Gets the width of each bucket.
+     *
+     * @return the bucket width in milliseconds
+     */
+    public long getBucketWidthMillis() {
+        return Math.max(1, window.toMillis() / Math.max(1, bucketCount));
+    }
+}
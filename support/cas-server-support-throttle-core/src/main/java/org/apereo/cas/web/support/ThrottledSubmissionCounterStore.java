@@ -0,0 +1,41 @@
+package org.apereo.cas.web.support;
+
+import java.time.Instant;
+
+/**
+ * This is {@link ThrottledSubmissionCounterStore}.
+ * Keeps track of failed submissions in fixed-size time buckets per throttling key.
+ * Implementations are expected to increment counters atomically, since the same
+ * key may be updated concurrently by multiple CAS server nodes.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public interface ThrottledSubmissionCounterStore {
+
+    /**
+     * Atomically increment the counter of the given bucket.
+     *
+     * @param key        the throttling key
+     * @param bucket     the bucket
+     * @param expiration the instant after which the counter can be discarded
+     * @return the updated counter value
+     */
+    long increment(String key, long bucket, Instant expiration);
+
+    /**
+     * Sum up the counters of the given key for buckets in the given range, inclusive.
+     *
+     * @param key        the throttling key
+     * @param fromBucket the first bucket
+     * @param toBucket   the last bucket
+     * @return the total count
+     */
+    long count(String key, long fromBucket, long toBucket);
+
+    /**
+     * Remove counters that have expired, if the store does not do so on its own.
+     */
+    default void removeExpired() {
+    }
+}
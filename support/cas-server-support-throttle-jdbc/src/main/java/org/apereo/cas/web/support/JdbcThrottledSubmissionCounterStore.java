@@ -0,0 +1,103 @@
+package org.apereo.cas.web.support;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * This is {@link JdbcThrottledSubmissionCounterStore}.
+ * <p>
+ * Counters are kept in a dedicated table, keyed by the throttling key and bucket. Increments are
+ * carried out as a single {@code UPDATE} statement that is atomic in the database; the row for a new bucket
+ * is inserted on first use, and a concurrent insert of the same row falls back to the update.
+ * Expired rows are removed when the throttle is released.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class JdbcThrottledSubmissionCounterStore implements ThrottledSubmissionCounterStore {
+    /**
+     * Default table name.
+     */
+    public static final String TABLE_NAME = "CAS_THROTTLE_COUNTER";
+
+    private static final String SQL_CREATE_TABLE = "CREATE TABLE " + TABLE_NAME + " ("
+                                                   + "COUNTER_KEY VARCHAR(128) NOT NULL, "
+                                                   + "BUCKET NUMERIC(19) NOT NULL, "
+                                                   + "COUNTER_VALUE NUMERIC(19) NOT NULL, "
+                                                   + "EXPIRES_AT NUMERIC(19) NOT NULL, "
+                                                   + "PRIMARY KEY (COUNTER_KEY, BUCKET))";
+
+    private static final String SQL_CHECK_TABLE = "SELECT COUNT(*) FROM " + TABLE_NAME + " WHERE 1 = 0";
+
+    private static final String SQL_UPDATE = "UPDATE " + TABLE_NAME + " SET COUNTER_VALUE = COUNTER_VALUE + 1, EXPIRES_AT = ? "
+                                             + "WHERE COUNTER_KEY = ? AND BUCKET = ?";
+
+    private static final String SQL_INSERT = "INSERT INTO " + TABLE_NAME + " (COUNTER_KEY, BUCKET, COUNTER_VALUE, EXPIRES_AT) VALUES (?, ?, 1, ?)";
+
+    private static final String SQL_SELECT_BUCKET = "SELECT COUNTER_VALUE FROM " + TABLE_NAME + " WHERE COUNTER_KEY = ? AND BUCKET = ?";
+
+    private static final String SQL_COUNT = "SELECT SUM(COUNTER_VALUE) FROM " + TABLE_NAME
+                                            + " WHERE COUNTER_KEY = ? AND BUCKET >= ? AND BUCKET <= ?";
+
+    private static final String SQL_DELETE_EXPIRED = "DELETE FROM " + TABLE_NAME + " WHERE EXPIRES_AT < ?";
+
+    private final JdbcOperations jdbcTemplate;
+
+    public JdbcThrottledSubmissionCounterStore(final JdbcOperations jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        createTableIfNecessary();
+    }
+
+    @Override
+    public long increment(final String key, final long bucket, final Instant expiration) {
+        if (update(key, bucket, expiration)) {
+            return currentValue(key, bucket);
+        }
+        try {
+            jdbcTemplate.update(SQL_INSERT, key, bucket, expiration.toEpochMilli());
+            return 1;
+        } catch (final DuplicateKeyException e) {
+            LOGGER.trace("Counter for bucket [{}] is concurrently created; updating the counter instead", bucket);
+            update(key, bucket, expiration);
+            return currentValue(key, bucket);
+        }
+    }
+
+    @Override
+    public long count(final String key, final long fromBucket, final long toBucket) {
+        val result = jdbcTemplate.queryForObject(SQL_COUNT, Long.class, key, fromBucket, toBucket);
+        return Objects.requireNonNullElse(result, 0L);
+    }
+
+    @Override
+    public void removeExpired() {
+        val count = jdbcTemplate.update(SQL_DELETE_EXPIRED, Instant.now(Clock.systemUTC()).toEpochMilli());
+        LOGGER.debug("Removed [{}] expired throttling counter(s)", count);
+    }
+
+    private boolean update(final String key, final long bucket, final Instant expiration) {
+        return jdbcTemplate.update(SQL_UPDATE, expiration.toEpochMilli(), key, bucket) > 0;
+    }
+
+    private long currentValue(final String key, final long bucket) {
+        val result = jdbcTemplate.queryForObject(SQL_SELECT_BUCKET, Long.class, key, bucket);
+        return Objects.requireNonNullElse(result, 0L);
+    }
+
+    private void createTableIfNecessary() {
+        try {
+            jdbcTemplate.queryForObject(SQL_CHECK_TABLE, Long.class);
+        } catch (final DataAccessException e) {
+            LOGGER.info("Creating table [{}] to track authentication throttling counters", TABLE_NAME);
+            jdbcTemplate.execute(SQL_CREATE_TABLE);
+        }
+    }
+}
@@ -1,16 +1,11 @@
 package org.apereo.cas.web.support;
 
 import org.apereo.cas.configuration.model.support.throttle.JdbcThrottleProperties;
-import org.apereo.cas.util.DateTimeUtils;
-import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.jdbc.core.JdbcOperations;
-import jakarta.servlet.http.HttpServletRequest;
 import java.sql.Types;
 import java.util.Collection;
 import java.util.Date;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -19,13 +14,12 @@ import java.util.stream.Collectors;
  * Defines a new Inspektr Action "THROTTLED_LOGIN_ATTEMPT" which keeps track of failed login attempts that don't result
  * in AUTHENTICATION_FAILED methods
  * <p>
- * This relies on the default Inspektr table layout and username construction.  The username construction can be overridden
- * in a subclass.
+ * Failed login attempts are counted in a dedicated table via {@link JdbcThrottledSubmissionCounterStore}.
+ * Audit records in the default Inspektr table layout are only consulted to report throttled submissions.
  *
  * @author Scott Battaglia
  * @since 3.3.5
  */
-@Slf4j
 @SuppressWarnings("JavaUtilDate")
 public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractInspektrAuditHandlerInterceptorAdapter {
     private final JdbcOperations jdbcTemplate;
@@ -33,38 +27,15 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractIn
     public JdbcThrottledSubmissionHandlerInterceptorAdapter(
         final ThrottledSubmissionHandlerConfigurationContext configurationContext,
         final JdbcOperations jdbcTemplate) {
-        super(configurationContext);
-        this.jdbcTemplate = jdbcTemplate;
+        this(configurationContext, jdbcTemplate, new JdbcThrottledSubmissionCounterStore(jdbcTemplate));
     }
 
-    @Override
-    public boolean exceedsThreshold(final HttpServletRequest request) {
-        val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
-        val clientInfo = ClientInfoHolder.getClientInfo();
-        val remoteAddress = clientInfo.getClientIpAddress();
-        val username = getUsernameParameterFromRequest(request);
-
-        LOGGER.debug("Fetching failures in audit log for username [{}] and remote address [{}]", username, remoteAddress);
-        val failuresInAudits = jdbcTemplate.query(
-            throttle.getJdbc().getAuditQuery(),
-            ps -> {
-                ps.setString(1, remoteAddress);
-                ps.setString(2, username);
-                ps.setString(3, throttle.getFailure().getCode());
-                ps.setString(4, throttle.getCore().getAppCode());
-                ps.setObject(5, getFailureInRangeCutOffDate());
-            },
-            (resultSet, i) -> ThrottledSubmission
-                .builder()
-                .key(UUID.randomUUID().toString())
-                .value(DateTimeUtils.zonedDateTimeOf(resultSet.getTimestamp("AUD_DATE")))
-                .build());
-        LOGGER.debug("Found [{}] failure(s) in audit log", failuresInAudits.size());
-        val result = calculateFailureThresholdRateAndCompare(failuresInAudits);
-        if (result) {
-            LOGGER.debug("Request from [{}] by user [{}] exceeds threshold", remoteAddress, username);
-        }
-        return result;
+    public JdbcThrottledSubmissionHandlerInterceptorAdapter(
+        final ThrottledSubmissionHandlerConfigurationContext configurationContext,
+        final JdbcOperations jdbcTemplate,
+        final ThrottledSubmissionCounterStore counterStore) {
+        super(configurationContext, counterStore);
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
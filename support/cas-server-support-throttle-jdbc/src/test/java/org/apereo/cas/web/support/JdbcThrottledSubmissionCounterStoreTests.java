@@ -0,0 +1,71 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.config.CasHibernateJpaConfiguration;
+import org.apereo.cas.config.CasJdbcAuditConfiguration;
+import org.apereo.cas.config.CasJdbcThrottlingConfiguration;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JdbcThrottledSubmissionCounterStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@SpringBootTest(classes = {
+    CasJdbcThrottlingConfiguration.class,
+    CasJdbcAuditConfiguration.class,
+    CasHibernateJpaConfiguration.class,
+    BaseThrottledSubmissionHandlerInterceptorAdapterTests.SharedTestConfiguration.class
+}, properties = "cas.audit.jdbc.asynchronous=false")
+@Tag("JDBC")
+class JdbcThrottledSubmissionCounterStoreTests {
+    @Autowired
+    @Qualifier("inspektrThrottleJdbcTemplate")
+    private JdbcOperations inspektrThrottleJdbcTemplate;
+
+    @Test
+    void verifyCountersIncrementedAndCounted() {
+        val store = new JdbcThrottledSubmissionCounterStore(inspektrThrottleJdbcTemplate);
+        val key = UUID.randomUUID().toString();
+        val expiration = Instant.now().plus(1, ChronoUnit.HOURS);
+        assertEquals(1, store.increment(key, 100, expiration));
+        assertEquals(2, store.increment(key, 100, expiration));
+        assertEquals(1, store.increment(key, 101, expiration));
+        assertEquals(3, store.count(key, 100, 101));
+        assertEquals(1, store.count(key, 101, 105));
+        assertEquals(0, store.count(key, 102, 105));
+        assertEquals(0, store.count(UUID.randomUUID().toString(), 100, 101));
+    }
+
+    @Test
+    void verifyExpiredCountersRemoved() {
+        val store = new JdbcThrottledSubmissionCounterStore(inspektrThrottleJdbcTemplate);
+        val key = UUID.randomUUID().toString();
+        store.increment(key, 100, Instant.now().minus(1, ChronoUnit.MINUTES));
+        store.increment(key, 101, Instant.now().plus(1, ChronoUnit.HOURS));
+        store.removeExpired();
+        assertEquals(1, store.count(key, 100, 101));
+    }
+
+    @Test
+    void verifyExistingTableIsReused() {
+        val key = UUID.randomUUID().toString();
+        val expiration = Instant.now().plus(1, ChronoUnit.HOURS);
+        new JdbcThrottledSubmissionCounterStore(inspektrThrottleJdbcTemplate).increment(key, 100, expiration);
+        val store = new JdbcThrottledSubmissionCounterStore(inspektrThrottleJdbcTemplate);
+        assertEquals(2, store.increment(key, 100, expiration));
+    }
+}
@@ -9,6 +9,7 @@ import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.web.support.MongoDbThrottledSubmissionCounterStore;
 import org.apereo.cas.web.support.MongoDbThrottledSubmissionHandlerInterceptorAdapter;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerConfigurationContext;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerInterceptor;
@@ -38,6 +39,7 @@ import java.util.List;
 @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.Throttling, module = "mongo")
 @AutoConfiguration
 public class CasMongoDbThrottlingConfiguration {
+    private static final String COLLECTION_SUFFIX_COUNTERS = "Counters";
 
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -51,7 +53,8 @@ public class CasMongoDbThrottlingConfiguration {
         val factory = new MongoDbConnectionFactory(List.of(new AuditActionContextConverter()), casSslContext.getSslContext());
         val mongoTemplate = factory.buildMongoTemplate(mongo);
         MongoDbConnectionFactory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
-        return new MongoDbThrottledSubmissionHandlerInterceptorAdapter(authenticationThrottlingConfigurationContext, mongoTemplate, mongo.getCollection());
+        val counterStore = new MongoDbThrottledSubmissionCounterStore(mongoTemplate, mongo.getCollection() + COLLECTION_SUFFIX_COUNTERS);
+        return new MongoDbThrottledSubmissionHandlerInterceptorAdapter(authenticationThrottlingConfigurationContext, counterStore);
     }
 
     private static class AuditActionContextConverter extends BaseConverters.NullConverter<Document, AuditActionContext> {
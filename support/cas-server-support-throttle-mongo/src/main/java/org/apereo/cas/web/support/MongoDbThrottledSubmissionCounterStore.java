@@ -0,0 +1,87 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.mongo.MongoDbConnectionFactory;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * This is {@link MongoDbThrottledSubmissionCounterStore}.
+ * <p>
+ * Each bucket is stored as its own document, and is incremented atomically via an upsert.
+ * Documents are removed by MongoDb once they expire, via a TTL index.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class MongoDbThrottledSubmissionCounterStore implements ThrottledSubmissionCounterStore {
+    private static final String FIELD_KEY = "key";
+
+    private static final String FIELD_BUCKET = "bucket";
+
+    private static final String FIELD_COUNT = "count";
+
+    private static final String FIELD_EXPIRES_AT = "expiresAt";
+
+    private final MongoOperations mongoTemplate;
+
+    private final String collectionName;
+
+    public MongoDbThrottledSubmissionCounterStore(final MongoOperations mongoTemplate, final String collectionName) {
+        this.mongoTemplate = mongoTemplate;
+        this.collectionName = collectionName;
+        MongoDbConnectionFactory.createCollection(mongoTemplate, collectionName, false);
+        val collection = mongoTemplate.getCollection(collectionName);
+        val indexes = List.<IndexDefinition>of(
+            new Index().on(FIELD_EXPIRES_AT, Sort.Direction.ASC).expire(Duration.ZERO),
+            new Index().on(FIELD_KEY, Sort.Direction.ASC).on(FIELD_BUCKET, Sort.Direction.ASC));
+        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, indexes);
+    }
+
+    private static long getCount(final Document document) {
+        return document != null && document.get(FIELD_COUNT) instanceof Number count ? count.longValue() : 0;
+    }
+
+    @Override
+    public long increment(final String key, final long bucket, final Instant expiration) {
+        val query = new Query(Criteria.where("_id").is(key + ':' + bucket));
+        val update = new Update()
+            .inc(FIELD_COUNT, 1)
+            .set(FIELD_EXPIRES_AT, Date.from(expiration))
+            .setOnInsert(FIELD_KEY, key)
+            .setOnInsert(FIELD_BUCKET, bucket);
+        val options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+        try {
+            return getCount(mongoTemplate.findAndModify(query, update, options, Document.class, collectionName));
+        } catch (final DuplicateKeyException e) {
+            LOGGER.trace("Counter for bucket [{}] is concurrently created; updating the counter instead", bucket);
+            return getCount(mongoTemplate.findAndModify(query, update, options, Document.class, collectionName));
+        }
+    }
+
+    @Override
+    public long count(final String key, final long fromBucket, final long toBucket) {
+        val query = new Query(Criteria.where(FIELD_KEY).is(key).and(FIELD_BUCKET).gte(fromBucket).lte(toBucket));
+        query.fields().include(FIELD_COUNT);
+        return mongoTemplate.find(query, Document.class, collectionName)
+            .stream()
+            .mapToLong(MongoDbThrottledSubmissionCounterStore::getCount)
+            .sum();
+    }
+}
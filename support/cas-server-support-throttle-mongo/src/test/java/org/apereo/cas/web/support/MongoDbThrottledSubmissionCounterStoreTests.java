@@ -0,0 +1,81 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.mongo.MongoDbConnectionFactory;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MongoDbThrottledSubmissionCounterStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("MongoDb")
+@SpringBootTest(classes = RefreshAutoConfiguration.class,
+    properties = {
+        "cas.audit.mongo.database-name=throttle",
+        "cas.audit.mongo.host=localhost",
+        "cas.audit.mongo.port=27017",
+        "cas.audit.mongo.collection=MongoDbCasThrottleRepository",
+        "cas.audit.mongo.user-id=root",
+        "cas.audit.mongo.password=secret",
+        "cas.audit.mongo.authentication-database-name=admin"
+    })
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@EnabledIfListeningOnPort(port = 27017)
+class MongoDbThrottledSubmissionCounterStoreTests {
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    private MongoDbThrottledSubmissionCounterStore store;
+
+    @BeforeEach
+    public void initialize() {
+        val mongo = casProperties.getAudit().getMongo();
+        val mongoTemplate = new MongoDbConnectionFactory().buildMongoTemplate(mongo);
+        store = new MongoDbThrottledSubmissionCounterStore(mongoTemplate, mongo.getCollection() + "Counters");
+    }
+
+    @Test
+    void verifyCountersIncrementedAndCounted() {
+        val key = UUID.randomUUID().toString();
+        val expiration = Instant.now().plus(1, ChronoUnit.HOURS);
+        assertEquals(1, store.increment(key, 100, expiration));
+        assertEquals(2, store.increment(key, 100, expiration));
+        assertEquals(1, store.increment(key, 101, expiration));
+        assertEquals(3, store.count(key, 100, 101));
+        assertEquals(1, store.count(key, 101, 105));
+        assertEquals(0, store.count(key, 102, 105));
+        assertEquals(0, store.count(UUID.randomUUID().toString(), 100, 101));
+    }
+
+    @Test
+    void verifyConcurrentFirstIncrementsCounted() throws Exception {
+        val key = UUID.randomUUID().toString();
+        val expiration = Instant.now().plus(1, ChronoUnit.HOURS);
+        val threads = new Thread[5];
+        for (var i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> store.increment(key, 100, expiration));
+            threads[i].start();
+        }
+        for (val thread : threads) {
+            thread.join();
+        }
+        assertEquals(threads.length, store.count(key, 100, 100));
+    }
+}
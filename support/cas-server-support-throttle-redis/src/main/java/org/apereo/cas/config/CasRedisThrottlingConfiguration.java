@@ -8,6 +8,7 @@ import org.apereo.cas.redis.core.RedisObjectFactory;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.web.support.RedisThrottledSubmissionCounterStore;
 import org.apereo.cas.web.support.RedisThrottledSubmissionHandlerInterceptorAdapter;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerConfigurationContext;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerInterceptor;
@@ -74,13 +75,11 @@ public class CasRedisThrottlingConfiguration {
         @Qualifier("throttleRedisTemplate")
         final CasRedisTemplate throttleRedisTemplate,
         @Qualifier("authenticationThrottlingConfigurationContext")
-        final ThrottledSubmissionHandlerConfigurationContext authenticationThrottlingConfigurationContext,
-        final CasConfigurationProperties casProperties) {
+        final ThrottledSubmissionHandlerConfigurationContext authenticationThrottlingConfigurationContext) {
         return BeanSupplier.of(ThrottledSubmissionHandlerInterceptor.class)
             .when(CONDITION.given(applicationContext.getEnvironment()))
             .supply(() -> new RedisThrottledSubmissionHandlerInterceptorAdapter(authenticationThrottlingConfigurationContext,
-                throttleRedisTemplate,
-                casProperties.getAudit().getRedis().getScanCount()))
+                new RedisThrottledSubmissionCounterStore(throttleRedisTemplate)))
             .otherwise(ThrottledSubmissionHandlerInterceptor::noOp)
             .get();
     }
@@ -0,0 +1,63 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.redis.core.CasRedisTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.data.redis.core.RedisCallback;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+/**
+ * This is {@link RedisThrottledSubmissionCounterStore}.
+ * <p>
+ * Each bucket is stored as its own key, incremented via {@code INCR} with an expiration
+ * set via {@code PEXPIREAT} in the same pipeline; Redis removes keys once they expire.
+ * Buckets of the same throttling key share a hash tag, so that they can be read back
+ * via a single {@code MGET} when Redis runs in cluster mode.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+public class RedisThrottledSubmissionCounterStore implements ThrottledSubmissionCounterStore {
+    /**
+     * Redis key prefix.
+     */
+    public static final String CAS_THROTTLE_COUNTER_PREFIX = "CAS_THROTTLE_COUNTER:";
+
+    private final CasRedisTemplate<String, Object> redisTemplate;
+
+    private static byte[] getRedisKey(final String key, final long bucket) {
+        return (CAS_THROTTLE_COUNTER_PREFIX + '{' + key + "}:" + bucket).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public long increment(final String key, final long bucket, final Instant expiration) {
+        val redisKey = getRedisKey(key, bucket);
+        val results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().incr(redisKey);
+            connection.keyCommands().pExpireAt(redisKey, expiration.toEpochMilli());
+            return null;
+        });
+        return results.isEmpty() || !(results.get(0) instanceof Number count) ? 0 : count.longValue();
+    }
+
+    @Override
+    public long count(final String key, final long fromBucket, final long toBucket) {
+        val keys = LongStream.rangeClosed(fromBucket, toBucket)
+            .mapToObj(bucket -> getRedisKey(key, bucket))
+            .toArray(byte[][]::new);
+        val values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(keys));
+        return Objects.requireNonNullElse(values, List.<byte[]>of())
+            .stream()
+            .filter(Objects::nonNull)
+            .mapToLong(value -> NumberUtils.toLong(new String(value, StandardCharsets.UTF_8)))
+            .sum();
+    }
+}
@@ -0,0 +1,67 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.config.CasRedisThrottlingConfiguration;
+import org.apereo.cas.config.CasSupportRedisAuditConfiguration;
+import org.apereo.cas.redis.core.CasRedisTemplate;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RedisThrottledSubmissionCounterStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Redis")
+@SpringBootTest(classes = {
+    CasRedisThrottlingConfiguration.class,
+    CasSupportRedisAuditConfiguration.class,
+    BaseThrottledSubmissionHandlerInterceptorAdapterTests.SharedTestConfiguration.class
+},
+    properties = {
+        "cas.audit.redis.host=localhost",
+        "cas.audit.redis.port=6379",
+        "cas.audit.redis.asynchronous=false"
+    })
+@EnabledIfListeningOnPort(port = 6379)
+class RedisThrottledSubmissionCounterStoreTests {
+    @Autowired
+    @Qualifier("throttleRedisTemplate")
+    private CasRedisTemplate throttleRedisTemplate;
+
+    @Test
+    void verifyCountersIncrementedAndCounted() {
+        val store = new RedisThrottledSubmissionCounterStore(throttleRedisTemplate);
+        val key = UUID.randomUUID().toString();
+        val expiration = Instant.now().plus(1, ChronoUnit.HOURS);
+        assertEquals(1, store.increment(key, 100, expiration));
+        assertEquals(2, store.increment(key, 100, expiration));
+        assertEquals(1, store.increment(key, 101, expiration));
+        assertEquals(3, store.count(key, 100, 101));
+        assertEquals(1, store.count(key, 101, 105));
+        assertEquals(0, store.count(key, 102, 105));
+        assertEquals(0, store.count(UUID.randomUUID().toString(), 100, 101));
+    }
+
+    @Test
+    void verifyCountersExpire() {
+        val store = new RedisThrottledSubmissionCounterStore(throttleRedisTemplate);
+        val key = UUID.randomUUID().toString();
+        store.increment(key, 100, Instant.now().plusSeconds(1));
+        store.increment(key, 101, Instant.now().plus(1, ChronoUnit.HOURS));
+        await().untilAsserted(() -> assertEquals(1, store.count(key, 100, 101)));
+    }
+}
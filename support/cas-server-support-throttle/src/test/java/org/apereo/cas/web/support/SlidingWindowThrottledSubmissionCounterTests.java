@@ -0,0 +1,64 @@
+package org.apereo.cas.web.support;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SlidingWindowThrottledSubmissionCounterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("AuthenticationThrottling")
+class SlidingWindowThrottledSubmissionCounterTests {
+    @Test
+    void verifyWindowSlides() {
+        val start = Instant.parse("2023-01-01T00:00:00Z").toEpochMilli();
+        val now = new AtomicLong(start);
+        val clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(final ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(now.get());
+            }
+        };
+        val store = new InMemoryThrottledSubmissionCounterStore();
+        val counter = new SlidingWindowThrottledSubmissionCounter(store, Duration.ofSeconds(10), 10, clock);
+        val key = SlidingWindowThrottledSubmissionCounter.getKey("1.2.3.4", "casuser");
+        assertNotEquals(key, SlidingWindowThrottledSubmissionCounter.getKey("1.2.3.4", "other"));
+
+        assertEquals(1, counter.record(key));
+        assertEquals(2, counter.record(key));
+        now.addAndGet(4_000);
+        counter.record(key);
+        assertEquals(3, counter.count(key));
+
+        now.addAndGet(7_000);
+        assertEquals(1, counter.count(key));
+        now.addAndGet(10_000);
+        assertEquals(0, counter.count(key));
+
+        store.removeExpired();
+        val firstBucket = start / counter.getBucketWidthMillis();
+        assertEquals(0, store.count(key, firstBucket, firstBucket + counter.getBucketCount()));
+    }
+}
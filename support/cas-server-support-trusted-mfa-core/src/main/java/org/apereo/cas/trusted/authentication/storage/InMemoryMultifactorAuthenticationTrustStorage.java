@@ -3,16 +3,18 @@ package org.apereo.cas.trusted.authentication.storage;
 import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecordKeyGenerator;
-import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import java.io.Serializable;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.TreeSet;
@@ -20,6 +22,11 @@ import java.util.stream.Collectors;
 
 /**
  * This is {@link InMemoryMultifactorAuthenticationTrustStorage}.
+ * <p>
+ * Records are kept in a cache that expires records on its own, and are also tracked by a
+ * {@link MultifactorAuthenticationTrustRecordIndex} so that records of a principal can be
+ * looked up without scanning the entire cache. The cache is expected to remove
+ * records it evicts from the index as well, via {@link #evictionListener(MultifactorAuthenticationTrustRecordIndex)}.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -29,43 +36,59 @@ import java.util.stream.Collectors;
 public class InMemoryMultifactorAuthenticationTrustStorage extends BaseMultifactorAuthenticationTrustStorage {
     private final LoadingCache<String, MultifactorAuthenticationTrustRecord> storage;
 
+    private final MultifactorAuthenticationTrustRecordIndex index;
+
     public InMemoryMultifactorAuthenticationTrustStorage(final TrustedDevicesMultifactorProperties properties,
                                                          final CipherExecutor<Serializable, String> cipherExecutor,
                                                          final LoadingCache<String, MultifactorAuthenticationTrustRecord> storage,
                                                          final MultifactorAuthenticationTrustRecordKeyGenerator keyGenerationStrategy) {
+        this(properties, cipherExecutor, storage, keyGenerationStrategy, new MultifactorAuthenticationTrustRecordIndex());
+    }
+
+    public InMemoryMultifactorAuthenticationTrustStorage(final TrustedDevicesMultifactorProperties properties,
+                                                         final CipherExecutor<Serializable, String> cipherExecutor,
+                                                         final LoadingCache<String, MultifactorAuthenticationTrustRecord> storage,
+                                                         final MultifactorAuthenticationTrustRecordKeyGenerator keyGenerationStrategy,
+                                                         final MultifactorAuthenticationTrustRecordIndex index) {
         super(properties, cipherExecutor, keyGenerationStrategy);
         this.storage = storage;
+        this.index = index;
+    }
+
+    /**
+     * Eviction listener that removes records evicted by the cache from the index.
+     *
+     * @param index the index
+     * @return the removal listener
+     */
+    public static RemovalListener<String, MultifactorAuthenticationTrustRecord> evictionListener(
+        final MultifactorAuthenticationTrustRecordIndex index) {
+        return (key, record, cause) -> {
+            if (key != null && record != null && cause.wasEvicted() && index.remove(key, record)) {
+                LOGGER.trace("Record [{}] is evicted from the cache with cause [{}] and is removed from the index", key, cause);
+            }
+        };
     }
 
     @Override
     public void remove(final String key) {
+        index.remove(key);
         storage.asMap().keySet().removeIf(k -> k.equalsIgnoreCase(key));
     }
 
     @Override
-    @SuppressWarnings("JavaUtilDate")
     public void remove(final ZonedDateTime expirationDate) {
-        val results = storage.asMap()
-            .values()
-            .stream()
-            .filter(entry -> entry.getExpirationDate() != null)
-            .filter(entry -> {
-                val expDate = DateTimeUtils.dateOf(expirationDate);
-                return expDate.compareTo(entry.getExpirationDate()) >= 0;
-            })
-            .sorted()
-            .collect(Collectors.toCollection(LinkedHashSet::new));
-
+        val results = index.expire(expirationDate);
         LOGGER.info("Found [{}] expired trusted-device records", results.size());
         if (!results.isEmpty()) {
-            results.forEach(entry -> storage.invalidate(entry.getRecordKey()));
+            storage.invalidateAll(results.stream().map(MultifactorAuthenticationTrustRecord::getRecordKey).toList());
             LOGGER.info("Invalidated and removed [{}] expired records", results.size());
         }
     }
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final ZonedDateTime onOrAfterDate) {
-        remove();
+        expire();
         return storage.asMap()
             .values()
             .stream()
@@ -77,18 +100,22 @@ public class InMemoryMultifactorAuthenticationTrustStorage extends BaseMultifact
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal) {
-        remove();
-        return storage.asMap()
-            .values()
-            .stream()
-            .filter(entry -> entry.getPrincipal().equalsIgnoreCase(principal))
-            .sorted()
-            .collect(Collectors.toCollection(LinkedHashSet::new));
+        expire();
+        val results = index.get(principal);
+        results.removeIf(entry -> {
+            if (storage.getIfPresent(entry.getRecordKey()) == null) {
+                LOGGER.trace("Record [{}] is no longer cached and is removed from the index", entry.getRecordKey());
+                index.remove(entry.getRecordKey());
+                return true;
+            }
+            return false;
+        });
+        return results;
     }
 
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
-        remove();
+        expire();
         val result = storage.asMap()
             .values()
             .stream()
@@ -106,13 +133,21 @@ public class InMemoryMultifactorAuthenticationTrustStorage extends BaseMultifact
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> getAll() {
-        remove();
+        expire();
         return new TreeSet<>(storage.asMap().values());
     }
 
     @Override
     public MultifactorAuthenticationTrustRecord saveInternal(final MultifactorAuthenticationTrustRecord record) {
-        this.storage.put(record.getRecordKey(), record);
+        index.put(record);
+        storage.put(record.getRecordKey(), record);
         return record;
     }
+
+    private void expire() {
+        val expired = index.expire(ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS));
+        if (!expired.isEmpty()) {
+            storage.invalidateAll(expired.stream().map(MultifactorAuthenticationTrustRecord::getRecordKey).toList());
+        }
+    }
 }
@@ -3,7 +3,6 @@ package org.apereo.cas.trusted.authentication.storage;
 import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecordKeyGenerator;
-import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -13,14 +12,20 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.hjson.JsonValue;
 import org.springframework.core.io.Resource;
 
+import java.io.File;
 import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.LinkedHashMap;
+import java.time.temporal.ChronoUnit;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
@@ -29,6 +34,11 @@ import java.util.stream.Collectors;
 
 /**
  * This is {@link JsonMultifactorAuthenticationTrustStorage}.
+ * <p>
+ * Records are kept in memory inside a {@link MultifactorAuthenticationTrustRecordIndex}.
+ * Changes are appended to a journal file next to the JSON resource, and the journal
+ * is periodically compacted into the JSON resource once it grows too large or
+ * when expired records are cleaned up.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -38,9 +48,15 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(false).build().toObjectMapper();
 
+    private static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private final MultifactorAuthenticationTrustRecordIndex index = new MultifactorAuthenticationTrustRecordIndex();
+
     private final Resource location;
 
-    private Map<String, MultifactorAuthenticationTrustRecord> storage;
+    private final int compactionThreshold;
+
+    private int journalEntries;
 
     public JsonMultifactorAuthenticationTrustStorage(final TrustedDevicesMultifactorProperties properties,
                                                      final CipherExecutor<Serializable, String> cipherExecutor,
@@ -48,47 +64,38 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
                                                      final MultifactorAuthenticationTrustRecordKeyGenerator keyGenerationStrategy) {
         super(properties, cipherExecutor, keyGenerationStrategy);
         this.location = location;
+        this.compactionThreshold = properties.getJson().getCompactionThreshold();
         readTrustedRecordsFromResource();
+        readTrustedRecordsFromJournal();
     }
 
     @Override
-    public void remove(final String key) {
-        storage.keySet().removeIf(k -> k.equalsIgnoreCase(key));
-        writeTrustedRecordsToResource();
+    public synchronized void remove(final String key) {
+        index.remove(key).forEach(record -> writeJournalEntry(JournalEntry.remove(record.getRecordKey())));
     }
 
     @Override
-    @SuppressWarnings("JavaUtilDate")
-    public void remove(final ZonedDateTime expirationDate) {
-        val results = storage
-            .values()
-            .stream()
-            .filter(entry -> entry.getExpirationDate() != null)
-            .filter(entry -> {
-                val expDate = DateTimeUtils.dateOf(expirationDate);
-                return expDate.compareTo(entry.getExpirationDate()) >= 0;
-            })
-            .sorted()
-            .collect(Collectors.toCollection(LinkedHashSet::new));
-
+    public synchronized void remove(final ZonedDateTime expirationDate) {
+        val results = index.expire(expirationDate);
         LOGGER.info("Found [{}] expired trusted-device records", results.size());
         if (!results.isEmpty()) {
-            results.forEach(entry -> storage.remove(entry.getRecordKey()));
             LOGGER.info("Invalidated and removed [{}] expired records", results.size());
-            writeTrustedRecordsToResource();
+        }
+        if (!results.isEmpty() || journalEntries > 0) {
+            compact();
         }
     }
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> getAll() {
-        remove();
-        return new TreeSet<>(storage.values());
+        expire();
+        return new TreeSet<>(index.toMap().values());
     }
 
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
-        remove();
-        return storage
+        expire();
+        return index.toMap()
             .values()
             .stream()
             .filter(entry -> entry.getId() == id)
@@ -99,8 +106,8 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final ZonedDateTime onOrAfterDate) {
-        remove();
-        return storage
+        expire();
+        return index.toMap()
             .values()
             .stream()
             .filter(entry -> entry.getRecordDate().isEqual(onOrAfterDate) || entry.getRecordDate().isAfter(onOrAfterDate))
@@ -110,45 +117,107 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal) {
-        remove();
-        return storage
-            .values()
-            .stream()
-            .filter(entry -> entry.getPrincipal().equalsIgnoreCase(principal))
-            .sorted()
-            .collect(Collectors.toCollection(LinkedHashSet::new));
+        expire();
+        return index.get(principal);
     }
 
-
     @Override
-    public MultifactorAuthenticationTrustRecord saveInternal(final MultifactorAuthenticationTrustRecord record) {
-        this.storage.put(record.getRecordKey(), record);
-        writeTrustedRecordsToResource();
+    public synchronized MultifactorAuthenticationTrustRecord saveInternal(final MultifactorAuthenticationTrustRecord record) {
+        index.put(record);
+        writeJournalEntry(JournalEntry.save(record));
         return record;
     }
 
+    /**
+     * Expired records are only dropped from memory here;
+     * they are removed from the JSON resource once the journal is compacted.
+     */
+    private void expire() {
+        index.expire(ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS));
+    }
+
     private void readTrustedRecordsFromResource() {
-        this.storage = new LinkedHashMap<>();
         if (ResourceUtils.doesResourceExist(location)) {
             FunctionUtils.doUnchecked(__ -> {
                 try (val reader = new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8)) {
                     val personList = new TypeReference<Map<String, MultifactorAuthenticationTrustRecord>>() {
                     };
-                    this.storage = MAPPER.readValue(JsonValue.readHjson(reader).toString(), personList);
+                    val records = MAPPER.readValue(JsonValue.readHjson(reader).toString(), personList);
+                    records.values().forEach(index::put);
                 }
             });
         }
     }
 
-    private void writeTrustedRecordsToResource() {
+    private void readTrustedRecordsFromJournal() {
         FunctionUtils.doUnchecked(__ -> {
-            val file = this.location.getFile();
+            val journal = getJournalFile();
+            if (journal.exists()) {
+                for (val line : Files.readAllLines(journal.toPath(), StandardCharsets.UTF_8)) {
+                    if (StringUtils.isNotBlank(line)) {
+                        try {
+                            val entry = MAPPER.readValue(line, JournalEntry.class);
+                            if (entry.trustRecord() != null) {
+                                index.put(entry.trustRecord());
+                            } else {
+                                index.remove(entry.recordKey());
+                            }
+                            journalEntries++;
+                        } catch (final Exception e) {
+                            LOGGER.warn("Unable to read journal entry from [{}]; remaining entries are ignored: [{}]",
+                                journal, e.getMessage());
+                            break;
+                        }
+                    }
+                }
+                LOGGER.debug("Replayed [{}] journal entries from [{}]", journalEntries, journal);
+                if (journalEntries > 0) {
+                    compact();
+                }
+            }
+        });
+    }
+
+    private void writeJournalEntry(final JournalEntry entry) {
+        FunctionUtils.doUnchecked(__ -> {
+            val journal = getJournalFile();
+            Files.writeString(journal.toPath(), MAPPER.writeValueAsString(entry) + System.lineSeparator(),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            journalEntries++;
+            if (journalEntries >= compactionThreshold) {
+                compact();
+            }
+        });
+    }
+
+    private void compact() {
+        FunctionUtils.doUnchecked(__ -> {
+            val file = location.getFile();
             val res = file.createNewFile();
             if (res) {
-                LOGGER.debug("Created JSON resource @ [{}]", this.location);
+                LOGGER.debug("Created JSON resource @ [{}]", location);
             }
-            MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, this.storage);
-            readTrustedRecordsFromResource();
+            val temp = new File(file.getParentFile(), file.getName() + ".tmp");
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(temp, index.toMap());
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            Files.deleteIfExists(getJournalFile().toPath());
+            LOGGER.debug("Compacted [{}] journal entries into JSON resource [{}]", journalEntries, location);
+            journalEntries = 0;
         });
     }
+
+    private File getJournalFile() throws Exception {
+        val file = location.getFile();
+        return new File(file.getParentFile(), file.getName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    private record JournalEntry(String recordKey, MultifactorAuthenticationTrustRecord trustRecord) {
+        static JournalEntry save(final MultifactorAuthenticationTrustRecord record) {
+            return new JournalEntry(record.getRecordKey(), record);
+        }
+
+        static JournalEntry remove(final String recordKey) {
+            return new JournalEntry(recordKey, null);
+        }
+    }
 }
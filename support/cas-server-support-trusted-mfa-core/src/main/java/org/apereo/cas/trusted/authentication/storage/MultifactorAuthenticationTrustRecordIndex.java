@@ -0,0 +1,183 @@
+package org.apereo.cas.trusted.authentication.storage;
+
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link MultifactorAuthenticationTrustRecordIndex}, which keeps trusted device records
+ * indexed by their record key and principal, along with a queue of records ordered by expiration date.
+ * Looking up records for a principal only touches records that belong to that principal,
+ * and removing expired records only touches records that have in fact expired.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public class MultifactorAuthenticationTrustRecordIndex {
+    private static final int MIN_EXPIRATIONS_TO_COMPACT = 64;
+
+    private final Map<String, MultifactorAuthenticationTrustRecord> records = new LinkedHashMap<>();
+
+    private final Map<String, Map<String, MultifactorAuthenticationTrustRecord>> principals = new HashMap<>();
+
+    private final PriorityQueue<Expiration> expirations = new PriorityQueue<>(Comparator.comparing(Expiration::expirationDate));
+
+    private static String normalize(final String principal) {
+        return StringUtils.defaultString(principal).toLowerCase(Locale.ENGLISH);
+    }
+
+    private static Instant getExpirationDate(final MultifactorAuthenticationTrustRecord record) {
+        return record.getExpirationDate() == null ? null : record.getExpirationDate().toInstant();
+    }
+
+    /**
+     * Add the record to the index, replacing any record with the same key.
+     *
+     * @param record the record
+     * @return the record
+     */
+    public synchronized MultifactorAuthenticationTrustRecord put(final MultifactorAuthenticationTrustRecord record) {
+        removeExact(record.getRecordKey());
+        records.put(record.getRecordKey(), record);
+        principals.computeIfAbsent(normalize(record.getPrincipal()), __ -> new LinkedHashMap<>())
+            .put(record.getRecordKey(), record);
+        val expirationDate = getExpirationDate(record);
+        if (expirationDate != null) {
+            expirations.add(new Expiration(expirationDate, record.getRecordKey(), record));
+        }
+        return record;
+    }
+
+    /**
+     * Remove records whose key matches the given key, ignoring case.
+     *
+     * @param key the key
+     * @return the removed records
+     */
+    public synchronized List<MultifactorAuthenticationTrustRecord> remove(final String key) {
+        val removed = new ArrayList<MultifactorAuthenticationTrustRecord>();
+        val record = removeExact(key);
+        if (record != null) {
+            removed.add(record);
+        }
+        records.keySet()
+            .stream()
+            .filter(recordKey -> recordKey.equalsIgnoreCase(key))
+            .toList()
+            .forEach(recordKey -> removed.add(removeExact(recordKey)));
+        return removed;
+    }
+
+    /**
+     * Remove the record under the given key, only if the index still holds that exact record.
+     * This is used when the record is evicted from a cache, in which case a record
+     * that has since replaced the evicted one under the same key must be kept.
+     *
+     * @param key    the key
+     * @param record the record
+     * @return true if the record was removed
+     */
+    public synchronized boolean remove(final String key, final MultifactorAuthenticationTrustRecord record) {
+        if (records.get(key) == record) {
+            removeExact(key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Remove records that have expired by the given date.
+     * Only the head of the expiration queue is examined, so this
+     * operation is cheap when no records have expired.
+     *
+     * @param expirationDate the expiration date
+     * @return the removed records
+     */
+    public synchronized List<MultifactorAuthenticationTrustRecord> expire(final ZonedDateTime expirationDate) {
+        val date = expirationDate.toInstant();
+        val removed = new ArrayList<MultifactorAuthenticationTrustRecord>();
+        while (!expirations.isEmpty() && !expirations.peek().expirationDate().isAfter(date)) {
+            val expiration = expirations.poll();
+            val record = records.get(expiration.recordKey());
+            if (record == expiration.trustRecord()) {
+                val currentExpirationDate = getExpirationDate(record);
+                if (currentExpirationDate == null || currentExpirationDate.isAfter(date)) {
+                    if (currentExpirationDate != null) {
+                        expirations.add(new Expiration(currentExpirationDate, expiration.recordKey(), record));
+                    }
+                } else {
+                    removed.add(removeExact(expiration.recordKey()));
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Get records that belong to the principal, ignoring case, sorted by record date.
+     *
+     * @param principal the principal
+     * @return the records
+     */
+    public synchronized Set<MultifactorAuthenticationTrustRecord> get(final String principal) {
+        return principals.getOrDefault(normalize(principal), Map.of())
+            .values()
+            .stream()
+            .sorted()
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Snapshot of all records, keyed by record key.
+     *
+     * @return the records
+     */
+    public synchronized Map<String, MultifactorAuthenticationTrustRecord> toMap() {
+        return new LinkedHashMap<>(records);
+    }
+
+    /**
+     * Number of records in the index.
+     *
+     * @return the size
+     */
+    public synchronized int size() {
+        return records.size();
+    }
+
+    private MultifactorAuthenticationTrustRecord removeExact(final String key) {
+        val record = records.remove(key);
+        if (record != null) {
+            val principal = normalize(record.getPrincipal());
+            val principalRecords = principals.get(principal);
+            if (principalRecords != null) {
+                principalRecords.remove(key);
+                if (principalRecords.isEmpty()) {
+                    principals.remove(principal);
+                }
+            }
+            if (expirations.size() > records.size() * 2 + MIN_EXPIRATIONS_TO_COMPACT) {
+                expirations.removeIf(expiration -> records.get(expiration.recordKey()) != expiration.trustRecord());
+            }
+        }
+        return record;
+    }
+
+    private record Expiration(Instant expirationDate, String recordKey, MultifactorAuthenticationTrustRecord trustRecord) {
+    }
+}
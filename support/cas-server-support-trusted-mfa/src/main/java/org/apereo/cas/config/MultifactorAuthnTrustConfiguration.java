@@ -14,6 +14,7 @@ import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustS
 import org.apereo.cas.trusted.authentication.keys.DefaultMultifactorAuthenticationTrustRecordKeyGenerator;
 import org.apereo.cas.trusted.authentication.storage.InMemoryMultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.JsonMultifactorAuthenticationTrustStorage;
+import org.apereo.cas.trusted.authentication.storage.MultifactorAuthenticationTrustRecordIndex;
 import org.apereo.cas.trusted.authentication.storage.MultifactorAuthenticationTrustStorageCleaner;
 import org.apereo.cas.trusted.web.MultifactorAuthenticationTrustReportEndpoint;
 import org.apereo.cas.util.DateTimeUtils;
@@ -101,8 +102,11 @@ public class MultifactorAuthnTrustConfiguration {
             @Qualifier("mfaTrustRecordKeyGenerator")
             final MultifactorAuthenticationTrustRecordKeyGenerator mfaTrustRecordKeyGenerator) {
             val trusted = casProperties.getAuthn().getMfa().getTrusted();
+            val index = new MultifactorAuthenticationTrustRecordIndex();
             val storage = Caffeine.newBuilder().initialCapacity(INITIAL_CACHE_SIZE)
-                .maximumSize(MAX_CACHE_SIZE).expireAfter(new MultifactorAuthenticationTrustRecordExpiry()).build(s -> {
+                .maximumSize(MAX_CACHE_SIZE).expireAfter(new MultifactorAuthenticationTrustRecordExpiry())
+                .evictionListener(InMemoryMultifactorAuthenticationTrustStorage.evictionListener(index))
+                .build(s -> {
                     LOGGER.error("Load operation of the cache is not supported.");
                     return null;
                 });
@@ -115,7 +119,7 @@ public class MultifactorAuthnTrustConfiguration {
                 LOGGER.warn("Storing trusted device records in runtime memory. Changes and records will be lost upon CAS restarts");
                 return new InMemoryMultifactorAuthenticationTrustStorage(
                     casProperties.getAuthn().getMfa().getTrusted(),
-                    mfaTrustCipherExecutor, storage, mfaTrustRecordKeyGenerator);
+                    mfaTrustCipherExecutor, storage, mfaTrustRecordKeyGenerator, index);
             }).get();
         }
 
@@ -1,6 +1,8 @@
 package org.apereo.cas.trusted.authentication.storage;
 
+import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
 import org.apereo.cas.trusted.AbstractMultifactorAuthenticationTrustStorageTests;
+import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.Getter;
 import lombok.SneakyThrows;
@@ -9,10 +11,15 @@ import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.test.context.TestPropertySource;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * This is {@link JsonMultifactorAuthenticationTrustStorageTests}.
@@ -38,6 +45,35 @@ class JsonMultifactorAuthenticationTrustStorageTests extends AbstractMultifactor
         deleteJsonFile();
     }
 
+    @Test
+    void verifyJournalReplayAndCompaction() throws Exception {
+        val file = File.createTempFile("trusted-devices", ".json");
+        val journal = new File(file.getParentFile(), file.getName() + ".journal");
+        try {
+            FileUtils.write(file, "{}", StandardCharsets.UTF_8);
+            val properties = new TrustedDevicesMultifactorProperties();
+            properties.getJson().setCompactionThreshold(3);
+            val storage = new JsonMultifactorAuthenticationTrustStorage(properties,
+                CipherExecutor.noOpOfSerializableToString(), new FileSystemResource(file), keyGenerationStrategy);
+            val record1 = storage.save(getMultifactorAuthenticationTrustRecord());
+            val record2 = storage.save(getMultifactorAuthenticationTrustRecord());
+            storage.remove(record1.getRecordKey());
+            assertFalse(journal.exists());
+            val record3 = storage.save(getMultifactorAuthenticationTrustRecord());
+            assertTrue(journal.exists());
+
+            val reloaded = new JsonMultifactorAuthenticationTrustStorage(properties,
+                CipherExecutor.noOpOfSerializableToString(), new FileSystemResource(file), keyGenerationStrategy);
+            assertFalse(journal.exists());
+            assertTrue(reloaded.get(record1.getPrincipal()).isEmpty());
+            assertEquals(1, reloaded.get(record2.getPrincipal()).size());
+            assertEquals(1, reloaded.get(record3.getPrincipal()).size());
+        } finally {
+            FileUtils.deleteQuietly(file);
+            FileUtils.deleteQuietly(journal);
+        }
+    }
+
     /**
      * Cleanup json file before and after test, quietly because of errors on Windows.
      */
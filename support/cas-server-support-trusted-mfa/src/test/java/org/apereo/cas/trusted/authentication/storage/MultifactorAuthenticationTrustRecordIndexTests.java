@@ -0,0 +1,104 @@
+package org.apereo.cas.trusted.authentication.storage;
+
+import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
+import org.apereo.cas.trusted.authentication.keys.DefaultMultifactorAuthenticationTrustRecordKeyGenerator;
+import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MultifactorAuthenticationTrustRecordIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("MFATrustedDevices")
+class MultifactorAuthenticationTrustRecordIndexTests {
+    private static MultifactorAuthenticationTrustRecord getRecord(final String principal, final ZonedDateTime expirationDate) {
+        val record = MultifactorAuthenticationTrustRecord.newInstance(principal, "geography", UUID.randomUUID().toString());
+        record.setRecordKey(UUID.randomUUID().toString());
+        record.setExpirationDate(DateTimeUtils.dateOf(expirationDate));
+        return record;
+    }
+
+    @Test
+    void verifyPrincipalLookup() {
+        val index = new MultifactorAuthenticationTrustRecordIndex();
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val record1 = index.put(getRecord("casuser", now.plusDays(1)));
+        index.put(getRecord("CASUser", now.plusDays(2)));
+        index.put(getRecord("other", now.plusDays(1)));
+        assertEquals(2, index.get("casuser").size());
+        assertEquals(1, index.get("other").size());
+        assertTrue(index.get("unknown").isEmpty());
+
+        assertEquals(1, index.remove(record1.getRecordKey().toUpperCase()).size());
+        assertEquals(1, index.get("casuser").size());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void verifyExpiration() {
+        val index = new MultifactorAuthenticationTrustRecordIndex();
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val record1 = index.put(getRecord("casuser", now.plusDays(1)));
+        val record2 = index.put(getRecord("casuser", now.plusDays(3)));
+        assertTrue(index.expire(now).isEmpty());
+
+        val expired = index.expire(now.plusDays(2));
+        assertEquals(1, expired.size());
+        assertSame(record1, expired.get(0));
+        assertEquals(1, index.get("casuser").size());
+
+        record2.setExpirationDate(DateTimeUtils.dateOf(now.plusDays(5)));
+        assertTrue(index.expire(now.plusDays(4)).isEmpty());
+        index.put(record2);
+        assertEquals(1, index.expire(now.plusDays(6)).size());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void verifyEvictedRecordsRemoved() {
+        val index = new MultifactorAuthenticationTrustRecordIndex();
+        val cache = Caffeine.newBuilder()
+            .maximumSize(1)
+            .executor(Runnable::run)
+            .evictionListener(InMemoryMultifactorAuthenticationTrustStorage.evictionListener(index))
+            .<String, MultifactorAuthenticationTrustRecord>build(key -> null);
+        val storage = new InMemoryMultifactorAuthenticationTrustStorage(new TrustedDevicesMultifactorProperties(),
+            CipherExecutor.noOpOfSerializableToString(), cache, new DefaultMultifactorAuthenticationTrustRecordKeyGenerator(), index);
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        for (var i = 0; i < 10; i++) {
+            storage.save(getRecord("casuser", now.plusDays(1)));
+        }
+        cache.cleanUp();
+        assertEquals(cache.estimatedSize(), index.size());
+        assertEquals(cache.estimatedSize(), storage.get("casuser").size());
+    }
+
+    @Test
+    void verifyReplacedRecordsKept() {
+        val index = new MultifactorAuthenticationTrustRecordIndex();
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val record1 = getRecord("casuser", now.plusDays(1));
+        index.put(record1);
+        val record2 = getRecord("casuser", now.plusDays(1));
+        record2.setRecordKey(record1.getRecordKey());
+        index.put(record2);
+        assertFalse(index.remove(record1.getRecordKey(), record1));
+        assertEquals(1, index.size());
+        assertTrue(index.remove(record2.getRecordKey(), record2));
+        assertEquals(0, index.size());
+    }
+}